@@ -19,6 +19,7 @@
 import org.eclipse.persistence.internal.identitymaps.HardCacheWeakIdentityMap;
 import org.eclipse.persistence.internal.identitymaps.IdentityMap;
 import org.eclipse.persistence.internal.identitymaps.NoIdentityMap;
+import org.eclipse.persistence.internal.identitymaps.SegmentedCacheIdentityMap;
 import org.eclipse.persistence.internal.identitymaps.SoftCacheWeakIdentityMap;
 import org.eclipse.persistence.internal.identitymaps.SoftIdentityMap;
 import org.eclipse.persistence.internal.identitymaps.WeakIdentityMap;
@@ -66,6 +67,7 @@ public void addTests() {
         addTest(getFullIdentityMapSuite());
         addTest(getNoIdentityMapSuite());
         addTest(getCacheIdentityMapSuite());
+        addTest(getSegmentedCacheIdentityMapSuite());
         addTest(getSoftCacheWeakIdentityMapSuite());
         addTest(getHardCacheWeakIdentityMapSuite());
         addTest(getWeakIdentityMapSuite());
@@ -92,6 +94,17 @@ private TestSuite getCacheIdentityMapSuite() {
         return suite;
     }
 
+    private TestSuite getSegmentedCacheIdentityMapSuite() {
+        TestSuite suite = new TestSuite();
+        suite.setName("Segmented Cache IdentityMap Test Suite");
+        suite.setDescription("This suite tests the functionality of the SegmentedCacheIdentityMap");
+
+        suite.addTest(new RegisterInIdentityMapTest(SegmentedCacheIdentityMap.class));
+        suite.addTest(new DeleteFromIdentityMapTest(SegmentedCacheIdentityMap.class));
+        suite.addTest(new SetWriteLockInIdentityMapTest(SegmentedCacheIdentityMap.class));
+        return suite;
+    }
+
     private TestSuite getFullIdentityMapSuite() {
         TestSuite suite = new TestSuite();
 
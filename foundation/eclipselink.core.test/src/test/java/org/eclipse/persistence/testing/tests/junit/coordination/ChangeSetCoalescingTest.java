@@ -0,0 +1,269 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.junit.coordination;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.descriptors.RelationalDescriptor;
+import org.eclipse.persistence.internal.sessions.DatabaseSessionImpl;
+import org.eclipse.persistence.internal.sessions.DirectToFieldChangeRecord;
+import org.eclipse.persistence.internal.sessions.ObjectChangeSet;
+import org.eclipse.persistence.internal.sessions.UnitOfWorkChangeSet;
+import org.eclipse.persistence.internal.sessions.coordination.ChangeSetCoalescer;
+import org.eclipse.persistence.sessions.DatabaseLogin;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.sessions.coordination.CommandProcessor;
+import org.eclipse.persistence.sessions.coordination.RemoteCommandManager;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test the batches of change sets built by the {@link ChangeSetCoalescer},
+ * the batches are recorded instead of propagated and are only propagated on flush unless a delay is given.
+ */
+public class ChangeSetCoalescingTest {
+
+    private DatabaseSessionImpl session;
+
+    public static class Employee {
+        public BigDecimal id;
+        public String name;
+        public String city;
+    }
+
+    @Before
+    public void createSession() {
+        RelationalDescriptor descriptor = new RelationalDescriptor();
+        descriptor.setJavaClass(Employee.class);
+        descriptor.setTableName("EMPLOYEE");
+        descriptor.setPrimaryKeyFieldName("ID");
+        descriptor.addDirectMapping("id", "ID");
+        descriptor.addDirectMapping("name", "NAME");
+        descriptor.addDirectMapping("city", "CITY");
+        Project project = new Project(new DatabaseLogin());
+        project.addDescriptor(descriptor);
+        session = (DatabaseSessionImpl) project.createDatabaseSession();
+        session.initializeDescriptors();
+    }
+
+    private RecordingCoalescer coalescer(long delay, int maxSize) {
+        RemoteCommandManager rcm = new RemoteCommandManager((CommandProcessor) session);
+        return new RecordingCoalescer(rcm, delay, maxSize);
+    }
+
+    private ObjectChangeSet change(UnitOfWorkChangeSet changeSet, int id, String attribute, Object value) {
+        ClassDescriptor descriptor = session.getDescriptor(Employee.class);
+        ObjectChangeSet objectChanges = new ObjectChangeSet(new BigDecimal(id), descriptor, null, changeSet, false);
+        DirectToFieldChangeRecord record = new DirectToFieldChangeRecord(objectChanges);
+        record.setAttribute(attribute);
+        record.setNewValue(value);
+        objectChanges.addChange(record);
+        changeSet.getAllChangeSets().put(objectChanges, objectChanges);
+        return objectChanges;
+    }
+
+    private UnitOfWorkChangeSet changeSet(int id, String attribute, Object value) {
+        UnitOfWorkChangeSet changeSet = new UnitOfWorkChangeSet();
+        change(changeSet, id, attribute, value);
+        return changeSet;
+    }
+
+    private ObjectChangeSet find(UnitOfWorkChangeSet batch, int id) {
+        for (ObjectChangeSet objectChanges : batch.getAllChangeSets().keySet()) {
+            if (objectChanges.getId().equals(new BigDecimal(id))) {
+                return objectChanges;
+            }
+        }
+        return null;
+    }
+
+    private Object value(ObjectChangeSet objectChanges, String attribute) {
+        DirectToFieldChangeRecord record = (DirectToFieldChangeRecord) objectChanges.getChangesForAttributeNamed(attribute);
+        return (record == null) ? null : record.getNewValue();
+    }
+
+    @Test
+    public void changesAreCombinedTest() {
+        RecordingCoalescer coalescer = coalescer(0, 1000);
+        coalescer.addChangeSet(changeSet(1, "city", "Calgary"));
+        coalescer.addChangeSet(changeSet(1, "name", "Bob"));
+        coalescer.addChangeSet(changeSet(2, "city", "Metcalfe"));
+        coalescer.addChangeSet(changeSet(1, "city", "Montreal"));
+        Assert.assertTrue(coalescer.batches.isEmpty());
+        coalescer.flush();
+        Assert.assertEquals(1, coalescer.batches.size());
+        UnitOfWorkChangeSet batch = coalescer.batches.get(0);
+        Assert.assertEquals(2, batch.getAllChangeSets().size());
+        ObjectChangeSet first = find(batch, 1);
+        Assert.assertEquals(2, first.getChanges().size());
+        Assert.assertEquals("Montreal", value(first, "city"));
+        Assert.assertEquals("Bob", value(first, "name"));
+        Assert.assertEquals("Metcalfe", value(find(batch, 2), "city"));
+        coalescer.flush();
+        Assert.assertEquals(1, coalescer.batches.size());
+    }
+
+    @Test
+    public void deletionReplacesChangesTest() {
+        RecordingCoalescer coalescer = coalescer(0, 1000);
+        coalescer.addChangeSet(changeSet(1, "city", "Calgary"));
+        UnitOfWorkChangeSet deletion = new UnitOfWorkChangeSet();
+        ObjectChangeSet deleted = change(deletion, 1, "city", "Calgary");
+        deletion.getAllChangeSets().clear();
+        deleted.setShouldBeDeleted(true);
+        deletion.getDeletedObjects().put(deleted, deleted);
+        coalescer.addChangeSet(deletion);
+        // The object is inserted again, the deletion must be propagated first.
+        coalescer.addChangeSet(changeSet(1, "city", "Montreal"));
+        coalescer.flush();
+        Assert.assertEquals(2, coalescer.batches.size());
+        Assert.assertTrue(coalescer.batches.get(0).getAllChangeSets().isEmpty());
+        Assert.assertSame(deleted, coalescer.batches.get(0).getDeletedObjects().keySet().iterator().next());
+        Assert.assertEquals("Montreal", value(find(coalescer.batches.get(1), 1), "city"));
+    }
+
+    @Test
+    public void missedVersionIsNotCombinedTest() {
+        RecordingCoalescer coalescer = coalescer(0, 1000);
+        UnitOfWorkChangeSet first = new UnitOfWorkChangeSet();
+        ObjectChangeSet firstChanges = change(first, 1, "city", "Calgary");
+        firstChanges.setInitialWriteLockValue(1L);
+        firstChanges.setWriteLockValue(2L);
+        UnitOfWorkChangeSet second = new UnitOfWorkChangeSet();
+        ObjectChangeSet secondChanges = change(second, 1, "city", "Montreal");
+        secondChanges.setInitialWriteLockValue(2L);
+        secondChanges.setWriteLockValue(3L);
+        coalescer.addChangeSet(first);
+        coalescer.addChangeSet(second);
+        Assert.assertTrue(coalescer.batches.isEmpty());
+        // Version 3 was changed elsewhere.
+        UnitOfWorkChangeSet third = new UnitOfWorkChangeSet();
+        ObjectChangeSet thirdChanges = change(third, 1, "city", "Metcalfe");
+        thirdChanges.setInitialWriteLockValue(4L);
+        thirdChanges.setWriteLockValue(5L);
+        coalescer.addChangeSet(third);
+        coalescer.flush();
+        Assert.assertEquals(2, coalescer.batches.size());
+        ObjectChangeSet combined = find(coalescer.batches.get(0), 1);
+        Assert.assertEquals(1L, combined.getInitialWriteLockValue());
+        Assert.assertEquals(3L, combined.getWriteLockValue());
+        Assert.assertEquals("Montreal", value(combined, "city"));
+        Assert.assertSame(thirdChanges, find(coalescer.batches.get(1), 1));
+    }
+
+    @Test
+    public void fullBatchIsPropagatedTest() {
+        RecordingCoalescer coalescer = coalescer(0, 2);
+        coalescer.addChangeSet(changeSet(1, "city", "Calgary"));
+        coalescer.addChangeSet(changeSet(1, "city", "Metcalfe"));
+        Assert.assertTrue(coalescer.batches.isEmpty());
+        coalescer.addChangeSet(changeSet(2, "city", "Montreal"));
+        Assert.assertEquals(1, coalescer.batches.size());
+        Assert.assertEquals(2, coalescer.batches.get(0).getAllChangeSets().size());
+    }
+
+    @Test
+    public void delayedBatchIsPropagatedTest() throws Exception {
+        RecordingCoalescer coalescer = coalescer(10, 1000);
+        coalescer.addChangeSet(changeSet(1, "city", "Calgary"));
+        coalescer.addChangeSet(changeSet(2, "city", "Metcalfe"));
+        for (int wait = 0; (wait < 500) && coalescer.batches.isEmpty(); wait++) {
+            Thread.sleep(10);
+        }
+        Assert.assertEquals(1, coalescer.batches.size());
+        Assert.assertEquals(2, coalescer.batches.get(0).getAllChangeSets().size());
+    }
+
+    @Test
+    public void concurrentCommitsArePropagatedInOrderTest() throws Exception {
+        RecordingCoalescer coalescer = coalescer(0, 2);
+        int threads = 8;
+        int commits = 200;
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> committers = new ArrayList<>();
+        List<Throwable> failures = new CopyOnWriteArrayList<>();
+        for (int thread = 0; thread < threads; thread++) {
+            int offset = (thread + 1) * 1000;
+            Thread committer = new Thread(() -> {
+                try {
+                    start.await();
+                    for (int commit = 0; commit < commits; commit++) {
+                        // Every commit changes the same object, and fills the batch with another one.
+                        UnitOfWorkChangeSet changeSet = changeSet(1, "city", "City " + (offset + commit));
+                        change(changeSet, offset + commit, "city", "Calgary");
+                        coalescer.addChangeSet(changeSet);
+                    }
+                } catch (Throwable failure) {
+                    failures.add(failure);
+                }
+            });
+            committer.start();
+            committers.add(committer);
+        }
+        start.countDown();
+        for (Thread committer : committers) {
+            committer.join(30000);
+        }
+        coalescer.flush();
+        Assert.assertTrue(failures.toString(), failures.isEmpty());
+        Assert.assertEquals(coalescer.taken.size(), coalescer.batches.size());
+        for (int i = 0; i < coalescer.taken.size(); i++) {
+            Assert.assertSame("Batch " + i + " propagated out of order", coalescer.taken.get(i), coalescer.batches.get(i));
+        }
+    }
+
+    /**
+     * Record the batches instead of propagating them.
+     */
+    static class RecordingCoalescer extends ChangeSetCoalescer {
+        final List<UnitOfWorkChangeSet> batches = new CopyOnWriteArrayList<>();
+        final List<UnitOfWorkChangeSet> taken = new ArrayList<>();
+
+        RecordingCoalescer(RemoteCommandManager rcm, long delay, int maxSize) {
+            super(rcm, delay, maxSize);
+        }
+
+        @Override
+        protected void startTimer(long startedBatchNumber) {
+            // Without delay the batches are only propagated when full or flushed.
+            if (delay > 0) {
+                super.startTimer(startedBatchNumber);
+            }
+        }
+
+        @Override
+        protected boolean queueBatch() {
+            // Called holding the coalescer lock.
+            if (!super.queueBatch()) {
+                return false;
+            }
+            taken.add(pendingBatches.peekLast());
+            return true;
+        }
+
+        @Override
+        protected void propagate(UnitOfWorkChangeSet batch) {
+            // Give a concurrent committer the chance to propagate its batch first.
+            Thread.yield();
+            batches.add(batch);
+        }
+    }
+}
@@ -0,0 +1,244 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.junit.coordination;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.Arrays;
+
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.descriptors.RelationalDescriptor;
+import org.eclipse.persistence.internal.sessions.DatabaseSessionImpl;
+import org.eclipse.persistence.internal.sessions.DirectToFieldChangeRecord;
+import org.eclipse.persistence.internal.sessions.ObjectChangeSet;
+import org.eclipse.persistence.internal.sessions.UnitOfWorkChangeSet;
+import org.eclipse.persistence.sessions.DatabaseLogin;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.sessions.coordination.MergeChangeSetCommand;
+import org.eclipse.persistence.sessions.coordination.RemoteCommandManagerException;
+import org.eclipse.persistence.sessions.coordination.ServiceId;
+import org.eclipse.persistence.sessions.serializers.ChangeSetSerializer;
+import org.eclipse.persistence.sessions.serializers.JavaSerializer;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test the round trip of change sets through the {@link ChangeSetSerializer}.
+ */
+public class ChangeSetSerializerTest {
+
+    private DatabaseSessionImpl session;
+
+    public static class Employee {
+        public BigDecimal id;
+        public String name;
+        public String city;
+        public Timestamp startTime;
+        public BigDecimal salary;
+    }
+
+    @Before
+    public void createSession() {
+        RelationalDescriptor descriptor = new RelationalDescriptor();
+        descriptor.setJavaClass(Employee.class);
+        descriptor.setTableName("EMPLOYEE");
+        descriptor.setPrimaryKeyFieldName("ID");
+        descriptor.addDirectMapping("id", "ID");
+        descriptor.addDirectMapping("name", "NAME");
+        descriptor.addDirectMapping("city", "CITY");
+        descriptor.addDirectMapping("startTime", "START_TIME");
+        descriptor.addDirectMapping("salary", "SALARY");
+        Project project = new Project(new DatabaseLogin());
+        project.addDescriptor(descriptor);
+        session = (DatabaseSessionImpl) project.createDatabaseSession();
+        session.initializeDescriptors();
+    }
+
+    private ObjectChangeSet change(UnitOfWorkChangeSet changeSet, int id, String attribute, Object value) {
+        ClassDescriptor descriptor = session.getDescriptor(Employee.class);
+        ObjectChangeSet objectChanges = new ObjectChangeSet(new BigDecimal(id), descriptor, null, changeSet, false);
+        DirectToFieldChangeRecord record = new DirectToFieldChangeRecord(objectChanges);
+        record.setAttribute(attribute);
+        record.setNewValue(value);
+        objectChanges.addChange(record);
+        changeSet.getAllChangeSets().put(objectChanges, objectChanges);
+        return objectChanges;
+    }
+
+    private MergeChangeSetCommand command(UnitOfWorkChangeSet changeSet) {
+        MergeChangeSetCommand command = new MergeChangeSetCommand();
+        command.setChangeSet(changeSet);
+        command.setServiceId(new ServiceId("EclipseLinkCommandChannel", "1", "rmi://localhost:1099"));
+        return command;
+    }
+
+    private MergeChangeSetCommand roundTrip(Object command) {
+        ChangeSetSerializer serializer = new ChangeSetSerializer();
+        serializer.initialize(UnitOfWorkChangeSet.class, null, session);
+        byte[] bytes = (byte[]) serializer.serialize(command, session);
+        // The receiver builds its own ids from the same project.
+        return (MergeChangeSetCommand) new ChangeSetSerializer().deserialize(bytes, session);
+    }
+
+    private ObjectChangeSet find(UnitOfWorkChangeSet changeSet, int id) {
+        for (ObjectChangeSet objectChanges : changeSet.getAllChangeSets().keySet()) {
+            if (objectChanges.getId().equals(new BigDecimal(id))) {
+                return objectChanges;
+            }
+        }
+        return null;
+    }
+
+    private Object value(ObjectChangeSet objectChanges, String attribute) {
+        DirectToFieldChangeRecord record = (DirectToFieldChangeRecord) objectChanges.getChangesForAttributeNamed(attribute);
+        return (record == null) ? null : record.getNewValue();
+    }
+
+    @Test
+    public void changesRoundTripTest() {
+        UnitOfWorkChangeSet changeSet = new UnitOfWorkChangeSet();
+        ObjectChangeSet first = change(changeSet, 1000, "city", "Montréal");
+        first.setInitialWriteLockValue(41L);
+        first.setWriteLockValue(42L);
+        first.setHasVersionChange(true);
+        Timestamp timestamp = new Timestamp(1234567890123L);
+        timestamp.setNanos(123456789);
+        DirectToFieldChangeRecord name = new DirectToFieldChangeRecord(first);
+        name.setAttribute("name");
+        name.setNewValue(null);
+        first.addChange(name);
+        change(changeSet, 1001, "startTime", timestamp);
+        change(changeSet, 998, "salary", new BigDecimal("12.50"));
+
+        MergeChangeSetCommand command = roundTrip(command(changeSet));
+        Assert.assertEquals("rmi://localhost:1099", command.getServiceId().getURL());
+        UnitOfWorkChangeSet received = command.getChangeSet(null);
+        Assert.assertEquals(3, received.getAllChangeSets().size());
+        ObjectChangeSet receivedFirst = find(received, 1000);
+        Assert.assertEquals(Employee.class.getName(), receivedFirst.getClassName());
+        Assert.assertEquals(41L, receivedFirst.getInitialWriteLockValue());
+        Assert.assertEquals(42L, receivedFirst.getWriteLockValue());
+        Assert.assertTrue(receivedFirst.hasVersionChange());
+        Assert.assertEquals(2, receivedFirst.getChanges().size());
+        Assert.assertEquals("Montréal", value(receivedFirst, "city"));
+        Assert.assertNotNull(receivedFirst.getChangesForAttributeNamed("name"));
+        Assert.assertNull(value(receivedFirst, "name"));
+        Assert.assertEquals(timestamp, value(find(received, 1001), "startTime"));
+        Assert.assertEquals(new BigDecimal("12.50"), value(find(received, 998), "salary"));
+    }
+
+    @Test
+    public void deletionRoundTripTest() {
+        UnitOfWorkChangeSet changeSet = new UnitOfWorkChangeSet();
+        ObjectChangeSet deleted = change(changeSet, 7, "city", "Calgary");
+        changeSet.getAllChangeSets().clear();
+        deleted.setShouldBeDeleted(true);
+        changeSet.getDeletedObjects().put(deleted, deleted);
+
+        UnitOfWorkChangeSet received = roundTrip(command(changeSet)).getChangeSet(null);
+        Assert.assertTrue(received.getAllChangeSets().isEmpty());
+        ObjectChangeSet receivedDeleted = received.getDeletedObjects().keySet().iterator().next();
+        Assert.assertTrue(receivedDeleted.shouldBeDeleted());
+        Assert.assertEquals(new BigDecimal(7), receivedDeleted.getId());
+        // Only the identity of a deleted object is sent.
+        Assert.assertTrue(receivedDeleted.getChanges().isEmpty());
+    }
+
+    @Test
+    public void unsupportedChangesAreJavaSerializedTest() {
+        UnitOfWorkChangeSet changeSet = new UnitOfWorkChangeSet();
+        change(changeSet, 1, "unmapped", "value");
+        MergeChangeSetCommand command = command(changeSet);
+        byte[] bytes = (byte[]) new ChangeSetSerializer().serialize(command, session);
+        Assert.assertEquals(0, bytes[0]);
+        UnitOfWorkChangeSet received = ((MergeChangeSetCommand) new ChangeSetSerializer().deserialize(bytes, session)).getChangeSet(null);
+        DirectToFieldChangeRecord record = (DirectToFieldChangeRecord) received.getAllChangeSets().keySet().iterator().next().getChanges().get(0);
+        Assert.assertEquals("unmapped", record.getAttribute());
+        Assert.assertEquals("value", record.getNewValue());
+    }
+
+    @Test
+    public void encodingIsSmallerTest() {
+        UnitOfWorkChangeSet changeSet = new UnitOfWorkChangeSet();
+        for (int id = 1; id <= 100; id++) {
+            ObjectChangeSet objectChanges = change(changeSet, id, "city", "Calgary");
+            objectChanges.setInitialWriteLockValue(1L);
+            objectChanges.setWriteLockValue(2L);
+        }
+        MergeChangeSetCommand command = command(changeSet);
+        int binary = ((byte[]) new ChangeSetSerializer().serialize(command, session)).length;
+        int java = ((byte[]) JavaSerializer.instance.serialize(command, session)).length;
+        Assert.assertTrue(binary + " >= " + java, binary * 4 < java);
+    }
+
+    /**
+     * Return the encoded change set of one object, without a service id.
+     */
+    private byte[] encoded() {
+        UnitOfWorkChangeSet changeSet = new UnitOfWorkChangeSet();
+        change(changeSet, 1, "city", "Calgary");
+        MergeChangeSetCommand command = new MergeChangeSetCommand();
+        command.setChangeSet(changeSet);
+        byte[] bytes = (byte[]) new ChangeSetSerializer().serialize(command, session);
+        Assert.assertEquals(1, bytes[0]);
+        return bytes;
+    }
+
+    private void assertNotDecoded(byte[] bytes) {
+        try {
+            new ChangeSetSerializer().deserialize(bytes, session);
+            Assert.fail("The corrupt change set should not be decoded.");
+        } catch (RemoteCommandManagerException expected) {
+            Assert.assertEquals(RemoteCommandManagerException.ERROR_SERIALIZE_OR_DESERIALIZE_COMMAND, expected.getErrorCode());
+        }
+    }
+
+    @Test
+    public void truncatedChangeSetTest() {
+        byte[] bytes = encoded();
+        assertNotDecoded(Arrays.copyOf(bytes, bytes.length - 3));
+    }
+
+    @Test
+    public void differentProjectTest() {
+        byte[] bytes = encoded();
+        // The schema hash follows the tag.
+        bytes[1] ^= 1;
+        assertNotDecoded(bytes);
+    }
+
+    @Test
+    public void invalidIdsTest() {
+        // Tag, schema hash, null service id, change set count and handle precede the descriptor id.
+        byte[] bytes = encoded();
+        bytes[8] = 100;
+        assertNotDecoded(bytes);
+        // The attribute id is followed by the record kind, the "Calgary" string value,
+        // the null old key, new key and foreign keys, and the deleted change set count.
+        bytes = encoded();
+        Assert.assertEquals("Calgary".length() + 1, bytes[bytes.length - 12]);
+        bytes[bytes.length - 15] = 100;
+        assertNotDecoded(bytes);
+    }
+
+    @Test
+    public void otherCommandsAreJavaSerializedTest() {
+        ChangeSetSerializer serializer = new ChangeSetSerializer();
+        ServiceId serviceId = new ServiceId("channel", "2", "url");
+        byte[] bytes = (byte[]) serializer.serialize(serviceId, session);
+        Assert.assertEquals("url", ((ServiceId) serializer.deserialize(bytes, session)).getURL());
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.junit.coordination;
+
+import java.math.BigDecimal;
+
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.descriptors.RelationalDescriptor;
+import org.eclipse.persistence.descriptors.VersionLockingPolicy;
+import org.eclipse.persistence.internal.sessions.DatabaseSessionImpl;
+import org.eclipse.persistence.internal.sessions.ObjectChangeSet;
+import org.eclipse.persistence.internal.sessions.UnitOfWorkChangeSet;
+import org.eclipse.persistence.sessions.DatabaseLogin;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.sessions.coordination.InvalidateObjectsCommand;
+import org.eclipse.persistence.sessions.serializers.JavaSerializer;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test the {@link InvalidateObjectsCommand} propagated by cache coordination propagating invalidations only.
+ */
+public class InvalidationOnlyCoordinationTest {
+
+    private DatabaseSessionImpl session;
+
+    public static class Employee {
+        public BigDecimal id;
+        public String city;
+    }
+
+    static class ClassNamesCommand extends InvalidateObjectsCommand {
+        String[] getClassNames() {
+            return classNames;
+        }
+    }
+
+    @Before
+    public void createSession() {
+        RelationalDescriptor descriptor = new RelationalDescriptor();
+        descriptor.setJavaClass(Employee.class);
+        descriptor.setTableName("EMPLOYEE");
+        descriptor.setPrimaryKeyFieldName("ID");
+        descriptor.addDirectMapping("id", "ID");
+        descriptor.addDirectMapping("city", "CITY");
+        Project project = new Project(new DatabaseLogin());
+        project.addDescriptor(descriptor);
+        session = (DatabaseSessionImpl) project.createDatabaseSession();
+        session.initializeDescriptors();
+    }
+
+    private Employee cache(int id, Object version) {
+        Employee employee = new Employee();
+        employee.id = new BigDecimal(id);
+        employee.city = "Calgary";
+        session.getIdentityMapAccessor().putInIdentityMap(employee, new BigDecimal(id), version);
+        return employee;
+    }
+
+    private ObjectChangeSet change(UnitOfWorkChangeSet changeSet, int id, Object version, boolean isNew) {
+        ClassDescriptor descriptor = session.getDescriptor(Employee.class);
+        ObjectChangeSet objectChanges = new ObjectChangeSet(new BigDecimal(id), descriptor, null, changeSet, isNew);
+        objectChanges.setWriteLockValue(version);
+        changeSet.getAllChangeSets().put(objectChanges, objectChanges);
+        return objectChanges;
+    }
+
+    private void useVersionLocking() {
+        VersionLockingPolicy policy = new VersionLockingPolicy("EMPLOYEE.VERSION");
+        policy.storeInCache();
+        session.getDescriptor(Employee.class).setOptimisticLockingPolicy(policy);
+    }
+
+    private InvalidateObjectsCommand serialize(InvalidateObjectsCommand command) {
+        return (InvalidateObjectsCommand) JavaSerializer.instance.deserialize(JavaSerializer.instance.serialize(command, session), session);
+    }
+
+    @Test
+    public void newObjectsAreNotSentTest() {
+        UnitOfWorkChangeSet changeSet = new UnitOfWorkChangeSet();
+        change(changeSet, 60, null, true);
+        Assert.assertNull(changeSet.buildCacheCoordinationInvalidateCommand());
+        change(changeSet, 51, null, false);
+        Assert.assertEquals(1, changeSet.buildCacheCoordinationInvalidateCommand().size());
+    }
+
+    @Test
+    public void changedObjectIsInvalidatedTest() {
+        Employee employee = cache(51, null);
+        Employee other = cache(52, null);
+        UnitOfWorkChangeSet changeSet = new UnitOfWorkChangeSet();
+        change(changeSet, 51, null, false);
+        serialize(changeSet.buildCacheCoordinationInvalidateCommand()).executeWithSession(session);
+        Assert.assertFalse(session.getIdentityMapAccessor().isValid(employee));
+        Assert.assertTrue(session.getIdentityMapAccessor().isValid(other));
+    }
+
+    @Test
+    public void deletedObjectIsInvalidatedTest() {
+        Employee employee = cache(51, 2L);
+        useVersionLocking();
+        UnitOfWorkChangeSet changeSet = new UnitOfWorkChangeSet();
+        ObjectChangeSet objectChanges = new ObjectChangeSet(new BigDecimal(51), session.getDescriptor(Employee.class), null, changeSet, false);
+        changeSet.getDeletedObjects().put(objectChanges, objectChanges);
+        serialize(changeSet.buildCacheCoordinationInvalidateCommand()).executeWithSession(session);
+        Assert.assertFalse(session.getIdentityMapAccessor().isValid(employee));
+    }
+
+    @Test
+    public void olderVersionIsInvalidatedTest() {
+        Employee employee = cache(51, 1L);
+        useVersionLocking();
+        UnitOfWorkChangeSet changeSet = new UnitOfWorkChangeSet();
+        change(changeSet, 51, 2L, false);
+        serialize(changeSet.buildCacheCoordinationInvalidateCommand()).executeWithSession(session);
+        Assert.assertFalse(session.getIdentityMapAccessor().isValid(employee));
+    }
+
+    @Test
+    public void serializationKeepsCommandTest() {
+        Employee employee = cache(51, null);
+        Employee other = cache(52, null);
+        InvalidateObjectsCommand command = new InvalidateObjectsCommand();
+        command.addObject(Employee.class.getName(), new BigDecimal(51), null);
+        serialize(command);
+        // The serialized command is not trimmed, so objects can still be added.
+        command.addObject(Employee.class.getName(), new BigDecimal(52), null);
+        Assert.assertEquals(2, command.size());
+        serialize(command).executeWithSession(session);
+        Assert.assertFalse(session.getIdentityMapAccessor().isValid(employee));
+        Assert.assertFalse(session.getIdentityMapAccessor().isValid(other));
+    }
+
+    @Test
+    public void addToDeserializedCommandTest() {
+        Employee employee = cache(51, null);
+        Employee other = cache(52, null);
+        InvalidateObjectsCommand empty = serialize(new ClassNamesCommand());
+        empty.addObject(Employee.class.getName(), new BigDecimal(51), null);
+        Assert.assertEquals(1, empty.size());
+        ClassNamesCommand command = (ClassNamesCommand) serialize(empty);
+        command.addObject(Employee.class.getName(), new BigDecimal(52), null);
+        Assert.assertEquals(2, command.size());
+        // The class name is found again after deserialization, not added twice.
+        Assert.assertEquals(1, command.getClassNames().length);
+        command.executeWithSession(session);
+        Assert.assertFalse(session.getIdentityMapAccessor().isValid(employee));
+        Assert.assertFalse(session.getIdentityMapAccessor().isValid(other));
+    }
+
+    @Test
+    public void currentVersionIsNotInvalidatedTest() {
+        Employee employee = cache(51, 2L);
+        useVersionLocking();
+        UnitOfWorkChangeSet changeSet = new UnitOfWorkChangeSet();
+        change(changeSet, 51, 2L, false);
+        serialize(changeSet.buildCacheCoordinationInvalidateCommand()).executeWithSession(session);
+        Assert.assertTrue(session.getIdentityMapAccessor().isValid(employee));
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.junit.coordination;
+
+import java.math.BigDecimal;
+
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.descriptors.RelationalDescriptor;
+import org.eclipse.persistence.internal.sessions.DirectToFieldChangeRecord;
+import org.eclipse.persistence.internal.sessions.ObjectChangeSet;
+import org.eclipse.persistence.internal.sessions.UnitOfWorkChangeSet;
+import org.eclipse.persistence.logging.SessionLog;
+import org.eclipse.persistence.sessions.DatabaseLogin;
+import org.eclipse.persistence.sessions.DatabaseSession;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.sessions.coordination.CommandProcessor;
+import org.eclipse.persistence.sessions.coordination.MergeChangeSetCommand;
+import org.eclipse.persistence.sessions.coordination.RemoteCommandManager;
+import org.eclipse.persistence.sessions.coordination.local.LocalTransportManager;
+import org.eclipse.persistence.sessions.serializers.ChangeSetSerializer;
+import org.eclipse.persistence.testing.tests.performance.emulateddb.EmulatedDriver;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test cache coordination between two sessions through the {@link LocalTransportManager}.
+ */
+public class LocalTransportTest {
+
+    private DatabaseSession sender;
+    private DatabaseSession receiver;
+
+    public static class Employee {
+        public BigDecimal id;
+        public String city;
+    }
+
+    /**
+     * Return a session logged in against the emulated driver.
+     */
+    private static DatabaseSession login() {
+        DatabaseLogin login = new DatabaseLogin();
+        login.useDirectDriverConnect();
+        login.setDriverClass(EmulatedDriver.class);
+        login.setConnectionString("jdbc:emulateddriver");
+        RelationalDescriptor descriptor = new RelationalDescriptor();
+        descriptor.setJavaClass(Employee.class);
+        descriptor.setTableName("EMPLOYEE");
+        descriptor.setPrimaryKeyFieldName("ID");
+        descriptor.addDirectMapping("id", "ID");
+        descriptor.addDirectMapping("city", "CITY");
+        Project project = new Project(login);
+        project.addDescriptor(descriptor);
+        DatabaseSession session = project.createDatabaseSession();
+        session.setLogLevel(SessionLog.OFF);
+        session.login();
+        return session;
+    }
+
+    @Before
+    public void loginSender() {
+        sender = login();
+    }
+
+    @After
+    public void logout() {
+        sender.logout();
+        if (receiver != null) {
+            receiver.logout();
+            receiver = null;
+        }
+    }
+
+    private LocalTransportManager coordinate(DatabaseSession session, String topic) {
+        RemoteCommandManager rcm = new RemoteCommandManager((CommandProcessor) session);
+        LocalTransportManager transport = new LocalTransportManager(rcm);
+        transport.setTopicName(topic);
+        rcm.setShouldPropagateAsynchronously(false);
+        rcm.initialize();
+        return transport;
+    }
+
+    /**
+     * Return the employee 51 cached by a second session.
+     */
+    private Employee receiverEmployee(String topic) {
+        receiver = login();
+        coordinate(receiver, topic);
+        Employee employee = new Employee();
+        employee.id = new BigDecimal(51);
+        employee.city = "Calgary";
+        receiver.getIdentityMapAccessor().putInIdentityMap(employee);
+        return employee;
+    }
+
+    private void propagateCity(String city) {
+        UnitOfWorkChangeSet changeSet = new UnitOfWorkChangeSet();
+        ClassDescriptor descriptor = sender.getDescriptor(Employee.class);
+        ObjectChangeSet objectChanges = new ObjectChangeSet(new BigDecimal(51), descriptor, null, changeSet, false);
+        DirectToFieldChangeRecord record = new DirectToFieldChangeRecord(objectChanges);
+        record.setAttribute("city");
+        record.setNewValue(city);
+        objectChanges.addChange(record);
+        changeSet.getAllChangeSets().put(objectChanges, objectChanges);
+        MergeChangeSetCommand command = new MergeChangeSetCommand();
+        command.setChangeSet(changeSet);
+        sender.getCommandManager().propagateCommand(command);
+    }
+
+    @Test
+    public void changesAreMergedTest() {
+        Employee employee = receiverEmployee("changesAreMerged");
+        coordinate(sender, "changesAreMerged");
+        propagateCity("Edmonton");
+        Assert.assertEquals("Edmonton", employee.city);
+    }
+
+    @Test
+    public void serializerIsUsedTest() {
+        Employee employee = receiverEmployee("serializerIsUsed");
+        coordinate(sender, "serializerIsUsed");
+        ((RemoteCommandManager) receiver.getCommandManager()).setSerializer(new ChangeSetSerializer());
+        ((RemoteCommandManager) sender.getCommandManager()).setSerializer(new ChangeSetSerializer());
+        propagateCity("Edmonton");
+        Assert.assertEquals("Edmonton", employee.city);
+    }
+
+    @Test
+    public void lostMessageIsNotMergedTest() {
+        Employee employee = receiverEmployee("lostMessage");
+        coordinate(sender, "lostMessage").setLossRate(1);
+        propagateCity("Edmonton");
+        Assert.assertEquals("Calgary", employee.city);
+    }
+
+    @Test
+    public void delayedMessageIsMergedTest() throws Exception {
+        Employee employee = receiverEmployee("delayedMessage");
+        coordinate(sender, "delayedMessage").setLatency(200);
+        propagateCity("Edmonton");
+        Assert.assertEquals("Calgary", employee.city);
+        for (int wait = 0; (wait < 500) && "Calgary".equals(employee.city); wait++) {
+            Thread.sleep(10);
+        }
+        Assert.assertEquals("Edmonton", employee.city);
+    }
+
+    @Test
+    public void otherTopicIsNotMergedTest() {
+        Employee employee = receiverEmployee("otherTopic");
+        coordinate(sender, "topic");
+        propagateCity("Edmonton");
+        Assert.assertEquals("Calgary", employee.city);
+    }
+
+    @Test
+    public void stoppedServiceIsNotMergedTest() {
+        Employee employee = receiverEmployee("stoppedService");
+        coordinate(sender, "stoppedService");
+        receiver.getCommandManager().shutdown();
+        propagateCity("Edmonton");
+        Assert.assertEquals("Calgary", employee.city);
+    }
+}
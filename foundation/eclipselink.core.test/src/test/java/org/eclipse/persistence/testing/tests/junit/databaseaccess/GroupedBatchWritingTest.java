@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.junit.databaseaccess;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.internal.databaseaccess.DatabaseAccessor;
+import org.eclipse.persistence.internal.databaseaccess.GroupedSQLBatchWritingMechanism;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.internal.sessions.DatabaseSessionImpl;
+import org.eclipse.persistence.logging.SessionLog;
+import org.eclipse.persistence.queries.DeleteObjectQuery;
+import org.eclipse.persistence.queries.InsertObjectQuery;
+import org.eclipse.persistence.queries.ObjectLevelModifyQuery;
+import org.eclipse.persistence.queries.SQLCall;
+import org.eclipse.persistence.sessions.DatabaseLogin;
+import org.eclipse.persistence.sessions.DatabaseSession;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.testing.tests.performance.emulateddb.EmulatedDriver;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test the grouping and the ordering of the batches of the {@link GroupedSQLBatchWritingMechanism},
+ * the batches are recorded instead of executed.
+ */
+public class GroupedBatchWritingTest {
+
+    static class Parent {
+    }
+
+    static class Child {
+    }
+
+    private DatabaseSession session;
+    private RecordingMechanism mechanism;
+
+    /**
+     * Log in a session committing parents before children.
+     */
+    @Before
+    public void login() {
+        DatabaseLogin login = new DatabaseLogin();
+        login.useDirectDriverConnect();
+        login.setDriverClass(EmulatedDriver.class);
+        login.setConnectionString("jdbc:emulateddriver");
+        login.useBatchWriting();
+        login.getPlatform().setUsesGroupedBatchWriting(true);
+        session = new Project(login).createDatabaseSession();
+        session.setLogLevel(SessionLog.OFF);
+        session.login();
+        List<Class<?>> commitOrder = new ArrayList<>();
+        commitOrder.add(Parent.class);
+        commitOrder.add(Child.class);
+        ((AbstractSession) session).getCommitManager().setCommitOrder(commitOrder);
+        mechanism = new RecordingMechanism((DatabaseAccessor) ((DatabaseSessionImpl) session).getAccessor());
+    }
+
+    @After
+    public void logout() {
+        session.logout();
+    }
+
+    private AbstractSession session() {
+        return (AbstractSession) session;
+    }
+
+    private void append(AbstractSession session, ObjectLevelModifyQuery query, Class<?> javaClass, String sql, Object id) {
+        ClassDescriptor descriptor = new ClassDescriptor();
+        descriptor.setJavaClass(javaClass);
+        query.setDescriptor(descriptor);
+        SQLCall call = new SQLCall(sql);
+        call.getParameters().add(id);
+        call.setQuery(query);
+        mechanism.appendCall(session, call);
+    }
+
+    @Test
+    public void interleavedInsertsAreGroupedTest() {
+        AbstractSession session = session();
+        for (int id = 0; id < 3; id++) {
+            append(session, new InsertObjectQuery(), Parent.class, "INSERT PARENT", id);
+            append(session, new InsertObjectQuery(), Child.class, "INSERT CHILD", id);
+        }
+        mechanism.executeBatchedStatements(session);
+        Assert.assertEquals(List.of("INSERT PARENT:3", "INSERT CHILD:3"), mechanism.executed);
+    }
+
+    @Test
+    public void interleavedDeletesAreGroupedTest() {
+        AbstractSession session = session();
+        for (int id = 0; id < 2; id++) {
+            append(session, new DeleteObjectQuery(), Child.class, "DELETE CHILD", id);
+            append(session, new DeleteObjectQuery(), Parent.class, "DELETE PARENT", id);
+        }
+        mechanism.executeBatchedStatements(session);
+        Assert.assertEquals(List.of("DELETE CHILD:2", "DELETE PARENT:2"), mechanism.executed);
+    }
+
+    @Test
+    public void unsafeReorderStartsNewBatchTest() {
+        AbstractSession session = session();
+        // A child insert cannot be executed before a parent insert.
+        append(session, new InsertObjectQuery(), Child.class, "INSERT CHILD", 0);
+        append(session, new InsertObjectQuery(), Parent.class, "INSERT PARENT", 0);
+        append(session, new InsertObjectQuery(), Child.class, "INSERT CHILD", 1);
+        // Nor an insert before a delete.
+        append(session, new DeleteObjectQuery(), Parent.class, "DELETE PARENT", 0);
+        append(session, new InsertObjectQuery(), Parent.class, "INSERT PARENT", 1);
+        mechanism.executeBatchedStatements(session);
+        Assert.assertEquals(List.of("INSERT CHILD:1", "INSERT PARENT:1", "INSERT CHILD:1", "DELETE PARENT:1", "INSERT PARENT:1"), mechanism.executed);
+    }
+
+    /**
+     * Record the SQL and the size of the batches instead of executing them.
+     */
+    static class RecordingMechanism extends GroupedSQLBatchWritingMechanism {
+        final List<String> executed = new ArrayList<>();
+
+        RecordingMechanism(DatabaseAccessor accessor) {
+            super(accessor);
+        }
+
+        @Override
+        public void executeBatchedStatements(AbstractSession session) {
+            for (StatementBatch batch : this.batches) {
+                executed.add(batch.getPreviousCall().getSQLString() + ":" + batch.getParameters().size());
+            }
+            clear();
+        }
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.junit.databaseaccess;
+
+import java.sql.PreparedStatement;
+
+import org.eclipse.persistence.internal.databaseaccess.DatabaseAccessor;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.internal.sessions.DatabaseSessionImpl;
+import org.eclipse.persistence.logging.SessionLog;
+import org.eclipse.persistence.sessions.DatabaseLogin;
+import org.eclipse.persistence.sessions.DatabaseSession;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.sessions.SessionProfiler;
+import org.eclipse.persistence.testing.tests.performance.emulateddb.EmulatedDriver;
+import org.eclipse.persistence.tools.profiler.PerformanceMonitor;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test the LRU eviction and the profiler counters of the {@link DatabaseAccessor} statement cache
+ * against the emulated driver.
+ */
+public class StatementCacheTest {
+
+    private DatabaseSession session;
+    private PerformanceMonitor monitor;
+
+    @Before
+    public void login() {
+        DatabaseLogin login = new DatabaseLogin();
+        login.useDirectDriverConnect();
+        login.setDriverClass(EmulatedDriver.class);
+        login.setConnectionString("jdbc:emulateddriver");
+        login.cacheAllStatements();
+        login.setStatementCacheSize(2);
+        session = new Project(login).createDatabaseSession();
+        session.setLogLevel(SessionLog.OFF);
+        monitor = new PerformanceMonitor();
+        session.setProfiler(monitor);
+        session.login();
+    }
+
+    @After
+    public void logout() {
+        session.logout();
+    }
+
+    private long count(String counter) {
+        Long count = (Long) monitor.getOperationTime(counter);
+        return (count == null) ? 0 : count;
+    }
+
+    private PreparedStatement execute(String sql) throws Exception {
+        DatabaseAccessor accessor = (DatabaseAccessor) ((DatabaseSessionImpl) session).getAccessor();
+        PreparedStatement statement = accessor.prepareStatement(sql, (AbstractSession) session, false);
+        accessor.releaseStatement(statement, sql, null, (AbstractSession) session);
+        return statement;
+    }
+
+    @Test
+    public void hitsAndMissesTest() throws Exception {
+        long hits = count(SessionProfiler.StatementCacheHits);
+        long misses = count(SessionProfiler.StatementCacheMisses);
+        PreparedStatement statement = execute("SELECT A");
+        Assert.assertSame(statement, execute("SELECT A"));
+        Assert.assertSame(statement, execute("SELECT A"));
+        Assert.assertEquals(2, count(SessionProfiler.StatementCacheHits) - hits);
+        Assert.assertEquals(1, count(SessionProfiler.StatementCacheMisses) - misses);
+    }
+
+    @Test
+    public void leastRecentlyUsedIsEvictedTest() throws Exception {
+        long evictions = count(SessionProfiler.StatementCacheEvictions);
+        PreparedStatement a = execute("SELECT A");
+        PreparedStatement b = execute("SELECT B");
+        PreparedStatement c = execute("SELECT C");
+        // Use A so that B is the least recently used.
+        Assert.assertSame(a, execute("SELECT A"));
+        execute("SELECT D");
+        Assert.assertEquals(1, count(SessionProfiler.StatementCacheEvictions) - evictions);
+        Assert.assertSame(a, execute("SELECT A"));
+        Assert.assertSame(c, execute("SELECT C"));
+        Assert.assertNotSame(b, execute("SELECT B"));
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.junit.descriptors;
+
+import java.math.BigDecimal;
+
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.descriptors.RelationalDescriptor;
+import org.eclipse.persistence.internal.identitymaps.CacheId;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.internal.sessions.DatabaseSessionImpl;
+import org.eclipse.persistence.sessions.DatabaseLogin;
+import org.eclipse.persistence.sessions.DatabaseRecord;
+import org.eclipse.persistence.sessions.Project;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test the primary key extracted from rows is the cache id, converted to the type of the id attribute.
+ */
+public class PrimaryKeyExtractionTest {
+
+    static class Invoice {
+        BigDecimal id;
+    }
+
+    static class Item {
+        long id;
+        long version;
+    }
+
+    static class LineItem {
+        long orderId;
+        int line;
+    }
+
+    /**
+     * Return a session with initialized descriptors, the rows are built by the tests so it is not logged in.
+     */
+    private AbstractSession session() {
+        Project p = new Project(new DatabaseLogin());
+        RelationalDescriptor invoice = new RelationalDescriptor();
+        invoice.setJavaClass(Invoice.class);
+        invoice.setTableName("INVOICE");
+        invoice.setPrimaryKeyFieldName("ID");
+        invoice.addDirectMapping("id", "ID");
+        p.addDescriptor(invoice);
+        RelationalDescriptor item = new RelationalDescriptor();
+        item.setJavaClass(Item.class);
+        item.setTableName("ITEM");
+        item.setPrimaryKeyFieldName("ID");
+        item.addDirectMapping("id", "ID");
+        item.addDirectMapping("version", "VERSION");
+        p.addDescriptor(item);
+        RelationalDescriptor lineItem = new RelationalDescriptor();
+        lineItem.setJavaClass(LineItem.class);
+        lineItem.setTableName("LINE_ITEM");
+        lineItem.addPrimaryKeyFieldName("ORDER_ID");
+        lineItem.addPrimaryKeyFieldName("LINE");
+        lineItem.addDirectMapping("orderId", "ORDER_ID");
+        lineItem.addDirectMapping("line", "LINE");
+        p.addDescriptor(lineItem);
+        DatabaseSessionImpl session = (DatabaseSessionImpl) p.createDatabaseSession();
+        session.initializeDescriptors();
+        return session;
+    }
+
+    @Test
+    public void singleIdIsConvertedTest() {
+        AbstractSession session = session();
+        ClassDescriptor invoice = session.getDescriptor(Invoice.class);
+        DatabaseRecord row = new DatabaseRecord();
+        row.put(invoice.getPrimaryKeyFields().get(0), 51);
+        Assert.assertEquals(new BigDecimal(51), invoice.getObjectBuilder().extractPrimaryKeyFromRow(row, session));
+
+        ClassDescriptor item = session.getDescriptor(Item.class);
+        row = new DatabaseRecord();
+        row.put(item.getPrimaryKeyFields().get(0), new BigDecimal(7));
+        Assert.assertEquals(Long.valueOf(7), item.getObjectBuilder().extractPrimaryKeyFromRow(row, session));
+        row.put(item.getPrimaryKeyFields().get(0), "8");
+        Assert.assertEquals(Long.valueOf(8), item.getObjectBuilder().extractPrimaryKeyFromRow(row, session));
+        row.put(item.getPrimaryKeyFields().get(0), null);
+        Assert.assertNull(item.getObjectBuilder().extractPrimaryKeyFromRow(row, session));
+    }
+
+    @Test
+    public void compositeIdIsCacheIdTest() {
+        AbstractSession session = session();
+        ClassDescriptor lineItem = session.getDescriptor(LineItem.class);
+        DatabaseRecord row = new DatabaseRecord();
+        row.put(lineItem.getPrimaryKeyFields().get(0), new BigDecimal(7));
+        row.put(lineItem.getPrimaryKeyFields().get(1), 2L);
+        Assert.assertEquals(new CacheId(new Object[] {7L, 2}), lineItem.getObjectBuilder().extractPrimaryKeyFromRow(row, session));
+    }
+}
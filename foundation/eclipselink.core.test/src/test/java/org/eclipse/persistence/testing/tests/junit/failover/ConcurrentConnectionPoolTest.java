@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.junit.failover;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.persistence.exceptions.ConcurrencyException;
+import org.eclipse.persistence.exceptions.DatabaseException;
+import org.eclipse.persistence.internal.databaseaccess.Accessor;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.sessions.server.ConcurrentConnectionPool;
+import org.eclipse.persistence.sessions.server.ConnectionPool;
+import org.eclipse.persistence.sessions.server.ServerSession;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test the {@link ConcurrentConnectionPool} allocation, waiting and timeout behavior
+ * against the emulated driver.
+ */
+public class ConcurrentConnectionPoolTest extends FailoverBase<ServerSession> {
+
+    private static final int MAX_CONNECTIONS = 4;
+
+    @Override
+    protected ServerSession createSession(Project p) {
+        ServerSession session = (ServerSession) p.createServerSession();
+        ConcurrentConnectionPool pool = new ConcurrentConnectionPool(ServerSession.DEFAULT_POOL, p.getDatasourceLogin(), 1, MAX_CONNECTIONS, MAX_CONNECTIONS, session);
+        pool.setWaitTimeout(200);
+        session.addConnectionPool(pool);
+        session.setReadConnectionPool(pool);
+        return session;
+    }
+
+    private ConcurrentConnectionPool getPool() {
+        return (ConcurrentConnectionPool) getEmulatedSession().getConnectionPool(ServerSession.DEFAULT_POOL);
+    }
+
+    @Test
+    public void acquireReleaseTest() {
+        ConcurrentConnectionPool pool = getPool();
+        List<Accessor> connections = new ArrayList<>();
+        for (int i = 0; i < MAX_CONNECTIONS; ++i) {
+            connections.add(pool.acquireConnection());
+        }
+        Assert.assertEquals(MAX_CONNECTIONS, pool.getTotalNumberOfConnections());
+        Assert.assertFalse(pool.hasConnectionAvailable());
+        for (Accessor accessor : connections) {
+            pool.releaseConnection(accessor);
+        }
+        Assert.assertEquals(MAX_CONNECTIONS, pool.getConnectionsAvailable().size());
+        // Released connections are reused, the last released first.
+        Assert.assertSame(connections.get(MAX_CONNECTIONS - 1), pool.acquireConnection());
+        Assert.assertEquals(MAX_CONNECTIONS, pool.getTotalNumberOfConnections());
+    }
+
+    @Test
+    public void waitTimeoutTest() {
+        ConcurrentConnectionPool pool = getPool();
+        long acquiresBefore = 0;
+        for (long count : pool.getWaitTimeHistogram()) {
+            acquiresBefore += count;
+        }
+        List<Accessor> connections = new ArrayList<>();
+        for (int i = 0; i < MAX_CONNECTIONS; ++i) {
+            connections.add(pool.acquireConnection());
+        }
+        try {
+            pool.acquireConnection();
+            Assert.fail("Should have timed out as all connections are in use.");
+        } catch (ConcurrencyException expected) {
+            Assert.assertEquals(ConcurrencyException.WAIT_TIMEOUT_CONNECTION_POOL, expected.getErrorCode());
+        } finally {
+            for (Accessor accessor : connections) {
+                pool.releaseConnection(accessor);
+            }
+        }
+        Assert.assertEquals(1, pool.getNumberOfTimeouts());
+        long[] bounds = pool.getWaitTimeHistogramBounds();
+        long[] histogram = pool.getWaitTimeHistogram();
+        Assert.assertEquals(bounds.length + 1, histogram.length);
+        long total = 0;
+        long timedOut = 0;
+        for (int i = 0; i < histogram.length; ++i) {
+            total += histogram[i];
+            // The timed out acquire waited at least the 200ms wait timeout.
+            if ((i == bounds.length) || (bounds[i] > 100)) {
+                timedOut += histogram[i];
+            }
+        }
+        Assert.assertEquals(MAX_CONNECTIONS + 1, total - acquiresBefore);
+        Assert.assertEquals(1, timedOut);
+    }
+
+    @Test
+    public void waitForReleaseTest() throws Exception {
+        ConcurrentConnectionPool pool = getPool();
+        pool.setWaitTimeout(0);
+        List<Accessor> connections = new ArrayList<>();
+        for (int i = 0; i < MAX_CONNECTIONS; ++i) {
+            connections.add(pool.acquireConnection());
+        }
+        CountDownLatch started = new CountDownLatch(1);
+        AtomicReference<Accessor> acquired = new AtomicReference<>();
+        Thread waiter = new Thread(() -> {
+            started.countDown();
+            acquired.set(pool.acquireConnection());
+        });
+        waiter.start();
+        Assert.assertTrue(started.await(5, TimeUnit.SECONDS));
+        Assert.assertNull(acquired.get());
+        pool.releaseConnection(connections.get(0));
+        waiter.join(5000);
+        Assert.assertSame(connections.get(0), acquired.get());
+        pool.releaseConnection(acquired.get());
+        for (int i = 1; i < MAX_CONNECTIONS; ++i) {
+            pool.releaseConnection(connections.get(i));
+        }
+    }
+
+    @Test
+    public void shutDownReleasesWaitersTest() throws Exception {
+        ConcurrentConnectionPool pool = getPool();
+        pool.setWaitTimeout(60000);
+        for (int i = 0; i < MAX_CONNECTIONS; ++i) {
+            pool.acquireConnection();
+        }
+        CountDownLatch started = new CountDownLatch(1);
+        AtomicReference<RuntimeException> failure = new AtomicReference<>();
+        Thread waiter = new Thread(() -> {
+            started.countDown();
+            try {
+                pool.acquireConnection();
+            } catch (RuntimeException exception) {
+                failure.set(exception);
+            }
+        });
+        waiter.start();
+        Assert.assertTrue(started.await(5, TimeUnit.SECONDS));
+        // Let the waiter block on the pool before it is shut down.
+        Thread.sleep(100);
+        long start = System.currentTimeMillis();
+        pool.shutDown();
+        waiter.join(5000);
+        Assert.assertFalse(waiter.isAlive());
+        Assert.assertTrue(System.currentTimeMillis() - start < 5000);
+        Assert.assertTrue(failure.get() instanceof DatabaseException);
+        Assert.assertEquals(DatabaseException.DATABASE_ACCESSOR_NOT_CONNECTED, ((DatabaseException) failure.get()).getErrorCode());
+    }
+
+    @Test
+    public void clientSessionTest() {
+        ConnectionPool pool = getPool();
+        getEmulatedSession().acquireClientSession().readObject(Address.class);
+        Assert.assertEquals(0, ((ConcurrentConnectionPool) pool).getNumberOfTimeouts());
+        Assert.assertTrue(pool.hasConnectionAvailable());
+    }
+}
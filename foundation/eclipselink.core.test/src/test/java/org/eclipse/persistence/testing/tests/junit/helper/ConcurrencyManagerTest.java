@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.junit.helper;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.persistence.exceptions.ConcurrencyException;
+import org.eclipse.persistence.internal.helper.ConcurrencyManager;
+import org.eclipse.persistence.internal.helper.DeferredLockManager;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test the lock state of {@link ConcurrencyManager}: nested writes, readers, deferred locks and contention.
+ */
+public class ConcurrencyManagerTest {
+
+    private static Thread start(Runnable runnable, List<Throwable> failures) {
+        Thread thread = new Thread(() -> {
+            try {
+                runnable.run();
+            } catch (Throwable error) {
+                failures.add(error);
+            }
+        });
+        thread.start();
+        return thread;
+    }
+
+    @Test
+    public void nestedAcquireTest() {
+        ConcurrencyManager manager = new ConcurrencyManager();
+        manager.acquire();
+        manager.acquire(true);
+        Assert.assertEquals(2, manager.getDepth());
+        Assert.assertTrue(manager.isNested());
+        Assert.assertTrue(manager.isLockedByMergeManager());
+        Assert.assertSame(Thread.currentThread(), manager.getActiveThread());
+        manager.release();
+        Assert.assertTrue(manager.isAcquired());
+        manager.release();
+        Assert.assertFalse(manager.isAcquired());
+        Assert.assertNull(manager.getActiveThread());
+        Assert.assertFalse(manager.isLockedByMergeManager());
+        Assert.assertThrows(ConcurrencyException.class, manager::release);
+    }
+
+    @Test
+    public void readersExcludeWriterTest() throws Exception {
+        ConcurrencyManager manager = new ConcurrencyManager();
+        manager.acquireReadLock();
+        manager.acquireReadLock();
+        Assert.assertEquals(2, manager.getNumberOfReaders());
+        boolean[] acquired = new boolean[2];
+        List<Throwable> failures = Collections.synchronizedList(new ArrayList<>());
+        start(() -> acquired[0] = manager.acquireNoWait(), failures).join();
+        Assert.assertFalse(acquired[0]);
+        manager.releaseReadLock();
+        manager.releaseReadLock();
+        Assert.assertEquals(0, manager.getNumberOfReaders());
+        // The read lock counters used by the dead lock diagnostics are always recorded.
+        Assert.assertEquals(2, manager.getTotalNumberOfKeysAcquiredForReading());
+        Assert.assertEquals(2, manager.getTotalNumberOfKeysReleasedForReading());
+        start(() -> {
+            acquired[1] = manager.acquireNoWait();
+            manager.release();
+        }, failures).join();
+        Assert.assertTrue(failures.toString(), failures.isEmpty());
+        Assert.assertTrue(acquired[1]);
+    }
+
+    @Test
+    public void writerBlocksReaderTest() throws Exception {
+        ConcurrencyManager manager = new ConcurrencyManager();
+        manager.acquire();
+        // The owner can read its own lock.
+        Assert.assertTrue(manager.acquireReadLockNoWait());
+        manager.releaseReadLock();
+        CountDownLatch read = new CountDownLatch(1);
+        List<Throwable> failures = Collections.synchronizedList(new ArrayList<>());
+        Thread reader = start(() -> {
+            Assert.assertFalse(manager.acquireReadLockNoWait());
+            manager.acquireReadLock();
+            read.countDown();
+            manager.releaseReadLock();
+        }, failures);
+        Assert.assertFalse(read.await(100, TimeUnit.MILLISECONDS));
+        manager.release();
+        Assert.assertTrue(read.await(5, TimeUnit.SECONDS));
+        reader.join();
+        Assert.assertTrue(failures.toString(), failures.isEmpty());
+        Assert.assertEquals(0, manager.getNumberOfReaders());
+    }
+
+    @Test
+    public void deferredLockTest() throws Exception {
+        ConcurrencyManager manager = new ConcurrencyManager();
+        manager.acquire();
+        CountDownLatch deferred = new CountDownLatch(1);
+        List<Throwable> failures = Collections.synchronizedList(new ArrayList<>());
+        Thread builder = start(() -> {
+            manager.acquireDeferredLock();
+            DeferredLockManager lockManager = ConcurrencyManager.getDeferredLockManager(Thread.currentThread());
+            Assert.assertTrue(lockManager.getDeferredLocks().contains(manager));
+            deferred.countDown();
+            // Waits for the owner to release the lock.
+            manager.releaseDeferredLock();
+        }, failures);
+        Assert.assertTrue(deferred.await(5, TimeUnit.SECONDS));
+        Assert.assertSame(Thread.currentThread(), manager.getActiveThread());
+        manager.release();
+        builder.join();
+        Assert.assertTrue(failures.toString(), failures.isEmpty());
+        Assert.assertNull(ConcurrencyManager.getDeferredLockManager(builder));
+        // Unowned, the deferred lock is acquired as an active lock.
+        manager.acquireDeferredLock();
+        Assert.assertSame(Thread.currentThread(), manager.getActiveThread());
+        manager.releaseDeferredLock();
+        Assert.assertFalse(manager.isAcquired());
+    }
+
+    @Test
+    public void releaseWithoutReadersTest() {
+        ConcurrencyManager manager = new ConcurrencyManager();
+        Assert.assertThrows(ConcurrencyException.class, manager::releaseReadLock);
+        Assert.assertEquals(1, manager.getTotalNumberOfKeysReleasedForReadingBlewUpExceptionDueToCacheKeyHavingReachedCounterZero());
+        Assert.assertEquals(0, manager.getNumberOfReaders());
+    }
+
+    @Test
+    public void contentionTest() throws Exception {
+        final ConcurrencyManager manager = new ConcurrencyManager();
+        final AtomicInteger writers = new AtomicInteger();
+        final AtomicInteger readers = new AtomicInteger();
+        final List<Throwable> failures = Collections.synchronizedList(new ArrayList<>());
+        List<Thread> threads = new ArrayList<>();
+        for (int index = 0; index < 8; index++) {
+            final boolean writer = (index % 2) == 0;
+            threads.add(start(() -> {
+                for (int iteration = 0; iteration < 2000; iteration++) {
+                    if (writer) {
+                        manager.acquire();
+                        Assert.assertEquals(1, writers.incrementAndGet());
+                        Assert.assertEquals(0, readers.get());
+                        writers.decrementAndGet();
+                        manager.release();
+                    } else {
+                        manager.acquireReadLock();
+                        readers.incrementAndGet();
+                        Assert.assertEquals(0, writers.get());
+                        readers.decrementAndGet();
+                        manager.releaseReadLock();
+                    }
+                }
+            }, failures));
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        Assert.assertTrue(failures.toString(), failures.isEmpty());
+        Assert.assertFalse(manager.isAcquired());
+        Assert.assertEquals(0, manager.getNumberOfReaders());
+        Assert.assertEquals(0, manager.getNumberOfWritersWaiting());
+        Assert.assertNull(manager.getActiveThread());
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.junit.helper;
+
+import org.eclipse.persistence.internal.helper.ConcurrentFixedCache;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test the frequency based admission of the {@link ConcurrentFixedCache}.
+ */
+public class ConcurrentFixedCacheTest {
+
+    private static final int SIZE = 20;
+
+    /**
+     * Get the value, caching it on a miss, as the JPQL parse cache is used.
+     */
+    private static String getOrPut(ConcurrentFixedCache<String, String> cache, String key) {
+        String value = cache.get(key);
+        if (value == null) {
+            value = key.toUpperCase();
+            cache.put(key, value);
+        }
+        return value;
+    }
+
+    @Test
+    public void hotKeysSurviveTailTest() {
+        ConcurrentFixedCache<String, String> cache = new ConcurrentFixedCache<>(SIZE);
+        // Hot keys used in every round, among a long tail of keys used once.
+        int tail = 0;
+        for (int round = 0; round < 20; round++) {
+            for (int index = 0; index < SIZE / 2; index++) {
+                getOrPut(cache, "hot" + index);
+            }
+            for (int index = 0; index < SIZE; index++) {
+                getOrPut(cache, "tail" + tail++);
+            }
+        }
+        for (int index = 0; index < SIZE / 2; index++) {
+            Assert.assertNotNull("hot" + index, cache.getCache().get("hot" + index));
+        }
+        Assert.assertTrue(cache.getCache().size() <= SIZE);
+        Assert.assertTrue(cache.getRejectionCount() > 0);
+    }
+
+    @Test
+    public void statisticsTest() {
+        ConcurrentFixedCache<String, String> cache = new ConcurrentFixedCache<>(SIZE);
+        getOrPut(cache, "a");
+        getOrPut(cache, "a");
+        getOrPut(cache, "a");
+        getOrPut(cache, "b");
+        Assert.assertEquals(2, cache.getHitCount());
+        Assert.assertEquals(2, cache.getMissCount());
+        Assert.assertEquals(0.5, cache.getHitRatio(), 0.0);
+        Assert.assertEquals(0, cache.getEvictionCount());
+    }
+
+    @Test
+    public void reducedMaxSizeTest() {
+        ConcurrentFixedCache<String, String> cache = new ConcurrentFixedCache<>(SIZE);
+        for (int index = 0; index < SIZE; index++) {
+            getOrPut(cache, "key" + index);
+        }
+        cache.setMaxSize(5);
+        getOrPut(cache, "new");
+        Assert.assertEquals(5, cache.getCache().size());
+        cache.setMaxSize(0);
+        cache.put("none", "NONE");
+        Assert.assertNull(cache.get("none"));
+    }
+}
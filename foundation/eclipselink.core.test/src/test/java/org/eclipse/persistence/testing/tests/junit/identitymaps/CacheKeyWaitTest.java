@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.junit.identitymaps;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.persistence.descriptors.RelationalDescriptor;
+import org.eclipse.persistence.internal.helper.ConcurrencyManager;
+import org.eclipse.persistence.internal.identitymaps.CacheKey;
+import org.eclipse.persistence.internal.sessions.DatabaseSessionImpl;
+import org.eclipse.persistence.sessions.DatabaseLogin;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.sessions.UnitOfWork;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test that waiting for the object of a {@link CacheKey} only takes its instance lock while the object is being built.
+ */
+public class CacheKeyWaitTest {
+
+    public static class Employee {
+        public long id;
+        public String name;
+    }
+
+    /**
+     * Hold the instance lock of the cache key in another thread until released.
+     */
+    private static CountDownLatch holdInstanceLock(CacheKey cacheKey, List<Throwable> failures) throws InterruptedException {
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread holder = new Thread(() -> {
+            cacheKey.getInstanceLock().lock();
+            try {
+                locked.countDown();
+                release.await();
+            } catch (Throwable error) {
+                failures.add(error);
+            } finally {
+                cacheKey.getInstanceLock().unlock();
+            }
+        });
+        holder.setDaemon(true);
+        holder.start();
+        Assert.assertTrue(locked.await(5, TimeUnit.SECONDS));
+        return release;
+    }
+
+    /**
+     * Run the action in another thread, and return its result if it completes within the timeout.
+     */
+    private static <T> T runWithin(Callable<T> action, long millis) throws InterruptedException {
+        AtomicReference<T> result = new AtomicReference<>();
+        CountDownLatch done = new CountDownLatch(1);
+        Thread runner = new Thread(() -> {
+            try {
+                result.set(action.call());
+            } catch (Exception ignore) {
+                // The result stays null.
+            }
+            done.countDown();
+        });
+        runner.setDaemon(true);
+        runner.start();
+        Assert.assertTrue("Blocked on the instance lock", done.await(millis, TimeUnit.MILLISECONDS));
+        return result.get();
+    }
+
+    @Test
+    public void builtObjectIsReturnedWithoutLockTest() throws Exception {
+        Employee employee = new Employee();
+        CacheKey cacheKey = new CacheKey(1L, employee, null);
+        List<Throwable> failures = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch release = holdInstanceLock(cacheKey, failures);
+        try {
+            Assert.assertSame(employee, runWithin(cacheKey::waitForObject, 5000));
+        } finally {
+            release.countDown();
+        }
+        Assert.assertTrue(failures.toString(), failures.isEmpty());
+    }
+
+    @Test
+    public void unacquiredKeyIsReturnedWithoutLockTest() throws Exception {
+        CacheKey cacheKey = new CacheKey(1L);
+        List<Throwable> failures = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch release = holdInstanceLock(cacheKey, failures);
+        try {
+            Assert.assertEquals(Boolean.TRUE, runWithin(() -> cacheKey.waitForObject() == null, 5000));
+        } finally {
+            release.countDown();
+        }
+        Assert.assertTrue(failures.toString(), failures.isEmpty());
+    }
+
+    @Test
+    public void objectBeingBuiltIsWaitedForTest() throws Exception {
+        CacheKey cacheKey = new CacheKey(1L);
+        cacheKey.acquire();
+        Employee employee = new Employee();
+        AtomicReference<Object> result = new AtomicReference<>();
+        Thread waiter = new Thread(() -> result.set(cacheKey.waitForObject()));
+        waiter.start();
+        waiter.join(100);
+        Assert.assertTrue(waiter.isAlive());
+        cacheKey.setObject(employee);
+        cacheKey.release();
+        waiter.join(5000);
+        Assert.assertSame(employee, result.get());
+    }
+
+    /**
+     * Return if the lazily allocated instance lock of the cache key was allocated.
+     */
+    private static boolean hasInstanceLock(CacheKey cacheKey) throws Exception {
+        Field field = ConcurrencyManager.class.getDeclaredField("instanceLock");
+        field.setAccessible(true);
+        return field.get(cacheKey) != null;
+    }
+
+    private static DatabaseSessionImpl employeeSession() {
+        RelationalDescriptor descriptor = new RelationalDescriptor();
+        descriptor.setJavaClass(Employee.class);
+        descriptor.setTableName("EMPLOYEE");
+        descriptor.setPrimaryKeyFieldName("ID");
+        descriptor.addDirectMapping("id", "ID");
+        descriptor.addDirectMapping("name", "NAME");
+        Project project = new Project(new DatabaseLogin());
+        project.addDescriptor(descriptor);
+        DatabaseSessionImpl session = (DatabaseSessionImpl) project.createDatabaseSession();
+        session.initializeDescriptors();
+        return session;
+    }
+
+    private static Employee employee(long id, String name) {
+        Employee employee = new Employee();
+        employee.id = id;
+        employee.name = name;
+        return employee;
+    }
+
+    @Test
+    public void unitOfWorkClonesBuiltObjectWithoutLockTest() throws Exception {
+        DatabaseSessionImpl session = employeeSession();
+        Employee employee = employee(1, "Bob");
+        CacheKey cacheKey = session.getIdentityMapAccessorInstance().internalPutInIdentityMap(employee, 1L, null, 0, session.getDescriptor(Employee.class));
+        UnitOfWork uow = session.acquireUnitOfWork();
+        Employee clone = (Employee) uow.getIdentityMapAccessor().getFromIdentityMap(1L, Employee.class);
+        Assert.assertNotSame(employee, clone);
+        Assert.assertEquals("Bob", clone.name);
+        Assert.assertFalse(hasInstanceLock(cacheKey));
+        uow.release();
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.junit.identitymaps;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Vector;
+
+import org.eclipse.persistence.descriptors.RelationalDescriptor;
+import org.eclipse.persistence.internal.helper.DatabaseField;
+import org.eclipse.persistence.internal.sessions.ArrayRecord;
+import org.eclipse.persistence.internal.sessions.DatabaseSessionImpl;
+import org.eclipse.persistence.logging.SessionLog;
+import org.eclipse.persistence.sessions.CachePreloader;
+import org.eclipse.persistence.sessions.DatabaseLogin;
+import org.eclipse.persistence.sessions.DatabaseRecord;
+import org.eclipse.persistence.sessions.DatabaseSession;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.testing.tests.performance.emulateddb.EmulatedConnection;
+import org.eclipse.persistence.testing.tests.performance.emulateddb.EmulatedDriver;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test preloading the cache with the {@link CachePreloader}.
+ */
+public class CachePreloaderTest {
+
+    private static final String SQL = "SELECT ID, CITY FROM EMPLOYEE";
+    private static final String RANGE_SQL = SQL + " WHERE ((ID >= ?) AND (ID < ?))";
+    private static final String LAST_RANGE_SQL = SQL + " WHERE (ID >= ?)";
+    private static final String BOUNDS_SQL = "SELECT MIN(ID), MAX(ID), COUNT(ID) FROM EMPLOYEE";
+
+    private DatabaseSession session;
+
+    public static class Employee {
+        public BigDecimal id;
+        public String city;
+    }
+
+    @Before
+    public void login() {
+        DatabaseLogin login = new DatabaseLogin();
+        login.useDirectDriverConnect();
+        login.setDriverClass(EmulatedDriver.class);
+        login.setConnectionString("jdbc:emulateddriver");
+        RelationalDescriptor descriptor = new RelationalDescriptor();
+        descriptor.setJavaClass(Employee.class);
+        descriptor.setTableName("EMPLOYEE");
+        descriptor.setPrimaryKeyFieldName("ID");
+        descriptor.addDirectMapping("id", "ID");
+        descriptor.addDirectMapping("city", "CITY");
+        Project project = new Project(login);
+        project.addDescriptor(descriptor);
+        session = project.createDatabaseSession();
+        session.setLogLevel(SessionLog.OFF);
+        session.login();
+    }
+
+    @After
+    public void logout() {
+        session.logout();
+    }
+
+    private Vector<DatabaseRecord> employees() {
+        Vector<DatabaseField> fields = new Vector<>(session.getDescriptor(Employee.class).getAllFields());
+        DatabaseField[] fieldsArray = fields.toArray(new DatabaseField[0]);
+        Vector<DatabaseRecord> rows = new Vector<>();
+        rows.add(new ArrayRecord(fields, fieldsArray, new Object[] {new BigDecimal(51), "Calgary"}));
+        rows.add(new ArrayRecord(fields, fieldsArray, new Object[] {new BigDecimal(52), "Metcalfe"}));
+        rows.add(new ArrayRecord(fields, fieldsArray, new Object[] {new BigDecimal(53), "Montreal"}));
+        return rows;
+    }
+
+    /**
+     * Preload the employees, 51 to 53, in ranges of the range size.
+     */
+    private CachePreloader preload(int rangeSize) throws InterruptedException {
+        return preload(rangeSize, new BigDecimal(51), new BigDecimal(53));
+    }
+
+    /**
+     * Preload the employees, with the minimum and maximum keys returned by the database.
+     */
+    private CachePreloader preload(int rangeSize, Object min, Object max) throws InterruptedException {
+        EmulatedConnection connection = (EmulatedConnection) ((DatabaseSessionImpl) session).getAccessor().getConnection();
+        Vector<DatabaseField> fields = new Vector<>();
+        fields.add(new DatabaseField("MIN"));
+        fields.add(new DatabaseField("MAX"));
+        fields.add(new DatabaseField("COUNT"));
+        Vector<DatabaseRecord> bounds = new Vector<>();
+        bounds.add(new ArrayRecord(fields, fields.toArray(new DatabaseField[0]), new Object[] {min, max, 3L}));
+        connection.putRows(BOUNDS_SQL, bounds);
+        // The emulated driver ignores the bind parameters, so each range reads all of the employees.
+        connection.putRows(RANGE_SQL, employees());
+        connection.putRows(LAST_RANGE_SQL, employees());
+        connection.putRows(SQL, employees());
+
+        session.getDescriptor(Employee.class).getCachePolicy().setShouldPreload(true);
+        CachePreloader preloader = new CachePreloader(session);
+        preloader.setRangeSize(rangeSize);
+        Assert.assertFalse(preloader.isComplete());
+        preloader.preload();
+        return preloader;
+    }
+
+    private void assertCached(int id, String city) {
+        Employee employee = (Employee) session.getIdentityMapAccessor().getFromIdentityMap(new BigDecimal(id), Employee.class);
+        Assert.assertNotNull(employee);
+        Assert.assertEquals(city, employee.city);
+    }
+
+    @Test
+    public void preloadTest() throws Exception {
+        CachePreloader preloader = preload(CachePreloader.DEFAULT_RANGE_SIZE);
+        Assert.assertTrue(preloader.isComplete());
+        Assert.assertEquals(1, preloader.getRangeCount());
+        Assert.assertEquals(3, preloader.getPreloadedObjectCount());
+        assertCached(51, "Calgary");
+        assertCached(52, "Metcalfe");
+        assertCached(53, "Montreal");
+    }
+
+    @Test
+    public void rangesTest() throws Exception {
+        CachePreloader preloader = preload(1);
+        Assert.assertEquals(3, preloader.getRangeCount());
+        Assert.assertEquals(3, preloader.getCompletedRangeCount());
+        Assert.assertEquals(9, preloader.getPreloadedObjectCount());
+        assertCached(53, "Montreal");
+    }
+
+    @Test
+    public void nonIntegralBoundsTest() throws Exception {
+        // A fractional minimum can not be split without missing the keys below it.
+        CachePreloader preloader = preload(1, new BigDecimal("-0.5"), new BigDecimal(53));
+        Assert.assertEquals(1, preloader.getRangeCount());
+        Assert.assertEquals(3, preloader.getPreloadedObjectCount());
+        assertCached(51, "Calgary");
+    }
+
+    @Test
+    public void outOfLongRangeBoundsTest() throws Exception {
+        CachePreloader preloader = preload(1, new BigDecimal(51), new BigDecimal(BigInteger.ONE.shiftLeft(64)));
+        Assert.assertEquals(1, preloader.getRangeCount());
+    }
+
+    @Test
+    public void overflowingSpanTest() throws Exception {
+        CachePreloader preloader = preload(1, new BigDecimal(-10), new BigDecimal(Long.MAX_VALUE));
+        Assert.assertEquals(1, preloader.getRangeCount());
+    }
+
+    @Test
+    public void rangesAtLongMaximumTest() throws Exception {
+        CachePreloader preloader = preload(1, new BigDecimal(Long.MAX_VALUE - 2), new BigDecimal(Long.MAX_VALUE));
+        Assert.assertEquals(3, preloader.getRangeCount());
+        Assert.assertEquals(3, preloader.getCompletedRangeCount());
+    }
+
+    @Test
+    public void notPreloadedTest() throws Exception {
+        CachePreloader preloader = new CachePreloader(session);
+        Assert.assertTrue(preloader.getDescriptors().isEmpty());
+        preloader.preload();
+        Assert.assertEquals(0, preloader.getPreloadedObjectCount());
+        Assert.assertNull(session.getIdentityMapAccessor().getFromIdentityMap(new BigDecimal(51), Employee.class));
+    }
+}
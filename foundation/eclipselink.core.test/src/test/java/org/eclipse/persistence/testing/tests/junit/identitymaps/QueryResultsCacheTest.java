@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.junit.identitymaps;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.eclipse.persistence.descriptors.RelationalDescriptor;
+import org.eclipse.persistence.internal.identitymaps.IdentityMapManager;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.logging.SessionLog;
+import org.eclipse.persistence.queries.DataReadQuery;
+import org.eclipse.persistence.queries.DeleteAllQuery;
+import org.eclipse.persistence.queries.QueryResultsCachePolicy;
+import org.eclipse.persistence.queries.ReadAllQuery;
+import org.eclipse.persistence.queries.ReadQuery;
+import org.eclipse.persistence.sessions.DatabaseLogin;
+import org.eclipse.persistence.sessions.DatabaseSession;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.sessions.UnitOfWork;
+import org.eclipse.persistence.testing.tests.performance.emulateddb.EmulatedDriver;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test the bound on the number of cached queries and the invalidation of the query results cache by table.
+ */
+public class QueryResultsCacheTest {
+
+    private static final List<Object> PARAMETERS = List.of(1);
+
+    private DatabaseSession session;
+
+    public static class Employee {
+        public long id;
+        public String name;
+    }
+
+    /**
+     * Log in against the emulated driver, caching at most two queries.
+     */
+    @Before
+    public void login() {
+        DatabaseLogin login = new DatabaseLogin();
+        login.useDirectDriverConnect();
+        login.setDriverClass(EmulatedDriver.class);
+        login.setConnectionString("jdbc:emulateddriver");
+        RelationalDescriptor descriptor = new RelationalDescriptor();
+        descriptor.setJavaClass(Employee.class);
+        descriptor.setTableName("EMPLOYEE");
+        descriptor.setPrimaryKeyFieldName("ID");
+        descriptor.addDirectMapping("id", "ID");
+        descriptor.addDirectMapping("name", "NAME");
+        Project project = new Project(login);
+        project.addDescriptor(descriptor);
+        project.setMaximumCachedQueries(2);
+        session = project.createDatabaseSession();
+        session.setLogLevel(SessionLog.OFF);
+        session.login();
+    }
+
+    @After
+    public void logout() {
+        session.logout();
+    }
+
+    private IdentityMapManager manager() {
+        return ((AbstractSession) session).getIdentityMapAccessorInstance().getIdentityMapManager();
+    }
+
+    private ReadQuery cachedQuery(ReadQuery query, String name) {
+        query.setName(name);
+        query.setQueryResultsCachePolicy(new QueryResultsCachePolicy());
+        return query;
+    }
+
+    @Test
+    public void leastRecentlyUsedQueryIsEvictedTest() {
+        ReadQuery first = cachedQuery(new ReadAllQuery(Employee.class), "first");
+        ReadQuery second = cachedQuery(new ReadAllQuery(Employee.class), "second");
+        ReadQuery third = cachedQuery(new ReadAllQuery(Employee.class), "third");
+        manager().putQueryResult(first, PARAMETERS, "first result");
+        manager().putQueryResult(second, PARAMETERS, "second result");
+        Assert.assertEquals("first result", manager().getQueryResult(first, PARAMETERS, true));
+        manager().putQueryResult(third, PARAMETERS, "third result");
+        Assert.assertEquals("first result", manager().getQueryResult(first, PARAMETERS, true));
+        Assert.assertNull(manager().getQueryResult(second, PARAMETERS, true));
+        Assert.assertEquals("third result", manager().getQueryResult(third, PARAMETERS, true));
+    }
+
+    @Test
+    public void invalidationByTableTest() {
+        ReadQuery employees = cachedQuery(new ReadAllQuery(Employee.class), "employees");
+        employees.getQueryResultsCachePolicy().getInvalidationClasses().add(Employee.class);
+        ReadQuery nativeEmployees = cachedQuery(new DataReadQuery("SELECT NAME FROM EMPLOYEE"), "nativeEmployees");
+        nativeEmployees.getQueryResultsCachePolicy().addInvalidationTable("EMPLOYEE");
+        manager().putQueryResult(employees, PARAMETERS, "employees");
+        manager().putQueryResult(nativeEmployees, PARAMETERS, "names");
+
+        // A change to Employee invalidates the queries on the class and on its table.
+        session.getIdentityMapAccessor().invalidateQueryCache(Employee.class);
+        Assert.assertNull(manager().getQueryResult(employees, PARAMETERS, true));
+        Assert.assertNull(manager().getQueryResult(nativeEmployees, PARAMETERS, true));
+
+        manager().putQueryResult(employees, PARAMETERS, "employees");
+        manager().putQueryResult(nativeEmployees, PARAMETERS, "names");
+        // A change to the table only invalidates the queries declaring it.
+        session.getIdentityMapAccessor().invalidateQueryCacheForTable("employee");
+        Assert.assertEquals("employees", manager().getQueryResult(employees, PARAMETERS, true));
+        Assert.assertNull(manager().getQueryResult(nativeEmployees, PARAMETERS, true));
+    }
+
+    @Test
+    public void unitOfWorkInvalidationByTableTest() {
+        ReadQuery nativeEmployees = cachedQuery(new DataReadQuery("SELECT NAME FROM EMPLOYEE"), "nativeEmployees");
+        nativeEmployees.getQueryResultsCachePolicy().addInvalidationTable("EMPLOYEE");
+        manager().putQueryResult(nativeEmployees, PARAMETERS, "names");
+        // The unit of work invalidates the queries cached in the shared cache.
+        UnitOfWork uow = session.acquireUnitOfWork();
+        uow.getIdentityMapAccessor().invalidateQueryCacheForTable("EMPLOYEE");
+        uow.release();
+        Assert.assertNull(manager().getQueryResult(nativeEmployees, PARAMETERS, true));
+    }
+
+    @Test
+    public void invalidatedQueryIsNotEvictedTest() {
+        ReadQuery first = cachedQuery(new ReadAllQuery(Employee.class), "first");
+        first.getQueryResultsCachePolicy().getInvalidationClasses().add(Employee.class);
+        ReadQuery second = cachedQuery(new ReadAllQuery(Employee.class), "second");
+        ReadQuery third = cachedQuery(new ReadAllQuery(Employee.class), "third");
+        manager().putQueryResult(first, PARAMETERS, "first result");
+        manager().putQueryResult(second, PARAMETERS, "second result");
+        session.getIdentityMapAccessor().invalidateQueryCache(Employee.class);
+        // The invalidation made room for the third query.
+        manager().putQueryResult(third, PARAMETERS, "third result");
+        Assert.assertNull(manager().getQueryResult(first, PARAMETERS, true));
+        Assert.assertEquals("second result", manager().getQueryResult(second, PARAMETERS, true));
+        Assert.assertEquals("third result", manager().getQueryResult(third, PARAMETERS, true));
+    }
+
+    @Test
+    public void modifyAllQueryInvalidatesDeclaredTablesTest() {
+        ReadQuery employees = cachedQuery(new ReadAllQuery(Employee.class), "employees");
+        employees.getQueryResultsCachePolicy().getInvalidationClasses().add(Employee.class);
+        ReadQuery nativeEmployees = cachedQuery(new DataReadQuery("SELECT NAME FROM EMPLOYEE"), "nativeEmployees");
+        nativeEmployees.getQueryResultsCachePolicy().addInvalidationTable("EMPLOYEE");
+        manager().putQueryResult(employees, PARAMETERS, "employees");
+        manager().putQueryResult(nativeEmployees, PARAMETERS, "names");
+
+        session.executeQuery(new DeleteAllQuery(Employee.class));
+        // The results of the queries invalidated by class are kept, as they always were.
+        Assert.assertEquals("employees", manager().getQueryResult(employees, PARAMETERS, true));
+        Assert.assertNull(manager().getQueryResult(nativeEmployees, PARAMETERS, true));
+    }
+
+    @Test
+    public void concurrentPutAndInvalidateTest() throws Exception {
+        ReadQuery employees = cachedQuery(new ReadAllQuery(Employee.class), "employees");
+        employees.getQueryResultsCachePolicy().getInvalidationClasses().add(Employee.class);
+        AtomicBoolean done = new AtomicBoolean();
+        Thread invalidator = new Thread(() -> {
+            while (!done.get()) {
+                session.getIdentityMapAccessor().invalidateQueryCache(Employee.class);
+            }
+        });
+        invalidator.start();
+        try {
+            for (int i = 0; i < 20000; ++i) {
+                manager().putQueryResult(employees, PARAMETERS, "employees");
+            }
+        } finally {
+            done.set(true);
+            invalidator.join();
+        }
+        // Whatever the interleaving, the results still cached must be invalidated with the class.
+        manager().putQueryResult(employees, PARAMETERS, "employees");
+        session.getIdentityMapAccessor().invalidateQueryCache(Employee.class);
+        Assert.assertNull(manager().getQueryResult(employees, PARAMETERS, true));
+    }
+}
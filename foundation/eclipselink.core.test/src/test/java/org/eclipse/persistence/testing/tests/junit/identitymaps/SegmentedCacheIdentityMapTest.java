@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.junit.identitymaps;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.eclipse.persistence.internal.identitymaps.CacheId;
+import org.eclipse.persistence.internal.identitymaps.CacheKey;
+import org.eclipse.persistence.internal.identitymaps.IdentityMap;
+import org.eclipse.persistence.internal.identitymaps.SegmentedCacheIdentityMap;
+import org.junit.Test;
+
+public class SegmentedCacheIdentityMapTest {
+
+    private static CacheId key(int id) {
+        return new CacheId(new Object[] {id});
+    }
+
+    private static int sum(int[] sizes) {
+        int total = 0;
+        for (int size : sizes) {
+            total += size;
+        }
+        return total;
+    }
+
+    @Test
+    public void putGetRemove() {
+        SegmentedCacheIdentityMap map = new SegmentedCacheIdentityMap(100, null, null, false);
+        Object object = new Object();
+        map.put(key(1), object, null, 0);
+        assertSame(object, map.get(key(1)));
+        assertEquals(1, map.getSize());
+        assertSame(object, map.remove(key(1), object));
+        assertNull(map.get(key(1)));
+        assertEquals(0, map.getSize());
+        assertEquals(0, sum(map.getSegmentSizes()));
+    }
+
+    @Test
+    public void sizeIsBounded() {
+        int maxSize = 256;
+        SegmentedCacheIdentityMap map = new SegmentedCacheIdentityMap(maxSize, null, null, false);
+        int segmentMaxSize = (maxSize + map.getNumberOfSegments() - 1) / map.getNumberOfSegments();
+        for (int i = 0; i < maxSize * 10; i++) {
+            map.put(key(i), i, null, 0);
+        }
+        assertTrue(map.getSize() <= segmentMaxSize * map.getNumberOfSegments());
+        assertEquals(map.getSize(), sum(map.getSegmentSizes()));
+        for (int size : map.getSegmentSizes()) {
+            assertTrue(size <= segmentMaxSize);
+        }
+    }
+
+    @Test
+    public void leastRecentlyUsedIsEvicted() {
+        // Small caches use a single segment, so the LRU order is exact.
+        SegmentedCacheIdentityMap map = new SegmentedCacheIdentityMap(3, null, null, false);
+        assertEquals(1, map.getNumberOfSegments());
+        map.put(key(1), 1, null, 0);
+        map.put(key(2), 2, null, 0);
+        map.put(key(3), 3, null, 0);
+        // Use 1 so that 2 is the least recently used.
+        assertNotNull(map.get(key(1)));
+        map.put(key(4), 4, null, 0);
+        assertNotNull(map.get(key(1)));
+        assertNull(map.get(key(2)));
+        assertNotNull(map.get(key(3)));
+        assertNotNull(map.get(key(4)));
+    }
+
+    @Test
+    public void updateMaxSize() {
+        SegmentedCacheIdentityMap map = new SegmentedCacheIdentityMap(1000, null, null, false);
+        for (int i = 0; i < 1000; i++) {
+            map.put(key(i), i, null, 0);
+        }
+        map.updateMaxSize(100);
+        int segmentMaxSize = (100 + map.getNumberOfSegments() - 1) / map.getNumberOfSegments();
+        assertTrue(map.getSize() <= segmentMaxSize * map.getNumberOfSegments());
+        assertEquals(map.getSize(), sum(map.getSegmentSizes()));
+    }
+
+    @Test
+    public void cloneRelinksCacheKeys() {
+        SegmentedCacheIdentityMap map = new SegmentedCacheIdentityMap(100, null, null, false);
+        for (int i = 0; i < 50; i++) {
+            map.put(key(i), i, null, 0);
+        }
+        SegmentedCacheIdentityMap clone = (SegmentedCacheIdentityMap) map.clone();
+        assertEquals(50, clone.getSize());
+        assertEquals(50, sum(clone.getSegmentSizes()));
+        clone.remove(key(0), null);
+        assertEquals(49, clone.getSize());
+        assertEquals(50, map.getSize());
+        assertEquals(50, sum(map.getSegmentSizes()));
+    }
+
+    @Test
+    public void concurrentAccess() throws Exception {
+        final int maxSize = 512;
+        final SegmentedCacheIdentityMap map = new SegmentedCacheIdentityMap(maxSize, null, null, false);
+        List<Thread> threads = new ArrayList<>();
+        final List<Throwable> failures = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            threads.add(new Thread(() -> {
+                try {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    for (int i = 0; i < 20000; i++) {
+                        int id = random.nextInt(maxSize * 2);
+                        int operation = random.nextInt(10);
+                        if (operation == 0) {
+                            map.remove(key(id), null);
+                        } else if (operation < 4) {
+                            map.put(key(id), id, null, 0);
+                        } else {
+                            CacheKey cacheKey = map.getCacheKey(key(id), false);
+                            if ((cacheKey != null) && (cacheKey.getObject() != null)) {
+                                assertEquals(id, cacheKey.getObject());
+                            }
+                        }
+                    }
+                } catch (Throwable error) {
+                    synchronized (failures) {
+                        failures.add(error);
+                    }
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertTrue(failures.toString(), failures.isEmpty());
+        // Every cache key in the map is linked in exactly one segment.
+        assertEquals(map.getSize(), sum(map.getSegmentSizes()));
+        int segmentMaxSize = (maxSize + map.getNumberOfSegments() - 1) / map.getNumberOfSegments();
+        assertTrue(map.getSize() <= segmentMaxSize * map.getNumberOfSegments());
+        IdentityMap clone = map.clone();
+        assertEquals(map.getSize(), clone.getSize());
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.junit.mapping;
+
+import java.lang.reflect.InvocationTargetException;
+
+import org.eclipse.persistence.descriptors.RelationalDescriptor;
+import org.eclipse.persistence.exceptions.DescriptorException;
+import org.eclipse.persistence.internal.descriptors.InstanceVariableHandleAttributeAccessor;
+import org.eclipse.persistence.internal.descriptors.MethodHandleAttributeAccessor;
+import org.eclipse.persistence.internal.sessions.DatabaseSessionImpl;
+import org.eclipse.persistence.mappings.DirectToFieldMapping;
+import org.eclipse.persistence.sessions.DatabaseLogin;
+import org.eclipse.persistence.sessions.Project;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test the accessors using method handles, and that they replace the reflective accessors of classes that were not weaved.
+ */
+public class MethodHandleAttributeAccessorTest {
+
+    public static class Item {
+        private long id;
+        private String name;
+        private int quantity;
+
+        public int getQuantity() {
+            if (quantity < 0) {
+                throw new IllegalStateException("negative");
+            }
+            return quantity;
+        }
+
+        public void setQuantity(int quantity) {
+            this.quantity = quantity;
+        }
+    }
+
+    private RelationalDescriptor descriptor() {
+        RelationalDescriptor descriptor = new RelationalDescriptor();
+        descriptor.setJavaClass(Item.class);
+        descriptor.setTableName("ITEM");
+        descriptor.setPrimaryKeyFieldName("ID");
+        descriptor.addDirectMapping("id", "ID");
+        descriptor.addDirectMapping("name", "NAME");
+        descriptor.addDirectMapping("quantity", "getQuantity", "setQuantity", "QUANTITY");
+        return descriptor;
+    }
+
+    private InstanceVariableHandleAttributeAccessor fieldAccessor(String name) {
+        InstanceVariableHandleAttributeAccessor accessor = new InstanceVariableHandleAttributeAccessor();
+        accessor.setAttributeName(name);
+        accessor.initializeAttributes(Item.class);
+        return accessor;
+    }
+
+    private MethodHandleAttributeAccessor methodAccessor() {
+        MethodHandleAttributeAccessor accessor = new MethodHandleAttributeAccessor();
+        accessor.setAttributeName("quantity");
+        accessor.setGetMethodName("getQuantity");
+        accessor.setSetMethodName("setQuantity");
+        accessor.initializeAttributes(Item.class);
+        return accessor;
+    }
+
+    @Test
+    public void accessorsReplacedTest() {
+        Project project = new Project(new DatabaseLogin());
+        RelationalDescriptor descriptor = descriptor();
+        project.addDescriptor(descriptor);
+        DatabaseSessionImpl session = (DatabaseSessionImpl) project.createDatabaseSession();
+        session.initializeDescriptors();
+        Assert.assertTrue(descriptor.getMappingForAttributeName("name").getAttributeAccessor() instanceof InstanceVariableHandleAttributeAccessor);
+        DirectToFieldMapping quantity = (DirectToFieldMapping) descriptor.getMappingForAttributeName("quantity");
+        Assert.assertTrue(quantity.getAttributeAccessor() instanceof MethodHandleAttributeAccessor);
+        Assert.assertTrue(quantity.getAttributeAccessor().isInitialized());
+
+        Item item = new Item();
+        descriptor.getMappingForAttributeName("name").setAttributeValueInObject(item, "name");
+        quantity.setAttributeValueInObject(item, 3);
+        Assert.assertEquals("name", item.name);
+        Assert.assertEquals(3, quantity.getAttributeValueFromObject(item));
+    }
+
+    @Test
+    public void fieldAccessTest() {
+        InstanceVariableHandleAttributeAccessor id = fieldAccessor("id");
+        InstanceVariableHandleAttributeAccessor name = fieldAccessor("name");
+        Item item = new Item();
+        id.setAttributeValueInObject(item, 5L);
+        name.setAttributeValueInObject(item, "five");
+        Assert.assertEquals(5L, id.getAttributeValueFromObject(item));
+        Assert.assertEquals("five", name.getAttributeValueFromObject(item));
+        name.setAttributeValueInObject(item, null);
+        Assert.assertNull(item.name);
+        // Values not accepted by the handles are set as with reflection.
+        id.setAttributeValueInObject(item, null);
+        Assert.assertEquals(5L, item.id);
+        id.setAttributeValueInObject(item, "7");
+        Assert.assertEquals(7L, item.id);
+        try {
+            id.getAttributeValueFromObject("item");
+            Assert.fail("DescriptorException expected");
+        } catch (DescriptorException expected) {
+        }
+    }
+
+    @Test
+    public void methodAccessTest() {
+        MethodHandleAttributeAccessor quantity = methodAccessor();
+        Item item = new Item();
+        quantity.setAttributeValueInObject(item, 2);
+        Assert.assertEquals(2, quantity.getAttributeValueFromObject(item));
+        quantity.setAttributeValueInObject(item, "4");
+        Assert.assertEquals(4, item.quantity);
+        quantity.setAttributeValueInObject(item, -1);
+        try {
+            quantity.getAttributeValueFromObject(item);
+            Assert.fail("DescriptorException expected");
+        } catch (DescriptorException expected) {
+            Assert.assertEquals(DescriptorException.TARGET_INVOCATION_WHILE_GETTING_VALUE_THRU_METHOD_ACCESSOR, expected.getErrorCode());
+            Assert.assertTrue(expected.getInternalException() instanceof InvocationTargetException);
+            Assert.assertTrue(expected.getInternalException().getCause() instanceof IllegalStateException);
+        }
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.junit.queries;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Vector;
+
+import org.eclipse.persistence.internal.helper.DatabaseField;
+import org.eclipse.persistence.internal.sessions.ArrayRecord;
+import org.eclipse.persistence.internal.sessions.DatabaseSessionImpl;
+import org.eclipse.persistence.logging.SessionLog;
+import org.eclipse.persistence.queries.CursoredStream;
+import org.eclipse.persistence.queries.DataReadQuery;
+import org.eclipse.persistence.queries.ScrollableCursor;
+import org.eclipse.persistence.sessions.DatabaseLogin;
+import org.eclipse.persistence.sessions.DatabaseRecord;
+import org.eclipse.persistence.sessions.DatabaseSession;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.testing.tests.performance.emulateddb.EmulatedConnection;
+import org.eclipse.persistence.testing.tests.performance.emulateddb.EmulatedDriver;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test that the rows fetched through cursors are positional {@link ArrayRecord}s sharing the fields of the cursor.
+ */
+public class CursorRowTest {
+
+    private static final String SQL = "SELECT ID, CITY FROM ADDRESS";
+
+    private DatabaseSession session;
+
+    /**
+     * Log in against the emulated driver, returning three addresses.
+     */
+    @Before
+    public void login() {
+        DatabaseLogin login = new DatabaseLogin();
+        login.useDirectDriverConnect();
+        login.setDriverClass(EmulatedDriver.class);
+        login.setConnectionString("jdbc:emulateddriver");
+        session = new Project(login).createDatabaseSession();
+        session.setLogLevel(SessionLog.OFF);
+        session.login();
+
+        Vector<DatabaseField> fields = new Vector<>();
+        fields.add(new DatabaseField("ID"));
+        fields.add(new DatabaseField("CITY"));
+        DatabaseField[] fieldsArray = fields.toArray(new DatabaseField[0]);
+        Vector<DatabaseRecord> rows = new Vector<>();
+        rows.add(new ArrayRecord(fields, fieldsArray, new Object[] {51, "Calgary"}));
+        rows.add(new ArrayRecord(fields, fieldsArray, new Object[] {52, "Metcalfe"}));
+        rows.add(new ArrayRecord(fields, fieldsArray, new Object[] {53, "Montreal"}));
+        EmulatedConnection connection = (EmulatedConnection) ((DatabaseSessionImpl) session).getAccessor().getConnection();
+        connection.putRows(SQL, rows);
+    }
+
+    @After
+    public void logout() {
+        session.logout();
+    }
+
+    /**
+     * The emulated driver leaves the column labels empty, so the city is read by position.
+     */
+    private void checkRows(List<DatabaseRecord> rows) {
+        Assert.assertEquals(3, rows.size());
+        for (DatabaseRecord row : rows) {
+            Assert.assertEquals(ArrayRecord.class, row.getClass());
+            Assert.assertSame(rows.get(0).getFields(), row.getFields());
+        }
+        Assert.assertEquals("Calgary", rows.get(0).getValues().get(1));
+        Assert.assertEquals("Montreal", rows.get(2).getValues().get(1));
+    }
+
+    @Test
+    public void scrollableCursorTest() {
+        DataReadQuery query = new DataReadQuery(SQL);
+        query.useScrollableCursor();
+        ScrollableCursor cursor = (ScrollableCursor) session.executeQuery(query);
+        List<DatabaseRecord> rows = new ArrayList<>();
+        while (cursor.hasNext()) {
+            rows.add((DatabaseRecord) cursor.next());
+        }
+        cursor.close();
+        checkRows(rows);
+    }
+
+    @Test
+    public void cursoredStreamTest() {
+        DataReadQuery query = new DataReadQuery(SQL);
+        query.useCursoredStream(1, 1);
+        CursoredStream stream = (CursoredStream) session.executeQuery(query);
+        List<DatabaseRecord> rows = new ArrayList<>();
+        while (!stream.atEnd()) {
+            rows.add((DatabaseRecord) stream.read());
+        }
+        stream.close();
+        checkRows(rows);
+    }
+}
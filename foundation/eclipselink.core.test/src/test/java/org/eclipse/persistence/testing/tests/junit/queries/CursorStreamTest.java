@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.junit.queries;
+
+import java.util.List;
+import java.util.Vector;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.eclipse.persistence.descriptors.RelationalDescriptor;
+import org.eclipse.persistence.internal.helper.DatabaseField;
+import org.eclipse.persistence.internal.sessions.ArrayRecord;
+import org.eclipse.persistence.internal.sessions.DatabaseSessionImpl;
+import org.eclipse.persistence.logging.SessionLog;
+import org.eclipse.persistence.queries.ReadAllQuery;
+import org.eclipse.persistence.queries.ScrollableCursor;
+import org.eclipse.persistence.queries.ScrollableCursorPolicy;
+import org.eclipse.persistence.sessions.DatabaseLogin;
+import org.eclipse.persistence.sessions.DatabaseRecord;
+import org.eclipse.persistence.sessions.DatabaseSession;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.testing.tests.performance.emulateddb.EmulatedConnection;
+import org.eclipse.persistence.testing.tests.performance.emulateddb.EmulatedDriver;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test streaming the objects of a {@link ScrollableCursor}.
+ */
+public class CursorStreamTest {
+
+    private DatabaseSession session;
+
+    public static class Employee {
+        public long id;
+        public String name;
+    }
+
+    /**
+     * Log in against the emulated driver, returning three employees.
+     */
+    @Before
+    public void login() {
+        DatabaseLogin login = new DatabaseLogin();
+        login.useDirectDriverConnect();
+        login.setDriverClass(EmulatedDriver.class);
+        login.setConnectionString("jdbc:emulateddriver");
+        RelationalDescriptor descriptor = new RelationalDescriptor();
+        descriptor.setJavaClass(Employee.class);
+        descriptor.setTableName("EMPLOYEE");
+        descriptor.setPrimaryKeyFieldName("ID");
+        descriptor.addDirectMapping("id", "ID");
+        descriptor.addDirectMapping("name", "NAME");
+        Project project = new Project(login);
+        project.addDescriptor(descriptor);
+        session = project.createDatabaseSession();
+        session.setLogLevel(SessionLog.OFF);
+        session.login();
+
+        Vector<DatabaseField> fields = new Vector<>(descriptor.getAllFields());
+        DatabaseField[] fieldsArray = fields.toArray(new DatabaseField[0]);
+        Vector<DatabaseRecord> rows = new Vector<>();
+        rows.add(new ArrayRecord(fields, fieldsArray, new Object[] {1L, "Bob"}));
+        rows.add(new ArrayRecord(fields, fieldsArray, new Object[] {2L, "Jill"}));
+        rows.add(new ArrayRecord(fields, fieldsArray, new Object[] {3L, "Sarah"}));
+        EmulatedConnection connection = (EmulatedConnection) ((DatabaseSessionImpl) session).getAccessor().getConnection();
+        connection.putRows("SELECT ID, NAME FROM EMPLOYEE", rows);
+    }
+
+    @After
+    public void logout() {
+        session.logout();
+    }
+
+    private ScrollableCursor openCursor() {
+        ReadAllQuery query = new ReadAllQuery(Employee.class);
+        ScrollableCursorPolicy policy = new ScrollableCursorPolicy();
+        policy.setResultSetType(ScrollableCursorPolicy.TYPE_FORWARD_ONLY);
+        policy.setResultSetConcurrency(ScrollableCursorPolicy.CONCUR_READ_ONLY);
+        query.useScrollableCursor(policy);
+        return (ScrollableCursor) session.executeQuery(query);
+    }
+
+    @Test
+    public void streamClosesCursorAtEndTest() {
+        ScrollableCursor cursor = openCursor();
+        List<String> names = cursor.stream().map(employee -> ((Employee) employee).name).collect(Collectors.toList());
+        Assert.assertEquals(List.of("Bob", "Jill", "Sarah"), names);
+        Assert.assertTrue(cursor.isClosed());
+    }
+
+    @Test
+    public void closingStreamClosesCursorTest() {
+        ScrollableCursor cursor = openCursor();
+        try (Stream<Object> stream = cursor.stream()) {
+            Assert.assertEquals("Bob", ((Employee) stream.findFirst().get()).name);
+            Assert.assertFalse(cursor.isClosed());
+        }
+        Assert.assertTrue(cursor.isClosed());
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.junit.queries;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Vector;
+
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.descriptors.RelationalDescriptor;
+import org.eclipse.persistence.internal.descriptors.MaterializationPlan;
+import org.eclipse.persistence.internal.descriptors.ObjectBuilder;
+import org.eclipse.persistence.internal.helper.DatabaseField;
+import org.eclipse.persistence.internal.helper.NonSynchronizedSubVector;
+import org.eclipse.persistence.internal.sessions.AbstractRecord;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.internal.sessions.ArrayRecord;
+import org.eclipse.persistence.internal.sessions.DatabaseSessionImpl;
+import org.eclipse.persistence.logging.SessionLog;
+import org.eclipse.persistence.queries.FetchGroup;
+import org.eclipse.persistence.queries.ReadAllQuery;
+import org.eclipse.persistence.sessions.DatabaseLogin;
+import org.eclipse.persistence.sessions.DatabaseRecord;
+import org.eclipse.persistence.sessions.DatabaseSession;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.testing.tests.performance.emulateddb.EmulatedConnection;
+import org.eclipse.persistence.testing.tests.performance.emulateddb.EmulatedDriver;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test building objects from rows with materialization plans.
+ */
+public class MaterializationPlanTest {
+
+    private DatabaseSession session;
+    private Vector<DatabaseRecord> rows;
+
+    public static class Employee {
+        public BigDecimal id;
+        public String city;
+        public String name;
+    }
+
+    /**
+     * Log in against the emulated driver with materialization plans, returning three employees.
+     */
+    @Before
+    public void login() {
+        DatabaseLogin login = new DatabaseLogin();
+        login.useDirectDriverConnect();
+        login.setDriverClass(EmulatedDriver.class);
+        login.setConnectionString("jdbc:emulateddriver");
+        RelationalDescriptor descriptor = new RelationalDescriptor();
+        descriptor.setJavaClass(Employee.class);
+        descriptor.setTableName("EMPLOYEE");
+        descriptor.setPrimaryKeyFieldName("ID");
+        descriptor.addDirectMapping("id", "ID");
+        descriptor.addDirectMapping("city", "CITY");
+        descriptor.addDirectMapping("name", "NAME");
+        Project project = new Project(login);
+        project.addDescriptor(descriptor);
+        project.setUsesMaterializationPlans(true);
+        session = project.createDatabaseSession();
+        session.setLogLevel(SessionLog.OFF);
+        session.login();
+
+        Vector<DatabaseField> fields = new Vector<>(descriptor.getAllFields());
+        DatabaseField[] fieldsArray = fields.toArray(new DatabaseField[0]);
+        rows = new Vector<>();
+        rows.add(new ArrayRecord(fields, fieldsArray, new Object[] {new BigDecimal(51), "Calgary", "Bob"}));
+        rows.add(new ArrayRecord(fields, fieldsArray, new Object[] {new BigDecimal(52), "Metcalfe", "Jill"}));
+        rows.add(new ArrayRecord(fields, fieldsArray, new Object[] {new BigDecimal(53), "Montreal", "Sarah"}));
+        EmulatedConnection connection = (EmulatedConnection) ((DatabaseSessionImpl) session).getAccessor().getConnection();
+        connection.putRows("SELECT ID, CITY, NAME FROM EMPLOYEE", rows);
+    }
+
+    @After
+    public void logout() {
+        session.logout();
+    }
+
+    @Test
+    public void readAllTest() {
+        List<?> employees = session.readAllObjects(Employee.class);
+        Assert.assertEquals(3, employees.size());
+        Employee employee = (Employee) employees.get(0);
+        Assert.assertEquals(new BigDecimal(51), employee.id);
+        Assert.assertEquals("Bob", employee.name);
+        Assert.assertEquals("Calgary", employee.city);
+    }
+
+    @Test
+    public void planReusedTest() {
+        ObjectBuilder builder = session.getDescriptor(Employee.class).getObjectBuilder();
+        MaterializationPlan plan = builder.getMaterializationPlan(rows.get(0), null);
+        Assert.assertNotNull(plan);
+        Assert.assertEquals(3, plan.getDirectMappingsCount());
+        Assert.assertSame(plan, builder.getMaterializationPlan(rows.get(1), null));
+
+        // A row with another fields vector holding the same fields, as trimmed for joining.
+        AbstractRecord row = rows.get(2);
+        AbstractRecord trimmed = new DatabaseRecord(new NonSynchronizedSubVector<>(row.getFields(), 0, row.size()), new NonSynchronizedSubVector(row.getValues(), 0, row.size()));
+        Assert.assertSame(plan, builder.getMaterializationPlan(trimmed, null));
+
+        // Rows with other fields get their own plan.
+        Vector<DatabaseField> fields = new Vector<>();
+        fields.add(new DatabaseField("EMPLOYEE.ID"));
+        fields.add(new DatabaseField("EMPLOYEE.CITY"));
+        DatabaseRecord other = new DatabaseRecord(fields, new Vector<>(List.of(54, "Ottawa")));
+        MaterializationPlan otherPlan = builder.getMaterializationPlan(other, null);
+        Assert.assertNotSame(plan, otherPlan);
+        Assert.assertEquals(2, otherPlan.getDirectMappingsCount());
+        Assert.assertSame(plan, builder.getMaterializationPlan(rows.get(0), null));
+    }
+
+    @Test
+    public void fetchGroupTest() {
+        ClassDescriptor descriptor = session.getDescriptor(Employee.class);
+        FetchGroup fetchGroup = new FetchGroup();
+        fetchGroup.addAttribute("id");
+        fetchGroup.addAttribute("city");
+        AbstractRecord row = rows.get(1);
+        MaterializationPlan plan = descriptor.getObjectBuilder().getMaterializationPlan(row, fetchGroup);
+        Assert.assertSame(fetchGroup, plan.getFetchGroup());
+        Assert.assertEquals(2, plan.getDirectMappingsCount());
+        Assert.assertNotSame(plan, descriptor.getObjectBuilder().getMaterializationPlan(row, null));
+
+        Employee employee = new Employee();
+        ReadAllQuery query = new ReadAllQuery(Employee.class);
+        plan.buildAttributesIntoObject(employee, null, row, query, null, (AbstractSession) session, false);
+        Assert.assertEquals(new BigDecimal(52), employee.id);
+        Assert.assertEquals("Metcalfe", employee.city);
+        Assert.assertNull(employee.name);
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.junit.sequencing;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Vector;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.persistence.descriptors.RelationalDescriptor;
+import org.eclipse.persistence.internal.databaseaccess.Accessor;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.logging.SessionLog;
+import org.eclipse.persistence.sequencing.Sequence;
+import org.eclipse.persistence.sessions.DatabaseLogin;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.sessions.server.ServerSession;
+import org.eclipse.persistence.testing.tests.performance.emulateddb.EmulatedDriver;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test the asynchronous refill of preallocated sequence values, using a non-transactional sequence
+ * that counts its allocations.
+ */
+public class AsynchronousPreallocationTest {
+
+    private static final int PREALLOCATION_SIZE = 10;
+
+    private ServerSession session;
+    private CountingSequence sequence;
+
+    public static class Invoice {
+        public long id;
+    }
+
+    @Before
+    public void login() {
+        DatabaseLogin login = new DatabaseLogin();
+        login.useDirectDriverConnect();
+        login.setDriverClass(EmulatedDriver.class);
+        login.setConnectionString("jdbc:emulateddriver");
+        sequence = new CountingSequence("INVOICE_SEQ", PREALLOCATION_SIZE);
+        login.addSequence(sequence);
+        RelationalDescriptor descriptor = new RelationalDescriptor();
+        descriptor.setJavaClass(Invoice.class);
+        descriptor.setTableName("INVOICE");
+        descriptor.setPrimaryKeyFieldName("ID");
+        descriptor.setSequenceNumberFieldName("ID");
+        descriptor.setSequenceNumberName("INVOICE_SEQ");
+        descriptor.addDirectMapping("id", "ID");
+        Project project = new Project(login);
+        project.addDescriptor(descriptor);
+        session = (ServerSession) project.createServerSession();
+        session.setLogLevel(SessionLog.OFF);
+        session.getSequencingControl().setShouldUseAsynchronousPreallocation(true);
+        session.login();
+    }
+
+    @After
+    public void logout() {
+        session.logout();
+    }
+
+    private long nextValue() {
+        return ((Number) session.getSequencing().getNextValue(Invoice.class)).longValue();
+    }
+
+    @Test
+    public void refillBeforeRunningDryTest() throws Exception {
+        Assert.assertEquals(1, nextValue());
+        // The next block is allocated in the background while the first one is consumed.
+        long timeout = System.currentTimeMillis() + 5000;
+        while ((sequence.allocations.get() < 2) && (System.currentTimeMillis() < timeout)) {
+            Thread.sleep(10);
+        }
+        Assert.assertEquals(2, sequence.allocations.get());
+        for (int i = 2; i <= PREALLOCATION_SIZE * 2; i++) {
+            Assert.assertEquals(i, nextValue());
+        }
+    }
+
+    @Test
+    public void concurrentConsumersTest() throws Exception {
+        final int threads = 8;
+        final int iterations = 200;
+        final List<Long> values = Collections.synchronizedList(new ArrayList<>());
+        final List<Throwable> failures = Collections.synchronizedList(new ArrayList<>());
+        List<Thread> consumers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            consumers.add(new Thread(() -> {
+                try {
+                    for (int i = 0; i < iterations; i++) {
+                        values.add(nextValue());
+                    }
+                } catch (Throwable error) {
+                    failures.add(error);
+                }
+            }));
+        }
+        for (Thread consumer : consumers) {
+            consumer.start();
+        }
+        for (Thread consumer : consumers) {
+            consumer.join();
+        }
+        Assert.assertTrue(failures.toString(), failures.isEmpty());
+        // The values are consumed in allocation order, so there are no gaps or duplicates.
+        Collections.sort(values);
+        for (int i = 0; i < values.size(); i++) {
+            Assert.assertEquals(i + 1, values.get(i).longValue());
+        }
+    }
+
+    /**
+     * Non-transactional sequence allocating consecutive values, slow enough for the consumers to run dry.
+     */
+    static class CountingSequence extends Sequence {
+        final AtomicLong next = new AtomicLong(1);
+        final AtomicInteger allocations = new AtomicInteger();
+
+        CountingSequence(String name, int size) {
+            super(name, size);
+        }
+
+        @Override
+        public boolean shouldAcquireValueAfterInsert() {
+            return false;
+        }
+
+        @Override
+        public boolean shouldUseTransaction() {
+            return false;
+        }
+
+        @Override
+        public Object getGeneratedValue(Accessor accessor, AbstractSession writeSession, String seqName) {
+            return null;
+        }
+
+        @Override
+        public Vector<?> getGeneratedVector(Accessor accessor, AbstractSession writeSession, String seqName, int size) {
+            allocations.incrementAndGet();
+            try {
+                Thread.sleep(1);
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+            long first = next.getAndAdd(size);
+            Vector<Long> sequences = new Vector<>(size);
+            for (long value = first; value < first + size; value++) {
+                sequences.add(value);
+            }
+            return sequences;
+        }
+
+        @Override
+        public void onConnect() {
+        }
+
+        @Override
+        public void onDisconnect() {
+        }
+    }
+}
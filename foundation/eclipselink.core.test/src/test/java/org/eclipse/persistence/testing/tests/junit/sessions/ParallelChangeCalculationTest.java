@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.junit.sessions;
+
+import org.eclipse.persistence.descriptors.RelationalDescriptor;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.internal.sessions.ObjectChangeSet;
+import org.eclipse.persistence.internal.sessions.UnitOfWorkChangeSet;
+import org.eclipse.persistence.logging.SessionLog;
+import org.eclipse.persistence.sessions.DatabaseLogin;
+import org.eclipse.persistence.sessions.DatabaseSession;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.sessions.UnitOfWork;
+import org.eclipse.persistence.testing.tests.performance.emulateddb.EmulatedDriver;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test that the changes calculated in parallel are the same as the changes calculated serially.
+ */
+public class ParallelChangeCalculationTest {
+
+    private static final int SIZE = 2000;
+
+    private DatabaseSession session;
+
+    public static class Employee {
+        public long id;
+        public String firstName;
+        public String lastName;
+    }
+
+    @Before
+    public void login() {
+        DatabaseLogin login = new DatabaseLogin();
+        login.useDirectDriverConnect();
+        login.setDriverClass(EmulatedDriver.class);
+        login.setConnectionString("jdbc:emulateddriver");
+        RelationalDescriptor descriptor = new RelationalDescriptor();
+        descriptor.setJavaClass(Employee.class);
+        descriptor.setTableName("EMPLOYEE");
+        descriptor.setPrimaryKeyFieldName("ID");
+        descriptor.addDirectMapping("id", "ID");
+        descriptor.addDirectMapping("firstName", "F_NAME");
+        descriptor.addDirectMapping("lastName", "L_NAME");
+        Project project = new Project(login);
+        project.addDescriptor(descriptor);
+        session = project.createDatabaseSession();
+        session.setLogLevel(SessionLog.OFF);
+        ((AbstractSession) session).setParallelChangeCalculationThreshold(1);
+        session.login();
+    }
+
+    @After
+    public void logout() {
+        session.logout();
+    }
+
+    private Employee[] cacheEmployees() {
+        Employee[] employees = new Employee[SIZE];
+        for (int index = 0; index < SIZE; index++) {
+            Employee employee = new Employee();
+            employee.id = 1000 + index;
+            employee.firstName = "first" + index;
+            session.getIdentityMapAccessor().putInIdentityMap(employee);
+            employees[index] = employee;
+        }
+        return employees;
+    }
+
+    @Test
+    public void changesTest() {
+        Employee[] employees = cacheEmployees();
+        UnitOfWork uow = session.acquireUnitOfWork();
+        Employee[] clones = new Employee[SIZE];
+        for (int index = 0; index < SIZE; index++) {
+            clones[index] = (Employee) uow.registerObject(employees[index]);
+            if ((index % 3) == 0) {
+                clones[index].firstName = "changed" + index;
+            }
+        }
+        UnitOfWorkChangeSet changeSet = (UnitOfWorkChangeSet) uow.getCurrentChanges();
+        Assert.assertEquals((SIZE + 2) / 3, changeSet.getAllChangeSets().size());
+        for (int index = 0; index < SIZE; index++) {
+            ObjectChangeSet changes = (ObjectChangeSet) changeSet.getObjectChangeSetForClone(clones[index]);
+            Assert.assertNotNull(changes);
+            Assert.assertSame(changeSet, changes.getUOWChangeSet());
+            Assert.assertEquals((index % 3) == 0, changes.hasChanges());
+            Assert.assertEquals((index % 3) == 0, changeSet.getAllChangeSets().containsKey(changes));
+        }
+        uow.release();
+    }
+
+    @Test
+    public void commitTest() {
+        Employee[] employees = cacheEmployees();
+        UnitOfWork uow = session.acquireUnitOfWork();
+        for (int index = 0; index < SIZE; index += 2) {
+            ((Employee) uow.registerObject(employees[index])).lastName = "last" + index;
+        }
+        uow.commit();
+        for (int index = 0; index < SIZE; index++) {
+            Assert.assertEquals(((index % 2) == 0) ? "last" + index : null, employees[index].lastName);
+        }
+    }
+}
@@ -122,6 +122,7 @@
     exports org.eclipse.persistence.sessions.coordination.broadcast;
     exports org.eclipse.persistence.sessions.coordination.i18n;
     exports org.eclipse.persistence.sessions.coordination.jms;
+    exports org.eclipse.persistence.sessions.coordination.local;
     exports org.eclipse.persistence.sessions.coordination.rmi;
     exports org.eclipse.persistence.sessions.factories;
     exports org.eclipse.persistence.sessions.factories.i18n;
@@ -167,6 +168,7 @@
     exports org.eclipse.persistence.internal.sequencing;
     exports org.eclipse.persistence.internal.sessions.coordination;
     exports org.eclipse.persistence.internal.sessions.coordination.jms;
+    exports org.eclipse.persistence.internal.sessions.coordination.local;
     exports org.eclipse.persistence.internal.sessions.factories;
     exports org.eclipse.persistence.internal.sessions.factories.model;
     exports org.eclipse.persistence.internal.sessions.factories.model.property;
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1998, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1998, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -85,5 +85,16 @@ public enum CacheType {
      * caching set the {@linkplain Cache#isolation()} attribute to
      * {@linkplain CacheIsolationType#ISOLATED}.
      */
-    NONE
+    NONE,
+
+    /**
+     * Similar to the {@linkplain #CACHE} identity map except that the least-recently-used
+     * order is split into independently locked segments by primary key, so concurrent
+     * threads reading the same class do not contend on a single lock.
+     * The least-recently-used order is approximate under concurrent access.
+     * <p>
+     * <strong>WARNING:</strong> Furnishes caching and identity, but does not guarantee
+     * identity.  This cache type should only be used for objects that have no relationships to them.
+     */
+    SEGMENTED_CACHE
 }
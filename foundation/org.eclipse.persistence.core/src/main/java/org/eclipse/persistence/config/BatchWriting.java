@@ -30,6 +30,8 @@
  *
  * <ul>
  * <li>JDBC - JDBC batch API's are used (dynamic, or parameterized).
+ * <li>JDBC-Grouped - JDBC batch API's are used, parameterized statements are batched per SQL string,
+ * so interleaved writes to several tables are executed as one batch per table, in commit order.
  * <li>Bufferred - dynamic SQL is concatenated into a batch SQL string.
  * <li>Oracle-JDBC - Oracle JDBC batch API's are used (allows row count to be returned for optimistic locking).
  * <li>&lt;custom-class&gt; - A custom class that extends the BatchWritingMechanism class.
@@ -41,6 +43,7 @@ public final class BatchWriting {
     public static final String  JDBC = "JDBC";
     public static final String  Buffered = "Buffered";
     public static final String  OracleJDBC = "Oracle-JDBC";
+    public static final String  JDBCGrouped = "JDBC-Grouped";
 
     public static final String DEFAULT = None;
 
@@ -83,6 +83,15 @@ public final class CacheType {
      */
     public static final String  Full = "Full";
 
+    /**
+     * A SegmentedCache holds a fixed number of the most recently used objects,
+     * the least recently used order is split into independently locked segments
+     * so that concurrent threads do not contend on a single lock.
+     * It does not guarantee object identity for objects removed from the cache.
+     * <p>WARNING: This cache type should only be used for objects that have no relationships to them.
+     */
+    public static final String  SegmentedCache = "SegmentedCache";
+
     /**
      * NONE does not cache any objects.
      * It allows any un-referenced objects to be free to garbage collection.
@@ -378,6 +378,28 @@ public final class PersistenceUnitProperties {
      */
     public static final String CONNECTION_POOL_SHARED = "shared";
 
+    /**
+     * The {@code concurrent} property.<br>
+     * This can be appended to any connection pool property,
+     * i.e. {@code eclipselink.connection-pool.default.concurrent}.<br>
+     * Configures whether the connection pool should allocate connections without
+     * locking the pool. A concurrent pool keeps idle connections in a lock-free deque,
+     * serves waiting threads in FIFO order without pinning virtual threads,
+     * and records a histogram of the time spent waiting for a connection.
+     * <p>
+     * This property is ignored in case external connection pools are used,
+     * or in case the read connection pool is shared.
+     * <p>
+     * <b>Allowed Values</b> (String)<b>:</b>
+     * <ul>
+     * <li>{@code false} (DEFAULT) - indicates the pool is synchronized
+     * <li>{@code true} - indicates a {@link org.eclipse.persistence.sessions.server.ConcurrentConnectionPool} is used
+     * </ul>
+     *
+     * @see #CONNECTION_POOL
+     */
+    public static final String CONNECTION_POOL_CONCURRENT = "concurrent";
+
     /**
      * The {@code url} property.<br>
      * This can be appended to a connection pool property,
@@ -463,6 +485,7 @@ public final class PersistenceUnitProperties {
      * <li> {@code wait} - amount of time to wait for a connection from the pool.
      * <li> {@code url} - JDBC URL for the connection.
      * <li> {@code shared} - only for the read connection pool, shares read connections across threads.
+     * <li> {@code concurrent} - allocates connections without locking the pool.
      * <li> {@code jtaDataSource} - JTA DataSource name to use for the connection, if different from the default.
      * <li> {@code nonJtaDataSource} - non JTA DataSource name to use for the connection, if different from the default.
      * <li> {@code user} - user to use for the connection, if different from the default.
@@ -488,6 +511,7 @@ public final class PersistenceUnitProperties {
      * @see #CONNECTION_POOL_JTA_DATA_SOURCE
      * @see #CONNECTION_POOL_NON_JTA_DATA_SOURCE
      * @see #CONNECTION_POOL_SHARED
+     * @see #CONNECTION_POOL_CONCURRENT
      * @see org.eclipse.persistence.sessions.server.ConnectionPool
      */
     public static final String CONNECTION_POOL = "eclipselink.connection-pool.";
@@ -506,6 +530,7 @@ public final class PersistenceUnitProperties {
      * <li> {@code wait} - amount of time to wait for a connection from the pool.
      * <li> {@code url} - JDBC URL for the connection.
      * <li> {@code shared} - only for the read connection pool, shares read connections across threads.
+     * <li> {@code concurrent} - allocates connections without locking the pool.
      * <li> {@code jtaDataSource} - JTA DataSource name to use for the connection, if different from the default.
      * <li> {@code nonJtaDataSource} - non JTA DataSource name to use for the connection, if different from the default.
      * <li> {@code user} - user to use for the connection, if different from the default.
@@ -1262,6 +1287,47 @@ public final class PersistenceUnitProperties {
      */
     public static final String CACHE_SHARED_ = "eclipselink.cache.shared.";
 
+    /**
+     * The {@code eclipselink.cache.preload.<ENTITY>} property prefix is used to specify if the cache
+     * of an entity type should be preloaded with all of its entities when the persistence unit is deployed.
+     * The prefix must be followed by a valid entity type name, class name or {@link #DEFAULT}.
+     * <p>
+     * The entities are read in primary key ranges in the background, so the creation of the
+     * EntityManagerFactory is not blocked. The cache type should be able to hold all of the entities.
+     * <p>
+     * <b>Allowed Values:</b>
+     * <ul>
+     * <li>{@code true}
+     * <li>{@code false} (DEFAULT)
+     * </ul>
+     *
+     * @see #CACHE_PRELOAD_DEFAULT
+     * @see #CACHE_PRELOAD_THREADS
+     * @see org.eclipse.persistence.sessions.CachePreloader
+     */
+    public static final String CACHE_PRELOAD_ = "eclipselink.cache.preload.";
+
+    /**
+     * Default cache preload property, applies to all entities.
+     * May be overridden by individual entity property with the same prefix.
+     *
+     * @see #CACHE_PRELOAD_
+     */
+    public static final String CACHE_PRELOAD_DEFAULT = CACHE_PRELOAD_ + DEFAULT;
+
+    /**
+     * The {@code eclipselink.cache.preload-threads} property configures the maximum number of
+     * threads, and read connections, used to preload the cache of the entities configured by {@link #CACHE_PRELOAD_}.
+     * <p>
+     * <b>Allowed Values:</b>
+     * <ul>
+     * <li>a string containing a positive integer (DEFAULT is 4)
+     * </ul>
+     *
+     * @see org.eclipse.persistence.sessions.CachePreloader#setThreads(int)
+     */
+    public static final String CACHE_PRELOAD_THREADS = "eclipselink.cache.preload-threads";
+
     /**
      * The {@code jakarta.persistence.sharedCache.mode} property determines whether
      * second-level caching is in effect for the persistence unit. This property overrides the value
@@ -2454,6 +2520,25 @@ public final class PersistenceUnitProperties {
      */
     public static final String SEQUENCING_START_AT_NEXTVAL = "eclipselink.sequencing.start-sequence-at-nextval";
 
+    /**
+     * The {@code eclipselink.sequencing.async-preallocation} property
+     * configures whether preallocated sequence values are refilled asynchronously.
+     * When enabled, the next blocks of sequence values are allocated in the background while the
+     * current block is being consumed, and the number of blocks allocated ahead adapts to the
+     * consumption rate, so that bulk inserts do not wait on the database for sequence values.
+     * This applies to sequences using a sequence connection pool, and to native sequence objects.
+     * <p>
+     * <b>Allowed Values</b> (String)<b>:</b>
+     * <ul>
+     * <li>{@code false} - (DEFAULT) values are allocated when the preallocated values run out
+     * <li>{@code true}
+     * </ul>
+     *
+     * @see #CONNECTION_POOL_SEQUENCE
+     * @see org.eclipse.persistence.sequencing.SequencingControl#setShouldUseAsynchronousPreallocation(boolean)
+     */
+    public static final String SEQUENCING_ASYNC_PREALLOCATION = "eclipselink.sequencing.async-preallocation";
+
     /**
      * The {@code eclipselink.session.customizer} property configures a
      * {@link org.eclipse.persistence.sessions.SessionCustomizer} used to alter the runtime configuration through
@@ -2539,6 +2624,8 @@ public final class PersistenceUnitProperties {
      * <b>Allowed Values:</b>
      * <ul>
      * <li>{@code JDBC} - use JDBC batch writing.
+     * <li>{@code JDBC-Grouped} - use JDBC batch writing, batching parameterized statements
+     * per SQL string so that interleaved writes to several tables are executed as one batch per table.
      * <li>{@code Buffered} - do not use either JDBC batch writing nor native platform
      * batch writing.
      * <li>{@code Oracle-JDBC} - use Oracle's native batch writing. This requires the
@@ -3421,6 +3508,24 @@ public final class PersistenceUnitProperties {
      */
     public static final String PERSISTENCE_CONTEXT_FLUSH_MODE = "eclipselink.persistence-context.flush-mode";
 
+    /**
+     * The {@code eclipselink.persistence-context.parallel-change-calculation-threshold} property configures
+     * the minimum number of objects registered in a persistence context for its changes to be calculated in parallel.
+     * <p>
+     * The existing entities using deferred change tracking, with only basic mappings and no entity listeners,
+     * are then compared with their backup copies on the fork-join common pool, which can improve the commit time
+     * of batch jobs modifying a large number of entities on multi-core machines.
+     * <p>
+     * <b>Allowed Values:</b>
+     * <ul>
+     * <li>a string containing a non-negative integer value
+     * <li>{@code 0} (DEFAULT) - the changes are never calculated in parallel
+     * </ul>
+     *
+     * @see org.eclipse.persistence.internal.sessions.AbstractSession#setParallelChangeCalculationThreshold(int)
+     */
+    public static final String PERSISTENCE_CONTEXT_PARALLEL_CHANGE_CALCULATION_THRESHOLD = "eclipselink.persistence-context.parallel-change-calculation-threshold";
+
     /**
      * The {@code eclipselink.oracle.proxy-type} property is used to
      * specify proxy type that should be passed to
@@ -3716,6 +3821,56 @@ public final class PersistenceUnitProperties {
      */
     public static final String COORDINATION_ASYNCH = "eclipselink.cache.coordination.propagate-asynchronously";
 
+    /**
+     * The {@code eclipselink.cache.coordination.invalidation-only}
+     * property configures cache coordination for a clustered environment.
+     * <p>
+     * Set if only the invalidation of the changed and deleted objects should be propagated,
+     * instead of their changes. Only the class, id and new version of each object are sent,
+     * and the other servers invalidate the object in their cache unless their cached version is as new.
+     * New objects are not sent.<br>
+     * This reduces the size and cost of the coordination messages, the invalidated objects
+     * are refreshed from the database when next accessed. By default, the changes are propagated.
+     * <p>
+     * <b>Allowed Values:</b>
+     * <ul>
+     * <li>"{@code true}"
+     * <li>"{@code false}" (DEFAULT)
+     * </ul>
+     *
+     * @see #COORDINATION_PROTOCOL
+     * @see org.eclipse.persistence.sessions.coordination.RemoteCommandManager#setShouldPropagateInvalidationsOnly(boolean)
+     */
+    public static final String COORDINATION_INVALIDATION_ONLY = "eclipselink.cache.coordination.invalidation-only";
+
+    /**
+     * The {@code eclipselink.cache.coordination.batch-delay} property
+     * configures cache coordination for a clustered environment.
+     * <p>
+     * Set the number of milliseconds the changes of the committed transactions are coalesced
+     * before being broadcast. The changes are broadcast as one message once the delay has elapsed,
+     * or once the batch size is reached, changes of the same object are combined.<br>
+     * The default is 0, the changes of each transaction are broadcast on commit.
+     *
+     * @see #COORDINATION_PROTOCOL
+     * @see #COORDINATION_BATCH_SIZE
+     * @see org.eclipse.persistence.sessions.coordination.RemoteCommandManager#setChangeSetBatchDelay(long)
+     */
+    public static final String COORDINATION_BATCH_DELAY = "eclipselink.cache.coordination.batch-delay";
+
+    /**
+     * The {@code eclipselink.cache.coordination.batch-size} property
+     * configures cache coordination for a clustered environment.
+     * <p>
+     * Set the number of changed objects that causes the coalesced changes to be broadcast
+     * before the batch delay has elapsed.<br>
+     * The default is 1000.
+     *
+     * @see #COORDINATION_BATCH_DELAY
+     * @see org.eclipse.persistence.sessions.coordination.RemoteCommandManager#setChangeSetBatchSize(int)
+     */
+    public static final String COORDINATION_BATCH_SIZE = "eclipselink.cache.coordination.batch-size";
+
     /**
      * The {@code eclipselink.cache.coordination.thread.pool.size}
      * property configures thread pool size for cache coordination threads.
@@ -3743,9 +3898,12 @@ public final class PersistenceUnitProperties {
      * or integration with other systems.
      * <p>
      * The full class name of the serializer class should be provided.
+     * {@code org.eclipse.persistence.sessions.serializers.ChangeSetSerializer} writes the change sets
+     * in a compact binary format, the nodes must use the same persistence unit.
      *
      * @see #COORDINATION_PROTOCOL
      * @see org.eclipse.persistence.sessions.serializers.Serializer
+     * @see org.eclipse.persistence.sessions.serializers.ChangeSetSerializer
      * @see org.eclipse.persistence.sessions.coordination.RemoteCommandManager#setSerializer(org.eclipse.persistence.sessions.serializers.Serializer)
      */
     public static final String COORDINATION_SERIALIZER = "eclipselink.cache.coordination.serializer";
@@ -3976,6 +4134,24 @@ public final class PersistenceUnitProperties {
      */
     public static final String JDBC_RESULT_SET_ACCESS_OPTIMIZATION = "eclipselink.jdbc.result-set-access-optimization";
 
+    /**
+     * The {@code eclipselink.jdbc.materialization-plans} property allows to set
+     * whether objects are built from the rows of a result set with materialization plans.
+     * <p>
+     * A plan is compiled per descriptor and fetch group for the fields selected by a query,
+     * the direct to field mappings then read the values of each row by position and convert them inline,
+     * instead of looking up their field in each row. This reduces the CPU time per row for large result sets.
+     * <p>
+     * <b>Allowed Values</b> (String)<b>:</b>
+     * <ul>
+     * <li>{@code false} (DEFAULT) - don't use plans
+     * <li>{@code true} - use plans
+     * </ul>
+     *
+     * @see org.eclipse.persistence.sessions.Project#setUsesMaterializationPlans(boolean)
+     */
+    public static final String JDBC_MATERIALIZATION_PLANS = "eclipselink.jdbc.materialization-plans";
+
     /**
      * The {@code eclipselink.serializer} property specifies class name for session serializer
      * (must implement {@link org.eclipse.persistence.sessions.serializers.Serializer})
@@ -4237,6 +4413,25 @@ public final class PersistenceUnitProperties {
      */
     public static final String QUERY_RESULTS_CACHE_VALIDATION = "eclipselink.query-results-cache.validation";
 
+    /**
+     * The {@code eclipselink.query-results-cache.max-queries} property configures the maximum number
+     * of queries whose results are cached in the query results cache of a session.
+     * <p>
+     * When the results of a new query are cached beyond this number, the results of the least recently used
+     * query are removed. The number of results cached for each query is configured by the
+     * {@link org.eclipse.persistence.config.QueryHints#QUERY_RESULTS_CACHE_SIZE} query hint,
+     * so together they bound the size of the query results cache.
+     * <p>
+     * <b>Allowed Values:</b>
+     * <ul>
+     * <li>a string containing a non-negative integer value
+     * <li>{@code -1} (DEFAULT) - no maximum
+     * </ul>
+     *
+     * @see org.eclipse.persistence.sessions.Project#setMaximumCachedQueries(int)
+     */
+    public static final String QUERY_RESULTS_CACHE_MAX_QUERIES = "eclipselink.query-results-cache.max-queries";
+
     /**
      * The {@code eclipselink.login.encryptor} property configures a custom implementation of
      * {@link org.eclipse.persistence.security.Securable} class used to encrypt and decrypt database password
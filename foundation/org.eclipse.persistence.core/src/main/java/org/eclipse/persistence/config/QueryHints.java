@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1998, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1998, 2026 Oracle and/or its affiliates. All rights reserved.
  * Copyright (c) 1998, 2024 IBM Corporation. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -648,6 +648,20 @@ public final class QueryHints {
      */
     public static final String RESULT_SET_CONCURRENCY = "eclipselink.cursor.scrollable.result-set-concurrency";
 
+    /**
+     * "eclipselink.cursor.result-stream"
+     * <p>Configures getResultStream() to build the entities of the query from a forward only cursor
+     * as the stream is consumed, instead of streaming the result list.
+     * The cursor keeps a live JDBC connection until the stream is closed or fully consumed,
+     * so the stream must be closed, for example with try-with-resources,
+     * when it may not be consumed to its end.
+     * Only entity queries that return a List and do not use the query results cache are streamed from a cursor.
+     * Valid values are:  HintValues.FALSE, HintValues.TRUE,
+     * "" could be used instead of default value HintValues.FALSE
+     * @see org.eclipse.persistence.queries.ScrollableCursor#stream()
+     */
+    public static final String RESULT_STREAM_CURSOR = "eclipselink.cursor.result-stream";
+
     /**
      * "eclipselink.fetch-group"
      * <p>Configures the query to use the fetch group object.
@@ -103,6 +103,13 @@ public final class SystemProperties {
      */
     public static final String ONETOMANY_DEFER_INSERTS = "eclipselink.mapping.onetomany.defer-inserts";
 
+    /**
+     * This property can be set to {@code false} to access the attributes of classes that were not weaved
+     * through reflection, instead of method handles bound when the descriptors are initialized.
+     * Allowed values are: true/false. Default value is true.
+     */
+    public static final String MAPPING_METHOD_HANDLES = "eclipselink.mapping.method-handles";
+
     /**
      * This system property in milliseconds can control thread management in org.eclipse.persistence.internal.helper.ConcurrencyManager.
      * It controls how much time loop wait before it tries to acquire lock for current thread again. If the value is set above 0 deadlock detection
@@ -122,6 +122,9 @@ public class CachePolicy implements Cloneable, Serializable {
     /** Allows configuration of database change event notification. */
     protected DatabaseChangeNotificationType databaseChangeNotificationType;
 
+    /** Allows the cache to be preloaded with all of the objects on startup. */
+    protected boolean shouldPreload;
+
     /**
      * PUBLIC:
      * Return a new descriptor.
@@ -1028,6 +1031,18 @@ public void useHardCacheWeakIdentityMap() {
         setIdentityMapClass(ClassConstants.HardCacheWeakIdentityMap_Class);
     }
 
+    /**
+     * PUBLIC:
+     * Set the class of identity map to be the segmented cache identity map.
+     * This map caches the LRU instances read from the database, like the cache identity map,
+     * but splits the LRU order into independently locked segments to allow concurrent access.
+     * Note: This map does not guarantee object identity.
+     * The default is the "SoftCacheWeakIdentityMap".
+     */
+    public void useSegmentedCacheIdentityMap() {
+        setIdentityMapClass(ClassConstants.SegmentedCacheIdentityMap_Class);
+    }
+
     /**
      * PUBLIC:
      * Set the class of identity map to be the soft identity map.
@@ -1068,4 +1083,26 @@ public void setPrefetchCacheKeys(boolean prefetchCacheKeys) {
     public boolean shouldPrefetchCacheKeys() {
         return this.prefetchCacheKeys ;
     }
+
+    /**
+     * PUBLIC:
+     * Return if the cache should be preloaded with all of the objects of the class on startup.
+     * @see org.eclipse.persistence.sessions.CachePreloader
+     */
+    public boolean shouldPreload() {
+        return shouldPreload;
+    }
+
+    /**
+     * PUBLIC:
+     * Set if the cache should be preloaded with all of the objects of the class on startup.
+     * The objects are read in primary key ranges in the background by a CachePreloader,
+     * started by JPA when the persistence unit is deployed.
+     * The cache type should be able to hold all of the objects, such as a full or soft cache.
+     * Subclasses are loaded with their root class.
+     * @see org.eclipse.persistence.sessions.CachePreloader
+     */
+    public void setShouldPreload(boolean shouldPreload) {
+        this.shouldPreload = shouldPreload;
+    }
 }
@@ -45,6 +45,7 @@
 import org.eclipse.persistence.annotations.CacheKeyType;
 import org.eclipse.persistence.annotations.IdValidation;
 import org.eclipse.persistence.annotations.CacheIsolationType;
+import org.eclipse.persistence.config.SystemProperties;
 import org.eclipse.persistence.core.descriptors.CoreDescriptor;
 import org.eclipse.persistence.descriptors.changetracking.AttributeChangeTrackingPolicy;
 import org.eclipse.persistence.descriptors.changetracking.ChangeTracker;
@@ -68,7 +69,11 @@
 import org.eclipse.persistence.internal.databaseaccess.DatasourceCall;
 import org.eclipse.persistence.internal.databaseaccess.Platform;
 import org.eclipse.persistence.internal.descriptors.CascadeLockingPolicy;
+import org.eclipse.persistence.internal.descriptors.InstanceVariableAttributeAccessor;
+import org.eclipse.persistence.internal.descriptors.InstanceVariableHandleAttributeAccessor;
 import org.eclipse.persistence.internal.descriptors.InstantiationPolicy;
+import org.eclipse.persistence.internal.descriptors.MethodAttributeAccessor;
+import org.eclipse.persistence.internal.descriptors.MethodHandleAttributeAccessor;
 import org.eclipse.persistence.internal.descriptors.ObjectBuilder;
 import org.eclipse.persistence.internal.descriptors.OptimisticLockingPolicy;
 import org.eclipse.persistence.internal.descriptors.PersistenceObject;
@@ -3961,6 +3966,18 @@ public void notifyReferencingDescriptorsOfIsolation(AbstractSession session) {
         }
     }
 
+    /**
+     * INTERNAL:
+     * Return if the instance variable and method accessors of the mappings should be replaced
+     * by accessors using method handles, unless disabled by the system property
+     * or a security manager requires privileged access.
+     * @see SystemProperties#MAPPING_METHOD_HANDLES
+     */
+    protected boolean shouldUseMethodHandleAccessors() {
+        return !PrivilegedAccessHelper.shouldUsePrivilegedAccess()
+                && !"false".equalsIgnoreCase(PrivilegedAccessHelper.getSystemProperty(SystemProperties.MAPPING_METHOD_HANDLES));
+    }
+
     /**
      * INTERNAL:
      * Allow the descriptor to initialize any dependencies on this session.
@@ -4024,6 +4041,18 @@ public void preInitialize(AbstractSession session) throws DescriptorException {
             }
         }
 
+        // PERF: Avoid reflection for the attributes not accessed through weaved methods.
+        if (shouldUseMethodHandleAccessors()) {
+            for (DatabaseMapping mapping : getMappings()) {
+                AttributeAccessor accessor = mapping.getAttributeAccessor();
+                if ((accessor != null) && (accessor.getClass() == InstanceVariableAttributeAccessor.class)) {
+                    mapping.setAttributeAccessor(new InstanceVariableHandleAttributeAccessor((InstanceVariableAttributeAccessor) accessor));
+                } else if ((accessor != null) && (accessor.getClass() == MethodAttributeAccessor.class)) {
+                    mapping.setAttributeAccessor(new MethodHandleAttributeAccessor((MethodAttributeAccessor) accessor));
+                }
+            }
+        }
+
         // 4924665 Check for spaces in table names, and add the appropriate quote character
         Iterator<DatabaseTable> tables = this.getTables().iterator();
         while(tables.hasNext()) {
@@ -5516,6 +5545,14 @@ public boolean shouldUseCacheIdentityMap() {
         return ClassConstants.CacheIdentityMap_Class.equals(getIdentityMapClass());
     }
 
+    /**
+     * PUBLIC:
+     * Return true if this descriptor is using SegmentedCacheIdentityMap
+     */
+    public boolean shouldUseSegmentedCacheIdentityMap() {
+        return ClassConstants.SegmentedCacheIdentityMap_Class.equals(getIdentityMapClass());
+    }
+
     /**
      * PUBLIC:
      * Return true if this descriptor is using FullIdentityMap
@@ -5692,6 +5729,17 @@ public void useCacheIdentityMap() {
         setIdentityMapClass(ClassConstants.CacheIdentityMap_Class);
     }
 
+    /**
+     * PUBLIC:
+     * Set the class of identity map to be the segmented cache identity map.
+     * This map caches the LRU instances read from the database, using independently locked segments.
+     * Note: This map does not guarantee object identity.
+     * The default is the "SoftCacheWeakIdentityMap".
+     */
+    public void useSegmentedCacheIdentityMap() {
+        getCachePolicy().useSegmentedCacheIdentityMap();
+    }
+
     /**
      * PUBLIC:
      * Set the locking policy a changed fields locking policy.
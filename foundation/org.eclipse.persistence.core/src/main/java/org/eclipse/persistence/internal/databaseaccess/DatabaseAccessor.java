@@ -39,7 +39,6 @@
 import org.eclipse.persistence.internal.helper.DatabaseField;
 import org.eclipse.persistence.internal.helper.Helper;
 import org.eclipse.persistence.internal.helper.LOBValueWriter;
-import org.eclipse.persistence.internal.helper.NonSynchronizedVector;
 import org.eclipse.persistence.internal.helper.ThreadCursoredList;
 import org.eclipse.persistence.internal.localization.ExceptionLocalization;
 import org.eclipse.persistence.internal.localization.ToStringLocalization;
@@ -51,7 +50,6 @@
 import org.eclipse.persistence.queries.Call;
 import org.eclipse.persistence.queries.DatabaseQuery;
 import org.eclipse.persistence.sessions.DatabaseLogin;
-import org.eclipse.persistence.sessions.DatabaseRecord;
 import org.eclipse.persistence.sessions.Login;
 import org.eclipse.persistence.sessions.SessionProfiler;
 
@@ -70,9 +68,9 @@
 import java.sql.SQLWarning;
 import java.sql.Statement;
 import java.sql.Types;
-import java.util.HashMap;
 import java.util.Hashtable;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Vector;
@@ -106,7 +104,10 @@ public class DatabaseAccessor extends DatasourceAccessor {
     /** PERF: Backdoor to disabling dynamic statements. Reverts to old prepared statement usage if set. */
     public static boolean shouldUseDynamicStatements = true;
 
-    /** Stores statement handles for common used prepared statements. */
+    /**
+     * Stores statement handles for common used prepared statements.
+     * The entries are kept in least recently released order, the eldest entry is evicted when full.
+     */
     protected Map<String, Statement> statementCache;
 
     /** Cache of the connection's java.sql.DatabaseMetaData */
@@ -159,7 +160,11 @@ protected DynamicSQLBatchWritingMechanism getDynamicSQLMechanism() {
      */
     protected ParameterizedSQLBatchWritingMechanism getParameterizedMechanism() {
         if (this.parameterizedMechanism == null) {
-            this.parameterizedMechanism = new ParameterizedSQLBatchWritingMechanism(this);
+            if (((DatabasePlatform)this.platform).usesGroupedBatchWriting()) {
+                this.parameterizedMechanism = new GroupedSQLBatchWritingMechanism(this);
+            } else {
+                this.parameterizedMechanism = new ParameterizedSQLBatchWritingMechanism(this);
+            }
         }
         return this.parameterizedMechanism;
     }
@@ -464,9 +469,18 @@ public void basicCommitTransaction(AbstractSession session) throws DatabaseExcep
      * for cursored stream support.
      */
     public AbstractRecord cursorRetrieveNextRow(Vector<DatabaseField> fields, ResultSet resultSet, AbstractSession session) throws DatabaseException {
+        return cursorRetrieveNextRow(fields, fields.toArray(new DatabaseField[fields.size()]), resultSet, session);
+    }
+
+    /**
+     * Advance the result set and return an ArrayRecord populated
+     * with values from the next valid row in the result set. Intended solely
+     * for cursor support, the fields array is shared by all the rows of the cursor.
+     */
+    public AbstractRecord cursorRetrieveNextRow(Vector<DatabaseField> fields, DatabaseField[] fieldsArray, ResultSet resultSet, AbstractSession session) throws DatabaseException {
         try {
             if (resultSet.next()) {
-                return fetchRow(fields, resultSet, resultSet.getMetaData(), session);
+                return fetchRow(fields, fieldsArray, resultSet, resultSet.getMetaData(), session);
             } else {
                 return null;
             }
@@ -483,9 +497,18 @@ public AbstractRecord cursorRetrieveNextRow(Vector<DatabaseField> fields, Result
      * for scrollable cursor support.
      */
     public AbstractRecord cursorRetrievePreviousRow(Vector<DatabaseField> fields, ResultSet resultSet, AbstractSession session) throws DatabaseException {
+        return cursorRetrievePreviousRow(fields, fields.toArray(new DatabaseField[fields.size()]), resultSet, session);
+    }
+
+    /**
+     * Advance the result set and return an ArrayRecord populated
+     * with values from the previous valid row in the result set. Intended solely
+     * for cursor support, the fields array is shared by all the rows of the cursor.
+     */
+    public AbstractRecord cursorRetrievePreviousRow(Vector<DatabaseField> fields, DatabaseField[] fieldsArray, ResultSet resultSet, AbstractSession session) throws DatabaseException {
         try {
             if (resultSet.previous()) {
-                return fetchRow(fields, resultSet, resultSet.getMetaData(), session);
+                return fetchRow(fields, fieldsArray, resultSet, resultSet.getMetaData(), session);
             } else {
                 return null;
             }
@@ -1053,23 +1076,8 @@ public ResultSet executeSelect(DatabaseCall call, Statement statement, AbstractS
      * PERF: This method must be highly optimized.
      */
     protected AbstractRecord fetchRow(Vector<DatabaseField> fields, ResultSet resultSet, ResultSetMetaData metaData, AbstractSession session) throws DatabaseException {
-        int size = fields.size();
-        Vector<Object> values = NonSynchronizedVector.newInstance(size);
-        // PERF: Pass platform and optimize data flag.
-        DatabasePlatform platform = getPlatform();
-        boolean optimizeData = platform.shouldOptimizeDataConversion();
-        for (int index = 0; index < size; index++) {
-            DatabaseField field = fields.get(index);
-            // Field can be null for fetch groups.
-            if (field != null) {
-                values.add(getObject(resultSet, field, metaData, index + 1, platform, optimizeData, session));
-            } else {
-                values.add(null);
-            }
-        }
-
-        // Row creation is optimized through sharing the same fields for the entire result set.
-        return new DatabaseRecord(fields, values);
+        // PERF: Callers fetching many rows should build the fields array once and pass it.
+        return fetchRow(fields, fields.toArray(new DatabaseField[fields.size()]), resultSet, metaData, session);
     }
 
     /**
@@ -1191,10 +1199,11 @@ public Vector<AbstractRecord> getColumnInfo(String catalog, String schema, Strin
             incrementCallCount(session);
             resultSet = getConnectionMetaData().getColumns(catalog, schema, tableName, columnName);
             Vector<DatabaseField> fields = buildSortedFields(null, resultSet, session);
+            DatabaseField[] fieldsArray = fields.toArray(new DatabaseField[fields.size()]);
             ResultSetMetaData metaData = resultSet.getMetaData();
 
             while (resultSet.next()) {
-                result.add(fetchRow(fields, resultSet, metaData, session));
+                result.add(fetchRow(fields, fieldsArray, resultSet, metaData, session));
             }
             resultSet.close();
         } catch (SQLException sqlException) {
@@ -1227,10 +1236,11 @@ public Vector<AbstractRecord> getColumnInfo(String tableName, String columnName,
             }
             resultSet = getConnectionMetaData().getColumns(getCatalog(), getSchema(), tableName, columnName);
             Vector<DatabaseField> fields = buildSortedFields(null, resultSet, session);
+            DatabaseField[] fieldsArray = fields.toArray(new DatabaseField[fields.size()]);
             ResultSetMetaData metaData = resultSet.getMetaData();
 
             while (resultSet.next()) {
-                result.add(fetchRow(fields, resultSet, metaData, session));
+                result.add(fetchRow(fields, fieldsArray, resultSet, metaData, session));
             }
             resultSet.close();
         } catch (SQLException sqlException) {
@@ -1561,14 +1571,36 @@ protected boolean hasStatementCache() {
 
     /**
      * The statement cache stores a fixed sized number of prepared statements.
+     * Cached statements are removed while in use and put back on release,
+     * so the insertion order of the linked map is the LRU order.
      */
     protected synchronized Map<String, Statement> getStatementCache() {
         if (statementCache == null) {
-            statementCache = new HashMap<>(50);
+            statementCache = new LinkedHashMap<>(50);
         }
         return statementCache;
     }
 
+    /**
+     * Return the statement cache key for the call's SQL.
+     * The same SQL prepared as a callable or generated keys statement is a different statement,
+     * so these are qualified by the statement kind.
+     * Scrollable statements are never cached (CR4272), so the result set type is not part of the key.
+     * PERF: The SQL string itself is the key for plain prepared statements, to avoid building a key.
+     */
+    protected String getStatementCacheKey(String sqlString, DatabaseCall call) {
+        if (call == null) {
+            return sqlString;
+        }
+        if (call.isCallableStatementRequired()) {
+            return sqlString + "\u0000C";
+        }
+        if (call.shouldReturnGeneratedKeys()) {
+            return sqlString + "\u0000G";
+        }
+        return sqlString;
+    }
+
     /**
      * Get a description of tables available in a catalog.
      *
@@ -1610,10 +1642,11 @@ public Vector<AbstractRecord> getTableInfo(String catalog, String schema, String
             incrementCallCount(session);
             resultSet = getConnectionMetaData().getTables(catalog, schema, tableName, types);
             Vector<DatabaseField> fields = buildSortedFields(null, resultSet, session);
+            DatabaseField[] fieldsArray = fields.toArray(new DatabaseField[fields.size()]);
             ResultSetMetaData metaData = resultSet.getMetaData();
 
             while (resultSet.next()) {
-                result.add(fetchRow(fields, resultSet, metaData, session));
+                result.add(fetchRow(fields, fieldsArray, resultSet, metaData, session));
             }
             resultSet.close();
         } catch (SQLException sqlException) {
@@ -1646,10 +1679,11 @@ public Vector<AbstractRecord> getTableInfo(String tableName, String[] types, Abs
             }
             resultSet = getConnectionMetaData().getTables(getCatalog(), getSchema(), tableName, types);
             Vector<DatabaseField> fields = buildSortedFields(null, resultSet, session);
+            DatabaseField[] fieldsArray = fields.toArray(new DatabaseField[fields.size()]);
             ResultSetMetaData metaData = resultSet.getMetaData();
 
             while (resultSet.next()) {
-                result.add(fetchRow(fields, resultSet, metaData, session));
+                result.add(fetchRow(fields, fieldsArray, resultSet, metaData, session));
             }
             resultSet.close();
         } catch (SQLException sqlException) {
@@ -1707,14 +1741,13 @@ public Statement prepareStatement(DatabaseCall call, AbstractSession session, bo
         Statement statement = null;
         if (call.usesBinding(session) && call.shouldCacheStatement(session)) {
             // Check the cache by sql string, must synchronize check and removal.
+            String key = getStatementCacheKey(call.getSQLString(), call);
             Map<String, Statement> statementCache = getStatementCache();
             synchronized (statementCache) {
-                statement = statementCache.get(call.getSQLString());
-                if (statement != null) {
-                    // Need to remove to allow concurrent statement execution.
-                    statementCache.remove(call.getSQLString());
-                }
+                // Need to remove to allow concurrent statement execution.
+                statement = statementCache.remove(key);
             }
+            session.incrementProfile((statement == null) ? SessionProfiler.StatementCacheMisses : SessionProfiler.StatementCacheHits);
         }
 
         if (statement == null) {
@@ -1764,12 +1797,10 @@ public PreparedStatement prepareStatement(String sql, AbstractSession session, b
         if (getPlatform().shouldCacheAllStatements()) {
             Map<String, Statement> statementCache = getStatementCache();
             synchronized (statementCache) {
-                statement = (PreparedStatement)statementCache.get(sql);
-                if (statement != null) {
-                    // Need to remove to allow concurrent statement execution.
-                    statementCache.remove(sql);
-                }
+                // Need to remove to allow concurrent statement execution.
+                statement = (PreparedStatement)statementCache.remove(sql);
             }
+            session.incrementProfile((statement == null) ? SessionProfiler.StatementCacheMisses : SessionProfiler.StatementCacheHits);
         }
 
         if (statement == null) {
@@ -1826,23 +1857,27 @@ protected void reconnect(AbstractSession session) {
     public void releaseStatement(Statement statement, String sqlString, DatabaseCall call, AbstractSession session) throws SQLException {
         if (((call == null) && getPlatform().shouldCacheAllStatements())
                 || ((call != null) && call.usesBinding(session) && call.shouldCacheStatement(session))) {
+            String key = getStatementCacheKey(sqlString, call);
             Map<String, Statement> statementCache = getStatementCache();
             synchronized (statementCache) {
                 PreparedStatement preparedStatement = (PreparedStatement)statement;
-                if (!statementCache.containsKey(sqlString)) {// May already be there by other thread.
+                if (!statementCache.containsKey(key)) {// May already be there by other thread.
                     preparedStatement.clearParameters();
                     // Bug 5709179 - reset statement settings on cached statements (dminsky) - inclusion of reset
                     if (call != null) {
                         resetStatementFromCall(preparedStatement, call);
                     }
                     if (statementCache.size() > getPlatform().getStatementCacheSize()) {
-                        // Currently one is removed at random...
-                        PreparedStatement removedStatement = (PreparedStatement)statementCache.remove(statementCache.keySet().iterator().next());
+                        // Remove the least recently used statement, the first in the linked map.
+                        Iterator<Statement> eldest = statementCache.values().iterator();
+                        Statement removedStatement = eldest.next();
+                        eldest.remove();
                         closeStatement(removedStatement, session, call);
+                        session.incrementProfile(SessionProfiler.StatementCacheEvictions);
                     } else {
                         decrementCallCount();
                     }
-                    statementCache.put(sqlString, preparedStatement);
+                    statementCache.put(key, preparedStatement);
                 } else {
                     // CR... Must close the statement if not cached.
                     closeStatement(statement, session, call);
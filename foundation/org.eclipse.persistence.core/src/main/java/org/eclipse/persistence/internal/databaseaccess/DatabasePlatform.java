@@ -180,6 +180,9 @@ public class DatabasePlatform extends DatasourcePlatform implements DDLPlatform
     /** bug 4241441: Allow custom batch writing to enable batching with optimistic locking. **/
     protected boolean usesNativeBatchWriting;
 
+    /** Allow JDBC batch writing to keep one batch per SQL string, see GroupedSQLBatchWritingMechanism. **/
+    protected boolean usesGroupedBatchWriting;
+
     /** Allow for a custom batch writing mechanism. **/
     protected BatchWritingMechanism batchWritingMechanism;
 
@@ -282,6 +285,7 @@ public DatabasePlatform() {
         this.cursorCode = -10;
         this.supportsAutoCommit = true;
         this.usesNativeBatchWriting = false;
+        this.usesGroupedBatchWriting = false;
         this.castSizeForVarcharParameter = 32672;
         this.startDelimiter = "\"";
         this.endDelimiter = "\"";
@@ -637,6 +641,7 @@ public void copyInto(Platform platform) {
         databasePlatform.setUsesBatchWriting(usesBatchWriting());
         databasePlatform.setUsesJDBCBatchWriting(usesJDBCBatchWriting());
         databasePlatform.setUsesNativeBatchWriting(usesNativeBatchWriting());
+        databasePlatform.setUsesGroupedBatchWriting(usesGroupedBatchWriting());
         databasePlatform.setUsesStreamsForBinding(usesStreamsForBinding());
         databasePlatform.shouldCreateIndicesOnForeignKeys = this.shouldCreateIndicesOnForeignKeys;
         databasePlatform.printOuterJoinInWhereClause = this.printOuterJoinInWhereClause;
@@ -1457,6 +1462,20 @@ public void setUsesNativeBatchWriting(boolean usesNativeBatchWriting){
         this.usesNativeBatchWriting = usesNativeBatchWriting;
     }
 
+    /**
+     * Advanced:
+     * This is used to enable grouped batch writing with JDBC batch writing.
+     * Parameterized statements are batched per SQL string instead of executing the batch
+     * each time the SQL changes, so a commit writing several interleaved tables
+     * executes one batch per table.  The batches are executed in an order safe for the
+     * commit order of the descriptors, see GroupedSQLBatchWritingMechanism.
+     *
+     * @param usesGroupedBatchWriting - flag to turn on/off grouped batch writing
+     */
+    public void setUsesGroupedBatchWriting(boolean usesGroupedBatchWriting) {
+        this.usesGroupedBatchWriting = usesGroupedBatchWriting;
+    }
+
     public void setUsesNativeSQL(boolean usesNativeSQL) {
         this.usesNativeSQL = usesNativeSQL;
     }
@@ -2329,6 +2348,13 @@ public boolean usesNativeBatchWriting(){
         return usesNativeBatchWriting;
     }
 
+    /**
+     * Return if parameterized statements are batched per SQL string.
+     */
+    public boolean usesGroupedBatchWriting() {
+        return usesGroupedBatchWriting;
+    }
+
     public boolean usesNativeSQL() {
         return usesNativeSQL;
     }
@@ -0,0 +1,230 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.databaseaccess;
+
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.queries.DatabaseQuery;
+import org.eclipse.persistence.queries.ModifyQuery;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * INTERNAL:
+ * <p>GroupedSQLBatchWritingMechanism is a private class, used by the DatabaseAccessor.
+ * It batches parameterized SQL like ParameterizedSQLBatchWritingMechanism, but instead of executing
+ * the batch whenever the SQL changes, it keeps one batch per distinct SQL string,
+ * so a commit interleaving the inserts of several tables is executed as one batch per table.</p>
+ * <p>The batches are executed in the order they were started. A call is only added to the batch
+ * of its SQL if it can be executed before all the batches started after that batch,
+ * otherwise a new batch is started for it. This is decided from the commit order of the descriptors
+ * (see CommitOrderCalculator): inserts and updates of a class can be executed before inserts and updates
+ * of the classes that follow it in the commit order, and deletes before deletes of the classes
+ * that precede it. Any other call is never reordered.</p>
+ *
+ * @see DatabasePlatform#setUsesGroupedBatchWriting(boolean)
+ */
+public class GroupedSQLBatchWritingMechanism extends ParameterizedSQLBatchWritingMechanism {
+
+    /** Call kinds that can be reordered. */
+    protected static final int OTHER = 0;
+    protected static final int INSERT = 1;
+    protected static final int UPDATE = 2;
+    protected static final int DELETE = 3;
+
+    /** The batches in execution order. */
+    protected List<StatementBatch> batches;
+
+    /** The last batch started for each SQL string. */
+    protected Map<String, StatementBatch> batchesBySQL;
+
+    /** Position of each class in the commit order, built from commitOrder. */
+    protected Map<Class<?>, Integer> commitOrderIndexes;
+
+    /** The commit order the indexes were built from. */
+    protected List<Class<?>> commitOrder;
+
+    public GroupedSQLBatchWritingMechanism() {
+        super();
+    }
+
+    public GroupedSQLBatchWritingMechanism(DatabaseAccessor databaseAccessor) {
+        super(databaseAccessor);
+        this.batches = new ArrayList<>();
+        this.batchesBySQL = new HashMap<>();
+    }
+
+    /**
+     * INTERNAL:
+     * Add the call to the batch of its SQL string if it can be executed before the batches started after it,
+     * otherwise start a new batch.
+     */
+    @Override
+    public void appendCall(AbstractSession session, DatabaseCall dbCall) {
+        if (!dbCall.hasParameters()) {
+            executeBatchedStatements(session);
+            switchMechanisms(session, dbCall);
+            return;
+        }
+        DatabaseQuery query = dbCall.getQuery();
+        int kind = getKind(query);
+        int order = getCommitOrderIndex(session, query);
+        String sql = dbCall.getSQLString();
+        StatementBatch batch = this.batchesBySQL.get(sql);
+        if ((batch != null) && (batch.getParameters().size() >= this.maxBatchSize)) {
+            executeBatchedStatements(session);
+            batch = null;
+        }
+        if ((batch != null) && !canExecuteBefore(kind, order, batch.position + 1)) {
+            batch = null;
+        }
+        if (batch == null) {
+            batch = new StatementBatch(this.databaseAccessor, kind, order, this.batches.size());
+            batch.setPreviousCall(dbCall);
+            this.batches.add(batch);
+            this.batchesBySQL.put(sql, batch);
+        }
+        batch.getParameters().add(dbCall.getParameters());
+        // Store the largest queryTimeout on a single call for later use by the single statement in prepareBatchStatements
+        batch.cacheQueryTimeout(session, dbCall);
+        batch.setLastCallAppended(dbCall);
+        this.lastCallAppended = dbCall;
+        // feature for bug 4104613, allows users to force statements to flush on execution
+        if (((ModifyQuery) query).forceBatchStatementExecution()) {
+            executeBatchedStatements(session);
+        }
+    }
+
+    /**
+     * Return if a call of the kind and commit order index can be executed before the batches from the index.
+     */
+    protected boolean canExecuteBefore(int kind, int order, int start) {
+        int size = this.batches.size();
+        for (int index = start; index < size; index++) {
+            StatementBatch later = this.batches.get(index);
+            if ((kind == OTHER) || (kind != later.kind) || (order < 0) || (later.order < 0)) {
+                return false;
+            }
+            if (kind == DELETE) {
+                // Deletes are executed in reverse commit order.
+                if (order < later.order) {
+                    return false;
+                }
+            } else if (order > later.order) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Return the kind of the call's query, only object inserts, updates and deletes can be reordered.
+     */
+    protected int getKind(DatabaseQuery query) {
+        if (query == null) {
+            return OTHER;
+        } else if (query.isInsertObjectQuery()) {
+            return INSERT;
+        } else if (query.isUpdateObjectQuery()) {
+            return UPDATE;
+        } else if (query.isDeleteObjectQuery()) {
+            return DELETE;
+        }
+        return OTHER;
+    }
+
+    /**
+     * Return the index of the query's descriptor class in the commit order, or -1 if unknown.
+     */
+    protected int getCommitOrderIndex(AbstractSession session, DatabaseQuery query) {
+        ClassDescriptor descriptor = (query == null) ? null : query.getDescriptor();
+        if (descriptor == null) {
+            return -1;
+        }
+        List<Class<?>> order = session.getCommitManager().getCommitOrder();
+        if ((this.commitOrderIndexes == null) || (this.commitOrder != order) || (this.commitOrderIndexes.size() != order.size())) {
+            Map<Class<?>, Integer> indexes = new IdentityHashMap<>(order.size());
+            for (int index = 0; index < order.size(); index++) {
+                indexes.put(order.get(index), index);
+            }
+            this.commitOrderIndexes = indexes;
+            this.commitOrder = order;
+        }
+        Integer index = this.commitOrderIndexes.get(descriptor.getJavaClass());
+        return (index == null) ? -1 : index;
+    }
+
+    /**
+     * INTERNAL:
+     * This method is used to clear the batched statements without the need to execute the statements first
+     * This is used in the case of rollback.
+     */
+    @Override
+    public void clear() {
+        super.clear();
+        this.batches = new ArrayList<>();
+        this.batchesBySQL = new HashMap<>();
+    }
+
+    /**
+     * INTERNAL:
+     * Execute the batches in the order they were started.
+     */
+    @Override
+    public void executeBatchedStatements(AbstractSession session) {
+        if (this.batches.isEmpty()) {
+            return;
+        }
+        // Clear first so that the batches are not visible to recursive calls, see bug#419326.
+        List<StatementBatch> currentBatches = this.batches;
+        clear();
+        for (StatementBatch batch : currentBatches) {
+            batch.executeBatchedStatements(session);
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * The batches are not shared with the clone.
+     */
+    @Override
+    public GroupedSQLBatchWritingMechanism clone() {
+        GroupedSQLBatchWritingMechanism clone = (GroupedSQLBatchWritingMechanism)super.clone();
+        clone.batches = new ArrayList<>();
+        clone.batchesBySQL = new HashMap<>();
+        return clone;
+    }
+
+    /**
+     * INTERNAL:
+     * The batch of a single SQL string, with the kind and commit order index of its calls.
+     */
+    protected static class StatementBatch extends ParameterizedSQLBatchWritingMechanism {
+        protected final int kind;
+        protected final int order;
+        protected final int position;
+
+        protected StatementBatch(DatabaseAccessor databaseAccessor, int kind, int order, int position) {
+            super(databaseAccessor);
+            this.kind = kind;
+            this.order = order;
+            this.position = position;
+        }
+    }
+}
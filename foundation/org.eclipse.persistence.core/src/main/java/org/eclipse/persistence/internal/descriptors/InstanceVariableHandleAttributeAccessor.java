@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.descriptors;
+
+import org.eclipse.persistence.exceptions.DescriptorException;
+import org.eclipse.persistence.internal.helper.Helper;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+
+/**
+ * INTERNAL:
+ * <p><b>Purpose</b>: Instance variable accessor reading and writing the field through method handles
+ * bound when the attributes are initialized, instead of reflection and a privileged action on every access.
+ * Used for the attributes of classes that were not weaved.</p>
+ * <p>Values that the handles cannot accept (a null or String value for a primitive field, or an object of another class)
+ * are passed to the reflective implementation, so the conversions and exceptions are the same.</p>
+ *
+ * @see org.eclipse.persistence.config.SystemProperties#MAPPING_METHOD_HANDLES
+ */
+public class InstanceVariableHandleAttributeAccessor extends InstanceVariableAttributeAccessor {
+
+    /** Getter handle of type (Object)Object. */
+    protected transient MethodHandle getter;
+
+    /** Setter handle of type (Object, Object)void, null if the field cannot be set through a handle. */
+    protected transient MethodHandle setter;
+
+    /** The wrapper class of the field type, values of this class can be set through the handle. */
+    protected transient Class<?> valueClass;
+
+    public InstanceVariableHandleAttributeAccessor() {
+        super();
+    }
+
+    /**
+     * INTERNAL:
+     * Copy the state of the reflective accessor.
+     */
+    public InstanceVariableHandleAttributeAccessor(InstanceVariableAttributeAccessor accessor) {
+        this();
+        this.attributeName = accessor.getAttributeName();
+        this.isReadOnly = accessor.isReadOnly();
+        this.isWriteOnly = accessor.isWriteOnly();
+    }
+
+    /**
+     * Returns the value of the attribute on the specified object.
+     */
+    @Override
+    public Object getAttributeValueFromObject(Object anObject) throws DescriptorException {
+        MethodHandle getter = this.getter;
+        if ((getter != null) && this.attributeField.getDeclaringClass().isInstance(anObject)) {
+            try {
+                return getter.invokeExact(anObject);
+            } catch (RuntimeException | Error exception) {
+                throw exception;
+            } catch (Throwable exception) {
+                // A field read does not throw checked exceptions.
+                throw new RuntimeException(String.format("Getting value from %s field failed", this.attributeField.getName()), exception);
+            }
+        }
+        return super.getAttributeValueFromObject(anObject);
+    }
+
+    /**
+     * Bind the handles to the field.
+     */
+    @Override
+    public void initializeAttributes(Class<?> theJavaClass) throws DescriptorException {
+        super.initializeAttributes(theJavaClass);
+        Field field = getAttributeField();
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        try {
+            this.getter = lookup.unreflectGetter(field).asType(MethodType.methodType(Object.class, Object.class));
+        } catch (IllegalAccessException | RuntimeException exception) {
+            // Use reflection.
+            this.getter = null;
+        }
+        try {
+            this.setter = lookup.unreflectSetter(field).asType(MethodType.methodType(void.class, Object.class, Object.class));
+        } catch (IllegalAccessException | RuntimeException exception) {
+            // Final fields of records and hidden classes can only be set through reflection, if at all.
+            this.setter = null;
+        }
+        this.valueClass = Helper.getObjectClass(field.getType());
+    }
+
+    /**
+     * Returns true if the handles were bound, they are not serialized.
+     */
+    @Override
+    public boolean isInitialized() {
+        return super.isInitialized() && (this.valueClass != null);
+    }
+
+    /**
+     * Sets the value of the instance variable in the object to the value.
+     */
+    @Override
+    public void setAttributeValueInObject(Object anObject, Object value) throws DescriptorException {
+        MethodHandle setter = this.setter;
+        if ((setter != null) && this.attributeField.getDeclaringClass().isInstance(anObject)
+                && ((value == null) ? !this.attributeField.getType().isPrimitive() : this.valueClass.isInstance(value))) {
+            try {
+                setter.invokeExact(anObject, value);
+                return;
+            } catch (RuntimeException | Error exception) {
+                throw exception;
+            } catch (Throwable exception) {
+                // A field write does not throw checked exceptions.
+                throw new RuntimeException(String.format("Setting value in %s field failed", this.attributeField.getName()), exception);
+            }
+        }
+        super.setAttributeValueInObject(anObject, value);
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.descriptors;
+
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.internal.helper.DatabaseField;
+import org.eclipse.persistence.internal.identitymaps.CacheKey;
+import org.eclipse.persistence.internal.queries.JoinedAttributeManager;
+import org.eclipse.persistence.internal.sessions.AbstractRecord;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.internal.sessions.ArrayRecord;
+import org.eclipse.persistence.mappings.DatabaseMapping;
+import org.eclipse.persistence.mappings.DirectToFieldMapping;
+import org.eclipse.persistence.queries.FetchGroup;
+import org.eclipse.persistence.queries.ObjectBuildingQuery;
+import org.eclipse.persistence.sessions.DatabaseRecord;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Vector;
+
+/**
+ * INTERNAL:
+ * <p><b>Purpose</b>: Plan building the attributes of the objects of a descriptor from the rows of a result set.
+ * The rows of a result set share the fields of the query's call, in the column order of its SQLSelectStatement.</p>
+ * <p>The mappings to read for the fetch group, and the index in the fields of each direct to field mapping's field,
+ * are resolved once when the plan is compiled. The direct values of each row are then read by position and converted
+ * inline, instead of dispatching through readFromRowIntoObject and looking up the field in the row.
+ * The other mappings are read from the row as usual. The mappings are read in the descriptor's order.</p>
+ *
+ * @see ObjectBuilder#buildAttributesIntoObject
+ * @see org.eclipse.persistence.sessions.Project#setUsesMaterializationPlans(boolean)
+ */
+public class MaterializationPlan {
+
+    /** The fields of the rows the plan was compiled for. */
+    protected final Vector<DatabaseField> fields;
+
+    /** The number of fields when the plan was compiled. */
+    protected final int size;
+
+    /** The fetch group the plan was compiled for, null if all mappings are read. */
+    protected final FetchGroup fetchGroup;
+
+    /** The mappings to read, in the descriptor's order. */
+    protected final DatabaseMapping[] mappings;
+
+    /** The direct to field mappings read by position, or null if the mapping is read from the row. */
+    protected final DirectToFieldMapping[] directMappings;
+
+    /** The index of each direct mapping's field in the fields. */
+    protected final int[] indexes;
+
+    /** The field of the row at each index, to reuse the plan for rows with other fields vectors holding the same fields. */
+    protected final DatabaseField[] indexedFields;
+
+    /**
+     * INTERNAL:
+     * Compile the plan of the descriptor for the fields of the rows, and the fetch group or null to read all mappings.
+     */
+    public MaterializationPlan(ClassDescriptor descriptor, Vector<DatabaseField> fields, FetchGroup fetchGroup) {
+        this.fields = fields;
+        this.size = fields.size();
+        this.fetchGroup = fetchGroup;
+        List<DatabaseMapping> mappings = new ArrayList<>(descriptor.getMappings().size());
+        for (DatabaseMapping mapping : descriptor.getMappings()) {
+            if ((fetchGroup == null) || fetchGroup.containsAttributeInternal(mapping.getAttributeName())) {
+                mappings.add(mapping);
+            }
+        }
+        this.mappings = mappings.toArray(new DatabaseMapping[mappings.size()]);
+        this.directMappings = new DirectToFieldMapping[this.mappings.length];
+        this.indexes = new int[this.mappings.length];
+        this.indexedFields = new DatabaseField[this.mappings.length];
+        for (int index = 0; index < this.mappings.length; index++) {
+            DatabaseMapping mapping = this.mappings[index];
+            this.indexes[index] = -1;
+            // Subclasses may read the row differently.
+            if (mapping.getClass() == DirectToFieldMapping.class) {
+                int fieldIndex = fields.indexOf(mapping.getField());
+                if (fieldIndex >= 0) {
+                    this.directMappings[index] = (DirectToFieldMapping) mapping;
+                    this.indexes[index] = fieldIndex;
+                    this.indexedFields[index] = fields.get(fieldIndex);
+                }
+            }
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Return if the plan can build the attributes from the row for the fetch group.
+     * Only rows fetched from a result set, holding their values by position, are supported.
+     * Rows trimmed for joining have their own fields vector, the plan is used if the fields at its indexes are the same.
+     */
+    public boolean isFor(AbstractRecord row, FetchGroup fetchGroup) {
+        if ((this.fetchGroup != fetchGroup) || (row.size() != this.size)
+                || ((row.getClass() != ArrayRecord.class) && (row.getClass() != DatabaseRecord.class))) {
+            return false;
+        }
+        Vector<DatabaseField> rowFields = row.getFields();
+        if (rowFields == this.fields) {
+            return true;
+        }
+        if (rowFields == null) {
+            return false;
+        }
+        for (int index = 0; index < this.indexes.length; index++) {
+            int fieldIndex = this.indexes[index];
+            if ((fieldIndex >= 0) && (rowFields.get(fieldIndex) != this.indexedFields[index])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * INTERNAL:
+     * Assign the values from the row to the attributes of the object.
+     */
+    public void buildAttributesIntoObject(Object domainObject, CacheKey cacheKey, AbstractRecord row, ObjectBuildingQuery query, JoinedAttributeManager joinManager, AbstractSession targetSession, boolean isTargetProtected) {
+        DatabaseMapping[] mappings = this.mappings;
+        DirectToFieldMapping[] directMappings = this.directMappings;
+        int[] indexes = this.indexes;
+        for (int index = 0; index < mappings.length; index++) {
+            DirectToFieldMapping directMapping = directMappings[index];
+            if (directMapping != null) {
+                Object attributeValue = directMapping.getObjectValue(row.getValueAt(indexes[index]), targetSession);
+                directMapping.setAttributeValueInObject(domainObject, attributeValue);
+            } else {
+                mappings[index].readFromRowIntoObject(row, joinManager, domainObject, cacheKey, query, targetSession, isTargetProtected);
+            }
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Return the fetch group the plan was compiled for, null if all mappings are read.
+     */
+    public FetchGroup getFetchGroup() {
+        return fetchGroup;
+    }
+
+    /**
+     * INTERNAL:
+     * Return the number of mappings read by position.
+     */
+    public int getDirectMappingsCount() {
+        int count = 0;
+        for (DirectToFieldMapping mapping : this.directMappings) {
+            if (mapping != null) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.descriptors;
+
+import org.eclipse.persistence.exceptions.DescriptorException;
+import org.eclipse.persistence.internal.helper.Helper;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+/**
+ * INTERNAL:
+ * <p><b>Purpose</b>: Method accessor invoking the get and set methods through method handles
+ * bound when the attributes are initialized, instead of reflection and a privileged action on every access.
+ * Used for the attributes of classes that were not weaved, or that use property access.</p>
+ * <p>Values that the handles cannot accept (a null or String value for a primitive parameter, or an object of another class)
+ * are passed to the reflective implementation, so the conversions and exceptions are the same.
+ * Exceptions thrown by the methods are wrapped in an InvocationTargetException as reflection would.</p>
+ *
+ * @see org.eclipse.persistence.config.SystemProperties#MAPPING_METHOD_HANDLES
+ */
+public class MethodHandleAttributeAccessor extends MethodAttributeAccessor {
+
+    /** Get method handle of type (Object)Object, null if not bound. */
+    protected transient MethodHandle getter;
+
+    /** Set method handle of type (Object, Object)void, null if not bound. */
+    protected transient MethodHandle setter;
+
+    /** The set method parameter type. */
+    protected transient Class<?> valueType;
+
+    /** The wrapper class of the set method parameter type, values of this class can be set through the handle. */
+    protected transient Class<?> valueClass;
+
+    /** If the handles were bound, they are not serialized. */
+    protected transient boolean isBound;
+
+    public MethodHandleAttributeAccessor() {
+        super();
+    }
+
+    /**
+     * INTERNAL:
+     * Copy the state of the reflective accessor.
+     */
+    public MethodHandleAttributeAccessor(MethodAttributeAccessor accessor) {
+        this();
+        this.attributeName = accessor.getAttributeName();
+        this.isReadOnly = accessor.isReadOnly();
+        this.isWriteOnly = accessor.isWriteOnly();
+        this.getMethodName = accessor.getGetMethodName();
+        this.setMethodName = accessor.getSetMethodName();
+    }
+
+    /**
+     * Gets the value of an instance variable in the object.
+     */
+    @Override
+    public Object getAttributeValueFromObject(Object anObject) throws DescriptorException {
+        MethodHandle getter = this.getter;
+        if ((getter != null) && this.getMethod.getDeclaringClass().isInstance(anObject)) {
+            try {
+                return getter.invokeExact(anObject);
+            } catch (Throwable exception) {
+                throw DescriptorException.targetInvocationWhileGettingValueThruMethodAccessor(getGetMethodName(), anObject.getClass().getName(), new InvocationTargetException(exception));
+            }
+        }
+        return super.getAttributeValueFromObject(anObject);
+    }
+
+    /**
+     * Bind the handles to the get and set methods.
+     */
+    @Override
+    public void initializeAttributes(Class<?> theJavaClass) throws DescriptorException {
+        super.initializeAttributes(theJavaClass);
+        this.getter = unreflect(this.getMethod, MethodType.methodType(Object.class, Object.class));
+        this.setter = unreflect(this.setMethod, MethodType.methodType(void.class, Object.class, Object.class));
+        if (this.setter != null) {
+            this.valueType = this.setMethod.getParameterTypes()[0];
+            this.valueClass = Helper.getObjectClass(this.valueType);
+        }
+        this.isBound = true;
+    }
+
+    /**
+     * Return the handle of the method adapted to the type, or null to use reflection.
+     */
+    protected MethodHandle unreflect(Method method, MethodType type) {
+        if (method == null) {
+            return null;
+        }
+        try {
+            return MethodHandles.lookup().unreflect(method).asType(type);
+        } catch (IllegalAccessException | RuntimeException exception) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns true if the handles were bound, they are not serialized.
+     */
+    @Override
+    public boolean isInitialized() {
+        return super.isInitialized() && this.isBound;
+    }
+
+    /**
+     * Sets the value of the instance variable in the object to the value.
+     */
+    @Override
+    public void setAttributeValueInObject(Object domainObject, Object attributeValue) throws DescriptorException {
+        MethodHandle setter = this.setter;
+        if ((setter != null) && this.setMethod.getDeclaringClass().isInstance(domainObject)
+                && ((attributeValue == null) ? !this.valueType.isPrimitive() : this.valueClass.isInstance(attributeValue))) {
+            try {
+                setter.invokeExact(domainObject, attributeValue);
+                return;
+            } catch (Throwable exception) {
+                throw DescriptorException.targetInvocationWhileSettingValueThruMethodAccessor(getSetMethodName(), attributeValue, new InvocationTargetException(exception));
+            }
+        }
+        super.setAttributeValueInObject(domainObject, attributeValue);
+    }
+}
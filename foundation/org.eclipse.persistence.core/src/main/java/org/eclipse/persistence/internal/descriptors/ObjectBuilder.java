@@ -55,8 +55,10 @@
 import org.eclipse.persistence.internal.expressions.ObjectExpression;
 import org.eclipse.persistence.internal.expressions.QueryKeyExpression;
 import org.eclipse.persistence.internal.expressions.SQLSelectStatement;
+import org.eclipse.persistence.internal.helper.ClassConstants;
 import org.eclipse.persistence.internal.helper.ConcurrencySemaphore;
 import org.eclipse.persistence.internal.helper.ConcurrencyUtil;
+import org.eclipse.persistence.internal.helper.ConversionManager;
 import org.eclipse.persistence.internal.helper.DatabaseField;
 import org.eclipse.persistence.internal.helper.DatabaseTable;
 import org.eclipse.persistence.internal.helper.Helper;
@@ -188,6 +190,16 @@ public class ObjectBuilder extends CoreObjectBuilder<AbstractRecord, AbstractSes
     protected boolean shouldKeepRow = false;
     /** PERF: is there an cache index field that's would not be selected by SOP query. Ignored unless descriptor uses SOP and CachePolicy has cache indexes. */
     protected boolean hasCacheIndexesInSopObject = false;
+    /** PERF: The primary key field if the primary key is a single value used as the cache id, used to extract the id from rows. */
+    protected DatabaseField singlePrimaryKeyField;
+    /** PERF: The type of the single primary key attribute. */
+    protected Class<?> singlePrimaryKeyClassification;
+    /** PERF: Build the attributes from rows by position, see Project.setUsesMaterializationPlans(boolean). */
+    protected boolean usesMaterializationPlans;
+    /** PERF: The last materialization plans compiled, most recent first. */
+    protected transient volatile MaterializationPlan[] materializationPlans = new MaterializationPlan[0];
+    /** The number of materialization plans kept. */
+    protected static final int MAXIMUM_MATERIALIZATION_PLANS = 4;
     /** Semaphore related properties. Transient to avoid serialization in clustered/replicated environments see CORBA tests*/
     private static final ThreadLocal<Boolean> SEMAPHORE_THREAD_LOCAL_VAR = new ThreadLocal<>();
     private static final int SEMAPHORE_MAX_NUMBER_THREADS = ConcurrencyUtil.SINGLETON.getNoOfThreadsAllowedToObjectBuildInParallel();
@@ -546,11 +558,19 @@ public void buildAttributesIntoObject(Object domainObject, CacheKey cacheKey, Ab
         // PERF: Cache if all mappings should be read.
         boolean readAllMappings = query.shouldReadAllMappings();
         boolean isTargetProtected = targetSession.isProtectedSession();
-        int size = mappings.size();
-        for (int index = 0; index < size; index++) {
-            DatabaseMapping mapping = mappings.get(index);
-            if (readAllMappings || query.shouldReadMapping(mapping, executionFetchGroup)) {
-                mapping.readFromRowIntoObject(databaseRow, joinManager, domainObject, cacheKey, query, targetSession, isTargetProtected);
+        MaterializationPlan plan = null;
+        if (this.usesMaterializationPlans && (readAllMappings || ((executionFetchGroup != null) && !query.hasPartialAttributeExpressions()))) {
+            plan = getMaterializationPlan(databaseRow, readAllMappings ? null : executionFetchGroup);
+        }
+        if (plan != null) {
+            plan.buildAttributesIntoObject(domainObject, cacheKey, databaseRow, query, joinManager, targetSession, isTargetProtected);
+        } else {
+            int size = mappings.size();
+            for (int index = 0; index < size; index++) {
+                DatabaseMapping mapping = mappings.get(index);
+                if (readAllMappings || query.shouldReadMapping(mapping, executionFetchGroup)) {
+                    mapping.readFromRowIntoObject(databaseRow, joinManager, domainObject, cacheKey, query, targetSession, isTargetProtected);
+                }
             }
         }
 
@@ -560,6 +580,40 @@ public void buildAttributesIntoObject(Object domainObject, CacheKey cacheKey, Ab
         }
     }
 
+    /**
+     * INTERNAL:
+     * Return the materialization plan for the fields of the row and the fetch group (null for all mappings),
+     * compiling it if none of the last plans is for these fields, or null if the row is not supported.
+     * The rows of a result set share their fields, so a plan is compiled once per query execution,
+     * or once per query if the query's call is reused. A few plans are kept for self joins and concurrent queries.
+     */
+    public MaterializationPlan getMaterializationPlan(AbstractRecord row, FetchGroup fetchGroup) {
+        MaterializationPlan[] plans = this.materializationPlans;
+        if (plans == null) {
+            // Not serialized.
+            plans = new MaterializationPlan[0];
+        }
+        for (MaterializationPlan plan : plans) {
+            if (plan.isFor(row, fetchGroup)) {
+                return plan;
+            }
+        }
+        Vector<DatabaseField> fields = row.getFields();
+        if ((fields == null) || row.hasSopObject()) {
+            return null;
+        }
+        MaterializationPlan plan = new MaterializationPlan(this.descriptor, fields, fetchGroup);
+        if (!plan.isFor(row, fetchGroup)) {
+            return null;
+        }
+        // Replace the oldest plan.
+        MaterializationPlan[] newPlans = new MaterializationPlan[Math.min(plans.length + 1, MAXIMUM_MATERIALIZATION_PLANS)];
+        newPlans[0] = plan;
+        System.arraycopy(plans, 0, newPlans, 1, newPlans.length - 1);
+        this.materializationPlans = newPlans;
+        return plan;
+    }
+
     /**
      * Each mapping is recursed to assign values from the Record to the attributes in the domain object.
      * Should not be called unless (this.descriptor.hasSerializedObjectPolicy() &amp;&amp; query.shouldUseSerializedObjectPolicy())
@@ -2621,6 +2675,8 @@ public Object clone() {
         objectBuilder.cloningMappings = new ArrayList(this.cloningMappings);
         objectBuilder.eagerMappings = new ArrayList(this.eagerMappings);
         objectBuilder.relationshipMappings = new ArrayList(this.relationshipMappings);
+        // The plans are compiled for this builder's descriptor.
+        objectBuilder.materializationPlans = new MaterializationPlan[0];
 
         return objectBuilder;
     }
@@ -3286,6 +3342,15 @@ public Object extractPrimaryKeyFromRow(AbstractRecord databaseRow, AbstractSessi
             // Entity referencing ForeignReferenceMapping has set attribute extracted from sopObject as a sopObject into a new empty row.
             return extractPrimaryKeyFromObject(databaseRow.getSopObject(), session);
         }
+        // PERF: Optimize the common singleton id, the row value is the cache id.
+        DatabaseField singleField = this.singlePrimaryKeyField;
+        if (singleField != null) {
+            Object value = databaseRow.get(singleField);
+            if ((value != null) && (value.getClass() != this.singlePrimaryKeyClassification)) {
+                value = convertPrimaryKeyValue(value, this.singlePrimaryKeyClassification, session);
+            }
+            return value;
+        }
         List<DatabaseField> primaryKeyFields = this.descriptor.getPrimaryKeyFields();
         if(null == primaryKeyFields) {
             return null;
@@ -3332,6 +3397,22 @@ public Object extractPrimaryKeyFromRow(AbstractRecord databaseRow, AbstractSessi
         return new CacheId(primaryKeyValues);
     }
 
+    /**
+     * Convert the primary key value extracted from a row to the type of the primary key attribute.
+     * PERF: Integral ids are converted directly, unless the platform uses a custom conversion manager.
+     */
+    protected Object convertPrimaryKeyValue(Object value, Class<?> classification, AbstractSession session) {
+        Platform platform = session.getPlatform(this.descriptor.getJavaClass());
+        if ((value instanceof Number) && (platform.getConversionManager().getClass() == ConversionManager.class)) {
+            if (classification == ClassConstants.LONG) {
+                return ((Number)value).longValue();
+            } else if (classification == ClassConstants.INTEGER) {
+                return ((Number)value).intValue();
+            }
+        }
+        return platform.convertObject(value, classification);
+    }
+
     /**
      * Return the row with primary keys and their values from the given expression.
      */
@@ -3982,6 +4063,20 @@ public void postInitialize(AbstractSession session) throws DescriptorException {
                 }
             }
         }
+        // PERF: Cache the singleton id field to extract the cache id from rows without iterating or allocating.
+        this.singlePrimaryKeyField = null;
+        this.singlePrimaryKeyClassification = null;
+        List<DatabaseField> primaryKeyFields = this.descriptor.getPrimaryKeyFields();
+        if ((this.descriptor.getCachePolicy().getCacheKeyType() == CacheKeyType.ID_VALUE) && (primaryKeyFields != null)
+                && (primaryKeyFields.size() == 1) && (getPrimaryKeyClassifications().size() == 1)
+                && (getPrimaryKeyClassifications().get(0) != null)) {
+            this.singlePrimaryKeyField = primaryKeyFields.get(0);
+            this.singlePrimaryKeyClassification = getPrimaryKeyClassifications().get(0);
+        }
+        // PERF: Protected cache isolation and serialized object policy may read attributes from other objects than the row.
+        this.usesMaterializationPlans = session.getProject().usesMaterializationPlans()
+                && !this.descriptor.getCachePolicy().isProtectedIsolation() && !this.descriptor.hasSerializedObjectPolicy();
+        this.materializationPlans = new MaterializationPlan[0];
     }
 
     /**
@@ -4577,6 +4672,9 @@ protected void setNonPrimaryKeyMappings(List<DatabaseMapping> theNonPrimaryKeyMa
      */
     public void setPrimaryKeyClassifications(List<Class<?>> primaryKeyClassifications) {
         this.primaryKeyClassifications = primaryKeyClassifications;
+        // The singleton id is cached again on postInitialize.
+        this.singlePrimaryKeyField = null;
+        this.singlePrimaryKeyClassification = null;
     }
 
     /**
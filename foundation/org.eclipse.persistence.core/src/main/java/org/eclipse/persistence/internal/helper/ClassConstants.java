@@ -36,6 +36,7 @@
 import org.eclipse.persistence.internal.identitymaps.FullIdentityMap;
 import org.eclipse.persistence.internal.identitymaps.HardCacheWeakIdentityMap;
 import org.eclipse.persistence.internal.identitymaps.NoIdentityMap;
+import org.eclipse.persistence.internal.identitymaps.SegmentedCacheIdentityMap;
 import org.eclipse.persistence.internal.identitymaps.SoftCacheWeakIdentityMap;
 import org.eclipse.persistence.internal.identitymaps.SoftIdentityMap;
 import org.eclipse.persistence.internal.identitymaps.WeakIdentityMap;
@@ -137,6 +138,7 @@ public final class ClassConstants extends CoreClassConstants {
     public static final Class<FullIdentityMap> FullIdentityMap_Class = FullIdentityMap.class;
     public static final Class<HardCacheWeakIdentityMap> HardCacheWeakIdentityMap_Class = HardCacheWeakIdentityMap.class;
     public static final Class<NoIdentityMap> NoIdentityMap_Class = NoIdentityMap.class;
+    public static final Class<SegmentedCacheIdentityMap> SegmentedCacheIdentityMap_Class = SegmentedCacheIdentityMap.class;
     public static final Class<SoftCacheWeakIdentityMap> SoftCacheWeakIdentityMap_Class = SoftCacheWeakIdentityMap.class;
     public static final Class<SoftIdentityMap> SoftIdentityMap_Class = SoftIdentityMap.class;
     public static final Class<WeakIdentityMap> WeakIdentityMap_Class = WeakIdentityMap.class;
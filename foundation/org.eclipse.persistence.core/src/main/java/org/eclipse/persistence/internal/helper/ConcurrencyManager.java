@@ -36,8 +36,9 @@
 import java.util.Vector;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
@@ -63,30 +64,46 @@ public class ConcurrencyManager implements Serializable {
 
     protected static boolean shouldTrackStack = PrivilegedAccessHelper.getSystemProperty(SystemProperties.RECORD_STACK_ON_LOCK) != null;
 
-    protected AtomicInteger numberOfReaders;
-    protected AtomicInteger depth;
-    protected AtomicInteger numberOfWritersWaiting;
+    /**
+     * The lock state word packs the depth of the active thread (low 24 bits), the number of readers (next 24 bits)
+     * and the number of writers waiting (high 15 bits), so that the lock is acquired and released
+     * with a single compare and set when it is not contended.
+     */
+    private static final int READERS_SHIFT = 24;
+    private static final int WRITERS_WAITING_SHIFT = 48;
+    private static final long COUNT_MASK = (1L << READERS_SHIFT) - 1;
+    private static final long DEPTH_UNIT = 1L;
+    private static final long READER_UNIT = 1L << READERS_SHIFT;
+    private static final long WRITER_WAITING_UNIT = 1L << WRITERS_WAITING_SHIFT;
+
+    private static final AtomicLongFieldUpdater<ConcurrencyManager> STATE_UPDATER = AtomicLongFieldUpdater.newUpdater(ConcurrencyManager.class, "state");
+    private static final AtomicLongFieldUpdater<ConcurrencyManager> ID_UPDATER = AtomicLongFieldUpdater.newUpdater(ConcurrencyManager.class, "concurrencyManagerId");
+    private static final AtomicReferenceFieldUpdater<ConcurrencyManager, Thread> ACTIVE_THREAD_UPDATER = AtomicReferenceFieldUpdater.newUpdater(ConcurrencyManager.class, Thread.class, "activeThread");
+    private static final AtomicReferenceFieldUpdater<ConcurrencyManager, Lock> INSTANCE_LOCK_UPDATER = AtomicReferenceFieldUpdater.newUpdater(ConcurrencyManager.class, Lock.class, "instanceLock");
+    private static final AtomicReferenceFieldUpdater<ConcurrencyManager, Condition> INSTANCE_LOCK_CONDITION_UPDATER = AtomicReferenceFieldUpdater.newUpdater(ConcurrencyManager.class, Condition.class, "instanceLockCondition");
+    private static final AtomicReferenceFieldUpdater<ConcurrencyManager, ReadLockStatistics> READ_LOCK_STATISTICS_UPDATER = AtomicReferenceFieldUpdater.newUpdater(ConcurrencyManager.class, ReadLockStatistics.class, "readLockStatistics");
+
+    /** Depth, number of readers and number of writers waiting, see {@link #READERS_SHIFT}. */
+    private volatile long state;
+    /** The writer owning the lock, set before the depth is incremented and cleared after it is back to zero. */
     protected volatile transient Thread activeThread;
 
     protected boolean lockedByMergeManager;
     protected Exception stack;
 
     // Extended logging info fields
-    // Unique ID assigned each time when a new instance of a concurrency manager is created
-    private final long concurrencyManagerId = CONCURRENCY_MANAGER_ID.incrementAndGet();
-    // Creation date
-    private final Date concurrencyManagerCreationDate = new Date();
+    // Unique ID assigned the first time it is requested, to avoid contending on the ID sequence for every cache key.
+    private volatile long concurrencyManagerId;
+    // Creation time
+    private final long concurrencyManagerCreationTime = System.currentTimeMillis();
     // In case if two threads are working on the exact same entity that leads to both threads wanting to release the same cache key
     // there is tracking each increment of number of readers and their release.
-    private final AtomicLong totalNumberOfKeysAcquiredForReading = new AtomicLong(0);
-    // Same as totalNumberOfKeysAcquiredForReading but incremented each time the cache key is suffering to release cache key.
-    private final AtomicLong totalNumberOfKeysReleasedForReading = new AtomicLong(0);
-     // Total number of times the cache key caused a blow up because it suffered a release of cache key when the counter
-     // was set to 0. It should happen if an entity being shared by two threads.
-    private final AtomicLong totalNumberOfKeysReleasedForReadingBlewUpExceptionDueToCacheKeyHavingReachedCounterZero = new AtomicLong(0);
+    // Only allocated once this is read locked, or a read lock was released too many times.
+    private volatile ReadLockStatistics readLockStatistics;
 
-    private final Lock instanceLock  = new ReentrantLock();
-    private final Condition instanceLockCondition = instanceLock.newCondition();
+    // Only allocated once a thread has to wait for this lock, or waits for the object of a cache key.
+    private transient volatile Lock instanceLock;
+    private transient volatile Condition instanceLockCondition;
 
     private static final Map<Thread, ConcurrencyManager> THREADS_TO_WAIT_ON_ACQUIRE_READ_LOCK = new ConcurrentHashMap<>();
     private static final Map<Thread, String> THREADS_TO_WAIT_ON_ACQUIRE_READ_LOCK_NAME_OF_METHOD_CREATING_TRACE = new ConcurrentHashMap<>();
@@ -108,9 +125,6 @@ public class ConcurrencyManager implements Serializable {
      * Set the depth to zero.
      */
     public ConcurrencyManager() {
-        this.depth  = new AtomicInteger(0);
-        this.numberOfReaders = new AtomicInteger(0);
-        this.numberOfWritersWaiting = new AtomicInteger(0);
     }
 
     /**
@@ -129,6 +143,12 @@ public void acquire() throws ConcurrencyException {
      * called with true from the merge process, if true then the refresh will not refresh the object
      */
     public void acquire(boolean forMerge) throws ConcurrencyException {
+        // PERF: Avoid the instance lock if the lock is not contended.
+        if (tryAcquire(forMerge, true)) {
+            return;
+        }
+        Lock instanceLock = getInstanceLock();
+        Condition instanceLockCondition = getInstanceLockCondition();
         instanceLock.lock();
         try {
             //Flag the time when we start the while loop
@@ -140,14 +160,15 @@ public void acquire(boolean forMerge) throws ConcurrencyException {
             // Waiting to acquire cache key will now start on the while loop
             // NOTE: this step bares no influence in acquiring or not acquiring locks
             // is just storing debug metadata that we can use when we detect the system is frozen in a dead lock
-            final boolean currentThreadWillEnterTheWhileWait = ((this.activeThread != null) || (this.numberOfReaders.get() > 0)) && (this.activeThread != currentThread);
-            if (currentThreadWillEnterTheWhileWait) {
-                putThreadAsWaitingToAcquireLockForWriting(currentThread, ACQUIRE_METHOD_NAME);
-            }
-            while (((this.activeThread != null) || (this.numberOfReaders.get() > 0)) && (this.activeThread != Thread.currentThread())) {
+            boolean currentThreadWillEnterTheWhileWait = false;
+            while (!tryAcquire(forMerge, true)) {
+                if (!currentThreadWillEnterTheWhileWait) {
+                    currentThreadWillEnterTheWhileWait = true;
+                    putThreadAsWaitingToAcquireLockForWriting(currentThread, ACQUIRE_METHOD_NAME);
+                }
                 // This must be in a while as multiple threads may be released, or another thread may rush the acquire after one is released.
                 try {
-                    this.numberOfWritersWaiting.incrementAndGet();
+                    addToState(WRITER_WAITING_UNIT);
                     instanceLockCondition.await(ConcurrencyUtil.SINGLETON.getAcquireWaitTime(), TimeUnit.MILLISECONDS);
                     // Run a method that will fire up an exception if we having been sleeping for too long
                     ConcurrencyUtil.SINGLETON.determineIfReleaseDeferredLockAppearsToBeDeadLocked(this, whileStartTimeMillis, lockManager, readLockManager, ConcurrencyUtil.SINGLETON.isAllowInterruptedExceptionFired());
@@ -156,34 +177,62 @@ public void acquire(boolean forMerge) throws ConcurrencyException {
                     releaseAllLocksAcquiredByThread(lockManager);
                     // Improve concurrency manager metadata
                     // Waiting to acquire cache key is is over
-                    if (currentThreadWillEnterTheWhileWait) {
-                        removeThreadNoLongerWaitingToAcquireLockForWriting(currentThread);
-                    }
+                    removeThreadNoLongerWaitingToAcquireLockForWriting(currentThread);
                     throw ConcurrencyException.waitWasInterrupted(exception.getMessage());
                 } finally {
                     // Since above we increments the number of writers
                     // whether or not the thread is exploded by an interrupt
                     // we need to make sure we decrement the number of writer to not allow the code to be corrupted
-                    this.numberOfWritersWaiting.decrementAndGet();
+                    addToState(-WRITER_WAITING_UNIT);
                 }
             } // end of while loop
             // Waiting to acquire cahe key is is over
             if (currentThreadWillEnterTheWhileWait) {
                 removeThreadNoLongerWaitingToAcquireLockForWriting(currentThread);
             }
-            if (this.activeThread == null) {
-                this.activeThread = Thread.currentThread();
-                if (shouldTrackStack) {
-                    this.stack = new Exception();
-                }
-            }
-            this.lockedByMergeManager = forMerge;
-            this.depth.incrementAndGet();
         } finally {
             instanceLock.unlock();
         }
     }
 
+    /**
+     * Acquire the lock for writing if it is not owned by another thread and has no readers,
+     * or if the current thread owns it and reentrant is true.
+     * The active thread is claimed first, so it is always set while the depth is not zero,
+     * then the depth is incremented if there are still no readers.
+     */
+    protected boolean tryAcquire(boolean forMerge, boolean reentrant) {
+        Thread currentThread = Thread.currentThread();
+        Thread owner = this.activeThread;
+        if (owner == currentThread) {
+            // Nested acquire, or the active thread was set for this thread.
+            if (!reentrant) {
+                return false;
+            }
+            addToState(DEPTH_UNIT);
+            this.lockedByMergeManager = forMerge;
+            return true;
+        }
+        if ((owner != null) || (getNumberOfReaders(this.state) > 0) || !ACTIVE_THREAD_UPDATER.compareAndSet(this, null, currentThread)) {
+            return false;
+        }
+        long state;
+        do {
+            state = this.state;
+            if (getNumberOfReaders(state) > 0) {
+                // A reader got in first, give the lock back to the threads waiting on it.
+                this.activeThread = null;
+                signalAllWaiting();
+                return false;
+            }
+        } while (!STATE_UPDATER.compareAndSet(this, state, state + DEPTH_UNIT));
+        if (shouldTrackStack) {
+            this.stack = new Exception();
+        }
+        this.lockedByMergeManager = forMerge;
+        return true;
+    }
+
     /**
      * If the lock is not acquired already acquire it and return true.
      * If it has been acquired already return false
@@ -200,18 +249,8 @@ public boolean acquireNoWait() throws ConcurrencyException {
      * called with true from the merge process, if true then the refresh will not refresh the object
      */
     public boolean acquireNoWait(boolean forMerge) throws ConcurrencyException {
-        instanceLock.lock();
-        try {
-            if ((this.activeThread == null && this.numberOfReaders.get() == 0) || (this.activeThread == Thread.currentThread())) {
-                //if I own the lock increment depth
-                acquire(forMerge);
-                return true;
-            } else {
-                return false;
-            }
-        } finally {
-            instanceLock.unlock();
-        }
+        //if I own the lock increment depth
+        return tryAcquire(forMerge, true);
     }
 
     /**
@@ -221,29 +260,27 @@ public boolean acquireNoWait(boolean forMerge) throws ConcurrencyException {
      * called with true from the merge process, if true then the refresh will not refresh the object
      */
     public boolean acquireWithWait(boolean forMerge, int wait) throws ConcurrencyException {
+        // if I own the lock increment depth
+        if (tryAcquire(forMerge, true)) {
+            return true;
+        }
+        Lock instanceLock = getInstanceLock();
+        Condition instanceLockCondition = getInstanceLockCondition();
         instanceLock.lock();
         try {
-            final Thread currentThread = Thread.currentThread();
-            if ((this.activeThread == null && this.numberOfReaders.get() == 0) || (this.activeThread == currentThread)) {
-                // if I own the lock increment depth
-                acquire(forMerge);
+            if (tryAcquire(forMerge, true)) {
                 return true;
-            } else {
-                try {
-                    putThreadAsWaitingToAcquireLockForWriting(currentThread, ACQUIRE_WITH_WAIT_METHOD_NAME);
-                    instanceLockCondition.await(wait, TimeUnit.MILLISECONDS);
-                } catch (InterruptedException e) {
-                    return false;
-                } finally {
-                    removeThreadNoLongerWaitingToAcquireLockForWriting(currentThread);
-                }
-                if ((this.activeThread == null && this.numberOfReaders.get() == 0)
-                        || (this.activeThread == currentThread)) {
-                    acquire(forMerge);
-                    return true;
-                }
+            }
+            final Thread currentThread = Thread.currentThread();
+            try {
+                putThreadAsWaitingToAcquireLockForWriting(currentThread, ACQUIRE_WITH_WAIT_METHOD_NAME);
+                instanceLockCondition.await(wait, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
                 return false;
+            } finally {
+                removeThreadNoLongerWaitingToAcquireLockForWriting(currentThread);
             }
+            return tryAcquire(forMerge, true);
         } finally {
             instanceLock.unlock();
         }
@@ -256,19 +293,8 @@ public boolean acquireWithWait(boolean forMerge, int wait) throws ConcurrencyExc
      * Call with true from the merge process, if true then the refresh will not refresh the object.
      */
     public boolean acquireIfUnownedNoWait(boolean forMerge) throws ConcurrencyException {
-        instanceLock.lock();
-        try {
-            // Only acquire lock if active thread is null. Do not check current thread.
-            if (this.activeThread == null && this.numberOfReaders.get() == 0) {
-                // if lock is unowned increment depth
-                acquire(forMerge);
-                return true;
-            } else {
-                return false;
-            }
-        } finally {
-            instanceLock.unlock();
-        }
+        // Only acquire lock if active thread is null. Do not check current thread.
+        return tryAcquire(forMerge, false);
     }
 
     /**
@@ -283,14 +309,21 @@ public void acquireDeferredLock() throws ConcurrencyException {
             putDeferredLock(currentThread, lockManager);
         }
         lockManager.incrementDepth();
+        // PERF: Avoid the instance lock if there are no readers.
+        if (tryAcquireOrDeferLock(lockManager, currentThread)) {
+            return;
+        }
+        Lock instanceLock = getInstanceLock();
+        Condition instanceLockCondition = getInstanceLockCondition();
         instanceLock.lock();
         try {
             final long whileStartTimeMillis = System.currentTimeMillis();
-            final boolean currentThreadWillEnterTheWhileWait = this.numberOfReaders.get() != 0;
-            if(currentThreadWillEnterTheWhileWait) {
-                putThreadAsWaitingToAcquireLockForWriting(currentThread, ACQUIRE_DEFERRED_LOCK_METHOD_NAME); 
-            }
-            while (this.numberOfReaders.get() != 0) {
+            boolean currentThreadWillEnterTheWhileWait = false;
+            while (!tryAcquireOrDeferLock(lockManager, currentThread)) {
+                if (!currentThreadWillEnterTheWhileWait) {
+                    currentThreadWillEnterTheWhileWait = true;
+                    putThreadAsWaitingToAcquireLockForWriting(currentThread, ACQUIRE_DEFERRED_LOCK_METHOD_NAME);
+                }
                 // There are readers of this object, wait until they are done before determining if
                 //there are any other writers.  If not we will wait on the readers for acquire.  If another
                 //thread is also waiting on the acquire then a deadlock could occur.  See bug 3049635
@@ -298,37 +331,50 @@ public void acquireDeferredLock() throws ConcurrencyException {
                 //we could make the readers get a hard lock, but then we would just build a deferred lock even though
                 //the object is not being built.
                 try {
-                    this.numberOfWritersWaiting.incrementAndGet();
+                    addToState(WRITER_WAITING_UNIT);
                     instanceLockCondition.await(ConcurrencyUtil.SINGLETON.getAcquireWaitTime(), TimeUnit.MILLISECONDS);
                     ConcurrencyUtil.SINGLETON.determineIfReleaseDeferredLockAppearsToBeDeadLocked(this, whileStartTimeMillis, lockManager, readLockManager, ConcurrencyUtil.SINGLETON.isAllowInterruptedExceptionFired());
                 } catch (InterruptedException exception) {
                     // If the thread is interrupted we want to make sure we release all of the locks the thread was owning
                     releaseAllLocksAcquiredByThread(lockManager);
-                    if (currentThreadWillEnterTheWhileWait) {
-                        removeThreadNoLongerWaitingToAcquireLockForWriting(currentThread);
-                    }
+                    removeThreadNoLongerWaitingToAcquireLockForWriting(currentThread);
                     throw ConcurrencyException.waitWasInterrupted(exception.getMessage());
                 } finally {
-                    this.numberOfWritersWaiting.decrementAndGet();
+                    addToState(-WRITER_WAITING_UNIT);
                 }
             }
             if (currentThreadWillEnterTheWhileWait) {
                 removeThreadNoLongerWaitingToAcquireLockForWriting(currentThread);
             }
-            if ((this.activeThread == currentThread) || (!isAcquired())) {
-                lockManager.addActiveLock(this);
-                acquire();
-            } else {
-                lockManager.addDeferredLock(this);
-                if (AbstractSessionLog.getLog().shouldLog(SessionLog.FINER) && this instanceof CacheKey) {
-                    AbstractSessionLog.getLog().log(SessionLog.FINER, SessionLog.CACHE, "acquiring_deferred_lock", ((CacheKey)this).getObject(), currentThread.getName());
-                }
-            }
         } finally {
             instanceLock.unlock();
         }
     }
 
+    /**
+     * Once there are no readers, acquire the lock as an active lock if it is not owned by another thread,
+     * otherwise defer it. Return false if the decision cannot be made yet.
+     */
+    protected boolean tryAcquireOrDeferLock(DeferredLockManager lockManager, Thread currentThread) {
+        if (getNumberOfReaders(this.state) != 0) {
+            return false;
+        }
+        if (tryAcquire(false, true)) {
+            lockManager.addActiveLock(this);
+            return true;
+        }
+        Thread owner = this.activeThread;
+        if ((owner == null) || (owner == currentThread) || !isAcquired()) {
+            // The lock is being released, or was claimed but a reader got in first.
+            return false;
+        }
+        lockManager.addDeferredLock(this);
+        if (AbstractSessionLog.getLog().shouldLog(SessionLog.FINER) && this instanceof CacheKey) {
+            AbstractSessionLog.getLog().log(SessionLog.FINER, SessionLog.CACHE, "acquiring_deferred_lock", ((CacheKey)this).getObject(), currentThread.getName());
+        }
+        return true;
+    }
+
     /**
      * Check the lock state, if locked, acquire and release a deferred lock.
      * This optimizes out the normal deferred-lock check if not locked.
@@ -360,58 +406,71 @@ public void checkReadLock() throws ConcurrencyException {
      * Allow concurrent reads.
      */
     public void acquireReadLock() throws ConcurrencyException {
+        // PERF: Avoid the instance lock if there is no writer.
+        if (tryAcquireReadLock()) {
+            return;
+        }
+        Lock instanceLock = getInstanceLock();
+        Condition instanceLockCondition = getInstanceLockCondition();
         instanceLock.lock();
         try {
             final Thread currentThread = Thread.currentThread();
             final long whileStartTimeMillis = System.currentTimeMillis();
             DeferredLockManager lockManager = getDeferredLockManager(currentThread);
             ReadLockManager readLockManager = getReadLockManager(currentThread);
-            final boolean currentThreadWillEnterTheWhileWait = (this.activeThread != null) && (this.activeThread != currentThread);
-            if (currentThreadWillEnterTheWhileWait) {
-                putThreadAsWaitingToAcquireLockForReading(currentThread, ACQUIRE_READ_LOCK_METHOD_NAME);
-            }
+            boolean currentThreadWillEnterTheWhileWait = false;
             // Cannot check for starving writers as will lead to deadlocks.
-            while ((this.activeThread != null) && (this.activeThread != Thread.currentThread())) {
+            while (!tryAcquireReadLock()) {
+                if (!currentThreadWillEnterTheWhileWait) {
+                    currentThreadWillEnterTheWhileWait = true;
+                    putThreadAsWaitingToAcquireLockForReading(currentThread, ACQUIRE_READ_LOCK_METHOD_NAME);
+                }
                 try {
                     instanceLockCondition.await(ConcurrencyUtil.SINGLETON.getAcquireWaitTime(), TimeUnit.MILLISECONDS);
                     ConcurrencyUtil.SINGLETON.determineIfReleaseDeferredLockAppearsToBeDeadLocked(this, whileStartTimeMillis, lockManager, readLockManager, ConcurrencyUtil.SINGLETON.isAllowInterruptedExceptionFired());
                 } catch (InterruptedException exception) {
                     releaseAllLocksAcquiredByThread(lockManager);
-                    if (currentThreadWillEnterTheWhileWait) {
-                        removeThreadNoLongerWaitingToAcquireLockForReading(currentThread);
-                    }
+                    removeThreadNoLongerWaitingToAcquireLockForReading(currentThread);
                     throw ConcurrencyException.waitWasInterrupted(exception.getMessage());
                 }
             }
             if (currentThreadWillEnterTheWhileWait) {
                 removeThreadNoLongerWaitingToAcquireLockForReading(currentThread);
             }
-            try {
-                addReadLockToReadLockManager();
-            } finally {
-                this.numberOfReaders.incrementAndGet();
-                this.totalNumberOfKeysAcquiredForReading.incrementAndGet();
-            }
         } finally {
             instanceLock.unlock();
         }
     }
 
     /**
-     * If this is acquired return false otherwise acquire readlock and return true
+     * Acquire the read lock if the lock is not owned by another thread.
+     * The number of readers is incremented first, then the active thread is checked again
+     * in case a writer claimed the lock concurrently, in which case the reader backs off.
      */
-    public boolean acquireReadLockNoWait() {
-        instanceLock.lock();
-        try {
-            if ((this.activeThread == null) || (this.activeThread == Thread.currentThread())) {
-                acquireReadLock();
-                return true;
-            } else {
-                return false;
+    protected boolean tryAcquireReadLock() {
+        Thread currentThread = Thread.currentThread();
+        Thread owner = this.activeThread;
+        if ((owner != null) && (owner != currentThread)) {
+            return false;
+        }
+        addToState(READER_UNIT);
+        owner = this.activeThread;
+        if ((owner != null) && (owner != currentThread)) {
+            if (getNumberOfReaders(addToState(-READER_UNIT)) == 0) {
+                signalAllWaiting();
             }
-        } finally {
-            instanceLock.unlock();
+            return false;
         }
+        addReadLockToReadLockManager();
+        getReadLockStatistics().acquired.incrementAndGet();
+        return true;
+    }
+
+    /**
+     * If this is acquired return false otherwise acquire readlock and return true
+     */
+    public boolean acquireReadLockNoWait() {
+        return tryAcquireReadLock();
     }
 
     /**
@@ -453,7 +512,7 @@ protected static Map<Thread, DeferredLockManager> initializeDeferredLockManagers
      * Return the current depth of the active thread.
      */
     public int getDepth() {
-        return depth.get();
+        return (int) (this.state & COUNT_MASK);
     }
 
     /**
@@ -461,7 +520,7 @@ public int getDepth() {
      * This is used to ensure that a writer is not starved.
      */
     public int getNumberOfReaders() {
-        return numberOfReaders.get();
+        return getNumberOfReaders(this.state);
     }
 
     /**
@@ -469,14 +528,35 @@ public int getNumberOfReaders() {
      * This is used to ensure that a writer is not starved.
      */
     public int getNumberOfWritersWaiting() {
-        return numberOfWritersWaiting.get();
+        return (int) (this.state >>> WRITERS_WAITING_SHIFT);
+    }
+
+    private static int getNumberOfReaders(long state) {
+        return (int) ((state >>> READERS_SHIFT) & COUNT_MASK);
+    }
+
+    /**
+     * Add the delta to the lock state and return the new state.
+     */
+    private long addToState(long delta) {
+        return STATE_UPDATER.addAndGet(this, delta);
+    }
+
+    /**
+     * Replace the count at the shift of the lock state.
+     */
+    private void setStateCount(int shift, long mask, int count) {
+        long state;
+        do {
+            state = this.state;
+        } while (!STATE_UPDATER.compareAndSet(this, state, (state & ~(mask << shift)) | ((count & mask) << shift)));
     }
 
     /**
      * Return if a thread has acquire this manager.
      */
     public boolean isAcquired() {
-        return depth.get() > 0;
+        return (this.state & COUNT_MASK) > 0;
     }
 
     /**
@@ -618,7 +698,7 @@ public static void enrichStringBuildingExplainWhyThreadIsStuckInIsBuildObjectOnT
      * Return if this manager is within a nested acquire.
      */
     public boolean isNested() {
-        return depth.get() > 1;
+        return getDepth() > 1;
     }
 
     public void putDeferredLock(Thread thread, DeferredLockManager lockManager) {
@@ -633,23 +713,21 @@ public void putDeferredLock(Thread thread, DeferredLockManager lockManager) {
      * if no threads are waiting it will do nothing.
      */
     public void release() throws ConcurrencyException {
-        instanceLock.lock();
-        try {
-            if (this.depth.get() == 0) {
+        long state;
+        do {
+            state = this.state;
+            if ((state & COUNT_MASK) == 0) {
                 throw ConcurrencyException.signalAttemptedBeforeWait();
-            } else {
-                this.depth.decrementAndGet();
             }
-            if (this.depth.get() == 0) {
-                this.activeThread = null;
-                if (shouldTrackStack) {
-                    this.stack = null;
-                }
-                this.lockedByMergeManager = false;
-                instanceLockCondition.signalAll();
+        } while (!STATE_UPDATER.compareAndSet(this, state, state - DEPTH_UNIT));
+        if ((state & COUNT_MASK) == 1) {
+            if (shouldTrackStack) {
+                this.stack = null;
             }
-        } finally {
-            instanceLock.unlock();
+            this.lockedByMergeManager = false;
+            // The active thread is cleared last, as clearing it allows another thread to acquire the lock.
+            this.activeThread = null;
+            signalAllWaiting();
         }
     }
 
@@ -742,30 +820,41 @@ public void releaseDeferredLock() throws ConcurrencyException {
      * Decrement the number of readers. Used to allow concurrent reads.
      */
     public void releaseReadLock() throws ConcurrencyException {
-        instanceLock.lock();
+        if (getNumberOfReaders(this.state) == 0) {
+            releaseReadLockWithNoReaders(true);
+        }
         try {
-            if (this.numberOfReaders.get() == 0) {
-                this.totalNumberOfKeysReleasedForReadingBlewUpExceptionDueToCacheKeyHavingReachedCounterZero.incrementAndGet();
-                try {
-                    removeReadLockFromReadLockManager();
-                } catch (Exception e) {
-                    AbstractSessionLog.getLog().logThrowable(SessionLog.SEVERE, SessionLog.CACHE, e);
-                }
-                throw ConcurrencyException.signalAttemptedBeforeWait();
-            } else {
-                try {
-                    removeReadLockFromReadLockManager();
-                } finally {
-                    this.numberOfReaders.decrementAndGet();
-                    this.totalNumberOfKeysReleasedForReading.incrementAndGet();
+            removeReadLockFromReadLockManager();
+        } finally {
+            long state;
+            do {
+                state = this.state;
+                if (getNumberOfReaders(state) == 0) {
+                    // Released concurrently by another thread, the read lock manager was already updated.
+                    releaseReadLockWithNoReaders(false);
                 }
+            } while (!STATE_UPDATER.compareAndSet(this, state, state - READER_UNIT));
+            getReadLockStatistics().released.incrementAndGet();
+            if (getNumberOfReaders(state) == 1) {
+                signalAllWaiting();
             }
-            if (this.numberOfReaders.get() == 0) {
-                instanceLockCondition.signalAll();
+        }
+    }
+
+    /**
+     * Record that the read lock was released more times than it was acquired and throw the error.
+     * The read lock manager is updated unless updateReadLockManager is false.
+     */
+    private void releaseReadLockWithNoReaders(boolean updateReadLockManager) throws ConcurrencyException {
+        getReadLockStatistics().releasedWithNoReaders.incrementAndGet();
+        if (updateReadLockManager) {
+            try {
+                removeReadLockFromReadLockManager();
+            } catch (Exception e) {
+                AbstractSessionLog.getLog().logThrowable(SessionLog.SEVERE, SessionLog.CACHE, e);
             }
-        } finally {
-            instanceLock.unlock();
         }
+        throw ConcurrencyException.signalAttemptedBeforeWait();
     }
 
     /**
@@ -786,7 +875,21 @@ public void setActiveThread(Thread activeThread) {
      * Set the current depth of the active thread.
      */
     protected void setDepth(int depth) {
-        this.depth.set(depth);
+        setStateCount(0, COUNT_MASK, depth);
+    }
+
+    /**
+     * Increment the depth without owning the lock, used for isolated cache keys.
+     */
+    protected void incrementDepth() {
+        addToState(DEPTH_UNIT);
+    }
+
+    /**
+     * Decrement the depth without owning the lock, used for isolated cache keys.
+     */
+    protected void decrementDepth() {
+        addToState(-DEPTH_UNIT);
     }
 
     /**
@@ -802,7 +905,7 @@ public void setIsLockedByMergeManager(boolean state) {
      * Track the number of readers.
      */
     protected void setNumberOfReaders(int numberOfReaders) {
-        this.numberOfReaders.set(numberOfReaders);
+        setStateCount(READERS_SHIFT, COUNT_MASK, numberOfReaders);
     }
 
     /**
@@ -810,23 +913,18 @@ protected void setNumberOfReaders(int numberOfReaders) {
      * This is used to ensure that a writer is not starved.
      */
     protected void setNumberOfWritersWaiting(int numberOfWritersWaiting) {
-        this.numberOfWritersWaiting.set(numberOfWritersWaiting);
+        setStateCount(WRITERS_WAITING_SHIFT, Short.MAX_VALUE, numberOfWritersWaiting);
     }
 
     public void transitionToDeferredLock() {
-        instanceLock.lock();
-        try {
-            Thread currentThread = Thread.currentThread();
-            DeferredLockManager lockManager = getDeferredLockManager(currentThread);
-            if (lockManager == null) {
-                lockManager = new DeferredLockManager();
-                putDeferredLock(currentThread, lockManager);
-            }
-            lockManager.incrementDepth();
-            lockManager.addActiveLock(this);
-        } finally {
-            instanceLock.unlock();
+        Thread currentThread = Thread.currentThread();
+        DeferredLockManager lockManager = getDeferredLockManager(currentThread);
+        if (lockManager == null) {
+            lockManager = new DeferredLockManager();
+            putDeferredLock(currentThread, lockManager);
         }
+        lockManager.incrementDepth();
+        lockManager.addActiveLock(this);
     }
 
     /**
@@ -957,29 +1055,49 @@ public void removeThreadNoLongerWaitingToAcquireLockForReading(Thread thread) {
         THREADS_TO_WAIT_ON_ACQUIRE_READ_LOCK_NAME_OF_METHOD_CREATING_TRACE.remove(thread);
     }
 
-    /** Getter for {@link #concurrencyManagerId} */
+    /** Getter for {@link #concurrencyManagerId}, assigned on first use */
     public long getConcurrencyManagerId() {
-        return concurrencyManagerId;
+        long id = this.concurrencyManagerId;
+        if (id == 0) {
+            ID_UPDATER.compareAndSet(this, 0, CONCURRENCY_MANAGER_ID.incrementAndGet());
+            id = this.concurrencyManagerId;
+        }
+        return id;
     }
 
-    /** Getter for {@link #concurrencyManagerCreationDate} */
+    /** Getter for {@link #concurrencyManagerCreationTime} */
     public Date getConcurrencyManagerCreationDate() {
-        return concurrencyManagerCreationDate;
+        return new Date(concurrencyManagerCreationTime);
     }
 
-    /** Getter for {@link #totalNumberOfKeysAcquiredForReading} */
+    /** Number of read locks acquired. */
     public long getTotalNumberOfKeysAcquiredForReading() {
-        return totalNumberOfKeysAcquiredForReading.get();
+        ReadLockStatistics statistics = this.readLockStatistics;
+        return (statistics == null) ? 0 : statistics.acquired.get();
     }
 
-    /** Getter for {@link #totalNumberOfKeysReleasedForReading} */
+    /** Number of read locks released. */
     public long getTotalNumberOfKeysReleasedForReading() {
-        return totalNumberOfKeysReleasedForReading.get();
+        ReadLockStatistics statistics = this.readLockStatistics;
+        return (statistics == null) ? 0 : statistics.released.get();
     }
 
-    /** Getter for {@link #totalNumberOfKeysReleasedForReadingBlewUpExceptionDueToCacheKeyHavingReachedCounterZero} */
+    /** Number of read locks released when the number of readers was already zero. */
     public long getTotalNumberOfKeysReleasedForReadingBlewUpExceptionDueToCacheKeyHavingReachedCounterZero() {
-        return totalNumberOfKeysReleasedForReadingBlewUpExceptionDueToCacheKeyHavingReachedCounterZero.get();
+        ReadLockStatistics statistics = this.readLockStatistics;
+        return (statistics == null) ? 0 : statistics.releasedWithNoReaders.get();
+    }
+
+    /**
+     * Return the read lock counters, allocated on first use.
+     */
+    private ReadLockStatistics getReadLockStatistics() {
+        ReadLockStatistics statistics = this.readLockStatistics;
+        if (statistics == null) {
+            READ_LOCK_STATISTICS_UPDATER.compareAndSet(this, null, new ReadLockStatistics());
+            statistics = this.readLockStatistics;
+        }
+        return statistics;
     }
 
     /** Getter for {@link #THREADS_TO_WAIT_ON_ACQUIRE} */
@@ -1039,7 +1157,7 @@ protected void removeReadLockFromReadLockManager() {
             // We have a problem we do not want ever see a decrement on the number of readers if we
             // are not tracing one or more predecessor add read lock keys.
             // so we will put the error message into a fresh new read lock manager
-            final int currentNumberOfReaders = this.numberOfReaders.get();
+            final int currentNumberOfReaders = getNumberOfReaders();
             final int decrementedNumberOfReaders = currentNumberOfReaders - 1;
             String errorMessage = ConcurrencyUtil.SINGLETON.readLockManagerProblem01CreateLogErrorMessageToIndicateThatCurrentThreadHasNullReadLockManagerWhileDecrementingNumberOfReaders(currentNumberOfReaders, decrementedNumberOfReaders, this);
             readLockManager = getReadLockManagerEnsureResultIsNotNull(currentThread);
@@ -1114,12 +1232,46 @@ public static void setJustificationWhyMethodIsBuildingObjectCompleteReturnsFalse
         THREADS_WAITING_TO_RELEASE_DEFERRED_LOCKS_BUILD_OBJECT_COMPLETE_GOES_NOWHERE.put(Thread.currentThread(), justification);
     }
 
+    /**
+     * Return the lock used to wait on this manager, allocated on first use
+     * as uncontended locking only updates the lock state.
+     */
     public Lock getInstanceLock() {
-        return this.instanceLock;
+        Lock lock = this.instanceLock;
+        if (lock == null) {
+            INSTANCE_LOCK_UPDATER.compareAndSet(this, null, new ReentrantLock());
+            lock = this.instanceLock;
+        }
+        return lock;
     }
 
+    /**
+     * Return the condition signalled when this manager is released, allocated on first use.
+     */
     public Condition getInstanceLockCondition() {
-        return this.instanceLockCondition;
+        Condition condition = this.instanceLockCondition;
+        if (condition == null) {
+            INSTANCE_LOCK_CONDITION_UPDATER.compareAndSet(this, null, getInstanceLock().newCondition());
+            condition = this.instanceLockCondition;
+        }
+        return condition;
+    }
+
+    /**
+     * Signal the threads waiting on the instance lock condition.
+     * The waiting threads allocate the instance lock before checking the lock state,
+     * so if it is not allocated yet there is nobody to signal.
+     */
+    protected void signalAllWaiting() {
+        Lock lock = this.instanceLock;
+        if (lock != null) {
+            lock.lock();
+            try {
+                getInstanceLockCondition().signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
     }
 
     public boolean isCacheKey() {
@@ -1135,18 +1287,23 @@ public boolean isCacheKey() {
      * and that thread is not the current thread, it is some other competing thread.
      */
     public boolean isAcquiredForWritingAndOwnedByDifferentThread() {
-        instanceLock.lock();
-        try {
-            if (!this.isAcquired()) {
-                return false;
-            }
-            if (this.activeThread == null) {
-                return false;
-            }
-            Thread currentThread = Thread.currentThread();
-            return this.activeThread != currentThread;
-        } finally {
-            instanceLock.unlock();
+        if (!this.isAcquired()) {
+            return false;
+        }
+        Thread activeThread = this.activeThread;
+        if (activeThread == null) {
+            return false;
         }
+        Thread currentThread = Thread.currentThread();
+        return activeThread != currentThread;
+    }
+
+    /**
+     * Read lock counters, see {@link #getTotalNumberOfKeysAcquiredForReading()}.
+     */
+    private static final class ReadLockStatistics implements Serializable {
+        private final AtomicLong acquired = new AtomicLong(0);
+        private final AtomicLong released = new AtomicLong(0);
+        private final AtomicLong releasedWithNoReaders = new AtomicLong(0);
     }
 }
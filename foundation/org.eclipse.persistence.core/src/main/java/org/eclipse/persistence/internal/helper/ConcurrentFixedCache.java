@@ -16,18 +16,37 @@
 
 import java.io.Serializable;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Provide a concurrent fixed size caching mechanism.
  * This is used for caching EJBQL parsed queries, Update calls,
  * and other places a fixed size cache is needed.
  * The default fixed size is 100.
+ * <p>
+ * Once the cache is full, a new value is only cached if its key is estimated to be
+ * used more frequently than the key it would evict (TinyLFU admission),
+ * so a long tail of rarely used keys does not evict the most used ones.
+ * The eviction candidate is the oldest key, a key that is used at least as frequently as the new key
+ * is given a second chance and becomes the newest key instead of being evicted.
+ * Gets do not lock, they only record the key access in a frequency sketch.
  */
 public class ConcurrentFixedCache<K, V> implements Serializable {
     protected int maxSize;
     protected Map<K, V> cache;
+    /** The cached keys from the oldest to the newest, guarded by itself. */
+    protected Set<K> keys;
+    /** The estimated access frequency of the keys. */
+    protected FrequencySketch frequencies;
+    /** Statistics of the cache. */
+    protected LongAdder hits;
+    protected LongAdder misses;
+    protected LongAdder evictions;
+    protected LongAdder rejections;
 
     /**
      * Create a new concurrent cache, with a fixed size of 100.
@@ -42,7 +61,13 @@ public ConcurrentFixedCache() {
     public ConcurrentFixedCache(int maxSize) {
         // PERF: Use a concurrent map to allow concurrent gets.
         this.cache = new ConcurrentHashMap<>(maxSize);
+        this.keys = new LinkedHashSet<>();
         this.maxSize = maxSize;
+        this.frequencies = new FrequencySketch(maxSize);
+        this.hits = new LongAdder();
+        this.misses = new LongAdder();
+        this.evictions = new LongAdder();
+        this.rejections = new LongAdder();
     }
 
     /**
@@ -54,11 +79,12 @@ public int getMaxSize() {
 
     /**
      * Set the fixed size of the parse cache.
-     * When the size is exceeded, subsequent EJBQL will not be cached.
+     * When the size is exceeded, the least frequently used EJBQL will not be cached.
      * The default size is 100;
      */
     public void setMaxSize(int maxSize) {
         this.maxSize = maxSize;
+        this.frequencies = new FrequencySketch(maxSize);
     }
 
     /**
@@ -66,37 +92,59 @@ public void setMaxSize(int maxSize) {
      * If the EJBQL has not been cached, null is returned.
      */
     public V get(Object key) {
-        return this.cache.get(key);
+        this.frequencies.increment(key);
+        V value = this.cache.get(key);
+        if (value == null) {
+            this.misses.increment();
+        } else {
+            this.hits.increment();
+        }
+        return value;
     }
 
     public void clear(){
-        this.cache.clear();
+        synchronized (this.keys) {
+            this.cache.clear();
+            this.keys.clear();
+        }
     }
 
     /**
      * Add the value to the cache.
-     * Remove the
+     * If the cache is full, the value is only added if its key is used more frequently than the oldest key,
+     * which is then removed, otherwise the oldest key is kept as the newest key.
      */
     public void put(K key, V value) {
-        if (this.maxSize == 0) {
+        if (this.maxSize <= 0) {
             return;
         }
-        this.cache.put(key, value);
-        // Currently just removes the first one encountered, not LRU,
-        // this is not ideal, but the most concurrent and quickest way to ensure fixed size.
-        if (this.cache.size() > this.maxSize) {
-            Iterator<K> iterator = this.cache.keySet().iterator();
-            try {
-                while ((this.cache.size() > this.maxSize) && iterator.hasNext()) {
-                    K next = iterator.next();
-                    // Do not remove what was just put in.
-                    if (next != key) {
-                        this.cache.remove(next);
-                    }
+        synchronized (this.keys) {
+            if (this.cache.containsKey(key)) {
+                this.cache.put(key, value);
+                return;
+            }
+            if ((this.cache.size() >= this.maxSize) && !this.keys.isEmpty()) {
+                Iterator<K> iterator = this.keys.iterator();
+                K victim = iterator.next();
+                iterator.remove();
+                if (this.frequencies.frequency(victim) >= this.frequencies.frequency(key)) {
+                    // Keep the more frequently used key, as the newest key.
+                    this.keys.add(victim);
+                    this.rejections.increment();
+                    return;
+                }
+                this.cache.remove(victim);
+                this.evictions.increment();
+                // The max size may have been reduced.
+                while ((this.cache.size() >= this.maxSize) && !this.keys.isEmpty()) {
+                    iterator = this.keys.iterator();
+                    this.cache.remove(iterator.next());
+                    iterator.remove();
+                    this.evictions.increment();
                 }
-            } catch (Exception alreadyGone) {
-                // Ignore.
             }
+            this.keys.add(key);
+            this.cache.put(key, value);
         }
     }
 
@@ -104,7 +152,10 @@ public void put(K key, V value) {
      * Remove from cache.
      */
     public void remove(Object key) {
-        this.cache.remove(key);
+        synchronized (this.keys) {
+            this.cache.remove(key);
+            this.keys.remove(key);
+        }
     }
 
     /**
@@ -113,4 +164,118 @@ public void remove(Object key) {
     public Map<K, V> getCache() {
         return cache;
     }
+
+    /**
+     * Return the number of gets that found a cached value.
+     */
+    public long getHitCount() {
+        return this.hits.sum();
+    }
+
+    /**
+     * Return the number of gets that did not find a cached value.
+     */
+    public long getMissCount() {
+        return this.misses.sum();
+    }
+
+    /**
+     * Return the ratio of gets that found a cached value, or 0 if the cache was never accessed.
+     */
+    public double getHitRatio() {
+        long hits = getHitCount();
+        long total = hits + getMissCount();
+        return (total == 0) ? 0 : ((double)hits / total);
+    }
+
+    /**
+     * Return the number of values removed to cache a more frequently used value.
+     */
+    public long getEvictionCount() {
+        return this.evictions.sum();
+    }
+
+    /**
+     * Return the number of values not cached because their key was not used more frequently than the oldest key.
+     */
+    public long getRejectionCount() {
+        return this.rejections.sum();
+    }
+
+    /**
+     * INTERNAL:
+     * Count-min sketch estimating the access frequency of keys, with four 4 bit counters per key.
+     * The counters are halved once the number of increments reaches ten times the cache size,
+     * so the frequencies follow the recent usage.
+     * Increments are not synchronized, concurrent increments may be lost, which only affects the estimate.
+     */
+    protected static class FrequencySketch implements Serializable {
+        protected static final int[] SEEDS = {0x97cb3127, 0xc3a5c85c, 0x5aeb4a7d, 0xe6546b64};
+        protected static final long RESET_MASK = 0x7777777777777777L;
+        /** Each long holds 16 counters. */
+        protected final long[] table;
+        protected final int mask;
+        protected final int sampleSize;
+        protected int additions;
+
+        protected FrequencySketch(int maxSize) {
+            int size = Integer.highestOneBit(Math.max(maxSize, 8) - 1) << 1;
+            this.table = new long[size];
+            this.mask = size - 1;
+            this.sampleSize = 10 * Math.max(maxSize, 8);
+        }
+
+        /**
+         * Return the estimated number of accesses of the key, at most 15.
+         */
+        public int frequency(Object key) {
+            int hash = key.hashCode();
+            int frequency = 15;
+            for (int seed : SEEDS) {
+                int index = spread(hash + seed);
+                int count = (int)((this.table[index & this.mask] >>> ((index >>> 24) & 60)) & 15L);
+                frequency = Math.min(frequency, count);
+            }
+            return frequency;
+        }
+
+        /**
+         * Record an access of the key.
+         */
+        public void increment(Object key) {
+            int hash = key.hashCode();
+            boolean added = false;
+            for (int seed : SEEDS) {
+                int index = spread(hash + seed);
+                int slot = index & this.mask;
+                int offset = (index >>> 24) & 60;
+                if (((this.table[slot] >>> offset) & 15L) != 15L) {
+                    this.table[slot] += 1L << offset;
+                    added = true;
+                }
+            }
+            if (added && (++this.additions >= this.sampleSize)) {
+                reset();
+            }
+        }
+
+        /**
+         * Halve all the counters.
+         */
+        protected void reset() {
+            for (int index = 0; index < this.table.length; index++) {
+                this.table[index] = (this.table[index] >>> 1) & RESET_MASK;
+            }
+            this.additions = this.additions / 2;
+        }
+
+        protected static int spread(int hash) {
+            hash ^= hash >>> 17;
+            hash *= 0xed5ad4bb;
+            hash ^= hash >>> 11;
+            hash *= 0xac4c1b51;
+            hash ^= hash >>> 15;
+            return hash;
+        }
+    }
 }
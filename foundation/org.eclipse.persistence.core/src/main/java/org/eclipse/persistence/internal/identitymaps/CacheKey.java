@@ -63,8 +63,11 @@ public class CacheKey extends ConcurrencyManager implements Cloneable {
     // CR #2698903 - fix for the previous fix. No longer using millis.
     protected long lastUpdatedQueryId;
 
-    /** Invalidation State can be used to indicate whether this cache key is considered valid */
-    protected int invalidationState = CHECK_INVALIDATION_POLICY;
+    /**
+     * Invalidation State can be used to indicate whether this cache key is considered valid.
+     * Volatile as it can be set without locking the cache key by cache coordination.
+     */
+    protected volatile int invalidationState = CHECK_INVALIDATION_POLICY;
 
     /** The following constants are used for the invalidationState variable */
     public static final int CHECK_INVALIDATION_POLICY = 0;
@@ -136,7 +139,7 @@ public CacheKey(Object primaryKey, Object object, Object lockValue, long readTim
     @Override
     public void acquire() {
         if (this.isIsolated) {
-            this.depth.incrementAndGet();
+            incrementDepth();
             return;
         }
         super.acquire(false);
@@ -149,7 +152,7 @@ public void acquire() {
     @Override
     public void acquire(boolean forMerge) {
         if (this.isIsolated) {
-            this.depth.incrementAndGet();
+            incrementDepth();
             return;
         }
         super.acquire(forMerge);
@@ -162,7 +165,7 @@ public void acquire(boolean forMerge) {
     @Override
     public boolean acquireNoWait() {
         if (this.isIsolated) {
-            this.depth.incrementAndGet();
+            incrementDepth();
             return true;
         }
         return super.acquireNoWait(false);
@@ -176,10 +179,10 @@ public boolean acquireNoWait() {
 
     public boolean acquireIfUnownedNoWait() {
         if (this.isIsolated) {
-            if (this.depth.get() > 0) {
+            if (getDepth() > 0) {
                 return false;
             }
-            this.depth.incrementAndGet();
+            incrementDepth();
             return true;
         }
         return super.acquireIfUnownedNoWait(false);
@@ -193,7 +196,7 @@ public boolean acquireIfUnownedNoWait() {
     @Override
     public boolean acquireNoWait(boolean forMerge) {
         if (this.isIsolated) {
-            this.depth.incrementAndGet();
+            incrementDepth();
             return true;
         }
         return super.acquireNoWait(forMerge);
@@ -207,7 +210,7 @@ public boolean acquireNoWait(boolean forMerge) {
     @Override
     public boolean acquireWithWait(boolean forMerge, int wait) {
         if (this.isIsolated) {
-            this.depth.incrementAndGet();
+            incrementDepth();
             return true;
         }
         return super.acquireWithWait(forMerge, wait);
@@ -219,7 +222,7 @@ public boolean acquireWithWait(boolean forMerge, int wait) {
     @Override
     public void acquireDeferredLock() {
         if (this.isIsolated) {
-            this.depth.incrementAndGet();
+            incrementDepth();
             return;
         }
         super.acquireDeferredLock();
@@ -372,7 +375,7 @@ public Object getKey() {
     @Override
     public Thread getActiveThread() {
         if (this.isIsolated) {
-            if (this.depth.get() > 0) {
+            if (getDepth() > 0) {
                 return Thread.currentThread();
             } else {
                 return null;
@@ -474,7 +477,7 @@ public int getInvalidationState() {
     @Override
     public void release() {
         if (this.isIsolated) {
-            this.depth.decrementAndGet();
+            decrementDepth();
             return;
         }
         super.release();
@@ -486,7 +489,7 @@ public void release() {
     @Override
     public void releaseDeferredLock() {
         if (this.isIsolated) {
-            this.depth.decrementAndGet();
+            decrementDepth();
             return;
         }
         super.releaseDeferredLock();
@@ -607,6 +610,10 @@ public void setTransactionId(Object transactionId) {
     }
 
     public Object waitForObject(){
+        // PERF: Avoid allocating the instance lock if there is nothing to wait for.
+        if ((this.object != null) || !isAcquired()) {
+            return this.object;
+        }
         getInstanceLock().lock();
         try {
             try {
@@ -34,6 +34,7 @@
 import org.eclipse.persistence.internal.descriptors.ObjectBuilder;
 import org.eclipse.persistence.internal.helper.ClassConstants;
 import org.eclipse.persistence.internal.helper.ConcurrencyManager;
+import org.eclipse.persistence.internal.helper.DatabaseTable;
 import org.eclipse.persistence.internal.helper.DeferredLockManager;
 import org.eclipse.persistence.internal.helper.InvalidObject;
 import org.eclipse.persistence.internal.helper.WriteLockManager;
@@ -46,6 +47,7 @@
 import org.eclipse.persistence.logging.SessionLog;
 import org.eclipse.persistence.queries.InMemoryQueryIndirectionPolicy;
 import org.eclipse.persistence.queries.ObjectLevelReadQuery;
+import org.eclipse.persistence.queries.QueryResultsCachePolicy;
 import org.eclipse.persistence.queries.ReadQuery;
 import org.eclipse.persistence.sessions.DataRecord;
 import org.eclipse.persistence.sessions.SessionProfiler;
@@ -60,7 +62,9 @@
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 import java.util.Vector;
@@ -83,12 +87,18 @@ public class IdentityMapManager implements Serializable, Cloneable {
     /** A table of identity maps with the key being the domain Class. */
     protected Map<Class<?>, IdentityMap> identityMaps;
 
-    /** A table of identity maps with the key being the query */
-    protected Map<Object, IdentityMap> queryResults;
+    /** A table of the cached results of queries with the key being the query */
+    protected Map<Object, CachedQueryResults> queryResults;
 
     /** A map of class to list of queries that need to be invalidated when that class changes. */
     protected Map<Class<?>, Set<Object>> queryResultsInvalidationsByClass;
 
+    /** A map of upper case table name to list of queries that need to be invalidated when that table changes. */
+    protected Map<String, Set<Object>> queryResultsInvalidationsByTable;
+
+    /** The keys of the cached queries from the least to the most recently used, maintained when the project has a maximum number of cached queries. */
+    protected Map<Object, Object> queryResultsAccessOrder;
+
     /** A map of indexes on the cache. */
     protected Map<CacheIndex, IdentityMap> cacheIndexes;
 
@@ -120,11 +130,15 @@ public IdentityMapManager(AbstractSession session) {
             this.identityMaps = new HashMap<>();
             this.queryResults = new HashMap<>();
             this.queryResultsInvalidationsByClass = new HashMap<>();
+            this.queryResultsInvalidationsByTable = new HashMap<>();
+            this.queryResultsAccessOrder = new LinkedHashMap<>(16, 0.75f, true);
             this.cacheIndexes = new HashMap<>();
         } else {
             this.identityMaps = new ConcurrentHashMap<>();
             this.queryResults = new ConcurrentHashMap<>();
             this.queryResultsInvalidationsByClass = new ConcurrentHashMap<>();
+            this.queryResultsInvalidationsByTable = new ConcurrentHashMap<>();
+            this.queryResultsAccessOrder = new LinkedHashMap<>(16, 0.75f, true);
             this.cacheIndexes = new ConcurrentHashMap<>();
         }
         checkIsCacheAccessPreCheckRequired();
@@ -386,6 +400,8 @@ protected <T extends IdentityMap> IdentityMap buildNewIdentityMap(
                 return new FullIdentityMap(size, descriptor, this.session, isIsolated);
             } else if (identityMapClass == ClassConstants.CacheIdentityMap_Class) {
                 return new CacheIdentityMap(size, descriptor, this.session, isIsolated);
+            } else if (identityMapClass == ClassConstants.SegmentedCacheIdentityMap_Class) {
+                return new SegmentedCacheIdentityMap(size, descriptor, this.session, isIsolated);
             }
         }
         final Class<?>[] parameters = new Class<?>[]{CoreClassConstants.PINT, ClassDescriptor.class, AbstractSession.class, boolean.class};
@@ -444,6 +460,8 @@ public IdentityMapManager clone() {
     public void clearQueryCache() {
         this.queryResults = new ConcurrentHashMap<>();
         this.queryResultsInvalidationsByClass = new ConcurrentHashMap<>();
+        this.queryResultsInvalidationsByTable = new ConcurrentHashMap<>();
+        this.queryResultsAccessOrder = new LinkedHashMap<>(16, 0.75f, true);
     }
 
     /**
@@ -465,27 +483,142 @@ public void clearQueryCache(ReadQuery query) {
             if ((queryKey == null) || ((String) queryKey).isEmpty()) {
                 queryKey = query;
             }
-            this.queryResults.remove(queryKey);
+            removeQueryResults(queryKey);
         }
     }
 
     /**
      * Invalidate/remove any results for the class from the query cache.
      * This is used to invalidate the query cache on any change.
+     * The results of the queries depending on the tables of the class are also invalidated.
      */
     public void invalidateQueryCache(Class<?> classThatChanged) {
         if (this.queryResultsInvalidationsByClass == null) {
             return;
         }
+        if (!this.queryResultsInvalidationsByTable.isEmpty()) {
+            ClassDescriptor descriptor = this.session.getDescriptor(classThatChanged);
+            if (descriptor != null) {
+                for (DatabaseTable table : descriptor.getTables()) {
+                    invalidateQueryCacheForTable(table.getName());
+                }
+            }
+        }
+        invalidateQueryCacheForClass(classThatChanged);
+    }
+
+    /**
+     * Invalidate/remove the results of the queries depending on the class or its superclasses.
+     */
+    protected void invalidateQueryCacheForClass(Class<?> classThatChanged) {
         Set<Object> invalidations = this.queryResultsInvalidationsByClass.get(classThatChanged);
         if (invalidations != null) {
             for (Object queryKey : invalidations) {
-                this.queryResults.remove(queryKey);
+                if (removeQueryResults(queryKey)) {
+                    this.session.incrementProfile(SessionProfiler.QueryCacheInvalidations);
+                }
             }
         }
         Class<?> superClass = classThatChanged.getSuperclass();
         if ((superClass != null) && (superClass != CoreClassConstants.OBJECT)) {
-            invalidateQueryCache(superClass);
+            invalidateQueryCacheForClass(superClass);
+        }
+    }
+
+    /**
+     * Invalidate/remove any results for the table from the query cache.
+     * Only the queries that declared the table in their QueryResultsCachePolicy invalidation tables
+     * are indexed by table, this is used to invalidate native queries.
+     */
+    public void invalidateQueryCacheForTable(String tableName) {
+        if (this.queryResultsInvalidationsByTable == null) {
+            return;
+        }
+        Set<Object> invalidations = this.queryResultsInvalidationsByTable.get(getInvalidationTableKey(tableName));
+        if (invalidations != null) {
+            for (Object queryKey : invalidations) {
+                if (removeQueryResults(queryKey)) {
+                    this.session.incrementProfile(SessionProfiler.QueryCacheInvalidations);
+                }
+            }
+        }
+    }
+
+    /**
+     * Return the key of the table in the invalidation index, the unqualified upper case table name.
+     */
+    protected String getInvalidationTableKey(String tableName) {
+        return new DatabaseTable(tableName).getName().toUpperCase(Locale.ROOT);
+    }
+
+    /**
+     * Remove the results of the query and its entries in the invalidation indexes.
+     * Return true if results were cached for the query.
+     * This holds the same lock as putQueryResult, so that the results cached again for the query
+     * by another thread are never left out of the invalidation indexes.
+     */
+    protected boolean removeQueryResults(Object queryKey) {
+        synchronized (this.queryResults) {
+            CachedQueryResults results = this.queryResults.remove(queryKey);
+            if (results == null) {
+                return false;
+            }
+            synchronized (this.queryResultsAccessOrder) {
+                this.queryResultsAccessOrder.remove(queryKey);
+            }
+            for (Class<?> invalidationClass : results.invalidationClasses) {
+                Set<Object> invalidations = this.queryResultsInvalidationsByClass.get(invalidationClass);
+                if (invalidations != null) {
+                    invalidations.remove(queryKey);
+                }
+            }
+            for (String invalidationTable : results.invalidationTables) {
+                Set<Object> invalidations = this.queryResultsInvalidationsByTable.get(invalidationTable);
+                if (invalidations != null) {
+                    invalidations.remove(queryKey);
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Record the new query as the most recently used, and remove the results of the least recently used queries
+     * if the number of cached queries exceeds the project maximum.
+     * This is only called when the results of a new query are cached.
+     */
+    protected void evictQueryResults(Object newQueryKey) {
+        int maximum = this.session.getProject().getMaximumCachedQueries();
+        if (maximum < 0) {
+            return;
+        }
+        synchronized (this.queryResultsAccessOrder) {
+            this.queryResultsAccessOrder.put(newQueryKey, newQueryKey);
+            if (!this.queryResults.containsKey(newQueryKey)) {
+                // Invalidated before it could be recorded.
+                this.queryResultsAccessOrder.remove(newQueryKey);
+            }
+            while ((this.queryResults.size() > maximum) && !this.queryResultsAccessOrder.isEmpty()) {
+                Object leastRecentlyUsed = this.queryResultsAccessOrder.keySet().iterator().next();
+                // Also removes the query from the access order.
+                if (removeQueryResults(leastRecentlyUsed)) {
+                    this.session.incrementProfile(SessionProfiler.QueryCacheEvictions);
+                } else {
+                    this.queryResultsAccessOrder.remove(leastRecentlyUsed);
+                }
+            }
+        }
+    }
+
+    /**
+     * Record the access to the results of the query, if the project has a maximum number of cached queries.
+     */
+    protected void recordQueryResultsAccess(Object queryKey) {
+        if (this.session.getProject().getMaximumCachedQueries() >= 0) {
+            synchronized (this.queryResultsAccessOrder) {
+                // A get on the access ordered map moves the query to the most recently used end.
+                this.queryResultsAccessOrder.get(queryKey);
+            }
         }
     }
 
@@ -1029,10 +1162,12 @@ public Object getQueryResult(ReadQuery query, List parameters, boolean shouldChe
         if ((queryKey == null) || ((String) queryKey).isEmpty()) {
             queryKey = query;
         }
-        IdentityMap map = this.queryResults.get(queryKey);
-        if (map == null) {
+        CachedQueryResults results = this.queryResults.get(queryKey);
+        if (results == null) {
+            this.session.incrementProfile(SessionProfiler.QueryCacheMisses);
             return null;
         }
+        recordQueryResultsAccess(queryKey);
 
         Object lookupParameters;
         if ((parameters == null) || parameters.isEmpty()) {
@@ -1041,10 +1176,12 @@ public Object getQueryResult(ReadQuery query, List parameters, boolean shouldChe
             lookupParameters = new CacheId(parameters.toArray());
         }
 
-        CacheKey key = map.getCacheKey(lookupParameters, false);
+        CacheKey key = results.map.getCacheKey(lookupParameters, false);
         if ((key == null) || (shouldCheckExpiry && query.getQueryResultsCachePolicy().getCacheInvalidationPolicy().isInvalidated(key))) {
+            this.session.incrementProfile(SessionProfiler.QueryCacheMisses);
             return null;
         }
+        this.session.incrementProfile(SessionProfiler.QueryCacheHits);
         return key.getObject();
     }
 
@@ -1408,28 +1545,38 @@ public void putQueryResult(ReadQuery query, List parameters, Object results) {
         if ((queryKey == null) || ((String) queryKey).isEmpty()) {
             queryKey = query;
         }
-        IdentityMap map = this.queryResults.get(queryKey);
-        if (map == null) {
+        CachedQueryResults cachedResults = this.queryResults.get(queryKey);
+        if (cachedResults == null) {
             synchronized (this.queryResults) {
-                map = this.queryResults.get(queryKey);
-                if (map == null) {
-                    int size = query.getQueryResultsCachePolicy().getMaximumCachedResults();
+                cachedResults = this.queryResults.get(queryKey);
+                if (cachedResults == null) {
+                    QueryResultsCachePolicy policy = query.getQueryResultsCachePolicy();
+                    int size = policy.getMaximumCachedResults();
                     // PERF: If no parameters, then there can only be one result.
                     if ((parameters == null) || parameters.isEmpty()) {
                         size = 1;
                     }
-                    map = buildNewIdentityMap(query.getQueryResultsCachePolicy().getCacheType(), size, null, false);
-                    this.queryResults.put(queryKey, map);
-                    // Mark the query to be invalidated for the query classes.
-                    if (query.getQueryResultsCachePolicy().getInvalidateOnChange()) {
-                        for (Class<?> queryClass : query.getQueryResultsCachePolicy().getInvalidationClasses()) {
-                            Set<Object> invalidations = this.queryResultsInvalidationsByClass.computeIfAbsent(queryClass, k -> new HashSet<>());
-                            invalidations.add(queryKey);
+                    cachedResults = new CachedQueryResults(buildNewIdentityMap(policy.getCacheType(), size, null, false));
+                    // Mark the query to be invalidated for the query classes and tables.
+                    if (policy.getInvalidateOnChange()) {
+                        for (Class<?> queryClass : policy.getInvalidationClasses()) {
+                            cachedResults.invalidationClasses.add(queryClass);
+                            this.queryResultsInvalidationsByClass.computeIfAbsent(queryClass, k -> ConcurrentHashMap.newKeySet()).add(queryKey);
+                        }
+                        for (String tableName : policy.getInvalidationTables()) {
+                            String table = getInvalidationTableKey(tableName);
+                            cachedResults.invalidationTables.add(table);
+                            this.queryResultsInvalidationsByTable.computeIfAbsent(table, k -> ConcurrentHashMap.newKeySet()).add(queryKey);
                         }
                     }
+                    this.queryResults.put(queryKey, cachedResults);
+                    evictQueryResults(queryKey);
                 }
             }
+        } else {
+            recordQueryResultsAccess(queryKey);
         }
+        IdentityMap map = cachedResults.map;
         Object lookupParameters;
         if ((parameters == null) || parameters.isEmpty()) {
             lookupParameters = CacheId.EMPTY;
@@ -1587,4 +1734,21 @@ protected Object checkForInheritance(Object domainObject, Class<?> superClass, C
         }
         return domainObject;
     }
+
+    /**
+     * INTERNAL:
+     * The results of a query cached by parameter values, with the classes and tables indexing them for invalidation.
+     */
+    protected static class CachedQueryResults implements Serializable {
+        /** The results keyed by the parameter values. */
+        protected final IdentityMap map;
+        /** The classes the query is indexed by in queryResultsInvalidationsByClass. */
+        protected final Set<Class<?>> invalidationClasses = new HashSet<>();
+        /** The table names the query is indexed by in queryResultsInvalidationsByTable. */
+        protected final Set<String> invalidationTables = new HashSet<>();
+
+        protected CachedQueryResults(IdentityMap map) {
+            this.map = map;
+        }
+    }
 }
@@ -0,0 +1,289 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.identitymaps;
+
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * <p><b>Purpose</b>: A fixed size, lock-striped LRU cache<p>
+ * The cache keys are split by primary key hash into segments, each segment maintains its own
+ * LRU linked list and its own lock, so threads accessing different objects rarely contend.
+ * A get only reorders the LRU list if the segment lock is free, a contended get skips
+ * the reordering instead of waiting, so the LRU order is approximate under load.
+ * Each segment holds at most its share of the max size, the least recently used
+ * cache key of a full segment is removed when a new cache key is inserted.
+ * <p><b>Responsibilities</b>:<ul>
+ *    <li> Guarantees identity through primary key values
+ *    <li> Keeps the per segment LRU linked lists updated.
+ * </ul>
+ * @see CacheIdentityMap
+ */
+public class SegmentedCacheIdentityMap extends FullIdentityMap {
+
+    /** Maximum number of segments, segments are only worth it with concurrent access. */
+    protected static final int MAX_SEGMENTS = 64;
+
+    /** Minimum number of cache keys per segment to keep the LRU order meaningful. */
+    protected static final int MIN_SEGMENT_SIZE = 16;
+
+    /** The LRU segments, the number of segments is a power of two. */
+    protected Segment[] segments;
+
+    public SegmentedCacheIdentityMap(int size, ClassDescriptor descriptor, AbstractSession session, boolean isolated) {
+        super(size, descriptor, session, isolated);
+        this.segments = buildSegments(size);
+    }
+
+    /**
+     * Build the segments for the max size, based on the number of processors.
+     */
+    protected Segment[] buildSegments(int maxSize) {
+        int count = 1;
+        int concurrency = Math.min(Runtime.getRuntime().availableProcessors() * 2, MAX_SEGMENTS);
+        while ((count < concurrency) && ((maxSize / (count * 2)) >= MIN_SEGMENT_SIZE)) {
+            count = count * 2;
+        }
+        Segment[] newSegments = new Segment[count];
+        for (int index = 0; index < count; index++) {
+            newSegments[index] = new Segment(this.isIsolated);
+        }
+        setSegmentMaxSize(newSegments, maxSize);
+        return newSegments;
+    }
+
+    /**
+     * Split the max size between the segments, rounding up.
+     */
+    protected void setSegmentMaxSize(Segment[] segments, int maxSize) {
+        int segmentMaxSize = (maxSize + segments.length - 1) / segments.length;
+        for (Segment segment : segments) {
+            segment.maxSize = segmentMaxSize;
+        }
+    }
+
+    /**
+     * Return the segment of the primary key.
+     */
+    protected Segment getSegment(Object primaryKey) {
+        int hash = (primaryKey == null) ? 0 : primaryKey.hashCode();
+        hash = hash ^ (hash >>> 16);
+        return this.segments[hash & (this.segments.length - 1)];
+    }
+
+    /**
+     * INTERNAL:
+     * Clones itself, the cloned cache keys are linked in the clone's segments.
+     */
+    @Override
+    public IdentityMap clone() {
+        SegmentedCacheIdentityMap clone = (SegmentedCacheIdentityMap)super.clone();
+        clone.segments = clone.buildSegments(getMaxSize());
+        for (CacheKey cacheKey : clone.getCacheKeys().values()) {
+            LinkedCacheKey key = (LinkedCacheKey)cacheKey;
+            key.setNext(null);
+            key.setPrevious(null);
+            clone.getSegment(key.getKey()).insertLink(key);
+        }
+        return clone;
+    }
+
+    @Override
+    public CacheKey createCacheKey(Object primaryKey, Object object, Object writeLockValue, long readTime) {
+        return new LinkedCacheKey(primaryKey, object, writeLockValue, readTime, isIsolated);
+    }
+
+    /**
+     * Access the object within the table for the given primaryKey.
+     * Move the accessed key to the top of its segment's linked list to maintain LRU,
+     * unless another thread holds the segment lock.
+     * @param primaryKeys is the primary key for the object to search for.
+     * @return the LinkedCacheKey or null if none found for primaryKey
+     */
+    @Override
+    public CacheKey getCacheKey(Object primaryKeys, boolean forMerge) {
+        LinkedCacheKey cacheKey = (LinkedCacheKey)super.getCacheKey(primaryKeys, forMerge);
+        if (cacheKey != null) {
+            Segment segment = getSegment(cacheKey.getKey());
+            if (segment.lock.tryLock()) {
+                try {
+                    // May have been removed by a competing thread.
+                    if (cacheKey.getPrevious() != null) {
+                        segment.removeLink(cacheKey);
+                        segment.insertLink(cacheKey);
+                    }
+                } finally {
+                    segment.lock.unlock();
+                }
+            }
+        }
+        return cacheKey;
+    }
+
+    /**
+     * Also insert the link if the cacheKey is put.
+     */
+    @Override
+    protected CacheKey putCacheKeyIfAbsent(CacheKey searchKey) {
+        Segment segment = getSegment(searchKey.getKey());
+        segment.lock.lock();
+        try {
+            CacheKey cacheKey = super.putCacheKeyIfAbsent(searchKey);
+            if (cacheKey == null) {
+                segment.insertLink((LinkedCacheKey)searchKey);
+                ensureFixedSize(segment);
+            }
+            return cacheKey;
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    /**
+     * Remove the LinkedCacheKey from the cache as well as from its segment's linked list.
+     * @return the object held within the LinkedCacheKey.
+     */
+    @Override
+    public Object remove(CacheKey key) {
+        // The key may be null if was missing, just null should be returned in this case.
+        if (key == null) {
+            return null;
+        }
+        Segment segment = getSegment(key.getKey());
+        segment.lock.lock();
+        try {
+            // A stale cache key must not remove the cache key that replaced it.
+            if (this.cacheKeys.get(key.getKey()) == key) {
+                super.remove(key);
+            }
+            return segment.removeLink((LinkedCacheKey)key).getObject();
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    /**
+     * Reduces the size of the segment down to its max size removing the least recently used objects.
+     * Callers of this method must hold the segment lock.
+     */
+    protected void ensureFixedSize(Segment segment) {
+        // protect the case where someone attempts to break the cache by
+        // setting max size to 0.
+        while ((getMaxSize() > 0) && (segment.size > segment.maxSize)) {
+            LinkedCacheKey eldest = segment.last.getPrevious();
+            super.remove(eldest);
+            segment.removeLink(eldest);
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * This method will be used to update the max cache size, any objects exceeding the max cache size will
+     * be removed from the cache.
+     */
+    @Override
+    public synchronized void updateMaxSize(int maxSize) {
+        setMaxSize(maxSize);
+        setSegmentMaxSize(this.segments, maxSize);
+        for (Segment segment : this.segments) {
+            segment.lock.lock();
+            try {
+                ensureFixedSize(segment);
+            } finally {
+                segment.lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Return the number of cache keys linked in each segment, used for diagnostics and tests.
+     */
+    public int[] getSegmentSizes() {
+        int[] sizes = new int[this.segments.length];
+        for (int index = 0; index < sizes.length; index++) {
+            sizes[index] = this.segments[index].size;
+        }
+        return sizes;
+    }
+
+    /**
+     * Return the number of segments.
+     */
+    public int getNumberOfSegments() {
+        return this.segments.length;
+    }
+
+    /**
+     * INTERNAL:
+     * A LRU linked list guarded by its own lock.
+     */
+    protected static class Segment {
+        /** Guards the linked list and the size. */
+        protected final ReentrantLock lock;
+
+        /** Most recently used end of the linked list. */
+        protected final LinkedCacheKey first;
+
+        /** Least recently used end of the linked list. */
+        protected final LinkedCacheKey last;
+
+        /** Number of cache keys in the linked list. */
+        protected int size;
+
+        /** Maximum number of cache keys in the linked list. */
+        protected int maxSize;
+
+        protected Segment(boolean isIsolated) {
+            this.lock = new ReentrantLock();
+            this.first = new LinkedCacheKey(CacheId.EMPTY, null, null, 0, isIsolated);
+            this.last = new LinkedCacheKey(CacheId.EMPTY, null, null, 0, isIsolated);
+            this.first.setNext(this.last);
+            this.last.setPrevious(this.first);
+        }
+
+        /**
+         * Insert a new element as the most recently used.
+         * Callers of this method must hold the lock.
+         */
+        protected LinkedCacheKey insertLink(LinkedCacheKey key) {
+            this.first.getNext().setPrevious(key);
+            key.setNext(this.first.getNext());
+            key.setPrevious(this.first);
+            this.first.setNext(key);
+            this.size++;
+            return key;
+        }
+
+        /**
+         * Remove the element from the linked list.
+         * Callers of this method must hold the lock.
+         */
+        protected LinkedCacheKey removeLink(LinkedCacheKey key) {
+            if ((key.getPrevious() == null) || (key.getNext() == null)) {
+                //already removed by a competing thread, just return
+                return key;
+            }
+            key.getPrevious().setNext(key.getNext());
+            key.getNext().setPrevious(key.getPrevious());
+            key.setNext(null);
+            key.setPrevious(null);
+            this.size--;
+            return key;
+        }
+    }
+}
@@ -490,7 +490,9 @@ Current thread (id: {3} name: {4}) stack trace:
         { "encryptor_script_description", "This application has an old encrypted password that was used by a previous version of EclipseLink. Reencrypt it with the latest algorithm."},
         { "encryptor_script_output", "The reencrypted password is: {0}"},
         { "cache_key_null_read_lock_manager", "CacheKey instance: {0}, locked by the cache read lock manager, has a null primary key." },
-        { "cache_key_null_identity_map", "CacheKey instance: {0}, stored into the identity map, has a null primary key." }
+        { "cache_key_null_identity_map", "CacheKey instance: {0}, stored into the identity map, has a null primary key." },
+        { "cache_preload_complete", "Preloaded {0} objects into the cache in {1} ms." },
+        { "cache_preload_failed", "Failed to preload the cache of {0}: {1}" }
     };
 
     /**
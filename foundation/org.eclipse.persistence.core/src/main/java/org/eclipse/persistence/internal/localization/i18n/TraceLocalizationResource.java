@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1998, 2025 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1998, 2026 Oracle and/or its affiliates. All rights reserved.
  * Copyright (c) 2017, 2024 IBM Corporation. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -46,6 +46,8 @@ public class TraceLocalizationResource extends ListResourceBundle {
         { "cache_item_refresh", "Entity ({0}) with Id ({1}) was refreshed in the cache by thread (Id: {2} Name: {3})" },
         { "cache_item_removal", "Entity ({0}) with Id ({1}) was removed from the cache by thread (Id: {2} Name: {3})" },
         { "cache_item_invalidation", "Entity ({0}) with Id ({1}) was invalidated from the cache by thread (Id: {2} Name: {3})" },
+        { "cache_preload_start", "Preloading the cache of {0} descriptors in {1} ranges with {2} threads" },
+        { "cache_preload_descriptor", "Preloaded {1} objects of {0} into the cache" },
         { "cache_class_invalidation", "Entities based on class ({0}) was invalidated from the cache by thread (Id: {1} Name: {2})" },
         { "cache_hit", "Cache hit for entity ({0}) with Id ({1})" },
         { "cache_miss", "Cache miss for entity ({0}) with Id ({1})" },
@@ -387,6 +389,7 @@ The thread is working in the context of (CacheKey) = ({2}) .\s
         { "sequencing_afterTransactionCommitted", "local sequencing preallocation is copied to preallocation after transaction commit" },
         { "sequencing_afterTransactionRolledBack", "local sequencing preallocation is discarded after transaction roll back" },
         { "sequencing_preallocation", "sequencing preallocation for {0}: objects: {1} , first: {2}, last: {3}" },
+        { "sequencing_asyncPreallocation", "asynchronous sequencing preallocation for {0}: objects: {1} , first: {2}, last: {3}, blocks ahead: {4}" },
         { "starting_rcm", "Starting Remote Command Manager {0}" },
         { "stopping_rcm", "Stopping Remote Command Manager {0}" },
         { "initializing_discovery_resources", "Initializing discovery resources - group={0} port={1}" },
@@ -406,6 +409,7 @@ The thread is working in the context of (CacheKey) = ({2}) .\s
         { "processing_remote_command", "Executing command {0} from {1}" },
         { "sync_propagation", "Propagating command synchronously" },
         { "async_propagation", "Propagating command asynchronously" },
+        { "propagate_coalesced_change_sets", "Propagating {0} object change sets coalesced from {1} change sets" },
         { "propagate_command_to", "Propagating command {0} to {1}" },
         { "discovery_manager_active", "RCM Discovery Manager active" },
         { "discovery_manager_stopped", "RCM Discovery Manager stopped" },
@@ -610,6 +614,9 @@ The thread is working in the context of (CacheKey) = ({2}) .\s
         { "moxy_set_marshaller_property", "Setting marshaller property (name/value): {0}/{1}"},
         { "moxy_set_unmarshaller_property", "Setting unmarshaller property (name/value): {0}/{1}"},
         { "moxy_set_jaxb_context_property", "Setting JAXBContext property (name/value): {0}/{1}"},
+        { "moxy_project_cache_loaded", "JAXBContext project loaded from cache file {0}"},
+        { "moxy_project_cache_stored", "JAXBContext project stored to cache file {0}"},
+        { "moxy_project_cache_stale", "JAXBContext project cache file {0} is out of date and will be replaced"},
         { "invalid_tzone", "Invalid timezone conversion property {0} value: {1}.  Will attempt to resolve default." },
         { "invalid_default_tzone", "Invalid timezone conversion property {0} value: {1}.  Defaulting to UTC." },
         { "using_conversion_tzone", "ConversionManager using default zone offset: {1}."},
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1998, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1998, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -19,6 +19,8 @@
 import org.w3c.dom.NamedNodeMap;
 import org.w3c.dom.Node;
 
+import java.io.Serial;
+import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Enumeration;
 import java.util.Iterator;
@@ -57,14 +59,16 @@
  *  @see org.eclipse.persistence.eis.EISDescriptor
  *
  */
-public class NamespaceResolver implements XMLNamespaceResolver {
+public class NamespaceResolver implements XMLNamespaceResolver, Serializable {
+    @Serial
+    private static final long serialVersionUID = 1081356632072722199L;
     private static final String BASE_PREFIX = "ns";
     private static final Vector<Namespace> EMPTY_VECTOR = VectorUtils.emptyVector();
 
     private String defaultNamespaceURI;
     private NamespaceResolverStorage prefixesToNamespaces;
     private int prefixCounter;
-    private Node dom;
+    private transient Node dom;
 
     /**
      * Default constructor, creates a new NamespaceResolver.
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2020, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -12,6 +12,8 @@
 
 package org.eclipse.persistence.internal.oxm;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serial;
 import java.util.Collection;
 import java.util.Collections;
@@ -122,6 +124,13 @@ private void setModified(boolean modified) {
         this.modified = modified;
     }
 
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        // The entries are restored without going through put, rebuild the namespaces on first use.
+        namespaces = emptyVector();
+        modified = true;
+    }
+
     private Vector<Namespace> buildNamespacesUnmodifiable() {
         Vector<Namespace> names = new Vector<>(size());
         for (Map.Entry<String, String> entry : entrySet()) {
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1998, 2023 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1998, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -35,6 +35,8 @@
 import org.w3c.dom.Document;
 import org.w3c.dom.Node;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -51,7 +53,7 @@
  */
 public class TreeObjectBuilder extends XMLObjectBuilder implements ObjectBuilder<AbstractRecord, AbstractSession, ClassDescriptor, XMLMarshaller> {
 
-    private XPathObjectBuilder xPathObjectBuilder;
+    private transient XPathObjectBuilder xPathObjectBuilder;
 
     public TreeObjectBuilder(ClassDescriptor descriptor) {
         super(descriptor);
@@ -66,6 +68,12 @@ protected void initialize(ClassDescriptor descriptor) {
         this.cloningMappings = new ArrayList(descriptorMappingsSize);
     }
 
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        // The XPathNode tree is built from the mappings when the descriptor is initialized.
+        xPathObjectBuilder = new XPathObjectBuilder(getDescriptor());
+    }
+
     @Override
     public XPathNode getRootXPathNode() {
         return xPathObjectBuilder.getRootXPathNode();
@@ -34,6 +34,7 @@
 import org.eclipse.persistence.oxm.record.FormattedOutputStreamRecord;
 import org.eclipse.persistence.oxm.record.FormattedWriterRecord;
 import org.eclipse.persistence.oxm.record.JSONFormattedWriterRecord;
+import org.eclipse.persistence.oxm.record.JSONOutputStreamRecord;
 import org.eclipse.persistence.oxm.record.JSONWriterRecord;
 import org.eclipse.persistence.oxm.record.MarshalRecord;
 import org.eclipse.persistence.oxm.record.NodeRecord;
@@ -940,7 +941,7 @@ private void marshal(Object object, OutputStream outputStream, ABSTRACT_SESSION
             }
         } else {
             if(isApplicationJSON()) {
-                marshalRecord = new JSONWriterRecord(outputStream, callbackName);
+                marshalRecord = new JSONOutputStreamRecord(outputStream, callbackName);
             } else {
                 marshalRecord = new OutputStreamRecord();
                 ((OutputStreamRecord)marshalRecord).setOutputStream(outputStream);
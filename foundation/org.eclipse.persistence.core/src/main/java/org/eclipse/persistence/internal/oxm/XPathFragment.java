@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1998, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1998, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -17,6 +17,8 @@
 import org.eclipse.persistence.internal.oxm.mappings.Field;
 
 import javax.xml.namespace.QName;
+import java.io.Serial;
+import java.io.Serializable;
 import java.nio.charset.Charset;
 import java.util.HashSet;
 import java.util.Set;
@@ -34,7 +36,10 @@
  * b[2] would have an index value of 2.</li>
  * </ul>
  */
-public class XPathFragment<XML_FIELD extends Field> {
+public class XPathFragment<XML_FIELD extends Field> implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = -781488569599181976L;
 
     public static final XPathFragment TEXT_FRAGMENT = new XPathFragment(Constants.TEXT);
     public static final String SELF_XPATH = ".";
@@ -56,6 +61,7 @@
     private byte[] prefixBytes;
     private String localName;
     private byte[] localNameBytes;
+    private byte[] jsonKeyBytes;
     private String namespaceURI;
     protected boolean nameIsText = false;
     protected boolean isSelfFragment = false;
@@ -228,6 +234,18 @@ public byte[] getLocalNameBytes() {
         return localNameBytes;
     }
 
+    /**
+     * INTERNAL:
+     * Return the UTF-8 bytes of the JSON key of the local name,
+     * the quoted local name followed by the name separator.
+     */
+    public byte[] getJSONKeyBytes() {
+        if(null == jsonKeyBytes && null != localName) {
+            jsonKeyBytes = ('"' + localName + "\":").getBytes(CHARSET);
+        }
+        return jsonKeyBytes;
+    }
+
     public void setLocalName(String localName) {
         this.localName = localName;
         resetShortName();
@@ -424,6 +442,7 @@ private void resetShortName(){
         shortName = null;
     prefixBytes = null;
     localNameBytes = null;
+    jsonKeyBytes = null;
     }
 
     /**
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.oxm;
+
+import java.util.Map;
+
+/**
+ * INTERNAL:
+ * <p><b>Purpose</b>: An immutable, precompiled lookup table of the children
+ * of an XPathNode keyed by element or attribute name.  It is used during
+ * unmarshal to resolve each incoming name to its XPathNode without building
+ * and hashing an XPathFragment per event.</p>
+ * <p>Only the children whose XPathFragment is a plain name (no predicate,
+ * no position index and not text()) are compiled into the table, these are
+ * the only keys of the children map that a plain name can be equal to.  The
+ * local names are interned so that the names reported by a SAX parser, which
+ * are usually interned, resolve with a reference comparison.  Names are
+ * probed in insertion order so that the result is the same node the children
+ * map would return.</p>
+ */
+public final class XPathNameTable {
+
+    private final Map<XPathFragment, XPathNode> childrenMap;
+    private final String[] localNames;
+    private final XPathFragment[] keys;
+    private final XPathNode[] nodes;
+    private final int mask;
+
+    public XPathNameTable(Map<XPathFragment, XPathNode> childrenMap) {
+        this.childrenMap = childrenMap;
+        // Keep the load factor at or below one half so probe sequences stay short.
+        int capacity = Integer.highestOneBit(Math.max(childrenMap.size(), 1) * 2 - 1) << 1;
+        this.localNames = new String[capacity];
+        this.keys = new XPathFragment[capacity];
+        this.nodes = new XPathNode[capacity];
+        this.mask = capacity - 1;
+        for (Map.Entry<XPathFragment, XPathNode> entry : childrenMap.entrySet()) {
+            XPathFragment key = entry.getKey();
+            String localName = key.getLocalName();
+            if (null == localName || key.nameIsText() || null != key.getPredicate() || -1 != key.getIndexValue()) {
+                continue;
+            }
+            int index = localName.hashCode() & mask;
+            while (null != localNames[index]) {
+                index = (index + 1) & mask;
+            }
+            localNames[index] = localName.intern();
+            keys[index] = key;
+            nodes[index] = entry.getValue();
+        }
+    }
+
+    /**
+     * Return the child XPathNode equal to the XPathFragment, or null if there
+     * is none.  The result is the same as the children map would return.
+     */
+    public XPathNode get(XPathFragment xPathFragment) {
+        String localName = xPathFragment.getLocalName();
+        if (null == localName || xPathFragment.isAttribute() || xPathFragment.nameIsText() || null != xPathFragment.getPredicate() || -1 != xPathFragment.getIndexValue()) {
+            return childrenMap.get(xPathFragment);
+        }
+        boolean isNamespaceAware = xPathFragment.isNamespaceAware();
+        String namespaceURI = xPathFragment.getNamespaceURI();
+        int index = localName.hashCode() & mask;
+        String name;
+        while (null != (name = localNames[index])) {
+            if (name == localName || name.equals(localName)) {
+                XPathFragment key = keys[index];
+                if (!isNamespaceAware || !key.isNamespaceAware()) {
+                    return nodes[index];
+                }
+                String nextNamespaceURI = key.getNamespaceURI();
+                if (nextNamespaceURI == namespaceURI || (null != nextNamespaceURI && nextNamespaceURI.equals(namespaceURI))) {
+                    return nodes[index];
+                }
+            }
+            index = (index + 1) & mask;
+        }
+        return null;
+    }
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1998, 2023 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1998, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -62,6 +62,8 @@ public class XPathNode {
     private Map<XPathFragment, XPathNode> nonAttributeChildrenMap;
     private Map<String, XPathNode> nonAttributeChildrenLookupTable;
     private boolean isNonAttributeChildrenLookupTableFilled = false;
+    private XPathNameTable attributeChildrenNameTable;
+    private XPathNameTable nonAttributeChildrenNameTable;
     private MappingNodeValue anyAttributeNodeValue;
     private XPathNode anyAttributeNode;
     private XPathNode textNode;
@@ -152,6 +154,59 @@ public Map<XPathFragment, XPathNode> getAttributeChildrenMap() {
         return this.attributeChildrenMap;
     }
 
+    /**
+     * INTERNAL:
+     * Return the non-attribute child equal to the XPathFragment, using the
+     * precompiled name table.  The table is compiled on first use if
+     * {@link #compileNameTables()} has not been called.
+     */
+    public XPathNode getNonAttributeChild(XPathFragment anXPathFragment) {
+        XPathNameTable nameTable = nonAttributeChildrenNameTable;
+        if (null == nameTable) {
+            if (null == nonAttributeChildrenMap) {
+                return null;
+            }
+            nameTable = new XPathNameTable(nonAttributeChildrenMap);
+            nonAttributeChildrenNameTable = nameTable;
+        }
+        return nameTable.get(anXPathFragment);
+    }
+
+    /**
+     * INTERNAL:
+     * Return the attribute child equal to the XPathFragment, using the
+     * precompiled name table.  The table is compiled on first use if
+     * {@link #compileNameTables()} has not been called.
+     */
+    public XPathNode getAttributeChild(XPathFragment anXPathFragment) {
+        XPathNameTable nameTable = attributeChildrenNameTable;
+        if (null == nameTable) {
+            if (null == attributeChildrenMap) {
+                return null;
+            }
+            nameTable = new XPathNameTable(attributeChildrenMap);
+            attributeChildrenNameTable = nameTable;
+        }
+        return nameTable.get(anXPathFragment);
+    }
+
+    /**
+     * INTERNAL:
+     * Compile the name tables of this node and all of its descendants.  This
+     * is done once the tree is complete so that unmarshal does not pay for it.
+     */
+    public void compileNameTables() {
+        if (null != attributeChildrenMap) {
+            attributeChildrenNameTable = new XPathNameTable(attributeChildrenMap);
+        }
+        if (null != nonAttributeChildrenMap) {
+            nonAttributeChildrenNameTable = new XPathNameTable(nonAttributeChildrenMap);
+            for (XPathNode child : nonAttributeChildrenMap.values()) {
+                child.compileNameTables();
+            }
+        }
+    }
+
     public boolean isChildrenLookupTableFilled(boolean isAttribute) {
         return isAttribute ? isAttributeChildrenLookupTableFilled : isNonAttributeChildrenLookupTableFilled;
     }
@@ -369,6 +424,11 @@ public XPathNode addChild(XPathFragment anXPathFragment, NodeValue aNodeValue, N
                     children.add(xPathNode);
                 }
                 childrenMap.put(anXPathFragment, xPathNode);
+                if (childrenMap == attributeChildrenMap) {
+                    attributeChildrenNameTable = null;
+                } else {
+                    nonAttributeChildrenNameTable = null;
+                }
             }
         }
 
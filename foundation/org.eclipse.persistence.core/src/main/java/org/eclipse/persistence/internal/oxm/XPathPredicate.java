@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2020 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -14,7 +14,13 @@
 //     Blaise Doughan - 2.3 - initial implementation
 package org.eclipse.persistence.internal.oxm;
 
-public class XPathPredicate {
+import java.io.Serial;
+import java.io.Serializable;
+
+public class XPathPredicate implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = -3920614342441676282L;
 
     private XPathFragment xPathFragment;
     private String value;
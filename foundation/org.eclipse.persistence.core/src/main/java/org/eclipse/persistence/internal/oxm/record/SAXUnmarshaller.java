@@ -28,7 +28,7 @@
 import org.eclipse.persistence.internal.oxm.UnmarshallerHandler;
 import org.eclipse.persistence.internal.oxm.mappings.Descriptor;
 import org.eclipse.persistence.internal.oxm.mappings.UnmarshalKeepAsElementPolicy;
-import org.eclipse.persistence.internal.oxm.record.json.JsonStructureReader;
+import org.eclipse.persistence.internal.oxm.record.json.JsonStreamReader;
 import org.eclipse.persistence.platform.xml.DefaultErrorHandler;
 import org.eclipse.persistence.platform.xml.SAXDocumentBuilder;
 import org.eclipse.persistence.platform.xml.XMLParser;
@@ -207,7 +207,7 @@ private XMLReader getNewXMLReader(MediaType mediaType) {
     private XMLReader getNewXMLReader(Class<?> clazz, MediaType mediaType) {
 
         if (null != mediaType && mediaType.isApplicationJSON()) {
-            return new JsonStructureReader(xmlUnmarshaller, clazz);
+            return new JsonStreamReader(xmlUnmarshaller, clazz);
         }
         try {
             XMLReader xmlReader = new XMLReader(getSAXParser().getXMLReader());
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1998, 2025 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1998, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -1314,7 +1314,7 @@ public XPathNode getNonAttributeXPathNode(String namespaceURI, String localName,
             if (unmarshaller.isCaseInsensitive()){
                 resultNode = getNodeFromLookupTable(nonAttributeChildrenMap, false);
             } else {
-                resultNode = nonAttributeChildrenMap.get(xPathFragment);
+                resultNode = xPathNode.getNonAttributeChild(xPathFragment);
             }
 
             XPathNode nonPredicateNode = null;
@@ -1426,7 +1426,7 @@ public NodeValue getAttributeChildNodeValue(String namespace, String localName)
             if (unmarshaller.isCaseInsensitive()){
                 resultNode = getNodeFromLookupTable(attributeChildrenMap, true);
             } else {
-                resultNode = attributeChildrenMap.get(xPathFragment);
+                resultNode = xPathNode.getAttributeChild(xPathFragment);
             }
 
             if (resultNode != null) {
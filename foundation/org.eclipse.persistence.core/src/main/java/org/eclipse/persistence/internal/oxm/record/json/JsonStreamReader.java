@@ -0,0 +1,578 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.oxm.record.json;
+
+import jakarta.json.JsonException;
+import org.eclipse.persistence.internal.oxm.Constants;
+import org.eclipse.persistence.internal.oxm.NamespaceResolver;
+import org.eclipse.persistence.internal.oxm.NodeValue;
+import org.eclipse.persistence.internal.oxm.Root;
+import org.eclipse.persistence.internal.oxm.Unmarshaller;
+import org.eclipse.persistence.internal.oxm.XPathFragment;
+import org.eclipse.persistence.internal.oxm.XPathNode;
+import org.eclipse.persistence.internal.oxm.record.SAXUnmarshallerHandler;
+import org.eclipse.persistence.internal.oxm.record.UnmarshalRecord;
+import org.eclipse.persistence.internal.oxm.record.deferred.DeferredContentHandler;
+import org.eclipse.persistence.oxm.exceptions.XMLMarshalException;
+import org.eclipse.persistence.oxm.record.XMLRootRecord;
+import org.xml.sax.Attributes;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * INTERNAL:
+ * <p><b>Purpose</b>: Reader of JSON text, reporting the events while the text is tokenized.
+ * <p><b>Description</b>: The events are the same as reported by the {@link JsonStructureReader},
+ * without building the JsonStructure of the text first.
+ * The attributes of an object are read ahead only when requested by the content handler,
+ * so the tokenizer keeps the text of the object from its start until the next start element.
+ * The elements of a root array are unmarshalled one at a time, so the memory used for a large array
+ * is bounded by the size of its largest element.
+ */
+public class JsonStreamReader extends JsonStructureReader {
+
+    private JsonTokenizer tokenizer;
+    private final StreamAttributes attributes = new StreamAttributes();
+
+    public JsonStreamReader(Unmarshaller u) {
+        this(u, null);
+    }
+
+    public JsonStreamReader(Unmarshaller u, Class<?> clazz) {
+        super(u, clazz);
+    }
+
+    @Override
+    public void parse(InputSource input) throws IOException, SAXException, JsonException {
+        if (input == null) {
+            super.parse(input);
+            return;
+        }
+
+        InputStream inputStream = null;
+        try {
+            if (null != input.getByteStream()) {
+                inputStream = input.getByteStream();
+                tokenizer = JsonTokenizer.create(inputStream);
+            } else if (null != input.getCharacterStream()) {
+                tokenizer = new JsonTokenizer(input.getCharacterStream());
+            } else {
+                try {
+                    URL url = new URL(input.getSystemId());
+                    inputStream = url.openStream();
+                } catch (MalformedURLException malformedURLException) {
+                    try {
+                        inputStream = new FileInputStream(input.getSystemId());
+                    } catch (FileNotFoundException fileNotFoundException) {
+                        throw malformedURLException;
+                    }
+                }
+                tokenizer = JsonTokenizer.create(inputStream);
+            }
+            parseRoot();
+            tokenizer.end();
+
+            if (null != inputStream) {
+                inputStream.close();
+            }
+        } catch (JsonException je) {
+            throw XMLMarshalException.unmarshalException(je);
+        } finally {
+            tokenizer = null;
+            attributes.setPosition(-1);
+        }
+    }
+
+    private void parseRoot() throws IOException, SAXException {
+        if (namespaces != null) {
+            Map<String, String> namespacePairs = namespaces.getPrefixesToNamespaces();
+            for (Entry<String, String> namespacePair : namespacePairs.entrySet()) {
+                contentHandler.startPrefixMapping(namespacePair.getKey(), namespacePair.getValue());
+            }
+        }
+
+        int valueType = tokenizer.peekValue();
+        if (valueType == JsonTokenizer.OBJECT) {
+            contentHandler.startDocument();
+            Attributes rootAttributes = attributes(valueType);
+            tokenizer.expect('{');
+
+            boolean hasNext = tokenizer.hasNext(true, '}');
+            if (!hasNext && unmarshalClass == null) {
+                return;
+            }
+
+            if (includeRoot) {
+                attributes(JsonTokenizer.NULL);
+                if (hasNext) {
+                    parsePair(tokenizer.readName());
+                    // Only the first pair is unmarshalled.
+                    while (tokenizer.hasNext(false, '}')) {
+                        tokenizer.readName();
+                        tokenizer.skipValue();
+                    }
+                }
+            } else {
+                contentHandler.startElement(Constants.EMPTY_STRING, Constants.EMPTY_STRING, null, rootAttributes);
+                for (boolean next = hasNext; next; next = tokenizer.hasNext(false, '}')) {
+                    parsePair(tokenizer.readName());
+                }
+                contentHandler.endElement(Constants.EMPTY_STRING, Constants.EMPTY_STRING, null);
+            }
+            contentHandler.endDocument();
+        } else if (valueType == JsonTokenizer.ARRAY) {
+
+            SAXUnmarshallerHandler rootContentHandler = null;
+            if (getContentHandler() instanceof SAXUnmarshallerHandler) {
+                rootContentHandler = (SAXUnmarshallerHandler) getContentHandler();
+            }
+            tokenizer.expect('[');
+
+            List<Object> list = new ArrayList<>();
+            for (boolean next = tokenizer.hasNext(true, ']'); next; next = tokenizer.hasNext(false, ']')) {
+                parseRoot();
+                if (getContentHandler() instanceof SAXUnmarshallerHandler) {
+                    SAXUnmarshallerHandler saxUnmarshallerHandler = (SAXUnmarshallerHandler) contentHandler;
+                    list.add(saxUnmarshallerHandler.getObject());
+                    saxUnmarshallerHandler.setObject(null);
+                } else if (getContentHandler() instanceof UnmarshalRecord) {
+                    UnmarshalRecord unmarshalRecord = (UnmarshalRecord) contentHandler;
+                    Object unmarshalledObject = unmarshalRecord.getCurrentObject();
+                    if (includeRoot && unmarshalClass != null) {
+                        if (!(unmarshalledObject instanceof Root)) {
+                            Root xmlRoot = unmarshalRecord.createRoot();
+                            xmlRoot.setNamespaceURI(unmarshalRecord.getRootElementNamespaceUri());
+                            xmlRoot.setLocalName(unmarshalRecord.getLocalName());
+                            xmlRoot.setObject(unmarshalledObject);
+                            unmarshalledObject = xmlRoot;
+                        }
+                    }
+                    list.add(unmarshalledObject);
+                    unmarshalRecord.setCurrentObject(null);
+                    unmarshalRecord.setRootElementName(null);
+                    unmarshalRecord.setLocalName(null);
+                }
+            }
+            if (getContentHandler() instanceof SAXUnmarshallerHandler) {
+                ((SAXUnmarshallerHandler) getContentHandler()).setObject(list);
+            } else if (getContentHandler() instanceof UnmarshalRecord) {
+                ((UnmarshalRecord) getContentHandler()).setCurrentObject(list);
+                ((UnmarshalRecord) getContentHandler()).setRootElementName(Constants.EMPTY_STRING);
+                ((UnmarshalRecord) getContentHandler()).setLocalName(Constants.EMPTY_STRING);
+                if (rootContentHandler != null) {
+                    rootContentHandler.setObject(list);
+                }
+            }
+
+        } else {
+            getContentHandler().startDocument();
+            parseValue();
+        }
+    }
+
+    private void parseValue() throws IOException, SAXException {
+        switch (tokenizer.peekValue()) {
+            case JsonTokenizer.STRING: {
+                contentHandler.characters(tokenizer.readString());
+                break;
+            }
+            case JsonTokenizer.FALSE: {
+                tokenizer.readLiteral(FALSE);
+                contentHandler.characters(FALSE);
+                break;
+            }
+            case JsonTokenizer.TRUE: {
+                tokenizer.readLiteral(TRUE);
+                contentHandler.characters(TRUE);
+                break;
+            }
+            case JsonTokenizer.NUMBER: {
+                contentHandler.characters(tokenizer.readNumber());
+                break;
+            }
+            case JsonTokenizer.OBJECT: {
+                tokenizer.expect('{');
+                long xmlValuePosition = -1;
+                for (boolean next = tokenizer.hasNext(true, '}'); next; next = tokenizer.hasNext(false, '}')) {
+                    String name = tokenizer.readName();
+                    if (textWrapper != null && textWrapper.equals(name)) {
+                        if (xmlValuePosition != -1) {
+                            tokenizer.release(xmlValuePosition);
+                        }
+                        tokenizer.peek();
+                        xmlValuePosition = tokenizer.mark();
+                        tokenizer.skipValue();
+                    } else {
+                        parsePair(name);
+                    }
+                }
+                //Proceed JSON value mapped to @XmlValue property as a last
+                if (xmlValuePosition != -1) {
+                    long endPosition = tokenizer.getPosition();
+                    tokenizer.seek(xmlValuePosition);
+                    parsePair(textWrapper);
+                    tokenizer.seek(endPosition);
+                    tokenizer.release(xmlValuePosition);
+                }
+                break;
+            }
+            case JsonTokenizer.ARRAY: {
+                tokenizer.expect('[');
+                for (boolean next = tokenizer.hasNext(true, ']'); next; next = tokenizer.hasNext(false, ']')) {
+                    parseValue();
+                }
+                break;
+            }
+            default: {
+                tokenizer.readLiteral("null");
+                contentHandler.setNil(true);
+            }
+        }
+    }
+
+    private void parsePair(String name) throws IOException, SAXException {
+        int valueType = tokenizer.peekValue();
+
+        if (valueType == JsonTokenizer.ARRAY) {
+            String parentLocalName = name;
+
+            if (attributePrefix != null && parentLocalName.startsWith(attributePrefix)) {
+                tokenizer.skipValue();
+                return;
+            }
+            String uri = Constants.EMPTY_STRING;
+            if (isNamespaceAware() && namespaces != null) {
+                if (parentLocalName.length() > 2) {
+                    int nsIndex = parentLocalName.indexOf(getNamespaceSeparator(), 1);
+                    if (nsIndex > -1) {
+                        String prefix = parentLocalName.substring(0, nsIndex);
+                        uri = namespaces.resolveNamespacePrefix(prefix);
+                    }
+                    if (uri == null || uri == Constants.EMPTY_STRING) {
+                        uri = namespaces.getDefaultNamespaceURI();
+                    } else {
+                        parentLocalName = parentLocalName.substring(nsIndex + 1);
+                    }
+                } else {
+                    uri = namespaces.getDefaultNamespaceURI();
+                }
+            }
+
+            tokenizer.expect('[');
+            boolean hasNext = tokenizer.hasNext(true, ']');
+            if (!hasNext) {
+                startEmptyCollection(uri, parentLocalName);
+            }
+            startCollection();
+
+            XPathFragment groupingXPathFragment = null;
+            if (contentHandler instanceof UnmarshalRecord || isUnmarshalRecordWithinAdapter()) {
+                final UnmarshalRecord contentHandler_ = contentHandler instanceof UnmarshalRecord ? (UnmarshalRecord) contentHandler : getUnmarshalRecordFromAdapter();
+                boolean isTextValue = isTextValue(parentLocalName, contentHandler_);
+                XPathFragment itemXPathFragment = null;
+                XPathNode groupingXPathNode = startGroupingElement(contentHandler_, uri, parentLocalName);
+                if (groupingXPathNode != null) {
+                    groupingXPathFragment = groupingXPathNode.getXPathFragment();
+                    itemXPathFragment = groupingXPathNode.getNonAttributeChildren().get(0).getXPathFragment();
+                }
+
+                for (boolean next = hasNext; next; next = tokenizer.hasNext(false, ']')) {
+                    int itemType = tokenizer.peekValue();
+                    if (itemType == JsonTokenizer.NULL) {
+                        contentHandler.setNil(true);
+                    }
+
+                    if (!isTextValue) {
+                        if (null != itemXPathFragment) {
+                            contentHandler.startElement(itemXPathFragment.getNamespaceURI(), itemXPathFragment.getLocalName(), itemXPathFragment.getLocalName(), attributes(itemType));
+                        } else {
+                            contentHandler.startElement(uri, parentLocalName, parentLocalName, attributes(itemType));
+                        }
+                    }
+                    //Internally store each nested array it as JsonObject with name: "item"
+                    if (itemType == JsonTokenizer.ARRAY) {
+                        parsePair("item");
+                    } else {
+                        parseValue();
+                    }
+                    if (!isTextValue) {
+                        if (null != itemXPathFragment) {
+                            contentHandler.endElement(itemXPathFragment.getNamespaceURI(), itemXPathFragment.getLocalName(), itemXPathFragment.getLocalName());
+                        } else {
+                            contentHandler.endElement(uri, parentLocalName, parentLocalName);
+                        }
+                    }
+                }
+            } else if (hasNext) {
+                tokenizer.skipValue();
+                while (tokenizer.hasNext(false, ']')) {
+                    tokenizer.skipValue();
+                }
+            }
+            if (null != groupingXPathFragment) {
+                contentHandler.endElement(uri, groupingXPathFragment.getLocalName(), groupingXPathFragment.getLocalName());
+            }
+            endCollection();
+        } else {
+            if (attributePrefix != null && name.startsWith(attributePrefix)) {
+                tokenizer.skipValue();
+                return;
+            }
+            String localName = name;
+            String uri = Constants.EMPTY_STRING;
+            if (isNamespaceAware() && namespaces != null) {
+                if (localName.length() > 2) {
+                    int nsIndex = localName.indexOf(getNamespaceSeparator(), 1);
+                    String prefix = Constants.EMPTY_STRING;
+                    if (nsIndex > -1) {
+                        prefix = localName.substring(0, nsIndex);
+                    }
+                    uri = namespaces.resolveNamespacePrefix(prefix);
+                    if (uri == null || uri == Constants.EMPTY_STRING) {
+                        uri = namespaces.getDefaultNamespaceURI();
+                    } else {
+                        localName = localName.substring(nsIndex + 1);
+                    }
+
+                    if (localName.equals(Constants.SCHEMA_TYPE_ATTRIBUTE) && uri != null && uri.equals(javax.xml.XMLConstants.W3C_XML_SCHEMA_INSTANCE_NS_URI)) {
+                        tokenizer.skipValue();
+                        return;
+                    }
+                } else {
+                    uri = namespaces.getDefaultNamespaceURI();
+                }
+            }
+            if (contentHandler instanceof XMLRootRecord || contentHandler instanceof DeferredContentHandler) {
+                if (jsonTypeCompatibility) {
+                    // if its not namespaceAware don't report the "type" child as it
+                    // is will be read by the xsi:type lookup
+                    if (!isNamespaceAware() && localName.equals(Constants.SCHEMA_TYPE_ATTRIBUTE)) {
+                        tokenizer.skipValue();
+                        return;
+                    }
+                }
+                if (textWrapper != null && textWrapper.equals(localName)) {
+                    parseValue();
+                    return;
+                }
+            } else if (contentHandler instanceof UnmarshalRecord && ((UnmarshalRecord) contentHandler).getXPathNode() != null) {
+                if (jsonTypeCompatibility) {
+                    if (!isNamespaceAware() && localName.equals(Constants.SCHEMA_TYPE_ATTRIBUTE) && !((UnmarshalRecord) contentHandler).getXPathNode().hasTypeChild()) {
+                        tokenizer.skipValue();
+                        return;
+                    }
+                }
+                boolean isTextValue = isTextValue(localName, (UnmarshalRecord) contentHandler);
+                if (isTextValue) {
+                    parseValue();
+                    return;
+                }
+                NodeValue nv = ((UnmarshalRecord) contentHandler).getAttributeChildNodeValue(uri, localName);
+                if (attributePrefix == null && nv != null) {
+                    tokenizer.skipValue();
+                    return;
+                }
+            } else if (isUnmarshalRecordWithinAdapter()) {
+                @SuppressWarnings("rawtypes") final UnmarshalRecord contentHandler_ = getUnmarshalRecordFromAdapter();
+                if (jsonTypeCompatibility) {
+                    if (!isNamespaceAware() && localName.equals(Constants.SCHEMA_TYPE_ATTRIBUTE) && !contentHandler_.getXPathNode().hasTypeChild()) {
+                        tokenizer.skipValue();
+                        return;
+                    }
+                }
+                boolean isTextValue = isTextValue(localName, contentHandler_);
+                if (isTextValue) {
+                    parseValue();
+                    return;
+                }
+                NodeValue nv = contentHandler_.getAttributeChildNodeValue(uri, localName);
+                if (attributePrefix == null && nv != null) {
+                    tokenizer.skipValue();
+                    return;
+                }
+            }
+
+            if (valueType == JsonTokenizer.NULL) {
+                contentHandler.setNil(true);
+            }
+
+            contentHandler.startElement(uri, localName, localName, attributes(valueType));
+            parseValue();
+            contentHandler.endElement(uri, localName, localName);
+
+        }
+
+    }
+
+    /**
+     * Return the attributes of the next value, which are read ahead if requested.
+     * The text of an object is kept until the attributes of the next value are returned.
+     */
+    private Attributes attributes(int valueType) {
+        if (attributes.position != -1) {
+            tokenizer.release(attributes.position);
+        }
+        if (valueType == JsonTokenizer.OBJECT) {
+            attributes.setPosition(tokenizer.mark());
+        } else {
+            attributes.setPosition(-1);
+        }
+        return attributes;
+    }
+
+    /**
+     * The attributes of an object, its simple values, read ahead from the position of the object when requested.
+     */
+    private class StreamAttributes extends IndexedAttributeList {
+
+        private long position = -1;
+
+        void setPosition(long position) {
+            reset();
+            this.position = position;
+        }
+
+        private void addSimpleAttribute(List<Attribute> attributes, String uri, String attributeLocalName, int valueType) throws IOException {
+            switch (valueType) {
+                case JsonTokenizer.STRING: {
+                    attributes.add(new Attribute(uri, attributeLocalName, attributeLocalName, tokenizer.readString()));
+                    break;
+                }
+                case JsonTokenizer.NUMBER: {
+                    attributes.add(new Attribute(uri, attributeLocalName, attributeLocalName, tokenizer.readNumber()));
+                    break;
+                }
+                case JsonTokenizer.FALSE: {
+                    tokenizer.readLiteral(FALSE);
+                    attributes.add(new Attribute(uri, attributeLocalName, attributeLocalName, FALSE));
+                    break;
+                }
+                case JsonTokenizer.TRUE: {
+                    tokenizer.readLiteral(TRUE);
+                    attributes.add(new Attribute(uri, attributeLocalName, attributeLocalName, TRUE));
+                    break;
+                }
+                default:
+                    tokenizer.skipValue();
+            }
+        }
+
+        @Override
+        public int getIndex(String uri, String localName) {
+            if (null == localName) {
+                return -1;
+            }
+            int index = 0;
+            for (Attribute attribute : attributes()) {
+                if (isNamespaceAware()) {
+                    if (localName.equals(attribute.getLocalName()) && uri.equals(attribute.getUri())) {
+                        return index;
+                    }
+                } else {
+                    if (attribute.getName().equals(localName)) {
+                        return index;
+                    }
+                }
+                index++;
+            }
+            return -1;
+        }
+
+        @Override
+        protected Attribute[] attributes() {
+            if (null == attributes) {
+                if (position == -1) {
+                    return NO_ATTRIBUTES;
+                }
+                long currentPosition = tokenizer.getPosition();
+                try {
+                    tokenizer.seek(position);
+                    attributes = readAttributes();
+                } catch (IOException e) {
+                    throw XMLMarshalException.unmarshalException(e);
+                } finally {
+                    tokenizer.seek(currentPosition);
+                }
+            }
+            return attributes;
+        }
+
+        private Attribute[] readAttributes() throws IOException {
+            List<Attribute> attributesList = new ArrayList<>();
+            NamespaceResolver namespaces = JsonStreamReader.this.namespaces;
+            tokenizer.expect('{');
+            for (boolean next = tokenizer.hasNext(true, '}'); next; next = tokenizer.hasNext(false, '}')) {
+                String attributeLocalName = tokenizer.readName();
+
+                if (attributePrefix != null) {
+                    if (attributeLocalName.startsWith(attributePrefix)) {
+                        attributeLocalName = attributeLocalName.substring(attributePrefix.length());
+                    } else {
+                        tokenizer.skipValue();
+                        continue;
+                    }
+                }
+
+                String uri = Constants.EMPTY_STRING;
+
+                if (isNamespaceAware() && namespaces != null) {
+                    if (attributeLocalName.length() > 2) {
+                        String prefix = Constants.EMPTY_STRING;
+                        int nsIndex = attributeLocalName.indexOf(getNamespaceSeparator(), 1);
+                        if (nsIndex > -1) {
+                            prefix = attributeLocalName.substring(0, nsIndex);
+                        }
+                        uri = namespaces.resolveNamespacePrefix(prefix);
+                        if (uri == null) {
+                            uri = namespaces.getDefaultNamespaceURI();
+                        } else {
+                            attributeLocalName = attributeLocalName.substring(nsIndex + 1);
+                        }
+                    } else {
+                        uri = namespaces.getDefaultNamespaceURI();
+                    }
+                }
+
+                int valueType = tokenizer.peekValue();
+                if (valueType == JsonTokenizer.ARRAY) {
+                    tokenizer.expect('[');
+                    boolean hasNext = tokenizer.hasNext(true, ']');
+                    if (!hasNext) {
+                        attributesList.add(new Attribute(uri, attributeLocalName, attributeLocalName, ""));
+                    }
+                    for (; hasNext; hasNext = tokenizer.hasNext(false, ']')) {
+                        addSimpleAttribute(attributesList, uri, attributeLocalName, tokenizer.peekValue());
+                    }
+                } else {
+                    addSimpleAttribute(attributesList, uri, attributeLocalName, valueType);
+                }
+            }
+            return attributesList.toArray(new Attribute[0]);
+        }
+
+    }
+
+}
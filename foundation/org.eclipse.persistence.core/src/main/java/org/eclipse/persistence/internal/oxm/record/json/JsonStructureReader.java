@@ -67,13 +67,13 @@
 
 public class JsonStructureReader extends XMLReaderAdapter {
 
-    private static final String TRUE = "true";
-    private static final String FALSE = "false";
-    private String attributePrefix = null;
-    private NamespaceResolver namespaces = null;
-    private boolean includeRoot;
-    private String textWrapper;
-    private Class<?> unmarshalClass;
+    protected static final String TRUE = "true";
+    protected static final String FALSE = "false";
+    protected String attributePrefix = null;
+    protected NamespaceResolver namespaces = null;
+    protected boolean includeRoot;
+    protected String textWrapper;
+    protected Class<?> unmarshalClass;
     private boolean isInCollection;
     private JsonStructure jsonStructure;
     private JsonAttributes attributes = new JsonAttributes();
@@ -81,7 +81,7 @@ public class JsonStructureReader extends XMLReaderAdapter {
     /**
      * If we should treat unqualified type property in JSON as MOXy type discriminator.
      */
-    private boolean jsonTypeCompatibility;
+    protected boolean jsonTypeCompatibility;
 
     public JsonStructureReader(Unmarshaller u) {
         this(u, null);
@@ -330,19 +330,7 @@ private void parsePair(String name, JsonValue jsonValue) throws SAXException {
             boolean isTextValue;
             int arraySize = jsonArray.size();
             if (arraySize == 0) {
-                if (contentHandler instanceof UnmarshalRecord || isUnmarshalRecordWithinAdapter()) {
-                    final UnmarshalRecord ur = this.contentHandler instanceof UnmarshalRecord ? (UnmarshalRecord) this.contentHandler : getUnmarshalRecordFromAdapter();
-                    XPathNode node = ur.getNonAttributeXPathNode(uri, parentLocalName, parentLocalName, null);
-                    if (node != null) {
-                        NodeValue nv = node.getNodeValue();
-                        if (nv == null && node.getTextNode() != null) {
-                            nv = node.getTextNode().getUnmarshalNodeValue();
-                        }
-                        if (nv != null && nv.isContainerValue()) {
-                            ur.getContainerInstance(((ContainerValue) nv));
-                        }
-                    }
-                }
+                startEmptyCollection(uri, parentLocalName);
             }
             startCollection();
 
@@ -351,33 +339,10 @@ private void parsePair(String name, JsonValue jsonValue) throws SAXException {
             if (contentHandler instanceof UnmarshalRecord || isUnmarshalRecordWithinAdapter()) {
                 final UnmarshalRecord contentHandler_ = contentHandler instanceof UnmarshalRecord ? (UnmarshalRecord) contentHandler : getUnmarshalRecordFromAdapter();
                 isTextValue = isTextValue(parentLocalName, contentHandler_);
-                UnmarshalRecord unmarshalRecord = contentHandler_;
-                if (unmarshalRecord.getUnmarshaller().isWrapperAsCollectionName()) {
-                    XPathNode unmarshalRecordXPathNode = unmarshalRecord.getXPathNode();
-                    if (null != unmarshalRecordXPathNode) {
-                        XPathFragment currentFragment = new XPathFragment();
-                        currentFragment.setLocalName(parentLocalName);
-                        currentFragment.setNamespaceURI(uri);
-                        currentFragment.setNamespaceAware(isNamespaceAware());
-                        XPathNode groupingXPathNode = unmarshalRecordXPathNode.getNonAttributeChildrenMap().get(currentFragment);
-                        if (groupingXPathNode != null) {
-                            if (groupingXPathNode.getUnmarshalNodeValue() instanceof CollectionGroupingElementNodeValue) {
-                                groupingXPathFragment = groupingXPathNode.getXPathFragment();
-                                contentHandler_.startElement(uri, parentLocalName, parentLocalName, new AttributesImpl());
-                                XPathNode itemXPathNode = groupingXPathNode.getNonAttributeChildren().get(0);
-                                itemXPathFragment = itemXPathNode.getXPathFragment();
-                            } else if (groupingXPathNode.getUnmarshalNodeValue() == null) {
-                                XPathNode itemXPathNode = groupingXPathNode.getNonAttributeChildren().get(0);
-                                if (itemXPathNode != null) {
-                                    if ((itemXPathNode.getUnmarshalNodeValue()).isContainerValue()) {
-                                        groupingXPathFragment = groupingXPathNode.getXPathFragment();
-                                        contentHandler_.startElement(uri, parentLocalName, parentLocalName, new AttributesImpl());
-                                        itemXPathFragment = itemXPathNode.getXPathFragment();
-                                    }
-                                }
-                            }
-                        }
-                    }
+                XPathNode groupingXPathNode = startGroupingElement(contentHandler_, uri, parentLocalName);
+                if (groupingXPathNode != null) {
+                    groupingXPathFragment = groupingXPathNode.getXPathFragment();
+                    itemXPathFragment = groupingXPathNode.getNonAttributeChildren().get(0).getXPathFragment();
                 }
 
                 for (JsonValue nextArrayValue : jsonArray) {
@@ -498,12 +463,61 @@ private void parsePair(String name, JsonValue jsonValue) throws SAXException {
 
     }
 
-    private UnmarshalRecord getUnmarshalRecordFromAdapter() {
+    /**
+     * Create the container of the collection mapped to the empty array.
+     */
+    protected void startEmptyCollection(String uri, String localName) {
+        if (contentHandler instanceof UnmarshalRecord || isUnmarshalRecordWithinAdapter()) {
+            final UnmarshalRecord ur = this.contentHandler instanceof UnmarshalRecord ? (UnmarshalRecord) this.contentHandler : getUnmarshalRecordFromAdapter();
+            XPathNode node = ur.getNonAttributeXPathNode(uri, localName, localName, null);
+            if (node != null) {
+                NodeValue nv = node.getNodeValue();
+                if (nv == null && node.getTextNode() != null) {
+                    nv = node.getTextNode().getUnmarshalNodeValue();
+                }
+                if (nv != null && nv.isContainerValue()) {
+                    ur.getContainerInstance(((ContainerValue) nv));
+                }
+            }
+        }
+    }
+
+    /**
+     * Start the grouping element of the collection mapped to the array, if the array is named as the wrapper.
+     * @return the grouping node, of which the first child is the item node, or null
+     */
+    protected XPathNode startGroupingElement(UnmarshalRecord unmarshalRecord, String uri, String localName) throws SAXException {
+        if (unmarshalRecord.getUnmarshaller().isWrapperAsCollectionName()) {
+            XPathNode unmarshalRecordXPathNode = unmarshalRecord.getXPathNode();
+            if (null != unmarshalRecordXPathNode) {
+                XPathFragment currentFragment = new XPathFragment();
+                currentFragment.setLocalName(localName);
+                currentFragment.setNamespaceURI(uri);
+                currentFragment.setNamespaceAware(isNamespaceAware());
+                XPathNode groupingXPathNode = unmarshalRecordXPathNode.getNonAttributeChildrenMap().get(currentFragment);
+                if (groupingXPathNode != null) {
+                    if (groupingXPathNode.getUnmarshalNodeValue() instanceof CollectionGroupingElementNodeValue) {
+                        unmarshalRecord.startElement(uri, localName, localName, new AttributesImpl());
+                        return groupingXPathNode;
+                    } else if (groupingXPathNode.getUnmarshalNodeValue() == null) {
+                        XPathNode itemXPathNode = groupingXPathNode.getNonAttributeChildren().get(0);
+                        if (itemXPathNode != null && itemXPathNode.getUnmarshalNodeValue().isContainerValue()) {
+                            unmarshalRecord.startElement(uri, localName, localName, new AttributesImpl());
+                            return groupingXPathNode;
+                        }
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    protected UnmarshalRecord getUnmarshalRecordFromAdapter() {
         return (UnmarshalRecord) ((ValidatingContentHandler) ((ExtendedContentHandlerAdapter) contentHandler)
                 .getContentHandler()).getContentHandler();
     }
 
-    private boolean isUnmarshalRecordWithinAdapter() {
+    protected boolean isUnmarshalRecordWithinAdapter() {
         return contentHandler instanceof ExtendedContentHandlerAdapter
                 && ((ExtendedContentHandlerAdapter) contentHandler)
                 .getContentHandler() instanceof ValidatingContentHandler
@@ -516,11 +530,11 @@ public boolean isNullRepresentedByXsiNil(AbstractNullPolicy nullPolicy) {
         return true;
     }
 
-    private void startCollection() {
+    protected void startCollection() {
         isInCollection = true;
     }
 
-    private void endCollection() {
+    protected void endCollection() {
         isInCollection = false;
     }
 
@@ -529,7 +543,7 @@ public boolean isInCollection() {
         return isInCollection;
     }
 
-    private boolean isTextValue(String localName, UnmarshalRecord contentHandler_) {
+    protected boolean isTextValue(String localName, UnmarshalRecord contentHandler_) {
         XPathNode currentNode = contentHandler_.getXPathNode();
         if (currentNode == null) {
             return textWrapper != null && textWrapper.equals(localName);
@@ -0,0 +1,501 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.oxm.record.json;
+
+import jakarta.json.JsonException;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * INTERNAL:
+ * <p><b>Purpose</b>: Pull tokenizer of JSON text, read through a char buffer without building a tree.
+ * <p><b>Description</b>: The positions returned by {@link #mark()} are absolute in the text,
+ * the buffer keeps the text from the first marked position so that the tokenizer can {@link #seek(long)}
+ * back to it, the text before the marks is discarded when the buffer is refilled.
+ * Values are read as they are reported by a jakarta.json JsonReader, numbers as their BigDecimal string.
+ */
+final class JsonTokenizer {
+
+    /** The type of the next value, as returned by {@link #peekValue()}. */
+    static final int OBJECT = 0;
+    static final int ARRAY = 1;
+    static final int STRING = 2;
+    static final int NUMBER = 3;
+    static final int TRUE = 4;
+    static final int FALSE = 5;
+    static final int NULL = 6;
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final Reader reader;
+    private char[] buffer = new char[BUFFER_SIZE];
+    /** The absolute position of the first char of the buffer. */
+    private long offset;
+    private int position;
+    private int limit;
+    private boolean eof;
+
+    /** The marked absolute positions, the text from the first is kept in the buffer. */
+    private long[] marks = new long[8];
+    private int markCount;
+
+    /** Reused to build the strings with escapes. */
+    private StringBuilder builder;
+
+    JsonTokenizer(Reader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * Create a tokenizer of the stream, its encoding is detected as specified by RFC 4627.
+     */
+    static JsonTokenizer create(InputStream inputStream) throws IOException {
+        InputStream in = inputStream.markSupported() ? inputStream : new BufferedInputStream(inputStream);
+        in.mark(4);
+        byte[] bytes = new byte[4];
+        int length = 0;
+        int read;
+        while (length < 4 && (read = in.read(bytes, length, 4 - length)) > 0) {
+            length += read;
+        }
+        in.reset();
+        Charset charset = StandardCharsets.UTF_8;
+        int bom = 0;
+        if (length >= 3 && (bytes[0] & 0xFF) == 0xEF && (bytes[1] & 0xFF) == 0xBB && (bytes[2] & 0xFF) == 0xBF) {
+            bom = 3;
+        } else if (length >= 4 && bytes[0] == 0 && bytes[1] == 0 && (bytes[2] & 0xFF) == 0xFE && (bytes[3] & 0xFF) == 0xFF) {
+            charset = Charset.forName("UTF-32BE");
+            bom = 4;
+        } else if (length >= 4 && (bytes[0] & 0xFF) == 0xFF && (bytes[1] & 0xFF) == 0xFE && bytes[2] == 0 && bytes[3] == 0) {
+            charset = Charset.forName("UTF-32LE");
+            bom = 4;
+        } else if (length >= 2 && (bytes[0] & 0xFF) == 0xFE && (bytes[1] & 0xFF) == 0xFF) {
+            charset = StandardCharsets.UTF_16BE;
+            bom = 2;
+        } else if (length >= 2 && (bytes[0] & 0xFF) == 0xFF && (bytes[1] & 0xFF) == 0xFE) {
+            charset = StandardCharsets.UTF_16LE;
+            bom = 2;
+        } else if (length >= 4 && bytes[0] == 0 && bytes[1] == 0 && bytes[2] == 0) {
+            charset = Charset.forName("UTF-32BE");
+        } else if (length >= 4 && bytes[1] == 0 && bytes[2] == 0 && bytes[3] == 0) {
+            charset = Charset.forName("UTF-32LE");
+        } else if (length >= 2 && bytes[0] == 0) {
+            charset = StandardCharsets.UTF_16BE;
+        } else if (length >= 2 && bytes[1] == 0) {
+            charset = StandardCharsets.UTF_16LE;
+        }
+        for (int index = 0; index < bom; index++) {
+            in.read();
+        }
+        return new JsonTokenizer(new InputStreamReader(in, charset));
+    }
+
+    /**
+     * Mark the current position, the text from the position is kept until released.
+     */
+    long mark() {
+        if (markCount == marks.length) {
+            marks = Arrays.copyOf(marks, markCount * 2);
+        }
+        long mark = offset + position;
+        marks[markCount++] = mark;
+        return mark;
+    }
+
+    /**
+     * Release the mark, the marks do not need to be released in order.
+     */
+    void release(long mark) {
+        for (int index = markCount - 1; index >= 0; index--) {
+            if (marks[index] == mark) {
+                System.arraycopy(marks, index + 1, marks, index, markCount - index - 1);
+                markCount--;
+                return;
+            }
+        }
+    }
+
+    /**
+     * Return the absolute position.
+     */
+    long getPosition() {
+        return offset + position;
+    }
+
+    /**
+     * Move to the absolute position, which must be marked or after the first mark.
+     */
+    void seek(long absolutePosition) {
+        position = (int) (absolutePosition - offset);
+    }
+
+    /**
+     * Read more text into the buffer, return false at the end of the text.
+     */
+    private boolean fill() throws IOException {
+        if (eof) {
+            return false;
+        }
+        long first = offset + position;
+        for (int index = 0; index < markCount; index++) {
+            first = Math.min(first, marks[index]);
+        }
+        int keep = (int) (first - offset);
+        if (keep > 0) {
+            // Discard the text before the first mark and the position.
+            System.arraycopy(buffer, keep, buffer, 0, limit - keep);
+            offset += keep;
+            position -= keep;
+            limit -= keep;
+        }
+        if (limit == buffer.length) {
+            buffer = Arrays.copyOf(buffer, buffer.length * 2);
+        }
+        int read = reader.read(buffer, limit, buffer.length - limit);
+        if (read <= 0) {
+            eof = true;
+            return false;
+        }
+        limit += read;
+        return true;
+    }
+
+    /**
+     * Skip the whitespace and return the next char without reading it, or -1 at the end of the text.
+     */
+    int peek() throws IOException {
+        while (true) {
+            while (position < limit) {
+                char character = buffer[position];
+                if (character != ' ' && character != '\n' && character != '\r' && character != '\t') {
+                    return character;
+                }
+                position++;
+            }
+            if (!fill()) {
+                return -1;
+            }
+        }
+    }
+
+    /**
+     * Return the type of the next value, without reading it.
+     */
+    int peekValue() throws IOException {
+        int character = peek();
+        switch (character) {
+            case '{':
+                return OBJECT;
+            case '[':
+                return ARRAY;
+            case '"':
+                return STRING;
+            case 't':
+                return TRUE;
+            case 'f':
+                return FALSE;
+            case 'n':
+                return NULL;
+            case '-':
+                return NUMBER;
+            default:
+                if (character >= '0' && character <= '9') {
+                    return NUMBER;
+                }
+                throw unexpected(character);
+        }
+    }
+
+    /**
+     * Read the next char, which must be the expected one.
+     */
+    void expect(char expected) throws IOException {
+        int character = peek();
+        if (character != expected) {
+            throw unexpected(character);
+        }
+        position++;
+    }
+
+    /**
+     * Return if the object or array has a next member, reading the separator or the closing char.
+     * @param first if it is the first member of the object or array
+     * @param end the closing char of the object or array
+     */
+    boolean hasNext(boolean first, char end) throws IOException {
+        int character = peek();
+        if (character == end) {
+            position++;
+            return false;
+        }
+        if (!first) {
+            if (character != ',') {
+                throw unexpected(character);
+            }
+            position++;
+        }
+        return true;
+    }
+
+    /**
+     * Read the name of the next object member and the name separator.
+     */
+    String readName() throws IOException {
+        String name = readString();
+        expect(':');
+        return name;
+    }
+
+    /**
+     * Read the string.
+     */
+    String readString() throws IOException {
+        expect('"');
+        int start = position;
+        while (position < limit) {
+            char character = buffer[position];
+            if (character == '"') {
+                return new String(buffer, start, position++ - start);
+            }
+            if (character == '\\' || character < 0x20) {
+                break;
+            }
+            position++;
+        }
+        // Escaped or not in the buffer.
+        if (builder == null) {
+            builder = new StringBuilder();
+        }
+        builder.setLength(0);
+        builder.append(buffer, start, position - start);
+        while (true) {
+            if (position == limit && !fill()) {
+                throw unexpected(-1);
+            }
+            char character = buffer[position++];
+            if (character == '"') {
+                return builder.toString();
+            } else if (character == '\\') {
+                builder.append(readEscape());
+            } else if (character < 0x20) {
+                throw unexpected(character);
+            } else {
+                builder.append(character);
+            }
+        }
+    }
+
+    private char readEscape() throws IOException {
+        if (position == limit && !fill()) {
+            throw unexpected(-1);
+        }
+        char character = buffer[position++];
+        switch (character) {
+            case '"':
+            case '\\':
+            case '/':
+                return character;
+            case 'b':
+                return '\b';
+            case 'f':
+                return '\f';
+            case 'n':
+                return '\n';
+            case 'r':
+                return '\r';
+            case 't':
+                return '\t';
+            case 'u': {
+                int value = 0;
+                for (int index = 0; index < 4; index++) {
+                    if (position == limit && !fill()) {
+                        throw unexpected(-1);
+                    }
+                    int digit = Character.digit(buffer[position++], 16);
+                    if (digit < 0) {
+                        throw unexpected(buffer[position - 1]);
+                    }
+                    value = (value << 4) | digit;
+                }
+                return (char) value;
+            }
+            default:
+                throw unexpected(character);
+        }
+    }
+
+    private void skipString() throws IOException {
+        expect('"');
+        while (true) {
+            while (position < limit) {
+                char character = buffer[position++];
+                if (character == '"') {
+                    return;
+                }
+                if (character == '\\') {
+                    readEscape();
+                } else if (character < 0x20) {
+                    throw unexpected(character);
+                }
+            }
+            if (!fill()) {
+                throw unexpected(-1);
+            }
+        }
+    }
+
+    /**
+     * Read the number, as the string of its BigDecimal unless it is an integer.
+     */
+    String readNumber() throws IOException {
+        peek();
+        long start = mark();
+        try {
+            if (buffer[position] == '-') {
+                position++;
+            }
+            boolean isZero = (position < limit || fill()) && buffer[position] == '0';
+            int digits = readDigits();
+            if (digits == 0 || (isZero && digits > 1)) {
+                throw unexpected(position < limit ? buffer[position] : -1);
+            }
+            boolean isExponent = false;
+            if ((position < limit || fill()) && buffer[position] == '.') {
+                position++;
+                if (readDigits() == 0) {
+                    throw unexpected(position < limit ? buffer[position] : -1);
+                }
+            }
+            if ((position < limit || fill()) && (buffer[position] == 'e' || buffer[position] == 'E')) {
+                position++;
+                isExponent = true;
+                if ((position < limit || fill()) && (buffer[position] == '+' || buffer[position] == '-')) {
+                    position++;
+                }
+                if (readDigits() == 0) {
+                    throw unexpected(position < limit ? buffer[position] : -1);
+                }
+            }
+            int begin = (int) (start - offset);
+            String number = new String(buffer, begin, position - begin);
+            // The text of the JsonNumber differs only for exponents, small decimals and -0.
+            if (isExponent || isZero) {
+                return new BigDecimal(number).toString();
+            }
+            return number;
+        } finally {
+            release(start);
+        }
+    }
+
+    private int readDigits() throws IOException {
+        int count = 0;
+        while (position < limit || fill()) {
+            char character = buffer[position];
+            if (character < '0' || character > '9') {
+                break;
+            }
+            position++;
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Read the literal true, false or null.
+     */
+    void readLiteral(String literal) throws IOException {
+        peek();
+        for (int index = 0, length = literal.length(); index < length; index++) {
+            if ((position == limit && !fill()) || buffer[position] != literal.charAt(index)) {
+                throw unexpected(position < limit ? buffer[position] : -1);
+            }
+            position++;
+        }
+    }
+
+    /**
+     * Skip the next value, including its nested values.
+     */
+    void skipValue() throws IOException {
+        switch (peekValue()) {
+            case OBJECT: {
+                position++;
+                boolean first = true;
+                while (hasNext(first, '}')) {
+                    first = false;
+                    skipString();
+                    expect(':');
+                    skipValue();
+                }
+                break;
+            }
+            case ARRAY: {
+                position++;
+                boolean first = true;
+                while (hasNext(first, ']')) {
+                    first = false;
+                    skipValue();
+                }
+                break;
+            }
+            case STRING:
+                skipString();
+                break;
+            case NUMBER:
+                readNumber();
+                break;
+            case TRUE:
+                readLiteral("true");
+                break;
+            case FALSE:
+                readLiteral("false");
+                break;
+            default:
+                readLiteral("null");
+        }
+    }
+
+    /**
+     * Check that there is only whitespace after the value.
+     */
+    void end() throws IOException {
+        int character = peek();
+        if (character != -1) {
+            throw unexpected(character);
+        }
+    }
+
+    void close() throws IOException {
+        reader.close();
+    }
+
+    private JsonException unexpected(int character) {
+        long at = offset + position;
+        if (character == -1) {
+            return new JsonException("Unexpected end of JSON text at position " + at);
+        }
+        return new JsonException("Unexpected char '" + (char) character + "' at position " + at);
+    }
+
+}
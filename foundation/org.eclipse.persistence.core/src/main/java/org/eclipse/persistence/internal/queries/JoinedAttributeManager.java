@@ -1085,9 +1085,9 @@ public AbstractRecord processDataResults(AbstractRecord row, Cursor cursor, bool
         while (true) {
             AbstractRecord nextRow = null;
             if (forward) {
-                nextRow = cursor.getAccessor().cursorRetrieveNextRow(cursor.getFields(), cursor.getResultSet(), session);
+                nextRow = cursor.getAccessor().cursorRetrieveNextRow(cursor.getFields(), cursor.getFieldsArray(), cursor.getResultSet(), session);
             } else {
-                nextRow = cursor.getAccessor().cursorRetrievePreviousRow(cursor.getFields(), cursor.getResultSet(), session);
+                nextRow = cursor.getAccessor().cursorRetrievePreviousRow(cursor.getFields(), cursor.getFieldsArray(), cursor.getResultSet(), session);
             }
             if (nextRow == null) {
                 break;
@@ -14,11 +14,14 @@
 //     Oracle - initial API and implementation from Oracle TopLink
 package org.eclipse.persistence.internal.sequencing;
 
+import java.util.Collection;
 import java.util.Map;
 import java.util.Queue;
 import java.util.Vector;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Handles the storage and allocation of sequence values.
@@ -43,7 +46,7 @@ public Queue<Object> getPreallocated(String sequenceName) {
             synchronized (preallocatedSequences) {
                 sequences = preallocatedSequences.get(sequenceName);
                 if (sequences == null) {
-                    sequences = new ConcurrentLinkedQueue<>();
+                    sequences = new PreallocatedSequences();
                     preallocatedSequences.put(sequenceName, sequences);
                 }
             }
@@ -93,4 +96,127 @@ public void initializePreallocated(String seqName) {
     public void setPreallocated(String seqName, Vector<?> sequences) {
         getPreallocated(seqName).addAll(sequences);
     }
+
+    /**
+     * INTERNAL:
+     * The preallocated values of a sequence.
+     * Keeps count of the values so the low watermark can be checked without traversing the queue,
+     * and the state of the asynchronous refill.
+     * <p>
+     * The asynchronous refill keeps a number of blocks of preallocated values ahead of the consumers,
+     * a refill is started once less values than that remain.
+     * The number of blocks adapts to the observed consumption rate:
+     * it is doubled if the consumers ran dry while the refill was running,
+     * and halved if a block takes much longer to consume than to allocate.
+     */
+    static class PreallocatedSequences extends ConcurrentLinkedQueue<Object> {
+        /** Maximum number of blocks kept ahead of the consumers. */
+        static final int MAX_BLOCKS = 8;
+
+        /** Halve the number of blocks if consuming a block is slower than this number of allocations. */
+        static final int SHRINK_RATIO = 64;
+
+        /** Number of preallocated values in the queue. */
+        protected final AtomicInteger count = new AtomicInteger();
+
+        /** Guards against starting more than one refill at a time. */
+        protected final AtomicBoolean isRefilling = new AtomicBoolean();
+
+        /** Number of blocks kept ahead of the consumers. */
+        protected volatile int blocks = 1;
+
+        /** Set if a consumer found no preallocated value while the refill was running. */
+        protected volatile boolean ranDry;
+
+        /** Time in nanos the last refill was started. */
+        protected volatile long lastRefillStart;
+
+        /** Time in nanos the last block took to allocate. */
+        protected volatile long allocationTime;
+
+        @Override
+        public boolean offer(Object sequence) {
+            super.offer(sequence);
+            this.count.incrementAndGet();
+            return true;
+        }
+
+        /**
+         * ConcurrentLinkedQueue appends the collection without calling offer,
+         * so the values are counted here.
+         */
+        @Override
+        public boolean addAll(Collection<?> sequences) {
+            boolean changed = super.addAll(sequences);
+            this.count.addAndGet(sequences.size());
+            return changed;
+        }
+
+        @Override
+        public Object poll() {
+            Object sequence = super.poll();
+            if (sequence != null) {
+                this.count.decrementAndGet();
+            } else if (this.isRefilling.get()) {
+                this.ranDry = true;
+            }
+            return sequence;
+        }
+
+        /**
+         * Return the number of preallocated values, without traversing the queue.
+         */
+        public int getCount() {
+            return this.count.get();
+        }
+
+        /**
+         * Return the number of blocks kept ahead of the consumers.
+         */
+        public int getBlocks() {
+            return this.blocks;
+        }
+
+        /**
+         * Return if less than the blocks kept ahead of the consumers remain.
+         */
+        public boolean isBelowWatermark(int preallocationSize) {
+            return this.count.get() < (this.blocks * preallocationSize);
+        }
+
+        /**
+         * Start a refill if below the low watermark and no refill is running.
+         * The number of blocks is adapted to the consumption since the last refill.
+         * @return true if the caller owns the refill and must call endRefill().
+         */
+        public boolean startRefill(int preallocationSize) {
+            if (!isBelowWatermark(preallocationSize) || !this.isRefilling.compareAndSet(false, true)) {
+                return false;
+            }
+            long now = System.nanoTime();
+            if (this.ranDry) {
+                this.ranDry = false;
+                this.blocks = Math.min(this.blocks * 2, MAX_BLOCKS);
+            } else if ((this.blocks > 1) && (this.lastRefillStart != 0)
+                    && ((now - this.lastRefillStart) > (this.allocationTime * SHRINK_RATIO))) {
+                this.blocks = this.blocks / 2;
+            }
+            this.lastRefillStart = now;
+            return true;
+        }
+
+        /**
+         * Record the time taken to allocate a block.
+         */
+        public void allocated(long time) {
+            this.allocationTime = time;
+        }
+
+        /**
+         * End the refill started by startRefill().
+         */
+        public void endRefill() {
+            this.isRefilling.set(false);
+        }
+    }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1998, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1998, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -122,6 +122,7 @@ class SequencingManager implements SequencingHome, SequencingServer, SequencingC
     private SequencingServer server;
     private Sequencing seq;
     private boolean shouldUseSeparateConnection;
+    private volatile boolean shouldUseAsynchronousPreallocation;
     private Login login;
     private int minPoolSize = -1;
     private int maxPoolSize = -1;
@@ -225,6 +226,16 @@ public void setShouldUseSeparateConnection(boolean shouldUseSeparateConnection)
         this.shouldUseSeparateConnection = shouldUseSeparateConnection;
     }
 
+    @Override
+    public boolean shouldUseAsynchronousPreallocation() {
+        return shouldUseAsynchronousPreallocation;
+    }
+
+    @Override
+    public void setShouldUseAsynchronousPreallocation(boolean shouldUseAsynchronousPreallocation) {
+        this.shouldUseAsynchronousPreallocation = shouldUseAsynchronousPreallocation;
+    }
+
     @Override
     public boolean isConnectedUsingSeparateConnection() {
         return isConnected() && (getConnectionHandler() != null);
@@ -362,6 +373,76 @@ protected void logDebugLocalPreallocation(AbstractSession writeSession, String s
         }
     }
 
+    /**
+     * Log the values allocated by an asynchronous refill.
+     */
+    protected void logDebugAsynchronousPreallocation(String seqName, Vector<?> sequences, int blocks) {
+        if (getOwnerSession().shouldLog(SessionLog.FINEST, SessionLog.SEQUENCING)) {
+            Object[] args = { seqName, sequences.size(), sequences.get(0), sequences.lastElement(), blocks };
+            getOwnerSession().log(SessionLog.FINEST, SessionLog.SEQUENCING, "sequencing_asyncPreallocation", args);
+        }
+    }
+
+    /**
+     * Return if the preallocated values for the context can be refilled asynchronously.
+     * The refill allocates through the owner session instead of the write session of the consumer,
+     * so it is only used by a ServerSession and not for a tenant specific context.
+     */
+    protected boolean shouldPrefetch(String context) {
+        return this.shouldUseAsynchronousPreallocation && "default".equals(context) && getOwnerSession().isServerSession();
+    }
+
+    /**
+     * Start an asynchronous refill of the preallocated values if less than the blocks kept ahead remain,
+     * so that the consumers do not wait on the database when the preallocated values run out.
+     * The refill allocates one block at a time holding the sequence lock, as a synchronous allocation does,
+     * so a consumer that runs dry waits on the lock and then uses the refilled values.
+     */
+    protected void prefetch(final RefillableState state, final Sequence sequence, Queue<Object> sequencesForName) {
+        final PreallocationHandler.PreallocatedSequences preallocated = (PreallocationHandler.PreallocatedSequences)sequencesForName;
+        final int preallocationSize = sequence.getPreallocationSize();
+        if (!preallocated.startRefill(preallocationSize)) {
+            return;
+        }
+        Runnable refill = new Runnable() {
+            @Override
+            public void run() {
+                String seqName = sequence.getName();
+                try {
+                    while (isConnected() && preallocated.isBelowWatermark(preallocationSize)) {
+                        ConcurrencyManager lock = acquireLock(seqName);
+                        try {
+                            // The consumers may have allocated synchronously meanwhile.
+                            if (!preallocated.isBelowWatermark(preallocationSize)) {
+                                break;
+                            }
+                            long start = System.nanoTime();
+                            Vector<?> sequences = state.allocateSequences(sequence, getOwnerSession());
+                            preallocated.allocated(System.nanoTime() - start);
+                            preallocated.addAll(sequences);
+                            logDebugAsynchronousPreallocation(seqName, sequences, preallocated.getBlocks());
+                        } finally {
+                            lock.release();
+                        }
+                    }
+                } catch (RuntimeException exception) {
+                    // The consumers allocate synchronously if the refill failed, or sequencing was disconnected.
+                    if (isConnected()) {
+                        getOwnerSession().logThrowable(SessionLog.WARNING, SessionLog.SEQUENCING, exception);
+                    }
+                } finally {
+                    preallocated.endRefill();
+                }
+            }
+        };
+        try {
+            getOwnerSession().getServerPlatform().launchContainerRunnable(refill);
+        } catch (RuntimeException exception) {
+            preallocated.endRefill();
+            throw exception;
+        }
+    }
+
     static abstract class State {
         abstract Object getNextValue(Sequence sequence, AbstractSession writeSession);
 
@@ -376,6 +457,17 @@ public String toString() {
         }
     }
 
+    /**
+     * A state that allocates sequence values without the write session of the consumer,
+     * so its preallocated values can be refilled asynchronously.
+     */
+    static abstract class RefillableState extends State {
+        /**
+         * Allocate the next block of sequence values, used by the asynchronous refill.
+         */
+        abstract Vector<?> allocateSequences(Sequence sequence, AbstractSession session);
+    }
+
     /**
      * Uses preallocation, uses transaction, no separate connection.
      * This is used for a DatabaseSession, or a ServerSession not using native sequencing,
@@ -595,16 +687,20 @@ public Object getNextValue(Sequence sequence, AbstractSession writeSession) {
      * This is used in a ServerSession with a sequence connection pool.
      * This is typically the default behavior.
      */
-    class Preallocation_Transaction_Accessor_State extends State {
+    class Preallocation_Transaction_Accessor_State extends RefillableState {
         @Override
         public Object getNextValue(Sequence sequence, AbstractSession writeSession) {
             String seqName = sequence.getName();
             if(sequence.getPreallocationSize() > 1) {
-                PreallocationHandler handler = getPreallocationHandler(getContext(writeSession));
+                String context = getContext(writeSession);
+                PreallocationHandler handler = getPreallocationHandler(context);
                 Queue<Object> sequencesForName = handler.getPreallocated(seqName);
                 // First try to get the next sequence value without locking.
                 Object sequenceValue = sequencesForName.poll();
                 if (sequenceValue != null) {
+                    if (shouldPrefetch(context)) {
+                        prefetch(this, sequence, sequencesForName);
+                    }
                     return sequenceValue;
                 }
                 // Sequences are empty, so must lock and allocate next batch of sequences.
@@ -614,60 +710,51 @@ public Object getNextValue(Sequence sequence, AbstractSession writeSession) {
                     if (sequenceValue != null) {
                         return sequenceValue;
                     }
-                    // note that accessor.getLogin().shouldUseExternalTransactionController()
-                    // should be set to false
-                    Accessor accessor = getConnectionHandler().acquireAccessor();
-                    try {
-                        accessor.beginTransaction(writeSession);
-                        try {
-                            Vector<?> sequences = sequence.getGeneratedVector(accessor, writeSession);
-                            accessor.commitTransaction(writeSession);
-                            // Remove the first value before adding to the global cache to ensure this thread gets one.
-                            sequenceValue = sequences.remove(0);
-                            // copy remaining values to global cache.
-                            handler.setPreallocated(seqName, sequences);
-                            logDebugPreallocation(seqName, sequenceValue, sequences);
-                        } catch (RuntimeException ex) {
-                            try {
-                                // make sure to rollback the transaction we've begun
-                                accessor.rollbackTransaction(writeSession);
-                            } catch (Exception rollbackException) {
-                                // ignore rollback exception
-                            }
-                            // don't eat the original exception
-                            throw ex;
-                        }
-                    } finally {
-                        getConnectionHandler().releaseAccessor(accessor);
-                    }
+                    Vector<?> sequences = allocateSequences(sequence, writeSession);
+                    // Remove the first value before adding to the global cache to ensure this thread gets one.
+                    sequenceValue = sequences.remove(0);
+                    // copy remaining values to global cache.
+                    handler.setPreallocated(seqName, sequences);
+                    logDebugPreallocation(seqName, sequenceValue, sequences);
                 } finally {
                     lock.release();
                 }
+                if (shouldPrefetch(context)) {
+                    prefetch(this, sequence, sequencesForName);
+                }
                 return sequenceValue;
             } else {
-                // note that accessor.getLogin().shouldUseExternalTransactionController()
-                // should be set to false
-                Accessor accessor = getConnectionHandler().acquireAccessor();
+                // preallocation size is 1 - just return the first (and only) element of the allocated vector.
+                return allocateSequences(sequence, writeSession).get(0);
+            }
+        }
+
+        /**
+         * Allocate the sequence values in a transaction on a sequencing connection.
+         */
+        @Override
+        Vector<?> allocateSequences(Sequence sequence, AbstractSession session) {
+            // note that accessor.getLogin().shouldUseExternalTransactionController()
+            // should be set to false
+            Accessor accessor = getConnectionHandler().acquireAccessor();
+            try {
+                accessor.beginTransaction(session);
                 try {
-                    accessor.beginTransaction(writeSession);
+                    Vector<?> sequences = sequence.getGeneratedVector(accessor, session);
+                    accessor.commitTransaction(session);
+                    return sequences;
+                } catch (RuntimeException ex) {
                     try {
-                        // preallocation size is 1 - just return the first (and only) element of the allocated vector.
-                        Object sequenceValue = sequence.getGeneratedVector(accessor, writeSession).get(0);
-                        accessor.commitTransaction(writeSession);
-                        return sequenceValue;
-                    } catch (RuntimeException ex) {
-                        try {
-                            // make sure to rollback the transaction we've begun
-                            accessor.rollbackTransaction(writeSession);
-                        } catch (Exception rollbackException) {
-                            // ignore rollback exception
-                        }
-                        // don't eat the original exception
-                        throw ex;
+                        // make sure to rollback the transaction we've begun
+                        accessor.rollbackTransaction(session);
+                    } catch (Exception rollbackException) {
+                        // ignore rollback exception
                     }
-                } finally {
-                    getConnectionHandler().releaseAccessor(accessor);
+                    // don't eat the original exception
+                    throw ex;
                 }
+            } finally {
+                getConnectionHandler().releaseAccessor(accessor);
             }
         }
     }
@@ -677,16 +764,20 @@ public Object getNextValue(Sequence sequence, AbstractSession writeSession) {
      * This is used by native sequence objects.
      * No transaction is required as sequence objects are non-transactional.
      */
-    class Preallocation_NoTransaction_State extends State {
+    class Preallocation_NoTransaction_State extends RefillableState {
         @Override
         public Object getNextValue(Sequence sequence, AbstractSession writeSession) {
             String seqName = sequence.getName();
             if(sequence.getPreallocationSize() > 1) {
-                PreallocationHandler handler = getPreallocationHandler(getContext(writeSession));
+                String context = getContext(writeSession);
+                PreallocationHandler handler = getPreallocationHandler(context);
                 Queue<Object> sequencesForName = handler.getPreallocated(seqName);
                 // First try to get the next sequence value without locking.
                 Object sequenceValue = sequencesForName.poll();
                 if (sequenceValue != null) {
+                    if (shouldPrefetch(context)) {
+                        prefetch(this, sequence, sequencesForName);
+                    }
                     return sequenceValue;
                 }
                 // Sequences are empty, so must lock and allocate next batch of sequences.
@@ -696,7 +787,7 @@ public Object getNextValue(Sequence sequence, AbstractSession writeSession) {
                     if (sequenceValue != null) {
                         return sequenceValue;
                     }
-                    Vector<?> sequences = sequence.getGeneratedVector(null, writeSession);
+                    Vector<?> sequences = allocateSequences(sequence, writeSession);
                     // Remove the first value before adding to the global cache to ensure this thread gets one.
                     sequenceValue = sequences.remove(0);
                     // copy remaining values to global cache.
@@ -705,12 +796,23 @@ public Object getNextValue(Sequence sequence, AbstractSession writeSession) {
                 } finally {
                     lock.release();
                 }
+                if (shouldPrefetch(context)) {
+                    prefetch(this, sequence, sequencesForName);
+                }
                 return sequenceValue;
             } else {
                 // preallocation size is 1 - just return the first (and only) element of the allocated vector.
-                return sequence.getGeneratedVector(null, writeSession).get(0);
+                return allocateSequences(sequence, writeSession).get(0);
             }
         }
+
+        /**
+         * Sequence objects are non-transactional, so the values are allocated through the session.
+         */
+        @Override
+        Vector<?> allocateSequences(Sequence sequence, AbstractSession session) {
+            return sequence.getGeneratedVector(null, session);
+        }
     }
 
     /**
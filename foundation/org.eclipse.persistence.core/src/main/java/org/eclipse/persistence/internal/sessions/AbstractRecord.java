@@ -323,6 +323,14 @@ public Object get(DatabaseField key) {
         }
     }
 
+    /**
+     * INTERNAL:
+     * Retrieve the value at the index of the row's fields.
+     */
+    public Object getValueAt(int index) {
+        return this.values.get(index);
+    }
+
     //----------------------------------------------------------------------------//
     public Object getValues(DatabaseField key) {
         return get(key);
@@ -120,7 +120,7 @@ public boolean containsKey(DatabaseField key) {
     public boolean containsValue(Object value) {
         if (this.valuesArray != null) {
             for (Object rowValue : this.valuesArray) {
-                if ((value == rowValue) || rowValue.equals(value)) {
+                if ((value == rowValue) || ((rowValue != null) && rowValue.equals(value))) {
                     return true;
                 }
             }
@@ -130,6 +130,18 @@ public boolean containsValue(Object value) {
         }
     }
 
+    /**
+     * INTERNAL:
+     * Retrieve the value at the index of the row's fields.
+     */
+    @Override
+    public Object getValueAt(int index) {
+        if (this.valuesArray != null) {
+            return this.valuesArray[index];
+        }
+        return super.getValueAt(index);
+    }
+
     /**
      * INTERNAL:
      * Retrieve the value for the field. If missing null is returned.
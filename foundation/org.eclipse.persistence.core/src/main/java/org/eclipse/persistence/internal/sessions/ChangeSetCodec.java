@@ -0,0 +1,698 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.sessions;
+
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.internal.identitymaps.CacheId;
+import org.eclipse.persistence.mappings.DatabaseMapping;
+import org.eclipse.persistence.sessions.Session;
+import org.eclipse.persistence.sessions.coordination.RemoteCommandManagerException;
+import org.eclipse.persistence.sessions.coordination.ServiceId;
+import org.eclipse.persistence.sessions.serializers.JavaSerializer;
+
+import java.io.StreamCorruptedException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * INTERNAL:
+ * <p>
+ * <b>Purpose</b>: Compact binary encoding of the UnitOfWorkChangeSet sent by cache coordination.
+ * </p>
+ * <p>
+ * <b>Description</b>: Descriptors and attributes are written as small integer ids,
+ * their index in the descriptors of the project sorted by class name and in the mappings
+ * of the descriptor sorted by attribute name. All services of a cluster share the same project,
+ * so derive the same ids, the hash of the names is written in the message and checked on decode.
+ * Values of common types are written with a one byte tag, integers as variable length zig-zag numbers,
+ * the write lock value as the difference with the initial write lock value, and the primary keys
+ * as the difference with the previous primary key of the same descriptor. Any other value is Java serialized.
+ * </p>
+ * <p>
+ * Only direct and object reference change records are supported, see {@link #canEncode(UnitOfWorkChangeSet)}.
+ * </p>
+ */
+public class ChangeSetCodec {
+
+    /** Value tags. */
+    protected static final byte NULL = 0;
+    protected static final byte STRING = 1;
+    protected static final byte INTEGER = 2;
+    protected static final byte LONG = 3;
+    protected static final byte BIG_DECIMAL = 4;
+    protected static final byte BIG_INTEGER = 5;
+    protected static final byte TRUE = 6;
+    protected static final byte FALSE = 7;
+    protected static final byte DOUBLE = 8;
+    protected static final byte FLOAT = 9;
+    protected static final byte SHORT = 10;
+    protected static final byte BYTE = 11;
+    protected static final byte CHARACTER = 12;
+    protected static final byte BYTES = 13;
+    protected static final byte CACHE_ID = 14;
+    protected static final byte DATE = 15;
+    protected static final byte SQL_DATE = 16;
+    protected static final byte TIMESTAMP = 17;
+    protected static final byte TIME = 18;
+    protected static final byte DELTA = 19;
+    protected static final byte SERIALIZED = 20;
+
+    /** Change record kinds. */
+    protected static final byte DIRECT = 0;
+    protected static final byte REFERENCE = 1;
+
+    /** Object change set flags. */
+    protected static final int SHOULD_BE_DELETED = 1;
+    protected static final int IS_INVALID = 2;
+    protected static final int IS_NEW = 4;
+    protected static final int HAS_VERSION_CHANGE = 8;
+    protected static final int HAS_SHOULD_MODIFY_VERSION_FIELD = 16;
+    protected static final int SHOULD_MODIFY_VERSION_FIELD = 32;
+
+    protected final Session session;
+    protected final ClassDescriptor[] descriptors;
+    protected final Map<String, Integer> descriptorIds;
+    protected final String[][] attributes;
+    protected final List<Map<String, Integer>> attributeIds;
+    protected final int schemaHash;
+
+    /**
+     * Build the descriptor and attribute ids of the session's project.
+     */
+    public ChangeSetCodec(Session session) {
+        this.session = session;
+        List<ClassDescriptor> sorted = new ArrayList<>(session.getProject().getDescriptors().values());
+        sorted.sort((left, right) -> left.getJavaClassName().compareTo(right.getJavaClassName()));
+        this.descriptors = sorted.toArray(new ClassDescriptor[sorted.size()]);
+        this.descriptorIds = new HashMap<>(this.descriptors.length * 2);
+        this.attributes = new String[this.descriptors.length][];
+        this.attributeIds = new ArrayList<>(this.descriptors.length);
+        int hash = 1;
+        for (int index = 0; index < this.descriptors.length; index++) {
+            ClassDescriptor descriptor = this.descriptors[index];
+            this.descriptorIds.put(descriptor.getJavaClassName(), index);
+            hash = 31 * hash + descriptor.getJavaClassName().hashCode();
+            List<DatabaseMapping> mappings = descriptor.getMappings();
+            String[] names = new String[mappings.size()];
+            for (int mappingIndex = 0; mappingIndex < names.length; mappingIndex++) {
+                names[mappingIndex] = mappings.get(mappingIndex).getAttributeName();
+            }
+            Arrays.sort(names);
+            Map<String, Integer> ids = new HashMap<>(names.length * 2);
+            for (int attributeIndex = 0; attributeIndex < names.length; attributeIndex++) {
+                ids.put(names[attributeIndex], attributeIndex);
+                hash = 31 * hash + names[attributeIndex].hashCode();
+            }
+            this.attributes[index] = names;
+            this.attributeIds.add(ids);
+        }
+        this.schemaHash = hash;
+    }
+
+    /**
+     * Return if all the object change sets of the change set and their change records can be encoded.
+     */
+    public boolean canEncode(UnitOfWorkChangeSet changeSet) {
+        Map<ObjectChangeSet, ObjectChangeSet> visited = new IdentityHashMap<>();
+        for (ObjectChangeSet objectChanges : changeSet.getAllChangeSets().keySet()) {
+            if (!canEncode(objectChanges, visited)) {
+                return false;
+            }
+        }
+        if (changeSet.hasDeletedObjects()) {
+            for (ObjectChangeSet objectChanges : changeSet.getDeletedObjects().keySet()) {
+                if (!canEncode(objectChanges, visited)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    protected boolean canEncode(ObjectChangeSet objectChanges, Map<ObjectChangeSet, ObjectChangeSet> visited) {
+        if (visited.put(objectChanges, objectChanges) != null) {
+            return true;
+        }
+        Integer descriptorId = this.descriptorIds.get(objectChanges.getClassName());
+        if ((descriptorId == null) || objectChanges.isAggregate()) {
+            return false;
+        }
+        if (isIdentityOnly(objectChanges) || (objectChanges.changes == null)) {
+            return true;
+        }
+        Map<String, Integer> ids = this.attributeIds.get(descriptorId);
+        for (org.eclipse.persistence.sessions.changesets.ChangeRecord record : objectChanges.changes) {
+            if (!ids.containsKey(record.getAttribute())) {
+                return false;
+            }
+            if (record.getClass() == ObjectReferenceChangeRecord.class) {
+                ObjectChangeSet target = (ObjectChangeSet)((ObjectReferenceChangeRecord)record).getNewValue();
+                if ((target != null) && !canEncode(target, visited)) {
+                    return false;
+                }
+            } else if (record.getClass() != DirectToFieldChangeRecord.class) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Only the identity of deleted and invalidated objects is sent, as with Java serialization.
+     */
+    protected static boolean isIdentityOnly(ObjectChangeSet objectChanges) {
+        int type = objectChanges.cacheSynchronizationType;
+        return objectChanges.shouldBeDeleted || (type == ClassDescriptor.DO_NOT_SEND_CHANGES) || (type == ClassDescriptor.INVALIDATE_CHANGED_OBJECTS);
+    }
+
+    /**
+     * Write the change set and the service id of its command to the buffer,
+     * the change set must be encodable, see {@link #canEncode(UnitOfWorkChangeSet)}.
+     * Return the buffer written to, a larger buffer is allocated if required.
+     */
+    public ByteBuffer encode(UnitOfWorkChangeSet changeSet, ServiceId serviceId, ByteBuffer buffer) {
+        Encoder encoder = new Encoder(buffer);
+        encoder.writeInt(this.schemaHash);
+        if (serviceId == null) {
+            encoder.writeString(null);
+        } else {
+            encoder.writeString(serviceId.getChannel());
+            encoder.writeString(serviceId.getId());
+            encoder.writeString(serviceId.getURL());
+        }
+        encoder.writeChangeSets(changeSet.getAllChangeSets().keySet().toArray(new ObjectChangeSet[0]));
+        if (changeSet.hasDeletedObjects()) {
+            encoder.writeChangeSets(changeSet.getDeletedObjects().keySet().toArray(new ObjectChangeSet[0]));
+        } else {
+            encoder.writeVarInt(0);
+        }
+        return encoder.buffer;
+    }
+
+    /**
+     * Read a change set written by {@link #encode(UnitOfWorkChangeSet, ServiceId, ByteBuffer)},
+     * the service id is set in the service id array.
+     * @throws RemoteCommandManagerException if the change set was encoded for a different project or is corrupt.
+     */
+    public UnitOfWorkChangeSet decode(ByteBuffer buffer, ServiceId[] serviceId) {
+        try {
+            Decoder decoder = new Decoder(buffer);
+            int hash = decoder.buffer.getInt();
+            if (hash != this.schemaHash) {
+                throw corrupt("The change set was encoded for a different project, schema hash: " + hash + " expected: " + this.schemaHash);
+            }
+            String channel = decoder.readString();
+            if (channel != null) {
+                serviceId[0] = new ServiceId(channel, decoder.readString(), decoder.readString());
+            }
+            UnitOfWorkChangeSet changeSet = new UnitOfWorkChangeSet();
+            decoder.changeSet = changeSet;
+            Map<ObjectChangeSet, ObjectChangeSet> allChangeSets = decoder.readChangeSets();
+            Map<ObjectChangeSet, ObjectChangeSet> deletedObjects = decoder.readChangeSets();
+            if (!allChangeSets.isEmpty()) {
+                changeSet.setAllChangeSets(allChangeSets);
+            }
+            if (!deletedObjects.isEmpty()) {
+                changeSet.setDeletedObjects(deletedObjects);
+            }
+            return changeSet;
+        } catch (BufferUnderflowException exception) {
+            throw RemoteCommandManagerException.errorSerializeOrDeserialzeCommand(exception);
+        }
+    }
+
+    /**
+     * Return the exception for a change set that can not be decoded.
+     */
+    protected static RemoteCommandManagerException corrupt(String message) {
+        return RemoteCommandManagerException.errorSerializeOrDeserialzeCommand(new StreamCorruptedException(message));
+    }
+
+    /**
+     * Return the index read from the change set, if it is in the range of the length.
+     */
+    protected static int checkIndex(int index, int length, String name) {
+        if ((index < 0) || (index >= length)) {
+            throw corrupt("Invalid " + name + ": " + index);
+        }
+        return index;
+    }
+
+    /**
+     * The state of the encoding of one change set.
+     */
+    protected class Encoder {
+        protected ByteBuffer buffer;
+        /** Change sets already written, referenced by their handle. */
+        protected Map<ObjectChangeSet, Integer> handles = new IdentityHashMap<>();
+        /** The last primary key written for each descriptor. */
+        protected Object[] previousIds = new Object[descriptors.length];
+
+        protected Encoder(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        protected void ensureCapacity(int size) {
+            if (this.buffer.remaining() < size) {
+                ByteBuffer larger = ByteBuffer.allocate(Math.max(this.buffer.capacity() * 2, this.buffer.position() + size));
+                this.buffer.flip();
+                larger.put(this.buffer);
+                this.buffer = larger;
+            }
+        }
+
+        /**
+         * Write the change sets by descriptor and primary key, so that consecutive keys are written as small differences.
+         */
+        protected void writeChangeSets(ObjectChangeSet[] changeSets) {
+            Arrays.sort(changeSets, (left, right) -> {
+                int compare = Integer.compare(descriptorIds.get(left.getClassName()), descriptorIds.get(right.getClassName()));
+                if ((compare == 0) && (left.id instanceof Comparable) && (right.id != null) && (left.id.getClass() == right.id.getClass())) {
+                    compare = ((Comparable)left.id).compareTo(right.id);
+                }
+                return compare;
+            });
+            writeVarInt(changeSets.length);
+            for (ObjectChangeSet objectChanges : changeSets) {
+                writeChangeSet(objectChanges);
+            }
+        }
+
+        protected void writeChangeSet(ObjectChangeSet objectChanges) {
+            if (objectChanges == null) {
+                writeVarInt(0);
+                return;
+            }
+            Integer handle = this.handles.get(objectChanges);
+            if (handle != null) {
+                writeVarInt(handle + 1);
+                return;
+            }
+            writeVarInt(0);
+            this.handles.put(objectChanges, this.handles.size());
+            int descriptorId = descriptorIds.get(objectChanges.getClassName());
+            writeVarInt(descriptorId + 1);
+            int flags = 0;
+            if (objectChanges.shouldBeDeleted) {
+                flags |= SHOULD_BE_DELETED;
+            }
+            if (objectChanges.isInvalid) {
+                flags |= IS_INVALID;
+            }
+            if (objectChanges.isNew) {
+                flags |= IS_NEW;
+            }
+            if (objectChanges.hasVersionChange) {
+                flags |= HAS_VERSION_CHANGE;
+            }
+            if (objectChanges.shouldModifyVersionField != null) {
+                flags |= HAS_SHOULD_MODIFY_VERSION_FIELD;
+                if (objectChanges.shouldModifyVersionField) {
+                    flags |= SHOULD_MODIFY_VERSION_FIELD;
+                }
+            }
+            ensureCapacity(1);
+            this.buffer.put((byte)flags);
+            writeVarLong(zigZag(objectChanges.cacheSynchronizationType));
+            writeValue(objectChanges.id, this.previousIds[descriptorId]);
+            if (objectChanges.id != null) {
+                this.previousIds[descriptorId] = objectChanges.id;
+            }
+            writeValue(objectChanges.initialWriteLockValue, null);
+            writeValue(objectChanges.writeLockValue, objectChanges.initialWriteLockValue);
+            if (isIdentityOnly(objectChanges)) {
+                return;
+            }
+            Map<String, Integer> ids = attributeIds.get(descriptorId);
+            List<org.eclipse.persistence.sessions.changesets.ChangeRecord> changes = objectChanges.getChanges();
+            writeVarInt(changes.size());
+            for (org.eclipse.persistence.sessions.changesets.ChangeRecord record : changes) {
+                writeVarInt(ids.get(record.getAttribute()));
+                if (record.getClass() == ObjectReferenceChangeRecord.class) {
+                    ensureCapacity(1);
+                    this.buffer.put(REFERENCE);
+                    writeChangeSet((ObjectChangeSet)((ObjectReferenceChangeRecord)record).getNewValue());
+                } else {
+                    ensureCapacity(1);
+                    this.buffer.put(DIRECT);
+                    writeValue(((DirectToFieldChangeRecord)record).getNewValue(), null);
+                }
+            }
+            writeValue(objectChanges.oldKey, null);
+            writeValue(objectChanges.newKey, null);
+            writeValue(objectChanges.protectedForeignKeys, null);
+        }
+
+        /**
+         * Write the value, as the difference with the base value if both are integers of the same type.
+         */
+        protected void writeValue(Object value, Object base) {
+            if (value == null) {
+                writeTag(NULL);
+                return;
+            }
+            Class<?> type = value.getClass();
+            if ((base != null) && (base.getClass() == type)) {
+                if ((type == Long.class) || (type == Integer.class)) {
+                    writeTag(DELTA);
+                    writeVarLong(zigZag(((Number)value).longValue() - ((Number)base).longValue()));
+                    return;
+                } else if ((type == BigDecimal.class) && isLong((BigDecimal)value) && isLong((BigDecimal)base)) {
+                    writeTag(DELTA);
+                    writeVarLong(zigZag(((BigDecimal)value).longValue() - ((BigDecimal)base).longValue()));
+                    return;
+                }
+            }
+            if (type == String.class) {
+                writeTag(STRING);
+                writeString((String)value);
+            } else if (type == Integer.class) {
+                writeTag(INTEGER);
+                writeVarLong(zigZag((Integer)value));
+            } else if (type == Long.class) {
+                writeTag(LONG);
+                writeVarLong(zigZag((Long)value));
+            } else if (type == BigDecimal.class) {
+                BigDecimal decimal = (BigDecimal)value;
+                writeTag(BIG_DECIMAL);
+                writeVarLong(zigZag(decimal.scale()));
+                writeBytes(decimal.unscaledValue().toByteArray());
+            } else if (type == BigInteger.class) {
+                writeTag(BIG_INTEGER);
+                writeBytes(((BigInteger)value).toByteArray());
+            } else if (type == Boolean.class) {
+                writeTag(((Boolean)value) ? TRUE : FALSE);
+            } else if (type == Double.class) {
+                writeTag(DOUBLE);
+                ensureCapacity(8);
+                this.buffer.putDouble((Double)value);
+            } else if (type == Float.class) {
+                writeTag(FLOAT);
+                ensureCapacity(4);
+                this.buffer.putFloat((Float)value);
+            } else if (type == Short.class) {
+                writeTag(SHORT);
+                writeVarLong(zigZag((Short)value));
+            } else if (type == Byte.class) {
+                writeTag(BYTE);
+                ensureCapacity(1);
+                this.buffer.put((Byte)value);
+            } else if (type == Character.class) {
+                writeTag(CHARACTER);
+                writeVarLong((Character)value);
+            } else if (type == byte[].class) {
+                writeTag(BYTES);
+                writeBytes((byte[])value);
+            } else if (type == CacheId.class) {
+                Object[] key = ((CacheId)value).getPrimaryKey();
+                writeTag(CACHE_ID);
+                writeVarInt(key.length);
+                for (Object element : key) {
+                    writeValue(element, null);
+                }
+            } else if (type == java.util.Date.class) {
+                writeTag(DATE);
+                writeVarLong(zigZag(((java.util.Date)value).getTime()));
+            } else if (type == java.sql.Date.class) {
+                writeTag(SQL_DATE);
+                writeVarLong(zigZag(((java.util.Date)value).getTime()));
+            } else if (type == java.sql.Timestamp.class) {
+                writeTag(TIMESTAMP);
+                writeVarLong(zigZag(((java.util.Date)value).getTime()));
+                writeVarInt(((java.sql.Timestamp)value).getNanos());
+            } else if (type == java.sql.Time.class) {
+                writeTag(TIME);
+                writeVarLong(zigZag(((java.util.Date)value).getTime()));
+            } else {
+                writeTag(SERIALIZED);
+                writeBytes((byte[])JavaSerializer.instance.serialize(value, session));
+            }
+        }
+
+        protected void writeTag(byte tag) {
+            ensureCapacity(1);
+            this.buffer.put(tag);
+        }
+
+        protected void writeInt(int value) {
+            ensureCapacity(4);
+            this.buffer.putInt(value);
+        }
+
+        protected void writeVarInt(int value) {
+            writeVarLong(value & 0xFFFFFFFFL);
+        }
+
+        protected void writeVarLong(long value) {
+            ensureCapacity(10);
+            while ((value & ~0x7FL) != 0) {
+                this.buffer.put((byte)((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            this.buffer.put((byte)value);
+        }
+
+        protected void writeBytes(byte[] bytes) {
+            writeVarInt(bytes.length);
+            ensureCapacity(bytes.length);
+            this.buffer.put(bytes);
+        }
+
+        /**
+         * Write the string as its UTF-8 bytes, the length is written first as 0 for null or length + 1.
+         */
+        protected void writeString(String value) {
+            if (value == null) {
+                writeVarInt(0);
+                return;
+            }
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarInt(bytes.length + 1);
+            ensureCapacity(bytes.length);
+            this.buffer.put(bytes);
+        }
+    }
+
+    /**
+     * The state of the decoding of one change set.
+     */
+    protected class Decoder {
+        protected ByteBuffer buffer;
+        protected UnitOfWorkChangeSet changeSet;
+        protected List<ObjectChangeSet> handles = new ArrayList<>();
+        protected Object[] previousIds = new Object[descriptors.length];
+
+        protected Decoder(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        protected Map<ObjectChangeSet, ObjectChangeSet> readChangeSets() {
+            // Each change set is written in at least one byte.
+            int size = checkLength(readVarInt());
+            Map<ObjectChangeSet, ObjectChangeSet> changeSets = new IdentityHashMap<>(size);
+            for (int index = 0; index < size; index++) {
+                ObjectChangeSet objectChanges = readChangeSet();
+                changeSets.put(objectChanges, objectChanges);
+            }
+            return changeSets;
+        }
+
+        protected ObjectChangeSet readChangeSet() {
+            int handle = readVarInt();
+            if (handle > 0) {
+                return this.handles.get(checkIndex(handle - 1, this.handles.size(), "change set handle"));
+            }
+            int descriptorId = readVarInt() - 1;
+            if (descriptorId < 0) {
+                return null;
+            }
+            ClassDescriptor descriptor = descriptors[checkIndex(descriptorId, descriptors.length, "descriptor id")];
+            ObjectChangeSet objectChanges = new ObjectChangeSet();
+            this.handles.add(objectChanges);
+            objectChanges.descriptor = descriptor;
+            objectChanges.classType = descriptor.getJavaClass();
+            objectChanges.className = descriptor.getJavaClassName();
+            objectChanges.unitOfWorkChangeSet = this.changeSet;
+            int flags = this.buffer.get();
+            objectChanges.shouldBeDeleted = (flags & SHOULD_BE_DELETED) != 0;
+            objectChanges.isInvalid = (flags & IS_INVALID) != 0;
+            objectChanges.isNew = (flags & IS_NEW) != 0;
+            objectChanges.hasVersionChange = (flags & HAS_VERSION_CHANGE) != 0;
+            if ((flags & HAS_SHOULD_MODIFY_VERSION_FIELD) != 0) {
+                objectChanges.shouldModifyVersionField = (flags & SHOULD_MODIFY_VERSION_FIELD) != 0;
+            }
+            objectChanges.cacheSynchronizationType = (int)unZigZag(readVarLong());
+            objectChanges.id = readValue(this.previousIds[descriptorId]);
+            if (objectChanges.id != null) {
+                this.previousIds[descriptorId] = objectChanges.id;
+            }
+            objectChanges.initialWriteLockValue = readValue(null);
+            objectChanges.writeLockValue = readValue(objectChanges.initialWriteLockValue);
+            if (isIdentityOnly(objectChanges)) {
+                return objectChanges;
+            }
+            String[] names = attributes[descriptorId];
+            int size = readVarInt();
+            for (int index = 0; index < size; index++) {
+                String attribute = names[checkIndex(readVarInt(), names.length, "attribute id")];
+                ChangeRecord record;
+                if (this.buffer.get() == REFERENCE) {
+                    ObjectReferenceChangeRecord reference = new ObjectReferenceChangeRecord(objectChanges);
+                    reference.setNewValue(readChangeSet());
+                    record = reference;
+                } else {
+                    DirectToFieldChangeRecord direct = new DirectToFieldChangeRecord(objectChanges);
+                    direct.setNewValue(readValue(null));
+                    record = direct;
+                }
+                record.setAttribute(attribute);
+                objectChanges.addChange(record);
+            }
+            objectChanges.oldKey = readValue(null);
+            objectChanges.newKey = readValue(null);
+            objectChanges.protectedForeignKeys = (AbstractRecord)readValue(null);
+            return objectChanges;
+        }
+
+        protected Object readValue(Object base) {
+            byte tag = this.buffer.get();
+            switch (tag) {
+                case NULL:
+                    return null;
+                case STRING:
+                    return readString();
+                case INTEGER:
+                    return (int)unZigZag(readVarLong());
+                case LONG:
+                    return unZigZag(readVarLong());
+                case BIG_DECIMAL:
+                    int scale = (int)unZigZag(readVarLong());
+                    return new BigDecimal(new BigInteger(readBytes()), scale);
+                case BIG_INTEGER:
+                    return new BigInteger(readBytes());
+                case TRUE:
+                    return Boolean.TRUE;
+                case FALSE:
+                    return Boolean.FALSE;
+                case DOUBLE:
+                    return this.buffer.getDouble();
+                case FLOAT:
+                    return this.buffer.getFloat();
+                case SHORT:
+                    return (short)unZigZag(readVarLong());
+                case BYTE:
+                    return this.buffer.get();
+                case CHARACTER:
+                    return (char)readVarLong();
+                case BYTES:
+                    return readBytes();
+                case CACHE_ID:
+                    Object[] key = new Object[checkLength(readVarInt())];
+                    for (int index = 0; index < key.length; index++) {
+                        key[index] = readValue(null);
+                    }
+                    return new CacheId(key);
+                case DATE:
+                    return new java.util.Date(unZigZag(readVarLong()));
+                case SQL_DATE:
+                    return new java.sql.Date(unZigZag(readVarLong()));
+                case TIMESTAMP:
+                    java.sql.Timestamp timestamp = new java.sql.Timestamp(unZigZag(readVarLong()));
+                    timestamp.setNanos(readVarInt());
+                    return timestamp;
+                case TIME:
+                    return new java.sql.Time(unZigZag(readVarLong()));
+                case DELTA:
+                    long delta = unZigZag(readVarLong());
+                    if (base instanceof Integer) {
+                        return (int)((Integer)base + delta);
+                    } else if (base instanceof Long) {
+                        return (Long)base + delta;
+                    } else if (base instanceof BigDecimal) {
+                        return BigDecimal.valueOf(((BigDecimal)base).longValue() + delta);
+                    }
+                    throw corrupt("Delta value without a base value");
+                case SERIALIZED:
+                    return JavaSerializer.instance.deserialize(readBytes(), session);
+                default:
+                    throw corrupt("Unknown value tag: " + tag);
+            }
+        }
+
+        /**
+         * Return the length read from the change set, if the remaining bytes hold it.
+         */
+        protected int checkLength(int length) {
+            if ((length < 0) || (length > this.buffer.remaining())) {
+                throw corrupt("Invalid length: " + length);
+            }
+            return length;
+        }
+
+        protected int readVarInt() {
+            return (int)readVarLong();
+        }
+
+        protected long readVarLong() {
+            long value = 0;
+            int shift = 0;
+            byte next;
+            do {
+                next = this.buffer.get();
+                value |= (long)(next & 0x7F) << shift;
+                shift += 7;
+            } while ((next & 0x80) != 0);
+            return value;
+        }
+
+        protected byte[] readBytes() {
+            byte[] bytes = new byte[checkLength(readVarInt())];
+            this.buffer.get(bytes);
+            return bytes;
+        }
+
+        protected String readString() {
+            int length = readVarInt() - 1;
+            if (length < 0) {
+                return null;
+            }
+            checkLength(length);
+            String value = new String(this.buffer.array(), this.buffer.arrayOffset() + this.buffer.position(), length, StandardCharsets.UTF_8);
+            this.buffer.position(this.buffer.position() + length);
+            return value;
+        }
+    }
+
+    protected static boolean isLong(BigDecimal value) {
+        return (value.scale() == 0) && (value.unscaledValue().bitLength() < 63);
+    }
+
+    protected static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    protected static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
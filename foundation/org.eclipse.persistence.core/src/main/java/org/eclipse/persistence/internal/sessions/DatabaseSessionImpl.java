@@ -61,6 +61,7 @@
 import org.eclipse.persistence.queries.ReadQuery;
 import org.eclipse.persistence.sequencing.Sequence;
 import org.eclipse.persistence.sequencing.SequencingControl;
+import org.eclipse.persistence.sessions.CachePreloader;
 import org.eclipse.persistence.sessions.DatasourceLogin;
 import org.eclipse.persistence.sessions.Login;
 import org.eclipse.persistence.sessions.SessionProfiler;
@@ -138,6 +139,12 @@ public class DatabaseSessionImpl extends AbstractSession implements org.eclipse.
     //Bug#3440544 Used to stop the attempt to login more than once.
     protected volatile boolean isLoggedIn;
 
+    /**
+     * INTERNAL:
+     * The preloader of the cache, if started, cancelled on logout.
+     */
+    protected CachePreloader cachePreloader;
+
     /**
      * INTERNAL:
      * Set the SequencingHome object used by the session.
@@ -994,6 +1001,11 @@ public void logout() throws DatabaseException {
             this.databaseEventListener.remove(this);
         }
 
+        if (this.cachePreloader != null) {
+            this.cachePreloader.cancel();
+            this.cachePreloader = null;
+        }
+
         // We're logging out so turn off change propagation.
         setShouldPropagateChanges(false);
 
@@ -1016,6 +1028,22 @@ public void logout() throws DatabaseException {
 
     }
 
+    /**
+     * PUBLIC:
+     * Return the preloader of the cache, if the cache is being or was preloaded.
+     */
+    public CachePreloader getCachePreloader() {
+        return cachePreloader;
+    }
+
+    /**
+     * INTERNAL:
+     * Set the preloader of the cache, it is cancelled if the session is logged out.
+     */
+    public void setCachePreloader(CachePreloader cachePreloader) {
+        this.cachePreloader = cachePreloader;
+    }
+
     /**
      * PUBLIC:
      * Initialize the time that this session got connected. This can help determine how long a session has been
@@ -879,6 +879,15 @@ public void invalidateQueryCache(Class<?> classThatChanged) {
         getIdentityMapManager().invalidateQueryCache(classThatChanged);
     }
 
+    /**
+     * ADVANCED:
+     * Invalidate/remove any results for the table from the query cache.
+     */
+    @Override
+    public void invalidateQueryCacheForTable(String tableName) {
+        getIdentityMapManager().invalidateQueryCacheForTable(tableName);
+    }
+
     /**
      * ADVANCED:
      * Set all of the objects from all identity maps to be invalid in the cache.
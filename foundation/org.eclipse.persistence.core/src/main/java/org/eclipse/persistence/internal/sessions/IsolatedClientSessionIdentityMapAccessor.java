@@ -269,25 +269,29 @@ protected Object getAndCloneCacheKeyFromParent(Object primaryKey, Object objectT
         // in which GC could remove the object and we would end up with a null pointer
         // as well we must inspect the cacheKey without locking on it.
         if ((cacheKey != null) && (shouldReturnInvalidatedObjects || !descriptor.getCacheInvalidationPolicy().isInvalidated(cacheKey))) {
-            cacheKey.getInstanceLock().lock();
-            try {
-                //if the object in the cachekey is null but the key is acquired then
-                //someone must be rebuilding it or creating a new one.  Sleep until
-                // it's finished. A plain wait here would be more efficient but we may not
-                // get notified for quite some time (ie deadlock) if the other thread
-                //is building the object.  Must wait and not sleep in order for the monitor to be released
-                objectFromCache = cacheKey.getObject();
+            // PERF: Only lock the cache key if its object is being built.
+            objectFromCache = cacheKey.getObject();
+            if (objectFromCache == null) {
+                cacheKey.getInstanceLock().lock();
                 try {
-                    while (cacheKey.isAcquired() && (objectFromCache == null)) {
-                        cacheKey.wait(5);
+                    //if the object in the cachekey is null but the key is acquired then
+                    //someone must be rebuilding it or creating a new one.  Sleep until
+                    // it's finished. A plain wait here would be more efficient but we may not
+                    // get notified for quite some time (ie deadlock) if the other thread
+                    //is building the object.  Must wait and not sleep in order for the monitor to be released
+                    objectFromCache = cacheKey.getObject();
+                    try {
+                        while (cacheKey.isAcquired() && (objectFromCache == null)) {
+                            cacheKey.wait(5);
+                        }
+                    } catch (InterruptedException ex) {
                     }
-                } catch (InterruptedException ex) {
-                }
-                if (objectFromCache == null) {
-                    return null;
+                    if (objectFromCache == null) {
+                        return null;
+                    }
+                } finally {
+                    cacheKey.getInstanceLock().unlock();
                 }
-            } finally {
-                cacheKey.getInstanceLock().unlock();
             }
         } else {
             return null;
@@ -548,6 +552,16 @@ public void invalidateQueryCache(Class<?> classThatChanged) {
         }
     }
 
+    /**
+     * Invalidate/remove any results for the table from the query cache.
+     * The table may be used by isolated and shared queries, so both caches are invalidated.
+     */
+    @Override
+    public void invalidateQueryCacheForTable(String tableName) {
+        getIdentityMapManager().invalidateQueryCacheForTable(tableName);
+        ((IsolatedClientSession)session).getParent().getIdentityMapAccessorInstance().invalidateQueryCacheForTable(tableName);
+    }
+
     /**
      * PUBLIC:
      * Reset the entire local object cache.
@@ -809,6 +809,63 @@ public void mergeObjectChanges(ObjectChangeSet changeSetToMergeFrom, UnitOfWorkC
         this.deferredSet = changeSetToMergeFrom.deferredSet;
     }
 
+    /**
+     * INTERNAL:
+     * Return a change set for cache coordination with the changes of this change set followed by the changes
+     * of the later change set of the same object, or null if the changes cannot be combined.
+     * Neither change set is modified, the change records are shared with the returned change set.
+     * An attribute changed by both change sets can only be combined if its earlier change record holds
+     * the new value of the attribute rather than changes to it, i.e. a direct, reference or transformation change.
+     */
+    public ObjectChangeSet coalesceChanges(ObjectChangeSet laterChangeSet, UnitOfWorkChangeSet mergeToChangeSet) {
+        if (this.isInvalid || laterChangeSet.isInvalid || this.shouldBeDeleted || laterChangeSet.shouldBeDeleted) {
+            return null;
+        }
+        // An invalidation of the object supersedes its changes.
+        if (laterChangeSet.cacheSynchronizationType == ClassDescriptor.INVALIDATE_CHANGED_OBJECTS) {
+            return laterChangeSet;
+        } else if (this.cacheSynchronizationType == ClassDescriptor.INVALIDATE_CHANGED_OBJECTS) {
+            return this;
+        }
+        // A version between the two change sets was not sent from here, the remote cache must check both versions.
+        Object writeLockValue = (this.writeLockValue == null) ? this.initialWriteLockValue : this.writeLockValue;
+        if ((laterChangeSet.initialWriteLockValue != null) && (writeLockValue != null) && !writeLockValue.equals(laterChangeSet.initialWriteLockValue)) {
+            return null;
+        }
+        Set<String> laterAttributes = new HashSet<>(laterChangeSet.getChangedAttributeNames());
+        List<org.eclipse.persistence.sessions.changesets.ChangeRecord> combinedChanges = new ArrayList<>(getChanges().size() + laterChangeSet.getChanges().size());
+        for (org.eclipse.persistence.sessions.changesets.ChangeRecord record : getChanges()) {
+            if (!laterAttributes.contains(record.getAttribute())) {
+                combinedChanges.add(record);
+            } else if (!((record instanceof DirectToFieldChangeRecord) || (record instanceof ObjectReferenceChangeRecord)
+                    || (record instanceof TransformationMappingChangeRecord))) {
+                return null;
+            }
+        }
+        combinedChanges.addAll(laterChangeSet.getChanges());
+        ObjectChangeSet combined = new ObjectChangeSet();
+        combined.id = this.id;
+        combined.classType = this.classType;
+        combined.className = this.className;
+        combined.descriptor = this.descriptor;
+        combined.isNew = this.isNew;
+        combined.cacheSynchronizationType = laterChangeSet.cacheSynchronizationType;
+        combined.changes = combinedChanges;
+        for (org.eclipse.persistence.sessions.changesets.ChangeRecord record : combinedChanges) {
+            combined.getAttributesToChanges().put(record.getAttribute(), record);
+        }
+        combined.unitOfWorkChangeSet = mergeToChangeSet;
+        combined.optimisticLockingPolicy = (this.optimisticLockingPolicy == null) ? laterChangeSet.optimisticLockingPolicy : this.optimisticLockingPolicy;
+        combined.initialWriteLockValue = (this.initialWriteLockValue == null) ? laterChangeSet.initialWriteLockValue : this.initialWriteLockValue;
+        combined.writeLockValue = (laterChangeSet.writeLockValue == null) ? this.writeLockValue : laterChangeSet.writeLockValue;
+        combined.hasVersionChange = this.hasVersionChange || laterChangeSet.hasVersionChange;
+        combined.shouldModifyVersionField = laterChangeSet.shouldModifyVersionField;
+        combined.oldKey = this.oldKey;
+        combined.newKey = laterChangeSet.newKey;
+        combined.protectedForeignKeys = (laterChangeSet.protectedForeignKeys == null) ? this.protectedForeignKeys : laterChangeSet.protectedForeignKeys;
+        return combined;
+    }
+
     /**
      * INTERNAL:
      * Helper method used by readObject to read a completely serialized change set from
@@ -210,6 +210,7 @@ protected static abstract class Prop {
             addProp(new CacheSizeProp());
             addProp(new CacheTypeProp());
             addProp(new BooleanProp(PersistenceUnitProperties.CACHE_SHARED_, "false"));
+            addProp(new BooleanProp(PersistenceUnitProperties.CACHE_PRELOAD_, "false"));
             addProp(new DescriptorCustomizerProp());
             addProp(new BatchWritingProp());
             addProp(new FlushClearCacheProp());
@@ -646,6 +647,7 @@ protected static class CacheTypeProp extends Prop {
                 {CacheType.SoftWeak, pcg + "SoftCacheWeakIdentityMap"},
                 {CacheType.HardWeak, pcg + "HardCacheWeakIdentityMap"},
                 {CacheType.Full, pcg + "FullIdentityMap"},
+                {CacheType.SegmentedCache, pcg + "SegmentedCacheIdentityMap"},
                 {CacheType.NONE, pcg + "NoIdentityMap"}
             };
         }
@@ -675,7 +677,8 @@ protected static class BatchWritingProp extends Prop {
                 BatchWriting.None,
                 BatchWriting.JDBC,
                 BatchWriting.Buffered,
-                BatchWriting.OracleJDBC
+                BatchWriting.OracleJDBC,
+                BatchWriting.JDBCGrouped
             };
         }
     }
@@ -19,6 +19,7 @@
 import org.eclipse.persistence.internal.identitymaps.CacheKey;
 import org.eclipse.persistence.mappings.DatabaseMapping;
 import org.eclipse.persistence.queries.FetchGroup;
+import org.eclipse.persistence.sessions.coordination.InvalidateObjectsCommand;
 
 import java.io.Serializable;
 import java.util.HashMap;
@@ -380,6 +381,31 @@ public UnitOfWorkChangeSet buildCacheCoordinationMergeChangeSet(AbstractSession
         return remoteChangeSet;
     }
 
+    /**
+     * INTERNAL:
+     * Return a command invalidating the changed and deleted objects on the remote sessions,
+     * for cache coordination propagating invalidations only.
+     * Only the class, id and new version of each object are sent, new objects are not sent.
+     * Return null if there is nothing to send.
+     */
+    public InvalidateObjectsCommand buildCacheCoordinationInvalidateCommand() {
+        InvalidateObjectsCommand command = new InvalidateObjectsCommand();
+        for (ObjectChangeSet changeSet : getAllChangeSets().values()) {
+            if (!changeSet.isNew() && (changeSet.getDescriptor().getCachePolicy().getCacheSynchronizationType() != ClassDescriptor.DO_NOT_SEND_CHANGES)) {
+                command.addObject(changeSet.getClassName(), changeSet.getId(), changeSet.getWriteLockValue());
+            }
+        }
+        for (ObjectChangeSet changeSet : getDeletedObjects().keySet()) {
+            if (changeSet.getDescriptor().getCachePolicy().getCacheSynchronizationType() != ClassDescriptor.DO_NOT_SEND_CHANGES) {
+                command.addObject(changeSet.getClassName(), changeSet.getId(), null);
+            }
+        }
+        if (command.size() == 0) {
+            return null;
+        }
+        return command;
+    }
+
     /**
      * Ensure the change set is populated for cache coordination.
      *
@@ -59,6 +59,14 @@ public void invalidateQueryCache(Class<?> classThatChanged) {
         this.session.getParent().getIdentityMapAccessor().invalidateQueryCache(classThatChanged);
     }
 
+    /**
+     * Invalidate/remove any results for the table from the query cache.
+     */
+    @Override
+    public void invalidateQueryCacheForTable(String tableName) {
+        this.session.getParent().getIdentityMapAccessor().invalidateQueryCacheForTable(tableName);
+    }
+
     /**
      * ADVANCED:
      * Clear the query class associated with the passed-in read query
@@ -173,22 +181,26 @@ protected Object getAndCloneCacheKeyFromParent(Object primaryKey, Object objectT
         // in which GC could remove the object and we would end up with a null pointer
         // as well we must inspect the cacheKey without locking on it.
         if ((cacheKey != null) && (shouldReturnInvalidatedObjects || !descriptor.getCacheInvalidationPolicy().isInvalidated(cacheKey))) {
-            cacheKey.getInstanceLock().lock();
-            try {
-                //if the object in the cachekey is null but the key is acquired then
-                //someone must be rebuilding it or creating a new one.  Sleep until
-                // it's finished. A plain wait here would be more efficient but we may not
-                // get notified for quite some time (ie deadlock) if the other thread
-                //is building the object.  Must wait and not sleep in order for the monitor to be released
-                objectFromCache = cacheKey.getObject();
+            // PERF: Only lock the cache key if its object is being built.
+            objectFromCache = cacheKey.getObject();
+            if (objectFromCache == null) {
+                cacheKey.getInstanceLock().lock();
                 try {
-                    while (cacheKey.isAcquired() && (objectFromCache == null)) {
-                        cacheKey.wait(5);
+                    //if the object in the cachekey is null but the key is acquired then
+                    //someone must be rebuilding it or creating a new one.  Sleep until
+                    // it's finished. A plain wait here would be more efficient but we may not
+                    // get notified for quite some time (ie deadlock) if the other thread
+                    //is building the object.  Must wait and not sleep in order for the monitor to be released
+                    objectFromCache = cacheKey.getObject();
+                    try {
+                        while (cacheKey.isAcquired() && (objectFromCache == null)) {
+                            cacheKey.wait(5);
+                        }
+                    } catch (InterruptedException ex) {
                     }
-                } catch (InterruptedException ex) {
+                } finally {
+                    cacheKey.getInstanceLock().unlock();
                 }
-            } finally {
-                cacheKey.getInstanceLock().unlock();
             }
 
             // check for inheritance.
@@ -44,6 +44,7 @@
 import org.eclipse.persistence.descriptors.ClassDescriptor;
 import org.eclipse.persistence.descriptors.DescriptorEvent;
 import org.eclipse.persistence.descriptors.DescriptorEventManager;
+import org.eclipse.persistence.descriptors.changetracking.DeferredChangeDetectionPolicy;
 import org.eclipse.persistence.descriptors.changetracking.ObjectChangePolicy;
 import org.eclipse.persistence.exceptions.DatabaseException;
 import org.eclipse.persistence.exceptions.DescriptorException;
@@ -93,6 +94,7 @@
 import org.eclipse.persistence.sessions.DatabaseRecord;
 import org.eclipse.persistence.sessions.Session;
 import org.eclipse.persistence.sessions.SessionProfiler;
+import org.eclipse.persistence.sessions.coordination.InvalidateObjectsCommand;
 import org.eclipse.persistence.sessions.coordination.MergeChangeSetCommand;
 
 import java.io.StringWriter;
@@ -106,6 +108,8 @@
 import java.util.Map;
 import java.util.Set;
 import java.util.Vector;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 import java.util.stream.Collectors;
 
 /**
@@ -255,6 +259,9 @@ public class UnitOfWorkImpl extends AbstractSession implements org.eclipse.persi
     /** Used for merging dependent values without use of WL SessionAccessor */
     protected static boolean SmartMerge = false;
 
+    /** Minimum number of objects calculated by each thread when calculating changes in parallel. */
+    protected static final int MIN_PARALLEL_CHANGE_CALCULATION_SIZE = 100;
+
     /** Kept reference of read lock objects*/
     protected Map<Object, Object> optimisticReadLockObjects;
 
@@ -379,6 +386,7 @@ public UnitOfWorkImpl(AbstractSession parent, ReferenceMode referenceMode) {
         this.queryTimeoutDefault = parent.queryTimeoutDefault;
         this.queryTimeoutUnitDefault = parent.queryTimeoutUnitDefault;
         this.shouldOptimizeResultSetAccess = parent.shouldOptimizeResultSetAccess;
+        this.parallelChangeCalculationThreshold = parent.parallelChangeCalculationThreshold;
         this.serializer = parent.serializer;
         this.isConcurrent = parent.isConcurrent;
         // Initialize the readOnlyClasses variable.
@@ -712,6 +720,10 @@ public UnitOfWorkChangeSet calculateChanges(Map registeredObjects, UnitOfWorkCha
         int allObjectsSize = allObjects.size();
         Map changedObjects = new IdentityHashMap(allObjectsSize);
         Map visitedNodes = new IdentityHashMap(allObjectsSize);
+        Map<Object, ObjectChangeSet> parallelChanges = null;
+        if ((this.parallelChangeCalculationThreshold > 0) && (allObjectsSize >= this.parallelChangeCalculationThreshold)) {
+            parallelChanges = calculateChangesInParallel(allObjects.keySet(), changeSet);
+        }
         while (objects.hasNext()) {
             Object object = objects.next();
 
@@ -730,6 +742,8 @@ public UnitOfWorkChangeSet calculateChanges(Map registeredObjects, UnitOfWorkCha
                 ObjectChangeSet changes = null;
                 if (isNew) {
                     changes = descriptor.getObjectChangePolicy().calculateChangesForNewObject(object, changeSet, this, descriptor, true);
+                } else if ((parallelChanges != null) && parallelChanges.containsKey(object)) {
+                    changes = parallelChanges.get(object);
                 } else {
                     changes = descriptor.getObjectChangePolicy().calculateChangesForExistingObject(object, changeSet, this, descriptor, true);
                 }
@@ -823,6 +837,109 @@ public UnitOfWorkChangeSet calculateChanges(Map registeredObjects, UnitOfWorkCha
         return changeSet;
     }
 
+    /**
+     * INTERNAL:
+     * Calculate the changes of the existing objects only requiring their comparison with their backup clone
+     * on the fork-join common pool. The objects are split into one partition per pool thread plus one calculated
+     * by the current thread, each partition calculates its changes into its own change set,
+     * the object change sets are then moved into the change set.
+     * Return the changes of each calculated clone (null if unchanged), or null if not worth calculating in parallel.
+     */
+    protected Map<Object, ObjectChangeSet> calculateChangesInParallel(Set objects, UnitOfWorkChangeSet changeSet) {
+        List<Object> clones = new ArrayList<>(objects.size());
+        List<ClassDescriptor> descriptors = new ArrayList<>(objects.size());
+        Map<ClassDescriptor, Boolean> parallelDescriptors = new IdentityHashMap<>();
+        for (Object object : objects) {
+            ClassDescriptor descriptor = getDescriptor(object);
+            Boolean isParallel = parallelDescriptors.get(descriptor);
+            if (isParallel == null) {
+                isParallel = canCalculateChangesInParallel(descriptor);
+                parallelDescriptors.put(descriptor, isParallel);
+            }
+            if (isParallel && !isCloneNewObject(object) && (changeSet.getObjectChangeSetForClone(object) == null)) {
+                clones.add(object);
+                descriptors.add(descriptor);
+            }
+        }
+        ForkJoinPool pool = ForkJoinPool.commonPool();
+        int partitions = Math.min(pool.getParallelism() + 1, clones.size() / MIN_PARALLEL_CHANGE_CALCULATION_SIZE);
+        if (partitions < 2) {
+            return null;
+        }
+        List<UnitOfWorkChangeSet> partitionChangeSets = new ArrayList<>(partitions);
+        List<Map<Object, ObjectChangeSet>> partitionChanges = new ArrayList<>(partitions);
+        List<Runnable> calculations = new ArrayList<>(partitions);
+        for (int partition = 0; partition < partitions; partition++) {
+            int start = (int)((long)clones.size() * partition / partitions);
+            int end = (int)((long)clones.size() * (partition + 1) / partitions);
+            UnitOfWorkChangeSet partitionChangeSet = new UnitOfWorkChangeSet(this);
+            Map<Object, ObjectChangeSet> changes = new IdentityHashMap<>(end - start);
+            partitionChangeSets.add(partitionChangeSet);
+            partitionChanges.add(changes);
+            calculations.add(() -> {
+                for (int index = start; index < end; index++) {
+                    Object clone = clones.get(index);
+                    ClassDescriptor descriptor = descriptors.get(index);
+                    changes.put(clone, descriptor.getObjectChangePolicy().calculateChangesForExistingObject(clone, partitionChangeSet, this, descriptor, true));
+                }
+            });
+        }
+        List<ForkJoinTask<?>> tasks = new ArrayList<>(partitions - 1);
+        for (int partition = 1; partition < partitions; partition++) {
+            tasks.add(pool.submit(calculations.get(partition)));
+        }
+        // Wait for all the partitions before throwing any failure, as they access the unit of work.
+        RuntimeException failure = null;
+        try {
+            calculations.get(0).run();
+        } catch (RuntimeException exception) {
+            failure = exception;
+        }
+        for (ForkJoinTask<?> task : tasks) {
+            try {
+                task.join();
+            } catch (RuntimeException exception) {
+                if (failure == null) {
+                    failure = exception;
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+        Map<Object, ObjectChangeSet> allChanges = new IdentityHashMap<>(clones.size());
+        for (int partition = 0; partition < partitions; partition++) {
+            for (Map.Entry<Object, ObjectChangeSet> entry : partitionChangeSets.get(partition).getCloneToObjectChangeSet().entrySet()) {
+                ObjectChangeSet changes = entry.getValue();
+                changes.setUOWChangeSet(changeSet);
+                changeSet.addObjectChangeSetForIdentity(changes, entry.getKey());
+            }
+            allChanges.putAll(partitionChanges.get(partition));
+        }
+        return allChanges;
+    }
+
+    /**
+     * INTERNAL:
+     * Return if the changes of the descriptor's existing objects can be calculated on another thread.
+     * This is only the case if the changes are calculated by comparing the direct attributes
+     * of the clone and its backup clone, with no events or other objects involved.
+     */
+    protected boolean canCalculateChangesInParallel(ClassDescriptor descriptor) {
+        if ((descriptor.getObjectChangePolicy().getClass() != DeferredChangeDetectionPolicy.class)
+                || descriptor.isDescriptorTypeAggregate() || descriptor.hasDerivedId()
+                || descriptor.getEventManager().hasAnyEventListeners() || descriptor.hasMappingsPostCalculateChanges()
+                || descriptor.hasCascadeLockingPolicies() || (descriptor.getCMPPolicy() != null)) {
+            return false;
+        }
+        for (DatabaseMapping mapping : descriptor.getMappings()) {
+            if (!mapping.isAbstractDirectMapping()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * INTERNAL:
      * Checks whether the receiver has been used. i.e. objects have been registered.
@@ -3472,11 +3589,19 @@ protected void mergeChangesIntoParent() {
                         uowChangeSet.addDeletedObjects(getObjectsDeletedDuringCommit(), this);
                     }
                     if (uowChangeSet.hasChanges()) {
-                        UnitOfWorkChangeSet remoteChangeSet = uowChangeSet.buildCacheCoordinationMergeChangeSet(this);
-                        if (remoteChangeSet != null) {
-                            MergeChangeSetCommand command = new MergeChangeSetCommand();
-                            command.setChangeSet(remoteChangeSet);
-                            this.parent.getCommandManager().propagateCommand(command);
+                        if (this.parent.getCommandManager().shouldPropagateInvalidationsOnly()) {
+                            // PERF: Only send the id and version of the changed objects, avoids building their full change sets.
+                            InvalidateObjectsCommand command = uowChangeSet.buildCacheCoordinationInvalidateCommand();
+                            if (command != null) {
+                                this.parent.getCommandManager().propagateCommand(command);
+                            }
+                        } else {
+                            UnitOfWorkChangeSet remoteChangeSet = uowChangeSet.buildCacheCoordinationMergeChangeSet(this);
+                            if (remoteChangeSet != null) {
+                                MergeChangeSetCommand command = new MergeChangeSetCommand();
+                                command.setChangeSet(remoteChangeSet);
+                                this.parent.getCommandManager().propagateCommand(command);
+                            }
                         }
                     }
                 }
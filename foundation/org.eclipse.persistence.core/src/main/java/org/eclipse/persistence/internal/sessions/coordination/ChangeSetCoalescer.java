@@ -0,0 +1,295 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.sessions.coordination;
+
+import org.eclipse.persistence.internal.sessions.ObjectChangeSet;
+import org.eclipse.persistence.internal.sessions.UnitOfWorkChangeSet;
+import org.eclipse.persistence.sessions.SessionProfiler;
+import org.eclipse.persistence.sessions.coordination.MergeChangeSetCommand;
+import org.eclipse.persistence.sessions.coordination.RemoteCommandManager;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * <p>
+ * <b>Purpose</b>: Coalesce the change sets propagated by a RemoteCommandManager into batches.
+ * </p>
+ * <p>
+ * <b>Description</b>: Instead of propagating one MergeChangeSetCommand per committed unit of work,
+ * the change sets are collected until the batch delay has elapsed since the first change set of the batch,
+ * or the batch holds the maximum number of object change sets. The batch is then propagated as a single
+ * MergeChangeSetCommand, so the remote services merge it in one pass.
+ * Changes of the same object are combined into one object change set, a deletion replaces the changes
+ * of the object. If the changes of an object cannot be combined (see ObjectChangeSet#coalesceChanges),
+ * the current batch is propagated first to preserve the order of the changes.
+ * The batches are propagated one at a time, in the order they were taken, whichever thread propagates them.
+ * </p>
+ *
+ * @see RemoteCommandManager#setChangeSetBatchDelay(long)
+ * @see RemoteCommandManager#setChangeSetBatchSize(int)
+ */
+public class ChangeSetCoalescer {
+
+    /** Reference to manager to propagate the batches. */
+    protected RemoteCommandManager rcm;
+
+    /** Milliseconds a batch is collected before being propagated. */
+    protected long delay;
+
+    /** Number of object change sets that causes a batch to be propagated immediately. */
+    protected int maxSize;
+
+    /** The change sets of the current batch by class name, changes and deletions are kept separately. */
+    protected Map<String, Map<ObjectChangeSet, ObjectChangeSet>> changes;
+    protected Map<String, Map<ObjectChangeSet, ObjectChangeSet>> deletions;
+
+    /** Number of object change sets in the current batch. */
+    protected int size;
+
+    /** Number of unit of work change sets coalesced into the current batch. */
+    protected int count;
+
+    /** Incremented for each batch taken, so that the timer of a previous batch does not propagate the current one. */
+    protected long batchNumber;
+
+    /** The batches taken and not yet propagated, in the order they were taken. */
+    protected Deque<UnitOfWorkChangeSet> pendingBatches;
+
+    /** Held while propagating the pending batches, so that a batch is never propagated before a previous one. */
+    protected final Object propagationLock = new Object();
+
+    public ChangeSetCoalescer(RemoteCommandManager rcm, long delay, int maxSize) {
+        this.rcm = rcm;
+        this.delay = delay;
+        this.maxSize = maxSize;
+        this.changes = new HashMap<>();
+        this.deletions = new HashMap<>();
+        this.pendingBatches = new ArrayDeque<>();
+    }
+
+    /**
+     * INTERNAL:
+     * Add the change set to the current batch, the batch is propagated if full
+     * or if the change set cannot be combined with it.
+     */
+    public void addChangeSet(UnitOfWorkChangeSet changeSet) {
+        boolean isQueued = false;
+        boolean isStarted = false;
+        long startedBatchNumber;
+        synchronized (this) {
+            Map<ObjectChangeSet, ObjectChangeSet> combined = coalesce(changeSet);
+            if (combined == null) {
+                isQueued = queueBatch();
+                combined = coalesce(changeSet);
+            }
+            isStarted = this.count == 0;
+            startedBatchNumber = this.batchNumber;
+            add(changeSet, combined);
+            if (this.size >= this.maxSize) {
+                isQueued = queueBatch() || isQueued;
+                isStarted = false;
+            }
+        }
+        if (isQueued) {
+            propagatePendingBatches();
+        }
+        if (isStarted) {
+            startTimer(startedBatchNumber);
+        }
+    }
+
+    /**
+     * Start the timer propagating the batch once the delay has elapsed.
+     */
+    protected void startTimer(long startedBatchNumber) {
+        this.rcm.getServerPlatform().launchContainerRunnable(() -> propagateAfterDelay(startedBatchNumber));
+    }
+
+    /**
+     * Return the object changes of the change set combined with the changes of the current batch,
+     * or null if some cannot be combined.
+     */
+    protected Map<ObjectChangeSet, ObjectChangeSet> coalesce(UnitOfWorkChangeSet changeSet) {
+        Map<ObjectChangeSet, ObjectChangeSet> combined = new IdentityHashMap<>();
+        for (ObjectChangeSet objectChanges : changeSet.getAllChangeSets().keySet()) {
+            if (getChangeSet(this.deletions, objectChanges) != null) {
+                // The object was deleted and inserted again.
+                return null;
+            }
+            ObjectChangeSet pending = getChangeSet(this.changes, objectChanges);
+            if (pending == null) {
+                combined.put(objectChanges, objectChanges);
+            } else {
+                ObjectChangeSet coalesced = pending.coalesceChanges(objectChanges, (UnitOfWorkChangeSet)objectChanges.getUOWChangeSet());
+                if (coalesced == null) {
+                    return null;
+                }
+                combined.put(objectChanges, coalesced);
+            }
+        }
+        return combined;
+    }
+
+    /**
+     * Add the combined object changes and the deletions of the change set to the current batch.
+     */
+    protected void add(UnitOfWorkChangeSet changeSet, Map<ObjectChangeSet, ObjectChangeSet> combined) {
+        for (ObjectChangeSet objectChanges : combined.values()) {
+            if (putChangeSet(this.changes, objectChanges) == null) {
+                this.size++;
+            }
+        }
+        if (changeSet.hasDeletedObjects()) {
+            for (ObjectChangeSet deletion : changeSet.getDeletedObjects().keySet()) {
+                Map<ObjectChangeSet, ObjectChangeSet> classChanges = this.changes.get(deletion.getClassName());
+                if ((classChanges != null) && (classChanges.remove(deletion) != null)) {
+                    this.size--;
+                }
+                if (putChangeSet(this.deletions, deletion) == null) {
+                    this.size++;
+                }
+            }
+        }
+        this.count++;
+    }
+
+    protected ObjectChangeSet getChangeSet(Map<String, Map<ObjectChangeSet, ObjectChangeSet>> changeSets, ObjectChangeSet objectChanges) {
+        Map<ObjectChangeSet, ObjectChangeSet> classChangeSets = changeSets.get(objectChanges.getClassName());
+        return (classChangeSets == null) ? null : classChangeSets.get(objectChanges);
+    }
+
+    /**
+     * Put the change set in its class map, the change set of the same object is replaced and returned.
+     */
+    protected ObjectChangeSet putChangeSet(Map<String, Map<ObjectChangeSet, ObjectChangeSet>> changeSets, ObjectChangeSet objectChanges) {
+        Map<ObjectChangeSet, ObjectChangeSet> classChangeSets = changeSets.computeIfAbsent(objectChanges.getClassName(), name -> new HashMap<>());
+        ObjectChangeSet previous = classChangeSets.remove(objectChanges);
+        classChangeSets.put(objectChanges, objectChanges);
+        return previous;
+    }
+
+    /**
+     * Queue the current batch as a change set to be propagated and start a new one.
+     * Return false if the batch is empty.
+     */
+    protected boolean queueBatch() {
+        if (this.count == 0) {
+            return false;
+        }
+        Map<ObjectChangeSet, ObjectChangeSet> allChangeSets = new IdentityHashMap<>(this.size);
+        for (Map<ObjectChangeSet, ObjectChangeSet> classChanges : this.changes.values()) {
+            for (ObjectChangeSet objectChanges : classChanges.values()) {
+                allChangeSets.put(objectChanges, objectChanges);
+            }
+        }
+        Map<ObjectChangeSet, ObjectChangeSet> deletedObjects = new IdentityHashMap<>();
+        for (Map<ObjectChangeSet, ObjectChangeSet> classDeletions : this.deletions.values()) {
+            for (ObjectChangeSet deletion : classDeletions.values()) {
+                deletedObjects.put(deletion, deletion);
+            }
+        }
+        UnitOfWorkChangeSet batch = new UnitOfWorkChangeSet();
+        batch.setAllChangeSets(allChangeSets);
+        batch.setDeletedObjects(deletedObjects);
+        if (this.rcm.shouldLogDebugMessage()) {
+            Object[] args = { allChangeSets.size() + deletedObjects.size(), this.count };
+            this.rcm.logDebugWithoutLevelCheck("propagate_coalesced_change_sets", args);
+        }
+        this.changes = new HashMap<>();
+        this.deletions = new HashMap<>();
+        this.size = 0;
+        this.count = 0;
+        this.batchNumber++;
+        this.pendingBatches.add(batch);
+        return true;
+    }
+
+    /**
+     * Propagate the pending batches in the order they were taken.
+     * A batch queued by another thread while the lock is held is propagated by the thread holding it.
+     */
+    protected void propagatePendingBatches() {
+        synchronized (this.propagationLock) {
+            UnitOfWorkChangeSet batch = pollPendingBatch();
+            while (batch != null) {
+                propagate(batch);
+                batch = pollPendingBatch();
+            }
+        }
+    }
+
+    protected synchronized UnitOfWorkChangeSet pollPendingBatch() {
+        return this.pendingBatches.poll();
+    }
+
+    /**
+     * INTERNAL:
+     * Propagate the current batch, this is called when the command manager is shut down.
+     */
+    public void flush() {
+        boolean isQueued;
+        synchronized (this) {
+            isQueued = queueBatch();
+        }
+        if (isQueued) {
+            this.rcm.getCommandProcessor().startOperationProfile(SessionProfiler.CacheCoordination);
+            try {
+                propagatePendingBatches();
+            } finally {
+                this.rcm.getCommandProcessor().endOperationProfile(SessionProfiler.CacheCoordination);
+            }
+        }
+    }
+
+    /**
+     * Propagate the batch as one MergeChangeSetCommand.
+     */
+    protected void propagate(UnitOfWorkChangeSet batch) {
+        MergeChangeSetCommand command = new MergeChangeSetCommand();
+        command.setChangeSet(batch);
+        command.setServiceId(this.rcm.getServiceId());
+        this.rcm.propagateConvertedCommand(command, command);
+    }
+
+    /**
+     * Propagate the batch once the delay has elapsed, unless it was already propagated.
+     * This is executed by the timer thread started for the first change set of the batch.
+     */
+    protected void propagateAfterDelay(long startedBatchNumber) {
+        try {
+            Thread.sleep(this.delay);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+        boolean isQueued = false;
+        synchronized (this) {
+            if (this.batchNumber == startedBatchNumber) {
+                isQueued = queueBatch();
+            }
+        }
+        if (isQueued) {
+            this.rcm.getCommandProcessor().startOperationProfile(SessionProfiler.CacheCoordination);
+            try {
+                propagatePendingBatches();
+            } finally {
+                this.rcm.getCommandProcessor().endOperationProfile(SessionProfiler.CacheCoordination);
+            }
+        }
+    }
+}
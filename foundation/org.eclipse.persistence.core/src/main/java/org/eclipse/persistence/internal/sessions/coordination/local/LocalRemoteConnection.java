@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.sessions.coordination.local;
+
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.internal.sessions.coordination.broadcast.BroadcastRemoteConnection;
+import org.eclipse.persistence.sessions.coordination.RemoteCommandManager;
+import org.eclipse.persistence.sessions.coordination.local.LocalTransportManager;
+import org.eclipse.persistence.sessions.serializers.JavaSerializer;
+import org.eclipse.persistence.sessions.serializers.Serializer;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <p>
+ * <b>Purpose</b>: Connection of a LocalTransportManager to the services of the same JVM.
+ * </p><p>
+ * <b>Description</b>: The local (listening) connections are registered by topic name in a static registry.
+ * The external (publishing) connection delivers each command to the local connections
+ * of the other services of the topic, serialized as it would be by a remote transport,
+ * after the latency and unless lost as decided by its LocalTransportManager.
+ * </p>
+ */
+public class LocalRemoteConnection extends BroadcastRemoteConnection {
+
+    /** The local connections of each topic. */
+    protected static final Map<String, List<LocalRemoteConnection>> topics = new ConcurrentHashMap<>();
+
+    /** Used to number the messages for debug logging. */
+    protected static final AtomicLong messageCount = new AtomicLong();
+
+    protected boolean isLocal;
+
+    /**
+     * INTERNAL:
+     * Create the connection, a local connection is registered to receive the commands published to the topic.
+     */
+    public LocalRemoteConnection(RemoteCommandManager rcm, boolean isLocalConnectionBeingCreated) {
+        super(rcm);
+        this.isLocal = isLocalConnectionBeingCreated;
+        if (isLocalConnectionBeingCreated) {
+            topics.compute(this.topicName, (name, subscribers) -> {
+                if (subscribers == null) {
+                    subscribers = new CopyOnWriteArrayList<>();
+                }
+                subscribers.add(this);
+                return subscribers;
+            });
+            rcm.logDebug("broadcast_connection_start_listening", getInfo());
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Indicates whether the connection is local (listening) or external (publishing).
+     */
+    public boolean isLocal() {
+        return isLocal;
+    }
+
+    /**
+     * INTERNAL:
+     * Deliver the command to the local connections of the other services of the topic.
+     * This method is used only by external (publishing) connection.
+     */
+    @Override
+    protected Object executeCommandInternal(Object command) throws Exception {
+        String messageId = null;
+        Object[] debugInfo = null;
+        if (this.rcm.shouldLogDebugMessage()) {
+            messageId = String.valueOf(messageCount.incrementAndGet());
+            debugInfo = logDebugBeforePublish(messageId);
+        }
+        // A command not serialized by the command manager is copied as it would be by an object message.
+        Serializer serializer = null;
+        byte[] bytes;
+        if (command instanceof byte[]) {
+            bytes = (byte[])command;
+        } else {
+            serializer = JavaSerializer.instance;
+            bytes = (byte[])serializer.serialize(command, null);
+        }
+        LocalTransportManager transport = (LocalTransportManager)this.rcm.getTransportManager();
+        List<LocalRemoteConnection> subscribers = topics.get(this.topicName);
+        if (subscribers != null) {
+            for (LocalRemoteConnection subscriber : subscribers) {
+                if ((subscriber.rcm == this.rcm) || !transport.shouldDeliver(subscriber.getServiceId())) {
+                    continue;
+                }
+                long latency = transport.getLatency(subscriber.getServiceId());
+                if (latency > 0) {
+                    final Serializer messageSerializer = serializer;
+                    final String id = messageId;
+                    this.rcm.getServerPlatform().launchContainerRunnable(() -> {
+                        try {
+                            Thread.sleep(latency);
+                        } catch (InterruptedException exception) {
+                            Thread.currentThread().interrupt();
+                        }
+                        subscriber.onMessage(bytes, messageSerializer, id);
+                    });
+                } else {
+                    subscriber.onMessage(bytes, serializer, messageId);
+                }
+            }
+        }
+        if (debugInfo != null) {
+            logDebugAfterPublish(debugInfo, null);
+        }
+        return null;
+    }
+
+    /**
+     * INTERNAL:
+     * Process the received message, deserialized with the serializer,
+     * or the serializer of the command manager if null.
+     * This method is used only by local (listening) connection.
+     */
+    public void onMessage(byte[] bytes, Serializer serializer, String messageId) {
+        if (!isActive()) {
+            return;
+        }
+        if (this.rcm.shouldLogDebugMessage()) {
+            logDebugOnReceiveMessage(messageId);
+        }
+        Object object;
+        try {
+            if (serializer == null) {
+                serializer = this.rcm.getSerializer();
+                if (serializer == null) {
+                    serializer = JavaSerializer.instance;
+                }
+            }
+            object = serializer.deserialize(bytes, (AbstractSession)this.rcm.getCommandProcessor());
+        } catch (Exception exception) {
+            failDeserializeMessage(messageId, exception);
+            return;
+        }
+        processReceivedObject(object, messageId);
+    }
+
+    /**
+     * INTERNAL:
+     * Unregister the local connection from its topic.
+     */
+    @Override
+    protected void closeInternal() {
+        if (this.isLocal) {
+            topics.computeIfPresent(this.topicName, (name, subscribers) -> {
+                subscribers.remove(this);
+                return subscribers.isEmpty() ? null : subscribers;
+            });
+            this.rcm.logDebug("broadcast_connection_stop_listening", getInfo());
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Used for debug logging
+     */
+    @Override
+    protected void createDisplayString() {
+        super.createDisplayString();
+        this.displayString = (isLocal() ? "Local " : "External ") + this.displayString;
+    }
+}
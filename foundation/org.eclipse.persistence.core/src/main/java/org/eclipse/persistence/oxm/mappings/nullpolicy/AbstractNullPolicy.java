@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1998, 2021 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1998, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -30,6 +30,9 @@
 import org.w3c.dom.Node;
 import org.xml.sax.Attributes;
 
+import java.io.Serial;
+import java.io.Serializable;
+
 /**
  * PUBLIC: <b>Description</b>: This node null policy allows for the handling of
  * various representations of null in XML documents.<br>
@@ -87,7 +90,10 @@
  * @see org.eclipse.persistence.internal.oxm.NullCapableValue
  * @since Oracle TopLink 11<i>g</i> Release 1 (11.1.1)
  */
-public abstract class AbstractNullPolicy {
+public abstract class AbstractNullPolicy implements Serializable {
+    @Serial
+    private static final long serialVersionUID = 1884442584822633637L;
+
     protected static final String TRUE = "true";
     protected static final String COLON_W_SCHEMA_NIL_ATTRIBUTE = Constants.COLON + Constants.SCHEMA_NIL_ATTRIBUTE;
     protected static final String XSI_NIL_ATTRIBUTE = Constants.SCHEMA_INSTANCE_PREFIX + COLON_W_SCHEMA_NIL_ATTRIBUTE;
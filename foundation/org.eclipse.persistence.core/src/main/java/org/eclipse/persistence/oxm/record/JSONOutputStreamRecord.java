@@ -0,0 +1,360 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.oxm.record;
+
+import org.eclipse.persistence.internal.oxm.CharacterEscapeHandler;
+import org.eclipse.persistence.internal.oxm.Constants;
+import org.eclipse.persistence.internal.oxm.NamespaceResolver;
+import org.eclipse.persistence.internal.oxm.XMLMarshaller;
+import org.eclipse.persistence.internal.oxm.XPathFragment;
+import org.eclipse.persistence.oxm.exceptions.XMLMarshalException;
+
+import java.io.CharArrayWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * <p>Use this type of MarshalRecord when the marshal target is an OutputStream, or a byte array,
+ * and the JSON should be UTF-8 encoded and not formatted with carriage returns or indenting.</p>
+ * <p>The JSON is written as UTF-8 bytes into a buffer, written to the OutputStream when full or flushed.
+ * The keys are written from the UTF-8 bytes cached by their XPathFragment,
+ * and the values are escaped and encoded through a table of the ASCII characters.
+ * Without OutputStream the buffer grows to hold the whole JSON, which is returned by
+ * {@link #toByteArray()} or {@link #getByteBuffer()}, and the record can be {@link #reset()} to be reused.</p>
+ * <p><code>
+ * XMLContext xmlContext = new XMLContext("session-name");<br>
+ * XMLMarshaller xmlMarshaller = xmlContext.createMarshaller();<br>
+ * JSONOutputStreamRecord jsonRecord = new JSONOutputStreamRecord();<br>
+ * xmlMarshaller.marshal(myObject, jsonRecord);<br>
+ * byte[] json = jsonRecord.toByteArray();<br>
+ * </code></p>
+ * <p>If the marshal(OutputStream) and setMediaType(MediaType.APPLICATION_JSON) and
+ * setFormattedOutput(false) method is called on XMLMarshaller, and the encoding is UTF-8,
+ * then the OutputStream is automatically wrapped in a JSONOutputStreamRecord.</p>
+ * @see org.eclipse.persistence.oxm.XMLMarshaller
+ */
+public class JSONOutputStreamRecord extends JSONWriterRecord {
+
+    /** The escape sequence of each ASCII character, or null if it is written as is. */
+    private static final byte[][] ESCAPES = new byte[128][];
+
+    private static final byte[] HEX_DIGITS = "0123456789ABCDEF".getBytes(XPathFragment.CHARSET);
+
+    static {
+        for (char character = 0; character < 0x20; character++) {
+            ESCAPES[character] = unicodeEscape(character);
+        }
+        ESCAPES[0x7F] = unicodeEscape((char) 0x7F);
+        ESCAPES['"'] = new byte[] {'\\', '"'};
+        ESCAPES['\\'] = new byte[] {'\\', '\\'};
+        ESCAPES['\b'] = new byte[] {'\\', 'b'};
+        ESCAPES['\f'] = new byte[] {'\\', 'f'};
+        ESCAPES['\n'] = new byte[] {'\\', 'n'};
+        ESCAPES['\r'] = new byte[] {'\\', 'r'};
+        ESCAPES['\t'] = new byte[] {'\\', 't'};
+    }
+
+    private static byte[] unicodeEscape(char character) {
+        return new byte[] {'\\', 'u',
+            HEX_DIGITS[(character >> 12) & 0xF], HEX_DIGITS[(character >> 8) & 0xF],
+            HEX_DIGITS[(character >> 4) & 0xF], HEX_DIGITS[character & 0xF]};
+    }
+
+    protected ByteArrayOutput output;
+
+    /**
+     * Create a record writing to a buffer growing to hold the whole JSON.
+     */
+    public JSONOutputStreamRecord() {
+        super();
+        output = new ByteArrayOutput(null);
+        writer = output;
+    }
+
+    public JSONOutputStreamRecord(OutputStream outputStream) {
+        super();
+        output = new ByteArrayOutput(outputStream);
+        writer = output;
+    }
+
+    public JSONOutputStreamRecord(OutputStream outputStream, String callbackName) {
+        this(outputStream);
+        setCallbackName(callbackName);
+    }
+
+    /**
+     * Return the OutputStream that the object will be marshalled to, or null if marshalled to the buffer.
+     * @return The marshal target.
+     */
+    public OutputStream getOutputStream() {
+        return output.getOutputStream();
+    }
+
+    /**
+     * Set the OutputStream that the object will be marshalled to.
+     * @param outputStream The marshal target, or null to marshal to the buffer.
+     */
+    public void setOutputStream(OutputStream outputStream) {
+        output.outputStream = outputStream;
+    }
+
+    /**
+     * Return a copy of the bytes written to the buffer and not yet written to the OutputStream.
+     */
+    public byte[] toByteArray() {
+        return Arrays.copyOf(output.buffer, output.position);
+    }
+
+    /**
+     * Return a ByteBuffer over the bytes written to the buffer and not yet written to the OutputStream.
+     * The bytes are not copied, so are only valid until the record is reset or written to.
+     */
+    public ByteBuffer getByteBuffer() {
+        return ByteBuffer.wrap(output.buffer, 0, output.position);
+    }
+
+    /**
+     * Clear the buffer, keeping its capacity, so the record can be used for another marshal.
+     */
+    public void reset() {
+        output.position = 0;
+        level = null;
+        charactersAllowed = false;
+    }
+
+    /**
+     * INTERNAL:
+     * Write the cached bytes of the key, unless it requires an attribute or namespace prefix.
+     */
+    @Override
+    protected void writeKey(XPathFragment xPathFragment) throws IOException {
+        if ((xPathFragment.isAttribute() && attributePrefix != null) || (isNamespaceAware() && xPathFragment.getNamespaceURI() != null)) {
+            super.writeKey(xPathFragment);
+            return;
+        }
+        String localName = xPathFragment.getLocalName();
+        if (localName != null && !localName.isEmpty()) {
+            addPositionalNodes(xPathFragment, namespaceResolver);
+            output.write(xPathFragment.getJSONKeyBytes());
+        }
+    }
+
+    /**
+     * INTERNAL:
+     */
+    @Override
+    protected void writeValue(String value, boolean isAttribute) {
+        if (characterEscapeHandler != null) {
+            super.writeValue(value, isAttribute);
+        } else {
+            output.writeEscaped(value);
+        }
+    }
+
+    /**
+     * Output writing UTF-8 bytes into a buffer, written to the OutputStream when full,
+     * or grown if there is no OutputStream.
+     */
+    protected static class ByteArrayOutput implements Output {
+
+        private static final int BUFFER_SIZE = 8192;
+
+        /** The maximum number of bytes written for a character of an escaped value. */
+        private static final int MAX_CHARACTER_SIZE = 6;
+
+        protected byte[] buffer = new byte[BUFFER_SIZE];
+        protected int position;
+        protected OutputStream outputStream;
+        private byte[] attributePrefix;
+        private CharacterEscapeHandler characterEscapeHandler;
+        private final byte[] cr = System.lineSeparator().getBytes(XPathFragment.CHARSET);
+        private XMLMarshaller marshaller;
+        private char namespaceSeparator;
+
+        protected ByteArrayOutput(OutputStream outputStream) {
+            this.outputStream = outputStream;
+        }
+
+        /**
+         * Make room in the buffer for the number of bytes,
+         * by writing the buffer to the OutputStream or growing it.
+         */
+        protected void ensureCapacity(int length) {
+            if (position + length <= buffer.length) {
+                return;
+            }
+            if (outputStream != null && position > 0) {
+                try {
+                    outputStream.write(buffer, 0, position);
+                } catch (IOException e) {
+                    throw XMLMarshalException.marshalException(e);
+                }
+                position = 0;
+            }
+            if (position + length > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + length));
+            }
+        }
+
+        protected void write(byte[] bytes) {
+            ensureCapacity(bytes.length);
+            System.arraycopy(bytes, 0, buffer, position, bytes.length);
+            position += bytes.length;
+        }
+
+        @Override
+        public void write(char character) throws IOException {
+            if (character < 0x80) {
+                ensureCapacity(1);
+                buffer[position++] = (byte) character;
+            } else {
+                write(String.valueOf(character));
+            }
+        }
+
+        @Override
+        public void write(String text) throws IOException {
+            int length = text.length();
+            ensureCapacity(length);
+            for (int index = 0; index < length; index++) {
+                char character = text.charAt(index);
+                if (character >= 0x80) {
+                    // Not ASCII, encode the rest of the text.
+                    write(text.substring(index).getBytes(XPathFragment.CHARSET));
+                    return;
+                }
+                buffer[position++] = (byte) character;
+            }
+        }
+
+        /**
+         * Write the value escaped and UTF-8 encoded.
+         * Control characters and lone surrogates are written as unicode escapes, as by JSONWriterRecord.
+         */
+        protected void writeEscaped(String value) {
+            for (int index = 0, length = value.length(); index < length; index++) {
+                char character = value.charAt(index);
+                if (position + MAX_CHARACTER_SIZE > buffer.length) {
+                    ensureCapacity(MAX_CHARACTER_SIZE);
+                }
+                if (character < 0x80) {
+                    byte[] escape = ESCAPES[character];
+                    if (escape == null) {
+                        buffer[position++] = (byte) character;
+                    } else {
+                        System.arraycopy(escape, 0, buffer, position, escape.length);
+                        position += escape.length;
+                    }
+                } else if (character < 0xA0) {
+                    writeUnicodeEscape(character);
+                } else if (character < 0x800) {
+                    buffer[position++] = (byte) (0xC0 | (character >> 6));
+                    buffer[position++] = (byte) (0x80 | (character & 0x3F));
+                } else if (Character.isHighSurrogate(character) && index + 1 < length && Character.isLowSurrogate(value.charAt(index + 1))) {
+                    // UTF-8 does not encode the surrogates separately, so write both escaped.
+                    writeUnicodeEscape(character);
+                    ensureCapacity(MAX_CHARACTER_SIZE);
+                    writeUnicodeEscape(value.charAt(++index));
+                } else if (Character.isSurrogate(character)) {
+                    writeUnicodeEscape(character);
+                } else {
+                    buffer[position++] = (byte) (0xE0 | (character >> 12));
+                    buffer[position++] = (byte) (0x80 | ((character >> 6) & 0x3F));
+                    buffer[position++] = (byte) (0x80 | (character & 0x3F));
+                }
+            }
+        }
+
+        private void writeUnicodeEscape(char character) {
+            buffer[position++] = '\\';
+            buffer[position++] = 'u';
+            buffer[position++] = HEX_DIGITS[(character >> 12) & 0xF];
+            buffer[position++] = HEX_DIGITS[(character >> 8) & 0xF];
+            buffer[position++] = HEX_DIGITS[(character >> 4) & 0xF];
+            buffer[position++] = HEX_DIGITS[character & 0xF];
+        }
+
+        @Override
+        public void flush() throws IOException {
+            if (outputStream != null) {
+                outputStream.write(buffer, 0, position);
+                position = 0;
+                outputStream.flush();
+            }
+        }
+
+        @Override
+        public XMLMarshaller getMarshaller() {
+            return marshaller;
+        }
+
+        @Override
+        public OutputStream getOutputStream() {
+            return outputStream;
+        }
+
+        @Override
+        public Writer getWriter() {
+            return null;
+        }
+
+        @Override
+        public void setMarshaller(XMLMarshaller marshaller) {
+            this.marshaller = marshaller;
+            String attributePrefix = marshaller.getAttributePrefix();
+            if (null != attributePrefix) {
+                this.attributePrefix = attributePrefix.getBytes(XPathFragment.CHARSET);
+            }
+            this.characterEscapeHandler = marshaller.getCharacterEscapeHandler();
+            this.namespaceSeparator = marshaller.getNamespaceSeparator();
+        }
+
+        @Override
+        public void writeAttributePrefix() throws IOException {
+            write(attributePrefix);
+        }
+
+        @Override
+        public void writeCR() throws IOException {
+            write(cr);
+        }
+
+        @Override
+        public void writeLocalName(XPathFragment xPathFragment) throws IOException {
+            write(xPathFragment.getLocalNameBytes());
+        }
+
+        @Override
+        public void writeNamespaceSeparator() throws IOException {
+            write(namespaceSeparator);
+        }
+
+        @Override
+        public void writeResultFromCharEscapeHandler(String value, boolean isAttribute) {
+            try {
+                CharArrayWriter out = new CharArrayWriter();
+                characterEscapeHandler.escape(value.toCharArray(), 0, value.length(), isAttribute, out);
+                write(out.toString().getBytes(XPathFragment.CHARSET));
+            } catch (IOException e) {
+                throw XMLMarshalException.marshalException(e);
+            }
+        }
+
+    }
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1998, 2025 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1998, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -25,13 +25,18 @@
 import org.xml.sax.ErrorHandler;
 
 import javax.xml.namespace.QName;
+import java.io.Serial;
+import java.io.Serializable;
 import java.net.URL;
 
 /**
  * Provides a way for a descriptor's reference to its schema to be specified.
  * The schema can be reference through a classpath resource, a file or URL.
  */
-public abstract class XMLSchemaReference implements org.eclipse.persistence.platform.xml.XMLSchemaReference {
+public abstract class XMLSchemaReference implements org.eclipse.persistence.platform.xml.XMLSchemaReference, Serializable {
+    @Serial
+    private static final long serialVersionUID = -1556436367403505872L;
+
 
     /**
      * The string used to access the XMLSchema, be it classpath resource, URL,
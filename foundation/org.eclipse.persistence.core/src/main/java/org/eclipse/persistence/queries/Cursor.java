@@ -55,6 +55,9 @@ public abstract class Cursor implements Enumeration, Iterator, java.io.Serializa
     /** The fields expected in the result set. */
     protected transient Vector<DatabaseField> fields;
 
+    /** PERF: The fields as an array, shared by the rows fetched from the result set. */
+    protected transient DatabaseField[] fieldsArray;
+
     /** Cached size of the stream. */
     protected int size = -1;
 
@@ -97,6 +100,7 @@ protected Cursor(DatabaseCall call, CursorPolicy policy) {
         this.executionSession = session.getExecutionSession(query);
         this.statement = call.getStatement();
         this.fields = call.getFields();
+        this.fieldsArray = call.getFieldsArray();
         this.resultSet = call.getResult();
         this.policy = policy;
         this.objectCollection = new Vector();
@@ -187,6 +191,17 @@ public Vector<DatabaseField> getFields() {
         return fields;
     }
 
+    /**
+     * INTERNAL:
+     * Return the fields for the stream as an array, built from the fields if not set by the call.
+     */
+    public DatabaseField[] getFieldsArray() {
+        if ((this.fieldsArray == null) || (this.fieldsArray.length != this.fields.size())) {
+            this.fieldsArray = this.fields.toArray(new DatabaseField[this.fields.size()]);
+        }
+        return this.fieldsArray;
+    }
+
     /**
      * INTERNAL:
      * Conforming instances found in memory when building the result.
@@ -334,6 +349,7 @@ protected Object buildAndRegisterObject(AbstractRecord row) {
      */
     protected void setFields(Vector<DatabaseField> fields) {
         this.fields = fields;
+        this.fieldsArray = null;
     }
 
     /**
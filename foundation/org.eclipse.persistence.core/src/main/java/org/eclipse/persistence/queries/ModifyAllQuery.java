@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1998, 2023 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1998, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -16,11 +16,13 @@
 //       - 277039: JPA 2.0 Cache Usage Settings
 package org.eclipse.persistence.queries;
 
+import org.eclipse.persistence.descriptors.ClassDescriptor;
 import org.eclipse.persistence.exceptions.DatabaseException;
 import org.eclipse.persistence.exceptions.OptimisticLockException;
 import org.eclipse.persistence.exceptions.ValidationException;
 import org.eclipse.persistence.expressions.Expression;
 import org.eclipse.persistence.expressions.ExpressionBuilder;
+import org.eclipse.persistence.internal.helper.DatabaseTable;
 import org.eclipse.persistence.internal.queries.DatabaseQueryMechanism;
 import org.eclipse.persistence.internal.queries.ExpressionQueryMechanism;
 import org.eclipse.persistence.internal.sessions.AbstractRecord;
@@ -217,6 +219,14 @@ protected void invalidateCache() {
             return;
         }
         getSession().getIdentityMapAccessor().invalidateObjects(getSelectionCriteria(), getReferenceClass(), getTranslationRow(), true);
+        // Only the queries that declared the tables in their invalidation tables are invalidated,
+        // the queries invalidated by class keep their results as they always did.
+        ClassDescriptor descriptor = getDescriptor();
+        if (descriptor != null) {
+            for (DatabaseTable table : descriptor.getTables()) {
+                getSession().getIdentityMapAccessor().invalidateQueryCacheForTable(table.getName());
+            }
+        }
     }
 
     /**
@@ -48,6 +48,8 @@ public class QueryResultsCachePolicy implements Serializable, Cloneable {
     protected boolean invalidateOnChange;
     /** Stores the set of classes that should trigger the query cached results to be invalidated. */
     protected Set<Class<?>> invalidationClasses;
+    /** Stores the set of table names that should trigger the query cached results to be invalidated. */
+    protected Set<String> invalidationTables;
 
     /**
      * PUBLIC:
@@ -73,6 +75,7 @@ public QueryResultsCachePolicy(CacheInvalidationPolicy policy, int maximumResult
         this.isNullIgnored = false;
         this.invalidateOnChange = true;
         this.invalidationClasses = new HashSet<>();
+        this.invalidationTables = new HashSet<>();
     }
 
     @Override
@@ -80,6 +83,7 @@ public QueryResultsCachePolicy clone() {
         try {
             QueryResultsCachePolicy clone = (QueryResultsCachePolicy)super.clone();
             clone.invalidationClasses = new HashSet<>();
+            clone.invalidationTables = new HashSet<>(this.invalidationTables);
             return clone;
         } catch (CloneNotSupportedException exception) {
             throw new InternalError(exception.toString());
@@ -103,6 +107,37 @@ public void setInvalidationClasses(Set<Class<?>> invalidationClasses) {
         this.invalidationClasses = invalidationClasses;
     }
 
+    /**
+     * ADVANCED:
+     * Return the set of table names that should trigger the query cached results to be invalidated.
+     */
+    public Set<String> getInvalidationTables() {
+        return invalidationTables;
+    }
+
+    /**
+     * ADVANCED:
+     * Set the set of table names that should trigger the query cached results to be invalidated.
+     * The results are invalidated when an object of a class mapped to one of the tables is modified,
+     * or when the table is invalidated through the IdentityMapAccessor.
+     * This allows the results of native queries to be invalidated, as their classes are not known.
+     *
+     * @see org.eclipse.persistence.sessions.IdentityMapAccessor#invalidateQueryCacheForTable(String)
+     */
+    public void setInvalidationTables(Set<String> invalidationTables) {
+        this.invalidationTables = invalidationTables;
+    }
+
+    /**
+     * ADVANCED:
+     * Add a table name that should trigger the query cached results to be invalidated.
+     *
+     * @see #setInvalidationTables(Set)
+     */
+    public void addInvalidationTable(String tableName) {
+        this.invalidationTables.add(tableName);
+    }
+
     /**
      * PUBLIC:
      * Return if null results should be cached or ignored.
@@ -23,8 +23,13 @@
 
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.ListIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public class ScrollableCursor extends Cursor implements ListIterator {
     protected transient Object nextObject;
@@ -484,6 +489,34 @@ public Object nextElement() throws DatabaseException, QueryException {
         return next();
     }
 
+    /**
+     * PUBLIC:
+     * Return a sequential stream of the remaining objects of the cursor.
+     * The objects are built from the result set as the stream is consumed and are not held by the cursor,
+     * so a large result can be processed in constant memory (objects read in a unit of work are still registered in it).
+     * The cursor is closed when the stream is closed or when its last object has been consumed.
+     * The cursor should not be repositioned while the stream is in use.
+     */
+    public Stream<Object> stream() {
+        Iterator<Object> iterator = new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                if (ScrollableCursor.this.hasNext()) {
+                    return true;
+                }
+                // Release the statement and connection as soon as the end is reached.
+                close();
+                return false;
+            }
+
+            @Override
+            public Object next() {
+                return ScrollableCursor.this.next();
+            }
+        };
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false).onClose(this::close);
+    }
+
     /**
      * PUBLIC:
      * Retrieves the next row index (against the current row)
@@ -578,7 +611,7 @@ protected Object retrieveNextObject() throws DatabaseException {
             // if the end of the cursor has been reached, do not retrieve more rows
             if (!this.atEndOfCursor) {
                 if (this.nextRow == null) {
-                    row = getAccessor().cursorRetrieveNextRow(this.fields, this.resultSet, this.executionSession);
+                    row = getAccessor().cursorRetrieveNextRow(this.fields, getFieldsArray(), this.resultSet, this.executionSession);
                 } else {
                     row = this.nextRow;
                     this.nextRow = null;
@@ -623,7 +656,7 @@ protected Object retrievePreviousObject() throws DatabaseException {
             if (currentPosition <= (this.objectCollection.size() + 1)) {
                 // If at first of cursor, move cursor to beforeFirst.
                 if ((currentPosition == (this.objectCollection.size() + 1)) && (!isClosed())) {
-                    getAccessor().cursorRetrievePreviousRow(this.fields, this.resultSet, this.executionSession);
+                    getAccessor().cursorRetrievePreviousRow(this.fields, getFieldsArray(), this.resultSet, this.executionSession);
                 }
                 if (currentPosition <= 1) {
                     // Cursor can not move back further than beforeFirst.
@@ -639,7 +672,7 @@ protected Object retrievePreviousObject() throws DatabaseException {
             }
             AbstractRecord row = null;
             if (this.previousRow == null) {
-                row = getAccessor().cursorRetrievePreviousRow(this.fields, this.resultSet, this.executionSession);
+                row = getAccessor().cursorRetrievePreviousRow(this.fields, getFieldsArray(), this.resultSet, this.executionSession);
             } else {
                 row = this.previousRow;
                 this.previousRow = null;
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1998, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1998, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -14,6 +14,7 @@
 //     Oracle - initial API and implementation from Oracle TopLink
 package org.eclipse.persistence.sequencing;
 
+import org.eclipse.persistence.exceptions.ValidationException;
 import org.eclipse.persistence.sessions.Login;
 import org.eclipse.persistence.sessions.server.ConnectionPool;
 
@@ -47,7 +48,8 @@
  *      setShouldUseTableSequencing;
  *      resetSequencing;
  * 3. The following methods cause change immediately:
- *      setPreallocationSize (next sequencing preallocation will use the set parameter's value).
+ *      setPreallocationSize (next sequencing preallocation will use the set parameter's value);
+ *      setShouldUseAsynchronousPreallocation.
  * <p>
  * <b>Responsibilities</b>:
  * <ul>
@@ -88,6 +90,37 @@ public interface SequencingControl {
      */
     void setShouldUseSeparateConnection(boolean shouldUseSeparateConnection);
 
+    /**
+     * PUBLIC:
+     * Indicate whether preallocated sequence values are refilled asynchronously
+     * (by default they are not).
+     * @see #setShouldUseAsynchronousPreallocation(boolean)
+     */
+    default boolean shouldUseAsynchronousPreallocation() {
+        return false;
+    }
+
+    /**
+     * PUBLIC:
+     * Set whether preallocated sequence values are refilled asynchronously
+     * (by default they are not).
+     * If this flag is set to true then the next blocks of sequence values are allocated in the background
+     * while the current block is being consumed, instead of when it runs out,
+     * so that inserting threads do not wait on the database for sequence values.
+     * The number of blocks allocated ahead adapts to the consumption rate, so more sequence values
+     * may be lost on shutdown.
+     * The flag is only used by a ServerSession, for sequences using preallocation that either
+     * use a separate connection (see setShouldUseSeparateConnection) or do not use a transaction
+     * (such as native sequence objects).
+     * Implementations that do not support it throw a ValidationException if set to true.
+     * @see Sequence
+     */
+    default void setShouldUseAsynchronousPreallocation(boolean shouldUseAsynchronousPreallocation) {
+        if (shouldUseAsynchronousPreallocation) {
+            throw ValidationException.operationNotSupported("setShouldUseAsynchronousPreallocation");
+        }
+    }
+
     /**
      * PUBLIC:
      * Indicates whether sequencing actually uses separate connection(s).
@@ -29,6 +29,7 @@
 import org.eclipse.persistence.internal.identitymaps.HardCacheWeakIdentityMap;
 import org.eclipse.persistence.internal.identitymaps.IdentityMap;
 import org.eclipse.persistence.internal.identitymaps.NoIdentityMap;
+import org.eclipse.persistence.internal.identitymaps.SegmentedCacheIdentityMap;
 import org.eclipse.persistence.internal.identitymaps.SoftCacheWeakIdentityMap;
 import org.eclipse.persistence.internal.identitymaps.SoftIdentityMap;
 import org.eclipse.persistence.internal.identitymaps.WeakIdentityMap;
@@ -841,6 +842,8 @@ protected String getCacheTypeFor(Class<?> identityMapClass) {
              return "Weak";
          } else if (identityMapClass == SoftIdentityMap.class) {
              return "Soft";
+         } else if (identityMapClass == SegmentedCacheIdentityMap.class) {
+             return "SegmentedCache";
          }
          return "N/A";
      }
@@ -0,0 +1,467 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.sessions;
+
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.expressions.Expression;
+import org.eclipse.persistence.expressions.ExpressionBuilder;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.logging.SessionLog;
+import org.eclipse.persistence.mappings.DatabaseMapping;
+import org.eclipse.persistence.mappings.foundation.AbstractDirectMapping;
+import org.eclipse.persistence.queries.ReadAllQuery;
+import org.eclipse.persistence.queries.ReportQuery;
+import org.eclipse.persistence.queries.ReportQueryResult;
+import org.eclipse.persistence.queries.ScrollableCursor;
+import org.eclipse.persistence.queries.ScrollableCursorPolicy;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * <p>
+ * <b>Purpose</b>: Preload the shared cache of a session with all of the objects of a set of classes.
+ * </p><p>
+ * <b>Description</b>: The objects of each class are read in ranges of its primary key,
+ * each range is read through a forward only cursor, so the objects are built and put in the cache
+ * as they are read and are not held by the preloader.
+ * The ranges are split from the minimum, maximum and count of the primary key to hold about the range size objects,
+ * classes without a single numeric primary key are read in a single range.
+ * The ranges are read in the background by a bounded number of threads of the server platform,
+ * so the session can be used while its cache is preloaded.
+ * A DatabaseSession has a single connection so is always preloaded by a single thread,
+ * a ServerSession by the given number of threads, each using its own read connection.
+ * </p><p>
+ * By default the classes whose CachePolicy is set to preload are preloaded.
+ * The progress can be checked through {@link #getPreloadedObjectCount()} and {@link #getCompletedRangeCount()},
+ * and is logged in the cache category.
+ * </p>
+ *
+ * @see org.eclipse.persistence.descriptors.CachePolicy#setShouldPreload(boolean)
+ */
+public class CachePreloader {
+
+    public static final int DEFAULT_THREADS = 4;
+    public static final int DEFAULT_RANGE_SIZE = 1000;
+
+    protected AbstractSession session;
+    protected List<ClassDescriptor> descriptors;
+    protected int threads;
+    protected int rangeSize;
+
+    /** The ranges not yet read. */
+    protected Queue<Range> ranges;
+    protected volatile int rangeCount;
+    protected final AtomicInteger completedRangeCount;
+    protected final AtomicLong preloadedObjectCount;
+    protected final AtomicInteger activeWorkers;
+    protected final CountDownLatch completion;
+    protected volatile boolean isStarted;
+    protected volatile boolean isCancelled;
+    protected long startTime;
+
+    /**
+     * PUBLIC:
+     * Create a preloader of the cache of the session, a DatabaseSession or ServerSession.
+     */
+    public CachePreloader(DatabaseSession session) {
+        this.session = (AbstractSession)session;
+        this.threads = DEFAULT_THREADS;
+        this.rangeSize = DEFAULT_RANGE_SIZE;
+        this.ranges = new ConcurrentLinkedQueue<>();
+        this.completedRangeCount = new AtomicInteger();
+        this.preloadedObjectCount = new AtomicLong();
+        this.activeWorkers = new AtomicInteger();
+        this.completion = new CountDownLatch(1);
+    }
+
+    /**
+     * PUBLIC:
+     * Return the descriptors of the classes to preload.
+     * By default the descriptors whose CachePolicy is set to preload,
+     * except subclasses of a preloaded class as they are loaded with it.
+     */
+    public List<ClassDescriptor> getDescriptors() {
+        if (this.descriptors == null) {
+            List<ClassDescriptor> preloaded = new ArrayList<>();
+            for (ClassDescriptor descriptor : this.session.getDescriptors().values()) {
+                if (descriptor.getCachePolicy().shouldPreload() && !hasPreloadedParent(descriptor)) {
+                    preloaded.add(descriptor);
+                }
+            }
+            this.descriptors = preloaded;
+        }
+        return this.descriptors;
+    }
+
+    /**
+     * PUBLIC:
+     * Set the descriptors of the classes to preload.
+     */
+    public void setDescriptors(List<ClassDescriptor> descriptors) {
+        this.descriptors = descriptors;
+    }
+
+    /**
+     * Return if a superclass of the descriptor is preloaded, so the descriptor's objects are loaded with it.
+     */
+    protected boolean hasPreloadedParent(ClassDescriptor descriptor) {
+        while (descriptor.hasInheritance() && descriptor.getInheritancePolicy().isChildDescriptor()) {
+            descriptor = descriptor.getInheritancePolicy().getParentDescriptor();
+            if (descriptor.getCachePolicy().shouldPreload()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * PUBLIC:
+     * Return the maximum number of threads reading the ranges, 4 by default.
+     */
+    public int getThreads() {
+        return threads;
+    }
+
+    /**
+     * PUBLIC:
+     * Set the maximum number of threads reading the ranges.
+     * Each thread uses a read connection of a ServerSession, a DatabaseSession is always preloaded by a single thread.
+     */
+    public void setThreads(int threads) {
+        this.threads = threads;
+    }
+
+    /**
+     * PUBLIC:
+     * Return the number of objects each range should hold, 1000 by default.
+     */
+    public int getRangeSize() {
+        return rangeSize;
+    }
+
+    /**
+     * PUBLIC:
+     * Set the number of objects each range should hold.
+     */
+    public void setRangeSize(int rangeSize) {
+        this.rangeSize = rangeSize;
+    }
+
+    /**
+     * PUBLIC:
+     * Return the number of objects read into the cache so far.
+     */
+    public long getPreloadedObjectCount() {
+        return this.preloadedObjectCount.get();
+    }
+
+    /**
+     * PUBLIC:
+     * Return the number of ranges read so far.
+     */
+    public int getCompletedRangeCount() {
+        return this.completedRangeCount.get();
+    }
+
+    /**
+     * PUBLIC:
+     * Return the number of ranges to read, 0 until the ranges have been split.
+     */
+    public int getRangeCount() {
+        return this.rangeCount;
+    }
+
+    /**
+     * PUBLIC:
+     * Return if the preload is complete, or was cancelled.
+     */
+    public boolean isComplete() {
+        return this.completion.getCount() == 0;
+    }
+
+    /**
+     * PUBLIC:
+     * Wait for the preload to complete, at most the timeout milliseconds.
+     * Return if the preload is complete.
+     */
+    public boolean waitForCompletion(long timeout) throws InterruptedException {
+        return this.completion.await(timeout, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * PUBLIC:
+     * Stop the preload, the ranges being read are completed.
+     * This is called when the session is logged out.
+     */
+    public void cancel() {
+        this.isCancelled = true;
+    }
+
+    /**
+     * PUBLIC:
+     * Start preloading the cache in the background.
+     */
+    public synchronized void start() {
+        if (this.isStarted) {
+            return;
+        }
+        this.isStarted = true;
+        this.startTime = System.currentTimeMillis();
+        this.session.getServerPlatform().launchContainerRunnable(this::run);
+    }
+
+    /**
+     * PUBLIC:
+     * Preload the cache and wait for completion.
+     */
+    public void preload() throws InterruptedException {
+        start();
+        this.completion.await();
+    }
+
+    /**
+     * Split the ranges of the descriptors, and read them with the other threads.
+     * The threads do not wait for each other, the last thread to finish completes the preload.
+     */
+    protected void run() {
+        this.activeWorkers.set(1);
+        try {
+            for (ClassDescriptor descriptor : getDescriptors()) {
+                if (this.isCancelled) {
+                    break;
+                }
+                if (descriptor.isDescriptorTypeAggregate() || !descriptor.getCachePolicy().isSharedIsolation() || descriptor.hasMultitenantPolicy()) {
+                    continue;
+                }
+                try {
+                    addRanges(descriptor);
+                } catch (RuntimeException exception) {
+                    logFailure(descriptor, exception);
+                }
+            }
+            int workers = 1;
+            if (this.session.isServerSession()) {
+                workers = Math.max(1, Math.min(this.threads, this.ranges.size()));
+            }
+            this.session.log(SessionLog.FINE, SessionLog.CACHE, "cache_preload_start", new Object[] {getDescriptors().size(), this.rangeCount, workers});
+            this.activeWorkers.addAndGet(workers - 1);
+            for (int index = 1; index < workers; index++) {
+                this.session.getServerPlatform().launchContainerRunnable(() -> {
+                    try {
+                        readRanges();
+                    } finally {
+                        finishWorker();
+                    }
+                });
+            }
+            readRanges();
+        } finally {
+            finishWorker();
+        }
+    }
+
+    /**
+     * Complete the preload if the thread was the last reading ranges.
+     */
+    protected void finishWorker() {
+        if (this.activeWorkers.decrementAndGet() == 0) {
+            this.session.log(SessionLog.INFO, SessionLog.CACHE, "cache_preload_complete", new Object[] {getPreloadedObjectCount(), System.currentTimeMillis() - this.startTime});
+            this.completion.countDown();
+        }
+    }
+
+    /**
+     * Add the ranges of the descriptor's objects.
+     * If the descriptor has a single integral primary key, its range is split in ranges holding about the range size objects.
+     */
+    protected void addRanges(ClassDescriptor descriptor) {
+        List<Range> descriptorRanges = new ArrayList<>();
+        DescriptorProgress progress = new DescriptorProgress(descriptor);
+        String attribute = getRangeAttribute(descriptor);
+        if (attribute != null) {
+            ReportQuery query = new ReportQuery(descriptor.getJavaClass(), new ExpressionBuilder());
+            Expression id = query.getExpressionBuilder().get(attribute);
+            query.addMinimum("min", id);
+            query.addMaximum("max", id);
+            query.addCount("count", id);
+            query.setShouldReturnSingleResult(true);
+            ReportQueryResult result = (ReportQueryResult)this.session.executeQuery(query);
+            Number count = (result == null) ? null : (Number)result.get("count");
+            if ((count == null) || (count.longValue() == 0)) {
+                return;
+            }
+            Long min = toRangeBound(result.get("min"));
+            Long max = toRangeBound(result.get("max"));
+            long splits = (count.longValue() + this.rangeSize - 1) / this.rangeSize;
+            if ((min != null) && (max != null) && (splits > 1)) {
+                // The span is negative if it overflows, when the keys cover more than half of the long values.
+                long span = max - min;
+                if (span >= 0) {
+                    long width = span / splits + 1;
+                    long start = min;
+                    // The last range has no end, so no key above it can be missed.
+                    while ((max - start) >= width) {
+                        descriptorRanges.add(new Range(progress, attribute, start, start + width));
+                        start = start + width;
+                    }
+                    descriptorRanges.add(new Range(progress, attribute, start, null));
+                }
+            }
+        }
+        if (descriptorRanges.isEmpty()) {
+            descriptorRanges.add(new Range(progress, null, 0, null));
+        }
+        progress.remainingRanges.set(descriptorRanges.size());
+        this.ranges.addAll(descriptorRanges);
+        this.rangeCount = this.rangeCount + descriptorRanges.size();
+    }
+
+    /**
+     * Return the value of the minimum or maximum key as a long,
+     * or null if it is not an integral value in the long range.
+     */
+    protected Long toRangeBound(Object value) {
+        if ((value instanceof Long) || (value instanceof Integer) || (value instanceof Short)) {
+            return ((Number)value).longValue();
+        } else if (value instanceof BigInteger) {
+            BigInteger integer = (BigInteger)value;
+            return (integer.bitLength() < Long.SIZE) ? integer.longValue() : null;
+        } else if (value instanceof BigDecimal) {
+            try {
+                return ((BigDecimal)value).longValueExact();
+            } catch (ArithmeticException fractionalOrOutOfRange) {
+                return null;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Return the attribute of the descriptor's primary key if it is a single integral direct mapping, otherwise null.
+     * A BigDecimal key is only split if its minimum and maximum are integral values in the long range.
+     */
+    protected String getRangeAttribute(ClassDescriptor descriptor) {
+        List<DatabaseMapping> mappings = descriptor.getObjectBuilder().getPrimaryKeyMappings();
+        if ((mappings.size() != 1) || !mappings.get(0).isAbstractDirectMapping()) {
+            return null;
+        }
+        AbstractDirectMapping mapping = (AbstractDirectMapping)mappings.get(0);
+        Class<?> type = mapping.getAttributeClassification();
+        if (type == null) {
+            type = mapping.getField().getType();
+        }
+        if ((type == null) || (mapping.getConverter() != null)) {
+            return null;
+        }
+        if ((type == long.class) || (type == int.class) || (type == short.class)
+                || (type == Long.class) || (type == Integer.class) || (type == Short.class)
+                || (type == BigInteger.class) || (type == BigDecimal.class)) {
+            return mapping.getAttributeName();
+        }
+        return null;
+    }
+
+    /**
+     * Read the ranges until all are read or the preload is cancelled.
+     */
+    protected void readRanges() {
+        Range range = this.ranges.poll();
+        while ((range != null) && !this.isCancelled && this.session.isConnected()) {
+            try {
+                long count = readRange(range);
+                this.preloadedObjectCount.addAndGet(count);
+                range.progress.objectCount.addAndGet(count);
+            } catch (RuntimeException exception) {
+                logFailure(range.progress.descriptor, exception);
+            }
+            this.completedRangeCount.incrementAndGet();
+            if (range.progress.remainingRanges.decrementAndGet() == 0) {
+                this.session.log(SessionLog.FINE, SessionLog.CACHE, "cache_preload_descriptor", new Object[] {range.progress.descriptor.getJavaClassName(), range.progress.objectCount.get()});
+            }
+            range = this.ranges.poll();
+        }
+    }
+
+    /**
+     * Read the objects of the range into the cache through a forward only cursor, return the number of objects read.
+     */
+    protected long readRange(Range range) {
+        ReadAllQuery query = new ReadAllQuery(range.progress.descriptor.getJavaClass());
+        if (range.attribute != null) {
+            Expression id = query.getExpressionBuilder().get(range.attribute);
+            Expression criteria = id.greaterThanEqual(range.start);
+            if (range.end != null) {
+                criteria = criteria.and(id.lessThan(range.end));
+            }
+            query.setSelectionCriteria(criteria);
+        }
+        query.dontCheckCache();
+        ScrollableCursorPolicy policy = new ScrollableCursorPolicy();
+        policy.setResultSetType(ScrollableCursorPolicy.TYPE_FORWARD_ONLY);
+        policy.setResultSetConcurrency(ScrollableCursorPolicy.CONCUR_READ_ONLY);
+        query.useScrollableCursor(policy);
+        query.setFetchSize(Math.min(this.rangeSize, DEFAULT_RANGE_SIZE));
+        ScrollableCursor cursor = (ScrollableCursor)this.session.executeQuery(query);
+        try (Stream<Object> objects = cursor.stream()) {
+            return objects.count();
+        }
+    }
+
+    protected void logFailure(ClassDescriptor descriptor, RuntimeException exception) {
+        this.session.log(SessionLog.WARNING, SessionLog.CACHE, "cache_preload_failed", new Object[] {descriptor.getJavaClassName(), exception.getMessage()});
+        this.session.logThrowable(SessionLog.FINE, SessionLog.CACHE, exception);
+    }
+
+    /**
+     * A range of objects of a descriptor, from the start (inclusive) to the end (exclusive) of its primary key,
+     * or from the start if the end is null, or all the objects if the attribute is null.
+     */
+    protected static class Range {
+        protected DescriptorProgress progress;
+        protected String attribute;
+        protected long start;
+        protected Long end;
+
+        protected Range(DescriptorProgress progress, String attribute, long start, Long end) {
+            this.progress = progress;
+            this.attribute = attribute;
+            this.start = start;
+            this.end = end;
+        }
+    }
+
+    /**
+     * The progress of the preload of a descriptor.
+     */
+    protected static class DescriptorProgress {
+        protected ClassDescriptor descriptor;
+        protected AtomicInteger remainingRanges = new AtomicInteger();
+        protected AtomicLong objectCount = new AtomicLong();
+
+        protected DescriptorProgress(ClassDescriptor descriptor) {
+            this.descriptor = descriptor;
+        }
+    }
+}
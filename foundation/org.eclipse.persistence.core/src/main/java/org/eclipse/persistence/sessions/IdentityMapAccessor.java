@@ -71,6 +71,14 @@ public interface IdentityMapAccessor {
      */
     void invalidateQueryCache(Class<?> classThatChanged);
 
+    /**
+     * ADVANCED:
+     * Invalidate/remove any results from the query cache for the queries that declared the table
+     * in their QueryResultsCachePolicy invalidation tables.
+     * This can be used to invalidate the results of native queries after the table is modified outside of the session.
+     */
+    void invalidateQueryCacheForTable(String tableName);
+
     /**
      * ADVANCED:
      * Returns true if the identity map contains an Object with the same primary
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1998, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1998, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -61,6 +61,7 @@
 import org.eclipse.persistence.sessions.server.Server;
 import org.eclipse.persistence.sessions.server.ServerSession;
 
+import java.io.Serial;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -172,6 +173,12 @@ public class Project extends CoreProject<ClassDescriptor, Login, DatabaseSession
     /** Flag that allows query result cache validation or not.*/
     protected boolean allowQueryResultsCacheValidation = false;
 
+    /** The maximum number of queries with cached results per session, -1 for no maximum. */
+    protected int maximumCachedQueries = -1;
+
+    /** Flag that allows building objects from rows with compiled materialization plans. */
+    protected boolean usesMaterializationPlans = false;
+
     /**
      * Mapped Superclasses (JPA 2) collection of parent non-relational descriptors keyed on MetadataClass
      * without creating a compile time dependency on JPA.
@@ -1459,6 +1466,50 @@ public void setAllowQueryResultsCacheValidation(boolean allowQueryResultsCacheVa
         this.allowQueryResultsCacheValidation = allowQueryResultsCacheValidation;
     }
 
+    /**
+     * PUBLIC:
+     * Return the maximum number of queries whose results are cached in a session's query results cache.
+     * When the results of a new query are cached beyond this number, the results of the least recently used query are removed.
+     * The number of results cached for each query is bounded by its QueryResultsCachePolicy maximum cached results.
+     * By default there is no maximum (-1).
+     */
+    public int getMaximumCachedQueries() {
+        return maximumCachedQueries;
+    }
+
+    /**
+     * PUBLIC:
+     * Set the maximum number of queries whose results are cached in a session's query results cache.
+     * When the results of a new query are cached beyond this number, the results of the least recently used query are removed.
+     * The number of results cached for each query is bounded by its QueryResultsCachePolicy maximum cached results.
+     * By default there is no maximum (-1).
+     */
+    public void setMaximumCachedQueries(int maximumCachedQueries) {
+        this.maximumCachedQueries = maximumCachedQueries;
+    }
+
+    /**
+     * PUBLIC:
+     * Return if the attributes of objects are built from rows with materialization plans.
+     * @see #setUsesMaterializationPlans(boolean)
+     */
+    public boolean usesMaterializationPlans() {
+        return usesMaterializationPlans;
+    }
+
+    /**
+     * PUBLIC:
+     * Set if the attributes of objects are built from rows with materialization plans.
+     * A plan is compiled per descriptor and fetch group for the fields selected by a query,
+     * the direct to field mappings then read the values of each row by position, instead of looking up their field.
+     * This reduces the CPU time per row when reading large result sets.
+     * Descriptors using protected cache isolation or a serialized object policy do not use plans.
+     * By default plans are not used (false).
+     */
+    public void setUsesMaterializationPlans(boolean usesMaterializationPlans) {
+        this.usesMaterializationPlans = usesMaterializationPlans;
+    }
+
     /**
      * INTERNAL:
      * Indicates whether there is at least one descriptor that has at least on mapping that
@@ -1652,7 +1703,10 @@ public <T extends JPAQueryBuilder> T getQueryBuilder() {
 
     // Default JPAQueryBuilder factory.
     // Returns new instance of HermesParser. Based on buildDefaultQueryBuilder() method of AbstractSession.
-    private static final class DefaultQueryBuilderSupplier<T extends JPAQueryBuilder> implements Supplier<T> {
+    private static final class DefaultQueryBuilderSupplier<T extends JPAQueryBuilder> implements Supplier<T>, Serializable {
+
+        @Serial
+        private static final long serialVersionUID = 2164169055540472550L;
 
         private static final String DEFAULT_BUILDER_CLASS_NAME = "org.eclipse.persistence.internal.jpa.jpql.HermesParser";
 
@@ -52,6 +52,13 @@ public interface SessionProfiler {
     String CacheMisses = "Counter:CacheMisses";
     String ChangeSetsProcessed = "Counter:ChangesProcessed";
     String ChangeSetsNotProcessed = "Counter:ChangesNotProcessed";
+    String StatementCacheHits = "Counter:StatementCacheHits";
+    String StatementCacheMisses = "Counter:StatementCacheMisses";
+    String StatementCacheEvictions = "Counter:StatementCacheEvictions";
+    String QueryCacheHits = "Counter:QueryCacheHits";
+    String QueryCacheMisses = "Counter:QueryCacheMisses";
+    String QueryCacheEvictions = "Counter:QueryCacheEvictions";
+    String QueryCacheInvalidations = "Counter:QueryCacheInvalidations";
 
     String DescriptorEvent = "Timer:DescriptorEvents";
     String SessionEvent = "Timer:SessionEvents";
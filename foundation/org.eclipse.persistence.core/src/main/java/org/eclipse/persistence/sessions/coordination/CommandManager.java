@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1998, 2019 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1998, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -14,6 +14,7 @@
 //     Oracle - initial API and implementation from Oracle TopLink
 package org.eclipse.persistence.sessions.coordination;
 
+import org.eclipse.persistence.exceptions.ValidationException;
 
 /**
  * <p>
@@ -205,6 +206,32 @@ public interface CommandManager {
      */
     void setShouldPropagateAsynchronously(boolean asyncMode);
 
+    /**
+     * PUBLIC:
+     * Return whether this command manager should propagate only the invalidation of the changed objects.
+     * If set the committed units of work propagate the class, id and new version of their changed and deleted objects,
+     * and the remote services invalidate the objects in their cache, unless already as new, instead of merging the changes.
+     * New objects are not propagated. By default the changes are propagated.
+     * Command managers that do not support it always return false.
+     */
+    default boolean shouldPropagateInvalidationsOnly() {
+        return false;
+    }
+
+    /**
+     * ADVANCED:
+     * Set whether this command manager should propagate only the invalidation of the changed objects.
+     * If set the committed units of work propagate the class, id and new version of their changed and deleted objects,
+     * and the remote services invalidate the objects in their cache, unless already as new, instead of merging the changes.
+     * New objects are not propagated. By default the changes are propagated.
+     * Command managers that do not support it throw a ValidationException if set to true.
+     */
+    default void setShouldPropagateInvalidationsOnly(boolean invalidationsOnly) {
+        if (invalidationsOnly) {
+            throw ValidationException.operationNotSupported("setShouldPropagateInvalidationsOnly");
+        }
+    }
+
     /**
     * ADVANCE:
     * Return whether this commandProcessor is a EclipseLink session or not.
@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.sessions.coordination;
+
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.internal.core.helper.CoreClassConstants;
+import org.eclipse.persistence.internal.descriptors.OptimisticLockingPolicy;
+import org.eclipse.persistence.internal.identitymaps.CacheKey;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.logging.SessionLog;
+import org.eclipse.persistence.sessions.SessionProfiler;
+
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * <p>
+ * <b>Purpose</b>: Provide a remote command implementation for remote cache
+ * invalidation of the changed objects.
+ * </p><p>
+ * <b>Description</b>: This command is propagated instead of a MergeChangeSetCommand when the command manager
+ * propagates invalidations only. Each changed or deleted object is sent as its class, primary key and new version,
+ * the class names are sent once and referenced by index.
+ * The receiving session invalidates the cache key of the object unless its cached version is already as new,
+ * without locking the cache key.
+ * </p>
+ *
+ * @see CommandManager#setShouldPropagateInvalidationsOnly(boolean)
+ */
+public class InvalidateObjectsCommand extends Command {
+
+    /** The class names of the invalidated objects. */
+    protected String[] classNames;
+
+    /** For each invalidated object, the index of its class name, its primary key and new version (null if deleted). */
+    protected int[] classIndexes;
+    protected Object[] ids;
+    protected Object[] writeLockValues;
+
+    /** The number of invalidated objects. */
+    protected int size;
+
+    /** Index of the class names, used when adding the objects. */
+    protected transient Map<String, Integer> classNameIndexes;
+
+    public InvalidateObjectsCommand() {
+        this.classNames = new String[0];
+        this.classIndexes = new int[8];
+        this.ids = new Object[8];
+        this.writeLockValues = new Object[8];
+    }
+
+    /**
+     * INTERNAL:
+     * Add the object to invalidate, the write lock value is the new version of the object, or null if deleted.
+     */
+    public void addObject(String className, Object id, Object writeLockValue) {
+        if (this.classNameIndexes == null) {
+            // Also rebuilt from the class names after deserialization.
+            this.classNameIndexes = new HashMap<>();
+            for (int index = 0; index < this.classNames.length; index++) {
+                this.classNameIndexes.put(this.classNames[index], index);
+            }
+        }
+        Integer classIndex = this.classNameIndexes.get(className);
+        if (classIndex == null) {
+            classIndex = this.classNames.length;
+            this.classNames = Arrays.copyOf(this.classNames, classIndex + 1);
+            this.classNames[classIndex] = className;
+            this.classNameIndexes.put(className, classIndex);
+        }
+        if (this.size == this.ids.length) {
+            // The arrays are trimmed to the size by serialization.
+            int length = Math.max(8, this.size * 2);
+            this.classIndexes = Arrays.copyOf(this.classIndexes, length);
+            this.ids = Arrays.copyOf(this.ids, length);
+            this.writeLockValues = Arrays.copyOf(this.writeLockValues, length);
+        }
+        this.classIndexes[this.size] = classIndex;
+        this.ids[this.size] = id;
+        this.writeLockValues[this.size] = writeLockValue;
+        this.size++;
+    }
+
+    /**
+     * INTERNAL:
+     * Return the number of objects to invalidate.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * INTERNAL:
+     * Invalidate the cache keys of the objects, unless their cached version is already as new.
+     */
+    @Override
+    public void executeWithSession(AbstractSession session) {
+        session.startOperationProfile(SessionProfiler.DistributedMerge);
+        try {
+            session.log(SessionLog.FINER, SessionLog.PROPAGATION, "received_updates_from_remote_server");
+            ClassDescriptor[] descriptors = new ClassDescriptor[this.classNames.length];
+            for (int index = 0; index < this.size; index++) {
+                int classIndex = this.classIndexes[index];
+                ClassDescriptor descriptor = descriptors[classIndex];
+                if (descriptor == null) {
+                    Class<?> javaClass = session.getDatasourcePlatform().getConversionManager().convertObject(this.classNames[classIndex], CoreClassConstants.CLASS);
+                    descriptor = session.getDescriptor(javaClass);
+                    if (descriptor == null) {
+                        continue;
+                    }
+                    descriptors[classIndex] = descriptor;
+                }
+                Object id = this.ids[index];
+                // The cache key is not locked, the invalidation state is set atomically.
+                CacheKey cacheKey = session.getIdentityMapAccessorInstance().getCacheKeyForObjectForLock(id, descriptor.getJavaClass(), descriptor);
+                if ((cacheKey == null) || isCurrent(cacheKey, id, this.writeLockValues[index], descriptor, session)) {
+                    session.incrementProfile(SessionProfiler.ChangeSetsNotProcessed);
+                    continue;
+                }
+                cacheKey.setInvalidationState(CacheKey.CACHE_KEY_INVALID);
+                session.incrementProfile(SessionProfiler.ChangeSetsProcessed);
+                if (session.getProject().allowExtendedCacheLogging()) {
+                    session.log(SessionLog.FINEST, SessionLog.CACHE, "cache_item_invalidation", new Object[] {descriptor.getJavaClass(), id, Thread.currentThread().getId(), Thread.currentThread().getName()});
+                }
+            }
+            // Clear the query cache as well.
+            for (ClassDescriptor descriptor : descriptors) {
+                if (descriptor != null) {
+                    session.getIdentityMapAccessorInstance().invalidateQueryCache(descriptor.getJavaClass());
+                }
+            }
+        } finally {
+            session.endOperationProfile(SessionProfiler.DistributedMerge);
+        }
+    }
+
+    /**
+     * Return if the cached object is at least as new as the version, so does not need to be invalidated.
+     */
+    protected boolean isCurrent(CacheKey cacheKey, Object id, Object writeLockValue, ClassDescriptor descriptor, AbstractSession session) {
+        OptimisticLockingPolicy policy = descriptor.getOptimisticLockingPolicy();
+        if ((writeLockValue == null) || (policy == null) || !policy.supportsWriteLockValuesComparison()) {
+            return false;
+        }
+        Object cachedValue;
+        if (policy.isStoredInCache()) {
+            cachedValue = cacheKey.getWriteLockValue();
+        } else {
+            Object object = cacheKey.getObject();
+            cachedValue = (object == null) ? null : policy.getWriteLockValue(object, id, session);
+        }
+        return (cachedValue != null) && (policy.compareWriteLockValues(cachedValue, writeLockValue) >= 0);
+    }
+
+    /**
+     * Write the arrays trimmed to the number of objects, the command itself is not changed.
+     */
+    private void writeObject(ObjectOutputStream stream) throws IOException {
+        ObjectOutputStream.PutField fields = stream.putFields();
+        fields.put("classNames", this.classNames);
+        fields.put("classIndexes", Arrays.copyOf(this.classIndexes, this.size));
+        fields.put("ids", Arrays.copyOf(this.ids, this.size));
+        fields.put("writeLockValues", Arrays.copyOf(this.writeLockValues, this.size));
+        fields.put("size", this.size);
+        stream.writeFields();
+    }
+}
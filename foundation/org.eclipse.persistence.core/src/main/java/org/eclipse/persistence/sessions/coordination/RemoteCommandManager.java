@@ -23,6 +23,7 @@
 import org.eclipse.persistence.internal.sessions.AbstractSession;
 import org.eclipse.persistence.internal.sessions.DatabaseSessionImpl;
 import org.eclipse.persistence.internal.sessions.UnitOfWorkChangeSet;
+import org.eclipse.persistence.internal.sessions.coordination.ChangeSetCoalescer;
 import org.eclipse.persistence.internal.sessions.coordination.CommandPropagator;
 import org.eclipse.persistence.internal.sessions.coordination.RCMCommand;
 import org.eclipse.persistence.internal.sessions.coordination.RemoteConnection;
@@ -77,6 +78,7 @@
 public class RemoteCommandManager implements org.eclipse.persistence.sessions.coordination.CommandManager {
     public static final String DEFAULT_CHANNEL = "EclipseLinkCommandChannel";
     public static final boolean DEFAULT_ASYNCHRONOUS_MODE = true;
+    public static final int DEFAULT_CHANGE_SET_BATCH_SIZE = 1000;
 
     /** Uniquely identifies this service in the cluster */
     protected ServiceId serviceId;
@@ -96,6 +98,9 @@ public class RemoteCommandManager implements org.eclipse.persistence.sessions.co
     /** Determines whether propagation should be synchronous or asynchronous */
     protected boolean isAsynchronous;
 
+    /** Determines whether only the invalidation of the changed objects should be propagated */
+    protected boolean isInvalidationOnly;
+
     /** Determines whether profiling command should be send */
     protected boolean isEclipseLinkSession;
 
@@ -105,6 +110,15 @@ public class RemoteCommandManager implements org.eclipse.persistence.sessions.co
     /** Set the Serializer to use for serialization of commands. */
     protected Serializer serializer;
 
+    /** Milliseconds the change sets are coalesced before being propagated, 0 propagates each change set. */
+    protected long changeSetBatchDelay;
+
+    /** Number of object change sets that causes the coalesced change sets to be propagated before the delay. */
+    protected int changeSetBatchSize = DEFAULT_CHANGE_SET_BATCH_SIZE;
+
+    /** Coalesces the change sets when a batch delay is set. */
+    protected ChangeSetCoalescer changeSetCoalescer;
+
     //** Indicates whether RCM is active. In case there's discoveryManager it mirrors discoveryManager.isDiscoveryStopped()
     protected boolean isStopped = true;
 
@@ -155,6 +169,9 @@ public void initialize() {
             }
         }
         this.isStopped = false;
+        if (this.changeSetBatchDelay > 0) {
+            this.changeSetCoalescer = new ChangeSetCoalescer(this, this.changeSetBatchDelay, this.changeSetBatchSize);
+        }
         if (this.discoveryManager != null) {
             this.discoveryManager.startDiscovery();
         } else {
@@ -196,6 +213,11 @@ public void shutdown() {
             newDmgr.shallowCopy(discoveryManager);
             discoveryManager = newDmgr;
         }
+        // Propagate the change sets still being coalesced.
+        if (changeSetCoalescer != null) {
+            changeSetCoalescer.flush();
+            changeSetCoalescer = null;
+        }
         isStopped = true;
         transportManager.discardConnections();
     }
@@ -210,7 +232,6 @@ public void shutdown() {
     @Override
     public void propagateCommand(Object command) {
         Command newCommand;
-        CommandPropagator propagator;
 
         this.commandProcessor.startOperationProfile(SessionProfiler.CacheCoordination);
         try {
@@ -233,31 +254,47 @@ public void propagateCommand(Object command) {
             // Set our service id on the command to indicate that it came from us
             newCommand.setServiceId(getServiceId());
 
-            // PERF: Support plugable serialization.
-            Serializer serializer = getSerializer();
-            byte[] commandBytes = null;
-            if (serializer != null) {
-                this.commandProcessor.startOperationProfile(SessionProfiler.CacheCoordinationSerialize);
-                try {
-                    commandBytes = (byte[])serializer.serialize(command, (AbstractSession)getCommandProcessor());
-                } finally {
-                    this.commandProcessor.endOperationProfile(SessionProfiler.CacheCoordinationSerialize);
-                }
+            // PERF: Coalesce the change sets, the coalescer propagates them in batches.
+            ChangeSetCoalescer coalescer = this.changeSetCoalescer;
+            if ((coalescer != null) && (newCommand == command) && (newCommand.getClass() == MergeChangeSetCommand.class)) {
+                coalescer.addChangeSet(((MergeChangeSetCommand)newCommand).getChangeSet(null));
+                return;
             }
 
-            // Propagate the command (synchronously or asynchronously)
-            propagator = new CommandPropagator(this, newCommand, commandBytes);
-
-            if (shouldPropagateAsynchronously()) {
-                propagator.asynchronousPropagateCommand();
-            } else {
-                propagator.synchronousPropagateCommand();
-            }
+            propagateConvertedCommand(command, newCommand);
         } finally {
             this.commandProcessor.endOperationProfile(SessionProfiler.CacheCoordination);
         }
     }
 
+    /**
+     * INTERNAL:
+     * Serialize and propagate the command to all remote RCM services,
+     * the new command being the EclipseLink command converted from the command.
+     */
+    public void propagateConvertedCommand(Object command, Command newCommand) {
+        // PERF: Support plugable serialization.
+        Serializer serializer = getSerializer();
+        byte[] commandBytes = null;
+        if (serializer != null) {
+            this.commandProcessor.startOperationProfile(SessionProfiler.CacheCoordinationSerialize);
+            try {
+                commandBytes = (byte[])serializer.serialize(command, (AbstractSession)getCommandProcessor());
+            } finally {
+                this.commandProcessor.endOperationProfile(SessionProfiler.CacheCoordinationSerialize);
+            }
+        }
+
+        // Propagate the command (synchronously or asynchronously)
+        CommandPropagator propagator = new CommandPropagator(this, newCommand, commandBytes);
+
+        if (shouldPropagateAsynchronously()) {
+            propagator.asynchronousPropagateCommand();
+        } else {
+            propagator.synchronousPropagateCommand();
+        }
+    }
+
     /**
      * INTERNAL:
      * Deserialize the command and execute it.
@@ -536,6 +573,72 @@ public void setShouldPropagateAsynchronously(boolean asyncMode) {
         isAsynchronous = asyncMode;
     }
 
+    /**
+     * PUBLIC:
+     * Return whether this command manager should propagate only the invalidation of the changed objects.
+     * If set the committed units of work propagate the class, id and new version of their changed and deleted objects,
+     * and the remote services invalidate the objects in their cache, unless already as new, instead of merging the changes.
+     * New objects are not propagated. By default the changes are propagated.
+     */
+    @Override
+    public boolean shouldPropagateInvalidationsOnly() {
+        return isInvalidationOnly;
+    }
+
+    /**
+     * ADVANCED:
+     * Set whether this command manager should propagate only the invalidation of the changed objects.
+     * If set the committed units of work propagate the class, id and new version of their changed and deleted objects,
+     * and the remote services invalidate the objects in their cache, unless already as new, instead of merging the changes.
+     * New objects are not propagated. By default the changes are propagated.
+     */
+    @Override
+    public void setShouldPropagateInvalidationsOnly(boolean invalidationsOnly) {
+        isInvalidationOnly = invalidationsOnly;
+    }
+
+    /**
+     * PUBLIC:
+     * Return the number of milliseconds the change sets of the committed units of work
+     * are coalesced before being propagated, 0 (the default) propagates each change set.
+     */
+    public long getChangeSetBatchDelay() {
+        return changeSetBatchDelay;
+    }
+
+    /**
+     * ADVANCED:
+     * Set the number of milliseconds the change sets of the committed units of work are coalesced
+     * before being propagated, this must be set before the command manager is initialized.
+     * Instead of one command per unit of work, the change sets are propagated as one command
+     * once the delay has elapsed since the first change set, or the batch size is reached.
+     * The changes of an object committed several times within the delay are combined,
+     * this reduces the number of messages and allows the remote services to merge the changes in one pass,
+     * at the cost of delaying the propagation by up to the delay.
+     * A value of 0 (the default) propagates each change set immediately.
+     */
+    public void setChangeSetBatchDelay(long changeSetBatchDelay) {
+        this.changeSetBatchDelay = changeSetBatchDelay;
+    }
+
+    /**
+     * PUBLIC:
+     * Return the number of object change sets that causes the coalesced change sets to be propagated before the delay.
+     */
+    public int getChangeSetBatchSize() {
+        return changeSetBatchSize;
+    }
+
+    /**
+     * ADVANCED:
+     * Set the number of object change sets that causes the coalesced change sets to be propagated before the delay.
+     * The default is 1000.
+     * @see #setChangeSetBatchDelay(long)
+     */
+    public void setChangeSetBatchSize(int changeSetBatchSize) {
+        this.changeSetBatchSize = changeSetBatchSize;
+    }
+
     /**
      * ADVANCED:
      * Allow user to replace the $HOST subString of the local host URL with the user user input at runtime.
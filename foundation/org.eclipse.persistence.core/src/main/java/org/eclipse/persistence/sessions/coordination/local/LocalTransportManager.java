@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.sessions.coordination.local;
+
+import org.eclipse.persistence.internal.sessions.coordination.local.LocalRemoteConnection;
+import org.eclipse.persistence.sessions.coordination.RemoteCommandManager;
+import org.eclipse.persistence.sessions.coordination.ServiceId;
+import org.eclipse.persistence.sessions.coordination.broadcast.BroadcastTransportManager;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * <p>
+ * <b>Purpose</b>: Provide a transport implementation for the Remote Command Module (RCM)
+ * connecting the sessions of the same JVM.
+ * </p><p>
+ * <b>Description</b>: This class manages two connections to a topic of the JVM:
+ * external connection for publishing, local connection for receiving messages.
+ * The commands are serialized by the command manager and deserialized by each receiving service,
+ * as with a remote transport, but are delivered without network or messaging system.
+ * This allows cache coordination to be tested and its overhead measured in a single process.
+ * </p><p>
+ * The delivery of the messages can be delayed with {@link #setLatency(long)}
+ * and messages dropped with {@link #setLossRate(double)}, subclasses can override
+ * {@link #getLatency(ServiceId)} and {@link #shouldDeliver(ServiceId)} to simulate other networks.
+ * Delayed messages are delivered by their own thread, so may be received out of order.
+ * Without latency the message is processed by each receiving service in the propagating thread.
+ * </p>
+ */
+public class LocalTransportManager extends BroadcastTransportManager {
+
+    public static final String DEFAULT_TOPIC = "EclipseLinkLocalTopic";
+
+    /** Milliseconds before a message is delivered. */
+    protected long latency;
+
+    /** Probability a message is not delivered to a service, between 0 and 1. */
+    protected double lossRate;
+
+    public LocalTransportManager() {
+        super();
+    }
+
+    public LocalTransportManager(RemoteCommandManager rcm) {
+        super(rcm);
+    }
+
+    /**
+     * INTERNAL:
+     * Initialize default properties.
+     */
+    @Override
+    public void initialize() {
+        super.initialize();
+        this.topicName = DEFAULT_TOPIC;
+    }
+
+    /**
+     * INTERNAL:
+     * Create the external connection publishing to the topic and the local connection receiving from it.
+     */
+    @Override
+    public void createConnections() {
+        createExternalConnection();
+        createLocalConnection();
+    }
+
+    /**
+     * INTERNAL:
+     * LocalTransportManager has only one external connection, publishing to all the services of the topic.
+     */
+    public void createExternalConnection() {
+        synchronized (connectionsToExternalServices) {
+            if (connectionsToExternalServices.isEmpty()) {
+                connectionsToExternalServices.put(rcm.getServiceId().getId(), new LocalRemoteConnection(rcm, false));
+            }
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Create the local connection and register it to receive the messages published to the topic.
+     */
+    @Override
+    public synchronized void createLocalConnection() {
+        if (localConnection == null) {
+            localConnection = new LocalRemoteConnection(rcm, true);
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Unregister and close the local connection.
+     */
+    @Override
+    public void removeLocalConnection() {
+        LocalRemoteConnection connectionToRemove;
+        synchronized (this) {
+            connectionToRemove = (LocalRemoteConnection)localConnection;
+            localConnection = null;
+        }
+        if (connectionToRemove != null) {
+            connectionToRemove.close();
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Return if the message should be delivered to the service, messages are lost with the loss rate.
+     */
+    public boolean shouldDeliver(ServiceId serviceId) {
+        return (this.lossRate <= 0) || (ThreadLocalRandom.current().nextDouble() >= this.lossRate);
+    }
+
+    /**
+     * INTERNAL:
+     * Return the milliseconds before a message is delivered to the service.
+     */
+    public long getLatency(ServiceId serviceId) {
+        return this.latency;
+    }
+
+    /**
+     * PUBLIC:
+     * Return the milliseconds before a message is delivered, 0 by default.
+     */
+    public long getLatency() {
+        return latency;
+    }
+
+    /**
+     * PUBLIC:
+     * Set the milliseconds before a message is delivered to each service.
+     */
+    public void setLatency(long latency) {
+        this.latency = latency;
+    }
+
+    /**
+     * PUBLIC:
+     * Return the probability a message is not delivered to a service, 0 by default.
+     */
+    public double getLossRate() {
+        return lossRate;
+    }
+
+    /**
+     * PUBLIC:
+     * Set the probability, between 0 and 1, a message is not delivered to a service.
+     */
+    public void setLossRate(double lossRate) {
+        this.lossRate = lossRate;
+    }
+}
@@ -263,6 +263,8 @@ protected void addDescriptorPropertyLines(NonreflectiveMethodDefinition method,
                 method.addLine("descriptor.useFullIdentityMap();");
             } else if (descriptor.shouldUseCacheIdentityMap()) {
                 method.addLine("descriptor.useCacheIdentityMap();");
+            } else if (descriptor.shouldUseSegmentedCacheIdentityMap()) {
+                method.addLine("descriptor.useSegmentedCacheIdentityMap();");
             } else if (descriptor.shouldUseSoftCacheWeakIdentityMap()) {
                 method.addLine("descriptor.useSoftCacheWeakIdentityMap();");
             } else if (descriptor.shouldUseHardCacheWeakIdentityMap()) {
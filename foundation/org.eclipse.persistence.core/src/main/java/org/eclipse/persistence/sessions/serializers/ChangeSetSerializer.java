@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.sessions.serializers;
+
+import org.eclipse.persistence.internal.sessions.ChangeSetCodec;
+import org.eclipse.persistence.internal.sessions.UnitOfWorkChangeSet;
+import org.eclipse.persistence.sessions.Session;
+import org.eclipse.persistence.sessions.coordination.MergeChangeSetCommand;
+import org.eclipse.persistence.sessions.coordination.ServiceId;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Compact binary serialization of the change sets sent by cache coordination.
+ * <p>
+ * A MergeChangeSetCommand is written with descriptor and attribute ids instead of class and attribute names,
+ * and its values as tagged binary values instead of Java serialized objects.
+ * The services of the cluster must use the same project, the ids are checked on deserialization.
+ * Other commands, and change sets with changes other than direct and object reference changes,
+ * are Java serialized.
+ * <p>
+ * Set as the serializer of the RemoteCommandManager, or through the
+ * "eclipselink.cache.coordination.serializer" persistence unit property.
+ *
+ * @see ChangeSetCodec
+ */
+public class ChangeSetSerializer extends AbstractSerializer {
+
+    /** Format of the serialized bytes, the first byte. */
+    protected static final byte JAVA = 0;
+    protected static final byte CHANGE_SET = 1;
+
+    /** Initial size of the buffer the change sets are written to. */
+    protected static final int INITIAL_SIZE = 1024;
+
+    /** The codec of the session's project. */
+    protected volatile ChangeSetCodec codec;
+
+    @Override
+    public void initialize(Class<?> serializeClass, String serializePackage, Session session) {
+        if (session != null) {
+            this.codec = new ChangeSetCodec(session);
+        }
+    }
+
+    /**
+     * Return the codec, built on first use if the serializer was not initialized.
+     */
+    protected ChangeSetCodec getCodec(Session session) {
+        ChangeSetCodec codec = this.codec;
+        if (codec == null) {
+            codec = new ChangeSetCodec(session);
+            this.codec = codec;
+        }
+        return codec;
+    }
+
+    @Override
+    public Object serialize(Object object, Session session) {
+        if ((session != null) && (object != null) && (object.getClass() == MergeChangeSetCommand.class)) {
+            MergeChangeSetCommand command = (MergeChangeSetCommand)object;
+            UnitOfWorkChangeSet changeSet = command.getChangeSet(null);
+            ChangeSetCodec codec = getCodec(session);
+            if ((changeSet != null) && codec.canEncode(changeSet)) {
+                ByteBuffer buffer = ByteBuffer.allocate(INITIAL_SIZE);
+                buffer.put(CHANGE_SET);
+                buffer = codec.encode(changeSet, command.getServiceId(), buffer);
+                return Arrays.copyOf(buffer.array(), buffer.position());
+            }
+        }
+        byte[] bytes = (byte[])JavaSerializer.instance.serialize(object, session);
+        byte[] result = new byte[bytes.length + 1];
+        result[0] = JAVA;
+        System.arraycopy(bytes, 0, result, 1, bytes.length);
+        return result;
+    }
+
+    @Override
+    public Object deserialize(Object bytes, Session session) {
+        byte[] array = (byte[])bytes;
+        if (array[0] == CHANGE_SET) {
+            ServiceId[] serviceId = new ServiceId[1];
+            UnitOfWorkChangeSet changeSet = getCodec(session).decode(ByteBuffer.wrap(array, 1, array.length - 1), serviceId);
+            MergeChangeSetCommand command = new MergeChangeSetCommand();
+            command.setChangeSet(changeSet);
+            command.setServiceId(serviceId[0]);
+            return command;
+        }
+        return JavaSerializer.instance.deserialize(Arrays.copyOfRange(array, 1, array.length), session);
+    }
+}
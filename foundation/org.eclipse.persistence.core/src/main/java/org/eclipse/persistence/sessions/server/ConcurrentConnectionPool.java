@@ -0,0 +1,379 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.sessions.server;
+
+import org.eclipse.persistence.exceptions.ConcurrencyException;
+import org.eclipse.persistence.exceptions.DatabaseException;
+import org.eclipse.persistence.internal.databaseaccess.Accessor;
+import org.eclipse.persistence.logging.SessionLog;
+import org.eclipse.persistence.sessions.Login;
+
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>
+ * <b>Purpose</b>: Exclusive connection pool that does not use the pool monitor.
+ * <p>
+ * Idle connections are kept in a lock-free deque and callers waiting for a connection
+ * are parked on a fair {@link Semaphore}, so waiters are served in FIFO order and
+ * virtual threads are never pinned while waiting.
+ * The time spent waiting for a connection is recorded in a per-pool histogram
+ * and the wait is bounded by the pool's wait timeout.
+ * <p>
+ * This pool can be used in place of any {@link ConnectionPool},
+ * including as the (exclusive) read connection pool.
+ * @see ServerSession#setReadConnectionPool(ConnectionPool)
+ * @see ServerSession#addConnectionPool(ConnectionPool)
+ */
+public class ConcurrentConnectionPool extends ConnectionPool {
+
+    /** Upper bounds in milliseconds of the wait time histogram buckets, the last bucket is unbounded. */
+    protected static final long[] WAIT_TIME_BUCKETS = {0, 1, 5, 10, 50, 100, 500, 1000, 5000, 30000};
+
+    /** Idle connections, the most recently released connection is at the tail. */
+    protected Deque<Accessor> idleConnections;
+    /** Connections currently allocated to clients. */
+    protected Set<Accessor> busyConnections;
+    /** Number of connections built by this pool and not yet disconnected. */
+    protected AtomicInteger numberOfConnections;
+    /** One permit for each connection that can still be allocated. */
+    protected Semaphore permits;
+    /** Number of acquires that waited for each of the {@link #WAIT_TIME_BUCKETS}. */
+    protected AtomicLongArray waitTimeHistogram;
+    /** Number of acquires that exceeded the wait timeout. */
+    protected LongAdder numberOfTimeouts;
+
+    /**
+     * PUBLIC:
+     * Build a new concurrent connection pool.
+     */
+    public ConcurrentConnectionPool() {
+        super();
+    }
+
+    /**
+     * PUBLIC:
+     * Build a new concurrent connection pool.
+     */
+    public ConcurrentConnectionPool(String name, Login login, ServerSession owner) {
+        super(name, login, owner);
+    }
+
+    /**
+     * PUBLIC:
+     * Build a new concurrent connection pool.
+     */
+    public ConcurrentConnectionPool(String name, Login login, int minNumberOfConnections, int maxNumberOfConnections, ServerSession owner) {
+        super(name, login, minNumberOfConnections, maxNumberOfConnections, owner);
+    }
+
+    /**
+     * PUBLIC:
+     * Build a new concurrent connection pool.
+     */
+    public ConcurrentConnectionPool(String name, Login login, int initialNumberOfConnections, int minNumberOfConnections, int maxNumberOfConnections, ServerSession owner) {
+        super(name, login, initialNumberOfConnections, minNumberOfConnections, maxNumberOfConnections, owner);
+    }
+
+    /**
+     * INTERNAL:
+     * Wait until a connection is available and allocate the connection for the client.
+     * Waiting threads are served in arrival order.
+     */
+    @Override
+    public Accessor acquireConnection() throws ConcurrencyException {
+        // Check for dead database and fail-over.
+        if (this.isDead) {
+            return failover();
+        }
+        long start = System.nanoTime();
+        Semaphore permits = this.permits;
+        try {
+            if (this.waitTimeout > 0) {
+                if (!permits.tryAcquire(this.waitTimeout, TimeUnit.MILLISECONDS)) {
+                    this.numberOfTimeouts.increment();
+                    recordWaitTime(System.nanoTime() - start);
+                    throw ConcurrencyException.waitTimeoutOnConnectionPool(this.name, this.waitTimeout);
+                }
+            } else {
+                permits.acquire();
+            }
+        } catch (InterruptedException exception) {
+            throw ConcurrencyException.waitFailureOnClientSession(exception);
+        }
+        recordWaitTime(System.nanoTime() - start);
+        if ((permits != this.permits) || !isConnected()) {
+            // The pool was shut down while waiting, shutDown released all waiters.
+            throw DatabaseException.databaseAccessorNotConnected();
+        }
+
+        // The permit guarantees either an idle connection or room for a new one.
+        Accessor connection = this.idleConnections.pollLast();
+        if ((connection != null) && this.checkConnections) {
+            // EclipseLink has encountered a problem with a connection where the database no longer responded
+            // We need to now ensure that the failure was specific to that connection or we need to empty
+            // the pool of dead connections in the case of a database failover.
+            while ((connection != null) && this.owner.getLogin().isConnectionHealthValidatedOnError()
+                    && this.owner.getServerPlatform().wasFailureCommunicationBased(null, connection, this.owner)) {
+                try {
+                    //connection failed connect test
+                    connection.closeConnection();
+                } catch (Exception ex) {
+                    //ignore
+                } finally {
+                    connection.releaseCustomizer();
+                }
+                this.numberOfConnections.decrementAndGet();
+                connection = this.idleConnections.pollLast();
+            }
+            this.checkConnections = false;
+        }
+        if (connection == null) {
+            this.numberOfConnections.incrementAndGet();
+            try {
+                connection = buildConnection();
+            } catch (RuntimeException failed) {
+                this.numberOfConnections.decrementAndGet();
+                permits.release();
+                if (!this.failoverConnectionPools.isEmpty()) {
+                    this.isDead = true;
+                    this.timeOfDeath = System.currentTimeMillis();
+                    this.owner.logThrowable(SessionLog.WARNING, SessionLog.SQL, failed);
+                    return acquireConnection();
+                } else {
+                    throw failed;
+                }
+            }
+        }
+        this.busyConnections.add(connection);
+        if (this.owner.isInProfile()) {
+            this.owner.updateProfile(MONITOR_HEADER + this.name, this.busyConnections.size());
+        }
+        if (this.owner.shouldLog(SessionLog.FINEST, SessionLog.CONNECTION)) {
+            Object[] args = new Object[1];
+            args[0] = this.name;
+            this.owner.log(SessionLog.FINEST, SessionLog.CONNECTION, "acquire_connection", args, connection);
+        }
+        return connection;
+    }
+
+    /**
+     * INTERNAL:
+     * Return the connection to the pool and wake up the longest waiting client.
+     */
+    @Override
+    public void releaseConnection(Accessor connection) throws DatabaseException {
+        if (this.owner.shouldLog(SessionLog.FINEST, SessionLog.CONNECTION)) {
+            Object[] args = new Object[1];
+            args[0] = this.name;
+            this.owner.log(SessionLog.FINEST, SessionLog.CONNECTION, "release_connection", args, connection);
+        }
+        connection.reset();
+        if (!this.busyConnections.remove(connection)) {
+            // Not allocated from this pool (or already released), do not create an extra permit.
+            return;
+        }
+        try {
+            if (!connection.isValid()) {
+                this.checkConnections = true;
+                this.numberOfConnections.decrementAndGet();
+                try {
+                    connection.disconnect(this.owner);
+                } catch (DatabaseException ex) {
+                    //this is an invalid connection so expect an exception.
+                }
+            } else if (this.numberOfConnections.get() <= this.minNumberOfConnections) {
+                this.idleConnections.offerLast(connection);
+            } else {
+                this.numberOfConnections.decrementAndGet();
+                connection.disconnect(this.owner);
+            }
+            if (this.owner.isInProfile()) {
+                this.owner.updateProfile(MONITOR_HEADER + this.name, this.busyConnections.size());
+            }
+        } finally {
+            this.permits.release();
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Record the time a client waited for a permit.
+     */
+    protected void recordWaitTime(long nanos) {
+        long millis = TimeUnit.NANOSECONDS.toMillis(nanos);
+        int index = 0;
+        while ((index < WAIT_TIME_BUCKETS.length) && (millis > WAIT_TIME_BUCKETS[index])) {
+            index++;
+        }
+        this.waitTimeHistogram.incrementAndGet(index);
+    }
+
+    /**
+     * PUBLIC:
+     * Return the upper bounds in milliseconds of the wait time histogram buckets.
+     * The histogram has one more bucket than bounds, for waits longer than the last bound.
+     * @see #getWaitTimeHistogram()
+     */
+    public long[] getWaitTimeHistogramBounds() {
+        return WAIT_TIME_BUCKETS.clone();
+    }
+
+    /**
+     * PUBLIC:
+     * Return the number of connection acquires per wait time bucket.
+     * @see #getWaitTimeHistogramBounds()
+     */
+    public long[] getWaitTimeHistogram() {
+        long[] histogram = new long[this.waitTimeHistogram.length()];
+        for (int index = 0; index < histogram.length; index++) {
+            histogram[index] = this.waitTimeHistogram.get(index);
+        }
+        return histogram;
+    }
+
+    /**
+     * PUBLIC:
+     * Return the number of connection acquires that exceeded the wait timeout.
+     */
+    public long getNumberOfTimeouts() {
+        return this.numberOfTimeouts.sum();
+    }
+
+    /**
+     * INTERNAL:
+     * Return a snapshot of the connections currently available for use in the pool.
+     */
+    @Override
+    public List<Accessor> getConnectionsAvailable() {
+        return new ArrayList<>(this.idleConnections);
+    }
+
+    /**
+     * Return a snapshot of the connections that are being used.
+     */
+    @Override
+    protected List<Accessor> getConnectionsUsed() {
+        return new ArrayList<>(this.busyConnections);
+    }
+
+    /**
+     * INTERNAL:
+     * Return the total number of connections currently in use.
+     */
+    @Override
+    public int getTotalNumberOfConnections() {
+        return this.numberOfConnections.get();
+    }
+
+    /**
+     * INTERNAL:
+     * Return if there is an idle connection in the pool.
+     */
+    @Override
+    public boolean hasConnectionAvailable() {
+        return !this.idleConnections.isEmpty();
+    }
+
+    /**
+     * INTERNAL:
+     * Reset the connections on shutDown and when the pool is started.
+     */
+    @Override
+    public void resetConnections() {
+        super.resetConnections();
+        // Called from the super constructor, so fields must not use initializers.
+        this.idleConnections = new ConcurrentLinkedDeque<>();
+        this.busyConnections = ConcurrentHashMap.newKeySet();
+        this.numberOfConnections = new AtomicInteger();
+        this.permits = new Semaphore(this.maxNumberOfConnections, true);
+        if (this.waitTimeHistogram == null) {
+            this.waitTimeHistogram = new AtomicLongArray(WAIT_TIME_BUCKETS.length + 1);
+            this.numberOfTimeouts = new LongAdder();
+        }
+    }
+
+    /**
+     * PUBLIC:
+     * Set the maximum number of connections allowed.
+     * This must be configured before the pool is connected.
+     * @see ConnectionPool#setMaxNumberOfConnections(int)
+     */
+    @Override
+    public void setMaxNumberOfConnections(int maxNumberOfConnections) {
+        super.setMaxNumberOfConnections(maxNumberOfConnections);
+        if (!isConnected()) {
+            this.permits = new Semaphore(maxNumberOfConnections, true);
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Disconnect all connections.
+     * Clients waiting for a connection are released and fail.
+     */
+    @Override
+    public synchronized void shutDown() {
+        setIsConnected(false);
+        Semaphore permits = this.permits;
+
+        for (Accessor connection : this.idleConnections) {
+            try {
+                connection.disconnect(getOwner());
+            } catch (DatabaseException exception) {
+                // Ignore.
+            }
+        }
+
+        for (Accessor connection : this.busyConnections) {
+            try {
+                connection.disconnect(getOwner());
+            } catch (DatabaseException exception) {
+                // Ignore.
+            }
+        }
+        resetConnections();
+        // Wake up the waiters on the replaced semaphore, they see it is no longer current.
+        permits.release(Integer.MAX_VALUE / 2);
+    }
+
+    /**
+     * INTERNAL:
+     * Allocate the initial connections.
+     */
+    @Override
+    public synchronized void startUp() {
+        if (isConnected()) {
+            return;
+        }
+        this.permits = new Semaphore(this.maxNumberOfConnections, true);
+        for (int index = Math.min(getInitialNumberOfConnections(), this.maxNumberOfConnections); index > 0; index--) {
+            this.idleConnections.offerLast(buildConnection());
+            this.numberOfConnections.incrementAndGet();
+        }
+
+        setIsConnected(true);
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1998, 2025 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1998, 2026 Oracle and/or its affiliates. All rights reserved.
  * Copyright (c) 1998, 2024 IBM Corporation. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -38,12 +38,14 @@
 import org.eclipse.persistence.config.ResultType;
 import org.eclipse.persistence.descriptors.invalidation.DailyCacheInvalidationPolicy;
 import org.eclipse.persistence.descriptors.invalidation.TimeToLiveCacheInvalidationPolicy;
+import org.eclipse.persistence.internal.databaseaccess.Accessor;
 import org.eclipse.persistence.internal.sessions.AbstractSession;
 import org.eclipse.persistence.jpa.JpaQuery;
 import org.eclipse.persistence.queries.Cursor;
 import org.eclipse.persistence.queries.ReadQuery;
 import org.eclipse.persistence.queries.ScrollableCursor;
 import org.eclipse.persistence.sessions.DatabaseSession;
+import org.eclipse.persistence.sessions.server.ConnectionPool;
 import org.eclipse.persistence.sessions.server.ServerSession;
 import org.eclipse.persistence.testing.framework.QuerySQLTracker;
 import org.eclipse.persistence.testing.framework.jpa.junit.JUnitTestCase;
@@ -65,6 +67,7 @@
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 /**
  * <p>
@@ -132,6 +135,7 @@ public static Test suite() {
         suite.addTest(new AdvancedQueryTest("testObjectResultType"));
         suite.addTest(new AdvancedQueryTest("testNativeResultType"));
         suite.addTest(new AdvancedQueryTest("testCursors"));
+        suite.addTest(new AdvancedQueryTest("testResultStream"));
         suite.addTest(new AdvancedQueryTest("testFetchGroups"));
         suite.addTest(new AdvancedQueryTest("testMultipleNamedJoinFetchs"));
         suite.addTest(new AdvancedQueryTest("testNativeQueryTransactions"));
@@ -423,6 +427,67 @@ public void testCursors() {
         }
     }
 
+    /**
+     * Test getResultStream() with and without the result stream cursor hint,
+     * a cursor stream must release its connection when closed or fully consumed.
+     */
+    public void testResultStream() {
+        EntityManager em = createEntityManager();
+        try {
+            int expected = em.createQuery("Select employee from Employee employee").getResultList().size();
+            int inUse = getReadConnectionsInUse();
+
+            // By default the stream is over the result list, no connection is held by an unclosed stream.
+            Stream<Employee> stream = em.createQuery("Select employee from Employee employee", Employee.class).getResultStream();
+            assertTrue("Default stream should return an employee", stream.findFirst().isPresent());
+            assertReadConnectionsInUse(inUse, "default stream");
+
+            // Early terminated cursor stream holds its connection until closed.
+            TypedQuery<Employee> query = em.createQuery("Select employee from Employee employee", Employee.class);
+            query.setHint(QueryHints.RESULT_STREAM_CURSOR, true);
+            try (Stream<Employee> cursorStream = query.getResultStream()) {
+                assertTrue("Cursor stream should return an employee", cursorStream.findFirst().isPresent());
+                assertReadConnectionsInUse(inUse + 1, "open cursor stream");
+            }
+            assertReadConnectionsInUse(inUse, "closed cursor stream");
+
+            try (Stream<Employee> cursorStream = query.getResultStream()) {
+                assertEquals("Limited cursor stream size", Math.min(2, expected), cursorStream.limit(2).count());
+            }
+            assertReadConnectionsInUse(inUse, "closed limited cursor stream");
+
+            // Fully consumed cursor stream releases its connection without being closed.
+            assertEquals("Cursor stream size", expected, query.getResultStream().count());
+            assertReadConnectionsInUse(inUse, "consumed cursor stream");
+        } finally {
+            closeEntityManager(em);
+        }
+    }
+
+    /**
+     * Return the number of connections of the read connection pool in use, or -1 on the server.
+     */
+    protected int getReadConnectionsInUse() {
+        if (isOnServer()) {
+            return -1;
+        }
+        ConnectionPool pool = getServerSession().getReadConnectionPool();
+        int inUse = pool.getTotalNumberOfConnections() - pool.getConnectionsAvailable().size();
+        // A shared read connection pool keeps the connections in use available.
+        for (Accessor accessor : pool.getConnectionsAvailable()) {
+            if (accessor.getCallCount() > 0) {
+                inUse++;
+            }
+        }
+        return inUse;
+    }
+
+    protected void assertReadConnectionsInUse(int expected, String message) {
+        if (!isOnServer()) {
+            assertEquals("Read connections in use after " + message, expected, getReadConnectionsInUse());
+        }
+    }
+
     /**
      * Test the result type of various queries.
      */
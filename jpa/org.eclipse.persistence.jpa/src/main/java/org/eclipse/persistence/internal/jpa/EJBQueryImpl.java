@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1998, 2025 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1998, 2026 Oracle and/or its affiliates. All rights reserved.
  * Copyright (c) 2025 IBM Corporation. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -33,6 +33,7 @@
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 import jakarta.persistence.CacheRetrieveMode;
 import jakarta.persistence.CacheStoreMode;
@@ -67,6 +68,8 @@
 import org.eclipse.persistence.queries.ReportQuery;
 import org.eclipse.persistence.queries.ResultSetMappingQuery;
 import org.eclipse.persistence.queries.SQLResultSetMapping;
+import org.eclipse.persistence.queries.ScrollableCursor;
+import org.eclipse.persistence.queries.ScrollableCursorPolicy;
 import org.eclipse.persistence.sessions.DatabaseRecord;
 
 /**
@@ -525,6 +528,66 @@ public Cursor getResultCursor() {
         }
     }
 
+    /**
+     * Execute the query and return the query results as a Stream.
+     * <p>
+     * By default the stream is over the result list.
+     * With the "eclipselink.cursor.result-stream" hint, entity queries are executed through a forward only ScrollableCursor,
+     * the entities are built from the result set as the stream is consumed instead of being read into a List.
+     * The cursor holds a connection until the stream is closed or fully consumed,
+     * so a stream that is not fully consumed must be closed, e.g. in a try-with-resources statement.
+     * Entities read in a transaction are still registered in the persistence context,
+     * use the "eclipselink.read-only" hint to stream large results in constant memory.
+     * Other queries always return a stream over the result list.
+     *
+     * @return a stream of the results
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public Stream<X> getResultStream() {
+        // bug51411440: need to throw IllegalStateException if query executed on closed em
+        this.entityManager.verifyOpenWithSetRollbackOnly();
+        setAsSQLReadQuery();
+        propagateResultProperties();
+        DatabaseQuery query = getDatabaseQueryInternal();
+        if (!Boolean.TRUE.equals(query.getProperty(QueryHints.RESULT_STREAM_CURSOR)) || !canStreamResults(query)) {
+            return getResultList().stream();
+        }
+        // Execute a clone using the cursor, so the query itself is not modified or re-prepared.
+        ReadAllQuery streamQuery = (ReadAllQuery) query.clone();
+        ScrollableCursorPolicy policy = new ScrollableCursorPolicy();
+        policy.setResultSetType(ScrollableCursorPolicy.TYPE_FORWARD_ONLY);
+        policy.setResultSetConcurrency(ScrollableCursorPolicy.CONCUR_READ_ONLY);
+        streamQuery.useScrollableCursor(policy);
+        try {
+            ScrollableCursor cursor = (ScrollableCursor) executeReadQuery(streamQuery, true);
+            return (Stream<X>) cursor.stream();
+        } catch (LockTimeoutException e) {
+            throw e;
+        } catch (PersistenceException | IllegalStateException exception) {
+            setRollbackOnly();
+            throw exception;
+        } catch (RuntimeException exception) {
+            setRollbackOnly();
+            throw new PersistenceException(exception);
+        }
+    }
+
+    /**
+     * Return if the query results can be streamed from a cursor.
+     * Report queries may return null values, which a cursor can not distinguish from its end,
+     * and results read from the cache are already in memory.
+     */
+    protected boolean canStreamResults(DatabaseQuery query) {
+        if (!query.isReadAllQuery() || query.isReportQuery()) {
+            return false;
+        }
+        ReadAllQuery readAllQuery = (ReadAllQuery) query;
+        ContainerPolicy policy = readAllQuery.getContainerPolicy();
+        return !policy.isCursorPolicy() && Helper.classImplementsInterface(policy.getContainerClass(), CoreClassConstants.List_Class)
+                && !readAllQuery.shouldCacheQueryResults() && !readAllQuery.shouldCheckCacheOnly();
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public X getSingleResult() {
@@ -268,6 +268,7 @@
 import org.eclipse.persistence.queries.QueryResultsCachePolicy;
 import org.eclipse.persistence.sequencing.Sequence;
 import org.eclipse.persistence.sessions.Connector;
+import org.eclipse.persistence.sessions.CachePreloader;
 import org.eclipse.persistence.sessions.DatabaseLogin;
 import org.eclipse.persistence.sessions.DatasourceLogin;
 import org.eclipse.persistence.sessions.DefaultConnector;
@@ -291,6 +292,7 @@
 import org.eclipse.persistence.sessions.remote.rmi.RMIServerSessionManagerDispatcher;
 import org.eclipse.persistence.sessions.serializers.JavaSerializer;
 import org.eclipse.persistence.sessions.serializers.Serializer;
+import org.eclipse.persistence.sessions.server.ConcurrentConnectionPool;
 import org.eclipse.persistence.sessions.server.ConnectionPolicy;
 import org.eclipse.persistence.sessions.server.ConnectionPool;
 import org.eclipse.persistence.sessions.server.ExternalConnectionPool;
@@ -827,6 +829,7 @@ public Object handleException(RuntimeException exception) {
 
                             // Generate the DDL using the correct connection.
                             writeDDL(deployProperties, getDatabaseSession(deployProperties), classLoaderToUse);
+                            preloadCache(deployProperties);
                         }
                     }
                     // Initialize platform specific identity sequences plus connect accessor to DB (in case of remote disconnected session).
@@ -1511,7 +1514,8 @@ protected void updateDescriptorCacheSettings(Map m, ClassLoader loader) {
         Map typeMap = PropertiesHandler.getPrefixValuesLogDebug(PersistenceUnitProperties.CACHE_TYPE_, m, session);
         Map sizeMap = PropertiesHandler.getPrefixValuesLogDebug(PersistenceUnitProperties.CACHE_SIZE_, m, session);
         Map sharedMap = PropertiesHandler.getPrefixValuesLogDebug(PersistenceUnitProperties.CACHE_SHARED_, m, session);
-        if(typeMap.isEmpty() && sizeMap.isEmpty() && sharedMap.isEmpty()) {
+        Map preloadMap = PropertiesHandler.getPrefixValuesLogDebug(PersistenceUnitProperties.CACHE_PRELOAD_, m, session);
+        if(typeMap.isEmpty() && sizeMap.isEmpty() && sharedMap.isEmpty() && preloadMap.isEmpty()) {
             return;
         }
 
@@ -1538,8 +1542,10 @@ protected void updateDescriptorCacheSettings(Map m, ClassLoader loader) {
                         ? CacheIsolationType.SHARED : CacheIsolationType.ISOLATED);
             }
 
+            String defaultPreloadString = (String)preloadMap.remove(PersistenceUnitProperties.DEFAULT);
+
             Iterator<ClassDescriptor> it = session.getDescriptors().values().iterator();
-            while (it.hasNext() && (!typeMap.isEmpty() || !sizeMap.isEmpty() || !sharedMap.isEmpty())) {
+            while (it.hasNext() && (!typeMap.isEmpty() || !sizeMap.isEmpty() || !sharedMap.isEmpty() || !preloadMap.isEmpty() || (defaultPreloadString != null))) {
                 ClassDescriptor descriptor = it.next();
 
                 if (descriptor.isDescriptorTypeAggregate()) {
@@ -1583,12 +1589,43 @@ protected void updateDescriptorCacheSettings(Map m, ClassLoader loader) {
                     boolean shared = Boolean.parseBoolean(sharedString);
                     descriptor.setCacheIsolation(shared ? CacheIsolationType.SHARED : CacheIsolationType.ISOLATED);
                 }
+
+                String preloadString = (String)preloadMap.remove(entityName);
+                if (preloadString == null) {
+                    preloadString = (String)preloadMap.remove(className);
+                }
+                if (preloadString == null) {
+                    preloadString = defaultPreloadString;
+                }
+                if (preloadString != null) {
+                    descriptor.getCachePolicy().setShouldPreload(Boolean.parseBoolean(preloadString));
+                }
             }
         } catch (NumberFormatException exception) {
             this.session.handleException(ValidationException.invalidValueForProperty(value, PersistenceUnitProperties.CACHE_SIZE_, exception));
         }
     }
 
+    /**
+     * Start preloading the cache of the entities configured to be preloaded, in the background.
+     */
+    protected void preloadCache(Map m) {
+        CachePreloader preloader = new CachePreloader(getDatabaseSession());
+        if (preloader.getDescriptors().isEmpty()) {
+            return;
+        }
+        String threads = getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.CACHE_PRELOAD_THREADS, m, this.session);
+        if (threads != null) {
+            try {
+                preloader.setThreads(Integer.parseInt(threads));
+            } catch (NumberFormatException exception) {
+                this.session.handleException(ValidationException.invalidValueForProperty(threads, PersistenceUnitProperties.CACHE_PRELOAD_THREADS, exception));
+            }
+        }
+        getDatabaseSession().setCachePreloader(preloader);
+        preloader.start();
+    }
+
     /**
      * Process all properties under "eclipselink.connection-pool.".
      * This allows for named connection pools.
@@ -1691,6 +1728,27 @@ protected void updateConnectionSettings(ServerSession serverSession, Map propert
                         readPool.setLogin(pool.getLogin());
                         serverSession.setReadConnectionPool(readPool);
                     }
+                } else if (attribute.equals(PersistenceUnitProperties.CONNECTION_POOL_CONCURRENT)) {
+                    boolean concurrent = Boolean.parseBoolean((String)entry.getValue());
+                    // External and shared pools do not wait for connections, so are left as is.
+                    if (concurrent && (pool.getClass() == ConnectionPool.class)) {
+                        ConcurrentConnectionPool concurrentPool = new ConcurrentConnectionPool(pool.getName(), pool.getLogin(), serverSession);
+                        concurrentPool.setInitialNumberOfConnections(pool.getInitialNumberOfConnections());
+                        concurrentPool.setMinNumberOfConnections(pool.getMinNumberOfConnections());
+                        concurrentPool.setMaxNumberOfConnections(pool.getMaxNumberOfConnections());
+                        concurrentPool.setWaitTimeout(pool.getWaitTimeout());
+                        concurrentPool.setFailoverConnectionPools(pool.getFailoverConnectionPools());
+                        if (poolName.equals("read")) {
+                            serverSession.setReadConnectionPool(concurrentPool);
+                        } else if (poolName.equals("sequence")) {
+                            getDatabaseSession().getSequencingControl().setConnectionPool(concurrentPool);
+                        } else {
+                            if (serverSession.getReadConnectionPool() == pool) {
+                                serverSession.setReadConnectionPool(concurrentPool);
+                            }
+                            serverSession.addConnectionPool(concurrentPool);
+                        }
+                    }
                 }
             } catch (RuntimeException exception) {
                 this.session.handleException(ValidationException.invalidValueForProperty(entry.getValue(), entry.getKey(), exception));
@@ -2356,6 +2414,22 @@ protected void updateCacheCoordination(Map m, ClassLoader loader) {
                 if (asynch != null) {
                     rcm.setShouldPropagateAsynchronously(asynch.equalsIgnoreCase("true"));
                 }
+                String invalidationOnly = getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.COORDINATION_INVALIDATION_ONLY, m, this.session);
+                if (invalidationOnly != null) {
+                    rcm.setShouldPropagateInvalidationsOnly(invalidationOnly.equalsIgnoreCase("true"));
+                }
+                String batchDelay = getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.COORDINATION_BATCH_DELAY, m, this.session);
+                property = PersistenceUnitProperties.COORDINATION_BATCH_DELAY;
+                value = batchDelay;
+                if (batchDelay != null) {
+                    rcm.setChangeSetBatchDelay(Long.parseLong(batchDelay));
+                }
+                String batchSize = getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.COORDINATION_BATCH_SIZE, m, this.session);
+                property = PersistenceUnitProperties.COORDINATION_BATCH_SIZE;
+                value = batchSize;
+                if (batchSize != null) {
+                    rcm.setChangeSetBatchSize(Integer.parseInt(batchSize));
+                }
                 String threadPoolSize = getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.COORDINATION_THREAD_POOL_SIZE, m, this.session);
                 property = PersistenceUnitProperties.COORDINATION_THREAD_POOL_SIZE;
                 value = threadPoolSize;
@@ -2403,6 +2477,20 @@ protected void updateShouldOptimizeResultSetAccess(Map m) {
        }
     }
 
+    /**
+     * Update the minimum number of registered objects for the changes to be calculated in parallel.
+     */
+    protected void updateParallelChangeCalculationThreshold(Map m) {
+        String threshold = getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.PERSISTENCE_CONTEXT_PARALLEL_CHANGE_CALCULATION_THRESHOLD, m, this.session);
+        if (threshold != null) {
+            try {
+                this.session.setParallelChangeCalculationThreshold(Integer.parseInt(threshold.trim()));
+            } catch (NumberFormatException exception) {
+                this.session.handleException(ValidationException.invalidValueForProperty(threshold, PersistenceUnitProperties.PERSISTENCE_CONTEXT_PARALLEL_CHANGE_CALCULATION_THRESHOLD, exception));
+            }
+        }
+    }
+
     /**
      * Update whether session should use externally defined multi tenancy.
      */
@@ -2916,6 +3004,8 @@ protected void updateSession(Map m, ClassLoader loader) {
             updateAllowExtendedThreadLogging(m);
             updateAllowExtendedThreadLoggingThreadDump(m);
             updateAllowQueryResultsCacheValidation(m);
+            updateMaximumCachedQueries(m);
+            updateUsesMaterializationPlans(m);
             updateTemporalMutableSetting(m);
             updateTableCreationSettings(m);
             updateIndexForeignKeys(m);
@@ -2937,6 +3027,7 @@ protected void updateSession(Map m, ClassLoader loader) {
             updateDatabaseEventListener(m, loader);
             updateSerializer(m, loader);
             updateShouldOptimizeResultSetAccess(m);
+            updateParallelChangeCalculationThreshold(m);
             updateTolerateInvalidJPQL(m);
             updateTenancy(m, loader);
             // ConcurrencyManager properties
@@ -3255,6 +3346,11 @@ protected void updateBatchWritingSetting(Map persistenceProperties, ClassLoader
                     this.session.getPlatform().setUsesJDBCBatchWriting(true);
                     this.session.getPlatform().setUsesNativeBatchWriting(false);
                 }
+                case BatchWriting.JDBCGrouped -> {
+                    this.session.getPlatform().setUsesJDBCBatchWriting(true);
+                    this.session.getPlatform().setUsesNativeBatchWriting(false);
+                    this.session.getPlatform().setUsesGroupedBatchWriting(true);
+                }
                 case BatchWriting.Buffered -> {
                     this.session.getPlatform().setUsesJDBCBatchWriting(false);
                     this.session.getPlatform().setUsesNativeBatchWriting(false);
@@ -3416,6 +3512,16 @@ protected void updateSequencing(Map m){
                this.session.handleException(ValidationException.invalidBooleanValueForProperty(useTable, PersistenceUnitProperties.SEQUENCING_SEQUENCE_DEFAULT));
            }
         }
+        String asyncPreallocation = EntityManagerFactoryProvider.getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.SEQUENCING_ASYNC_PREALLOCATION, m, session);
+        if (asyncPreallocation != null) {
+           if (asyncPreallocation.equalsIgnoreCase("true")) {
+               getDatabaseSession().getSequencingControl().setShouldUseAsynchronousPreallocation(true);
+           } else if (asyncPreallocation.equalsIgnoreCase("false")) {
+               getDatabaseSession().getSequencingControl().setShouldUseAsynchronousPreallocation(false);
+           } else {
+               this.session.handleException(ValidationException.invalidBooleanValueForProperty(asyncPreallocation, PersistenceUnitProperties.SEQUENCING_ASYNC_PREALLOCATION));
+           }
+        }
     }
 
     protected void updateSequencingStart(Map m) {
@@ -4006,6 +4112,37 @@ protected void updateAllowExtendedThreadLoggingThreadDump(Map m){
         }
     }
 
+    /**
+     * Enable or disable building objects with materialization plans.
+     * The method needs to be called in deploy stage.
+     */
+    protected void updateUsesMaterializationPlans(Map m) {
+        String usesMaterializationPlans = getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.JDBC_MATERIALIZATION_PLANS, m, this.session);
+        if (usesMaterializationPlans != null) {
+            if (usesMaterializationPlans.equalsIgnoreCase("true")) {
+                this.session.getProject().setUsesMaterializationPlans(true);
+            } else if (usesMaterializationPlans.equalsIgnoreCase("false")) {
+                this.session.getProject().setUsesMaterializationPlans(false);
+            } else {
+                this.session.handleException(ValidationException.invalidBooleanValueForProperty(usesMaterializationPlans, PersistenceUnitProperties.JDBC_MATERIALIZATION_PLANS));
+            }
+        }
+    }
+
+    /**
+     * Update the maximum number of queries with cached results.
+     */
+    protected void updateMaximumCachedQueries(Map m) {
+        String maximum = getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.QUERY_RESULTS_CACHE_MAX_QUERIES, m, this.session);
+        if (maximum != null) {
+            try {
+                this.session.getProject().setMaximumCachedQueries(Integer.parseInt(maximum.trim()));
+            } catch (NumberFormatException exception) {
+                this.session.handleException(ValidationException.invalidValueForProperty(maximum, PersistenceUnitProperties.QUERY_RESULTS_CACHE_MAX_QUERIES, exception));
+            }
+        }
+    }
+
     /**
      * Enable or disable query result cache validation.
      * The method needs to be called in deploy stage.
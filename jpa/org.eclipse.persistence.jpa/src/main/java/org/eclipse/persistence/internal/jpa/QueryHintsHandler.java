@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1998, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1998, 2026 Oracle and/or its affiliates. All rights reserved.
  * Copyright (c) 1998, 2025 IBM Corporation. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -295,6 +295,7 @@ protected static abstract class Hint {
             addHint(new CursorInitialSizeHint());
             addHint(new CursorPageSizeHint());
             addHint(new ScrollableCursorHint());
+            addHint(new ResultStreamCursorHint());
             addHint(new CursorSizeHint());
             addHint(new FetchGroupHint());
             addHint(new FetchGraphHint());
@@ -1496,6 +1497,8 @@ DatabaseQuery applyToDatabaseQuery(Object valueToApply, DatabaseQuery query, Cla
                     readQuery.getQueryResultsCachePolicy().setCacheType(ClassConstants.HardCacheWeakIdentityMap_Class);
                 } else if (valueToApply.equals(CacheType.CACHE.name())) {
                     readQuery.getQueryResultsCachePolicy().setCacheType(ClassConstants.CacheIdentityMap_Class);
+                } else if (valueToApply.equals(CacheType.SEGMENTED_CACHE.name())) {
+                    readQuery.getQueryResultsCachePolicy().setCacheType(ClassConstants.SegmentedCacheIdentityMap_Class);
                 } else if (valueToApply.equals(CacheType.NONE.name())) {
                     readQuery.getQueryResultsCachePolicy().setCacheType(ClassConstants.NoIdentityMap_Class);
                 } else {
@@ -1919,6 +1922,23 @@ DatabaseQuery applyToDatabaseQuery(Object valueToApply, DatabaseQuery query, Cla
         }
     }
 
+    protected static class ResultStreamCursorHint extends Hint {
+        ResultStreamCursorHint() {
+            super(QueryHints.RESULT_STREAM_CURSOR, HintValues.FALSE);
+            valueArray = new Object[][] {
+                {HintValues.FALSE, Boolean.FALSE},
+                {HintValues.TRUE, Boolean.TRUE}
+            };
+        }
+
+        @Override
+        DatabaseQuery applyToDatabaseQuery(Object valueToApply, DatabaseQuery query, ClassLoader loader, AbstractSession activeSession) {
+            // Only used by getResultStream(), the query itself is executed as before.
+            query.setProperty(QueryHints.RESULT_STREAM_CURSOR, valueToApply);
+            return query;
+        }
+    }
+
     protected static class MaintainCacheHint extends Hint {
         MaintainCacheHint() {
             super(QueryHints.MAINTAIN_CACHE, HintValues.FALSE);
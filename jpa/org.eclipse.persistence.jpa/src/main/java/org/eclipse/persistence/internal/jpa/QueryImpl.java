@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2025 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates. All rights reserved.
  * Copyright (c) 2022 IBM Corporation. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -182,7 +182,21 @@ protected void setAsSQLReadQuery() {
      * @return the results of the query execution
      */
     protected Object executeReadQuery() {
-        List<Object> parameterValues = processParameters();
+        return executeReadQuery(getDatabaseQueryInternal(), false);
+    }
+
+    /**
+     * Execute the given ReadQuery by assigning the stored parameter values and
+     * running it in the database.
+     * A private copy of the query is modified directly for the execution,
+     * otherwise this query's database query is cloned first if it is shared.
+     *
+     * @param query the query to execute, this query's database query or a copy of it
+     * @param isPrivateCopy true if the query is a copy only used by the caller
+     * @return the results of the query execution
+     */
+    protected Object executeReadQuery(DatabaseQuery query, boolean isPrivateCopy) {
+        List<Object> parameterValues = processParameters(query);
         // TODO: the following performFlush() call is a temporary workaround for
         // bug 4752493:
         // CTS: INMEMORY QUERYING IN EJBQUERY BROKEN DUE TO CHANGE TO USE
@@ -207,14 +221,15 @@ protected Object executeReadQuery() {
         // QueryException.cannotConformExpression -
         // and true otherwise.
         boolean shouldResetConformResultsInUnitOfWork = false;
-        DatabaseQuery query = getDatabaseQueryInternal();
         boolean isObjectLevelReadQuery = query.isObjectLevelReadQuery();
         if (isFlushModeAUTO() && (!isObjectLevelReadQuery || !((ObjectLevelReadQuery)query).isReadOnly())) {
             performPreQueryFlush();
             if (isObjectLevelReadQuery) {
                 if (((ObjectLevelReadQuery)query).shouldConformResultsInUnitOfWork()) {
-                    cloneSharedQuery();
-                    query = getDatabaseQueryInternal();
+                    if (!isPrivateCopy) {
+                        cloneSharedQuery();
+                        query = getDatabaseQueryInternal();
+                    }
                     ((ObjectLevelReadQuery)query).setCacheUsage(ObjectLevelReadQuery.UseDescriptorSetting);
                     shouldResetConformResultsInUnitOfWork = true;
                 }
@@ -229,8 +244,10 @@ protected Object executeReadQuery() {
 
             // The lock mode setters and getters validate the query type
             // so should be safe to make the casting.
-            cloneSharedQuery();
-            query = getDatabaseQueryInternal();
+            if (!isPrivateCopy) {
+                cloneSharedQuery();
+                query = getDatabaseQueryInternal();
+            }
 
             // Set the lock mode (the session is passed in to do some validation
             // checks)
@@ -594,7 +611,14 @@ private Object getSingleResult(boolean failOnEmpty) {
      * are defined for the databaseQuery.
      */
     protected List<Object> processParameters() {
-        DatabaseQuery query = getDatabaseQueryInternal();
+        return processParameters(getDatabaseQueryInternal());
+    }
+
+    /**
+     * Process the parameter values of this query for the given query,
+     * this query's database query or a copy of it.
+     */
+    protected List<Object> processParameters(DatabaseQuery query) {
         List<String> arguments = query.getArguments();
         if (arguments.isEmpty()) {
             // This occurs for native queries, as the query does not know of its arguments.
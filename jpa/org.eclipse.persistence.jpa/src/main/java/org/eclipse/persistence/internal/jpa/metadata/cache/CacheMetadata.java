@@ -254,6 +254,8 @@ public void process(MetadataDescriptor descriptor, MetadataClass javaClass) {
             classDescriptor.getCachePolicy().useHardCacheWeakIdentityMap();
         } else if (m_type.equals(CacheType.CACHE.name())) {
             classDescriptor.useCacheIdentityMap();
+        } else if (m_type.equals(CacheType.SEGMENTED_CACHE.name())) {
+            classDescriptor.getCachePolicy().useSegmentedCacheIdentityMap();
         } else if (m_type.equals(CacheType.NONE.name())) {
             classDescriptor.getCachePolicy().useNoIdentityMap();
         }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1998, 2025 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1998, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -16,6 +16,8 @@
 
 
 import java.lang.reflect.Type;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.HashMap;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -41,6 +43,7 @@ public class JaxbClassLoader extends ClassLoader {
 
     private static final String GENERATED_CLASS_NAME = "org.eclipse.persistence.jaxb.generated";
     private Map<String, Type> generatedClasses;
+    private Map<String, byte[]> generatedClassBytes = new LinkedHashMap<>();
     private AtomicInteger generatedClassCounter = new AtomicInteger();
 
     public JaxbClassLoader(ClassLoader nestedClassLoader) {
@@ -127,9 +130,18 @@ public Class<?> loadClass(String className) throws ClassNotFoundException {
     public Class<?> generateClass(String className, byte[] bytes) {
         Class<?> theClass = this.defineClass(className, bytes, 0, bytes.length);
         generatedClasses.put(className, theClass);
+        generatedClassBytes.put(className, bytes);
         return theClass;
     }
 
+    /**
+     * Return the bytes of the classes defined by generateClass, keyed by
+     * class name in the order the classes were defined.
+     */
+    public Map<String, byte[]> getGeneratedClassBytes() {
+        return Collections.unmodifiableMap(generatedClassBytes);
+    }
+
     public void putClass(String className, Class<?> clazz) {
         generatedClasses.put(className, clazz);
     }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1998, 2025 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1998, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -410,6 +410,14 @@ public void generateSchema(SchemaOutputResolver outputResolver, Map<QName, Type>
         }
         XMLContext xmlContext = currentJAXBContextState.getXMLContext();
         Generator generator = currentJAXBContextState.getGenerator();
+        if (generator == null && currentJAXBContextState.getCachedProject() != null) {
+            // The project was read from the project cache, process the annotations again for the schema
+            try {
+                generator = ((TypeMappingInfoInput) contextInput).createGenerator();
+            } catch (Exception e) {
+                throw JAXBException.exceptionDuringSchemaGeneration(e);
+            }
+        }
         if (generator == null) {
             SchemaModelGenerator smGen = new SchemaModelGenerator(xmlContext.getOxmConversionManager());
             smGen.generateSchemas(xmlContext.getDescriptors(), null, new JAXBSchemaOutputResolver(outputResolver), additonalGlobalElements);
@@ -536,10 +544,7 @@ public void setQNamesToDeclaredClasses(HashMap<QName, Class<?>> nameToDeclaredCl
      * Get the map for which array class (by name) corresponds to which generated class
      */
     public Map<String, Class<?>> getArrayClassesToGeneratedClasses() {
-        if (contextState.getGenerator() == null) {
-            return null;
-        }
-        return contextState.getGenerator().getAnnotationsProcessor().getArrayClassesToGeneratedClasses();
+        return contextState.getArrayClassesToGeneratedClasses();
     }
 
     /**
@@ -547,10 +552,7 @@ public Map<String, Class<?>> getArrayClassesToGeneratedClasses() {
      * Get the map for which collection class (by Type) corresponds to which generated class
      */
     public Map<Type, Class<?>> getCollectionClassesToGeneratedClasses() {
-        if (contextState.getGenerator() == null) {
-            return null;
-        }
-        return contextState.getGenerator().getAnnotationsProcessor().getCollectionClassesToGeneratedClasses();
+        return contextState.getCollectionClassesToGeneratedClasses();
     }
 
     /**
@@ -780,7 +782,7 @@ protected JAXBElement createJAXBElement(QName qname, Class<?> theClass, Object v
      * annotation.
      */
     public boolean hasSwaRef() {
-        return contextState.getGenerator().getAnnotationsProcessor().hasSwaRef();
+        return contextState.hasSwaRef();
     }
 
     /**
@@ -1071,6 +1073,7 @@ private boolean isJAXB2ObjectFactory(Class<?> objectFactoryClass, ClassLoader cl
     static class TypeMappingInfoInput extends JAXBContextInput {
 
         private TypeMappingInfo[] typeMappingInfo;
+        private Map<String, XmlBindings> cachedXmlBindings;
 
         TypeMappingInfoInput(TypeMappingInfo[] typeMappingInfo, Map properties, ClassLoader classLoader) {
             super(properties, classLoader);
@@ -1107,35 +1110,76 @@ private String getNameForType(Type type) {
         protected JAXBContextState createContextState() throws jakarta.xml.bind.JAXBException {
             // Check properties map for eclipselink-oxm.xml entries
             Map<String, XmlBindings> xmlBindings = JAXBContextFactory.getXmlBindingsFromProperties(properties, classLoader);
-            String defaultTargetNamespace = null;
-            AnnotationHelper annotationHelper = null;
-            boolean enableXmlAccessorFactory = false;
-            if (properties != null) {
-                if ((defaultTargetNamespace = (String) properties.get(JAXBContextProperties.DEFAULT_TARGET_NAMESPACE)) == null) {
-                    // try looking up the 'old' key
-                    defaultTargetNamespace = (String) properties.get(JAXBContextFactory.DEFAULT_TARGET_NAMESPACE_KEY);
-                }
-                if ((annotationHelper = (AnnotationHelper) properties.get(JAXBContextProperties.ANNOTATION_HELPER)) == null) {
-                    // try looking up the 'old' key
-                    annotationHelper = (AnnotationHelper) properties.get(JAXBContextFactory.ANNOTATION_HELPER_KEY);
-                }
-                Boolean xmlAccessorFactorySupport = (Boolean) properties.get(JAXBContextProperties.XML_ACCESSOR_FACTORY_SUPPORT);
-                Boolean xmlAccessorFactorySupportRI = (Boolean) properties.get(RI_XML_ACCESSOR_FACTORY_SUPPORT);
-                if (Boolean.TRUE.equals(xmlAccessorFactorySupport) || Boolean.TRUE.equals(xmlAccessorFactorySupportRI)) {
-                    enableXmlAccessorFactory = true;
+            TypeMappingInfo[] typesToBeBound = getTypesToBeBound(xmlBindings);
+
+            JAXBProjectCache projectCache = null;
+            // an AnnotationHelper may return annotations the class files do not have
+            if (getAnnotationHelper() == null) {
+                projectCache = JAXBProjectCache.getInstance(typesToBeBound, properties, xmlBindings);
+                if (projectCache != null) {
+                    JAXBContextState contextState = createContextState(projectCache, typesToBeBound, properties);
+                    if (contextState != null) {
+                        cachedXmlBindings = xmlBindings;
+                        return contextState;
+                    }
                 }
             }
+
+            JaxbClassLoader loader = createClassLoader(typesToBeBound);
+            JavaModelImpl jModel = createJavaModel(loader, xmlBindings);
+            try {
+                Generator generator = createGenerator(jModel, xmlBindings, typesToBeBound);
+                JAXBContextState contextState = createContextState(generator, loader, typesToBeBound, properties, projectCache, jModel);
+                return contextState;
+            } catch (Exception ex) {
+                throw new jakarta.xml.bind.JAXBException(ex.getMessage(), ex);
+            }
+        }
+
+        /**
+         * INTERNAL:
+         * Process the annotations and generate the project again for a
+         * JAXBContextState that was read from the project cache.
+         */
+        Generator createGenerator() throws Exception {
+            Map<String, XmlBindings> xmlBindings = cachedXmlBindings;
+            if (xmlBindings == null) {
+                xmlBindings = JAXBContextFactory.getXmlBindingsFromProperties(properties, classLoader);
+            }
+            TypeMappingInfo[] typesToBeBound = getTypesToBeBound(xmlBindings);
+            Generator generator = createGenerator(createJavaModel(createClassLoader(typesToBeBound), xmlBindings), xmlBindings, typesToBeBound);
+            generator.generateProject();
+            return generator;
+        }
+
+        private TypeMappingInfo[] getTypesToBeBound(Map<String, XmlBindings> xmlBindings) {
             TypeMappingInfo[] typesToBeBound = typeMappingInfo;
 
             for (Entry<String, XmlBindings> entry : xmlBindings.entrySet()) {
                 typesToBeBound = getXmlBindingsClasses(entry.getValue(), classLoader, typesToBeBound);
             }
+            return typesToBeBound;
+        }
 
-            final TypeMappingInfo[] types = typesToBeBound;
+        private AnnotationHelper getAnnotationHelper() {
+            AnnotationHelper annotationHelper = null;
+            if (properties != null) {
+                if ((annotationHelper = (AnnotationHelper) properties.get(JAXBContextProperties.ANNOTATION_HELPER)) == null) {
+                    // try looking up the 'old' key
+                    annotationHelper = (AnnotationHelper) properties.get(JAXBContextFactory.ANNOTATION_HELPER_KEY);
+                }
+            }
+            return annotationHelper;
+        }
 
-            JaxbClassLoader loader = PrivilegedAccessHelper.callDoPrivileged(
+        private JaxbClassLoader createClassLoader(final TypeMappingInfo[] types) {
+            return PrivilegedAccessHelper.callDoPrivileged(
                     () -> new JaxbClassLoader(classLoader, types)
             );
+        }
+
+        private JavaModelImpl createJavaModel(JaxbClassLoader loader, Map<String, XmlBindings> xmlBindings) {
+            AnnotationHelper annotationHelper = getAnnotationHelper();
             JavaModelImpl jModel;
             if (annotationHelper != null) {
                 jModel = new JavaModelImpl(loader, annotationHelper);
@@ -1157,21 +1201,73 @@ protected JAXBContextState createContextState() throws jakarta.xml.bind.JAXBExce
                     jModel.setMetadataCompletePackageMap(metadataComplete);
                 }
             }
+            return jModel;
+        }
+
+        private Generator createGenerator(JavaModelImpl jModel, Map<String, XmlBindings> xmlBindings, TypeMappingInfo[] typesToBeBound) {
+            String defaultTargetNamespace = null;
+            boolean enableXmlAccessorFactory = false;
+            if (properties != null) {
+                if ((defaultTargetNamespace = (String) properties.get(JAXBContextProperties.DEFAULT_TARGET_NAMESPACE)) == null) {
+                    // try looking up the 'old' key
+                    defaultTargetNamespace = (String) properties.get(JAXBContextFactory.DEFAULT_TARGET_NAMESPACE_KEY);
+                }
+                Boolean xmlAccessorFactorySupport = (Boolean) properties.get(JAXBContextProperties.XML_ACCESSOR_FACTORY_SUPPORT);
+                Boolean xmlAccessorFactorySupportRI = (Boolean) properties.get(RI_XML_ACCESSOR_FACTORY_SUPPORT);
+                if (Boolean.TRUE.equals(xmlAccessorFactorySupport) || Boolean.TRUE.equals(xmlAccessorFactorySupportRI)) {
+                    enableXmlAccessorFactory = true;
+                }
+            }
 
             JavaModelInputImpl inputImpl = new JavaModelInputImpl(typesToBeBound, jModel);
             if (properties != null) enableFacetsIfPropertySetTrue(inputImpl, properties);
+            openToCore(inputImpl);
+            return new Generator(inputImpl, typesToBeBound, inputImpl.getJavaClasses(), null, xmlBindings, classLoader, defaultTargetNamespace, enableXmlAccessorFactory);
+        }
+
+        private JAXBContextState createContextState(Generator generator, JaxbClassLoader loader, TypeMappingInfo[] typesToBeBound, Map properties, JAXBProjectCache projectCache, JavaModelImpl jModel) throws Exception {
+            CoreProject proj = generator.generateProject();
+            if (projectCache != null) {
+                // the project has to be stored before it is initialized
+                projectCache.store(proj, generator, typesToBeBound, jModel, loader);
+            }
+            XMLContext xmlContext = createXMLContext(proj, loader);
+
+            JAXBContextState contextState = new JAXBContextState(xmlContext, generator, typesToBeBound, properties);
+            setXmlDescriptors(contextState, proj, typesToBeBound);
+            return contextState;
+        }
+
+        /**
+         * Return a JAXBContextState for the project read from the project
+         * cache, or null if it could not be read.
+         */
+        private JAXBContextState createContextState(JAXBProjectCache projectCache, TypeMappingInfo[] typesToBeBound, Map properties) {
+            JaxbClassLoader loader = createClassLoader(typesToBeBound);
+            JAXBProjectCache.CachedProject cachedProject = projectCache.load(loader);
+            if (cachedProject == null) {
+                return null;
+            }
             try {
-                openToCore(inputImpl);
-                Generator generator = new Generator(inputImpl, typesToBeBound, inputImpl.getJavaClasses(), null, xmlBindings, classLoader, defaultTargetNamespace, enableXmlAccessorFactory);
-                JAXBContextState contextState = createContextState(generator, loader, typesToBeBound, properties);
+                Set<Class<?>> classes = new HashSet<>();
+                for (TypeMappingInfo typeMappingInfo : typesToBeBound) {
+                    classes.add((Class<?>) typeMappingInfo.getType());
+                }
+                openToCore(classes);
+                CoreProject proj = cachedProject.getProject();
+                XMLContext xmlContext = createXMLContext(proj, loader);
+
+                JAXBContextState contextState = new JAXBContextState(xmlContext, cachedProject, typesToBeBound, properties);
+                setXmlDescriptors(contextState, proj, typesToBeBound);
                 return contextState;
             } catch (Exception ex) {
-                throw new jakarta.xml.bind.JAXBException(ex.getMessage(), ex);
+                // the project is generated again with a new class loader
+                AbstractSessionLog.getLog().logThrowable(SessionLog.WARNING, SessionLog.MOXY, ex);
+                return null;
             }
         }
 
-        private JAXBContextState createContextState(Generator generator, JaxbClassLoader loader, TypeMappingInfo[] typesToBeBound, Map properties) throws Exception {
-            CoreProject proj = generator.generateProject();
+        private XMLContext createXMLContext(CoreProject proj, JaxbClassLoader loader) {
             ConversionManager conversionManager = null;
             if (classLoader != null) {
                 conversionManager = new ConversionManager();
@@ -1193,9 +1289,10 @@ private JAXBContextState createContextState(Generator generator, JaxbClassLoader
             XMLContext xmlContext = new XMLContext((Project) proj, loader, sessionEventListeners());
 
             ((XMLLogin) xmlContext.getSession().getDatasourceLogin()).setEqualNamespaceResolvers(true);
+            return xmlContext;
+        }
 
-            JAXBContextState contextState = new JAXBContextState(xmlContext, generator, typesToBeBound, properties);
-
+        private void setXmlDescriptors(JAXBContextState contextState, CoreProject proj, TypeMappingInfo[] typesToBeBound) {
             for (TypeMappingInfo typeMappingInfo : typesToBeBound) {
                 Type classToLookup = typeMappingInfo.getType();
                 if (contextState.getTypeMappingInfoToGeneratedType() != null && !contextState.getTypeMappingInfoToGeneratedType().isEmpty()) {
@@ -1209,8 +1306,6 @@ private JAXBContextState createContextState(Generator generator, JaxbClassLoader
                     typeMappingInfo.setXmlDescriptor(xmlDescriptor);
                 }
             }
-
-            return contextState;
         }
 
         /**
@@ -1272,6 +1367,7 @@ protected static class JAXBContextState {
         private Map<Type, TypeMappingInfo> typeToTypeMappingInfo;
         private Map<TypeMappingInfo, JAXBContext.RootLevelXmlAdapter> typeMappingInfoToJavaTypeAdapters;
         private Map properties;
+        private JAXBProjectCache.CachedProject cachedProject;
 
         protected JAXBContextState() {
         }
@@ -1312,6 +1408,20 @@ protected JAXBContextState(XMLContext context, Generator generator, TypeMappingI
             }
         }
 
+        JAXBContextState(XMLContext context, JAXBProjectCache.CachedProject cachedProject, TypeMappingInfo[] boundTypes, Map properties) {
+            this(context);
+            this.cachedProject = cachedProject;
+            this.qNameToGeneratedClasses = cachedProject.getQNameToGeneratedClasses();
+            this.classToGeneratedClasses = cachedProject.getClassToGeneratedClasses();
+            this.qNamesToDeclaredClasses = cachedProject.getQNamesToDeclaredClasses();
+            this.typeMappingInfoToGeneratedType = cachedProject.getTypeMappingInfoToGeneratedClasses(boundTypes);
+            this.setTypeMappingInfoToJavaTypeAdapaters(createAdaptersForAdapterClasses(cachedProject.getTypeMappingInfoToAdapterClasses(boundTypes)));
+            this.boundTypes = boundTypes;
+            if (properties != null) {
+                this.properties = new HashMap(properties);
+            }
+        }
+
         private Map<TypeMappingInfo, JAXBContext.RootLevelXmlAdapter> createAdaptersForAdapterClasses(Map<TypeMappingInfo, Class<?>> typeMappingInfoToAdapterClasses) {
             Map<TypeMappingInfo, JAXBContext.RootLevelXmlAdapter> typeMappingInfoToAdapters = new HashMap<>();
             for (Entry<TypeMappingInfo, Class<?>> entry : typeMappingInfoToAdapterClasses.entrySet()) {
@@ -1425,6 +1535,52 @@ private Generator getGenerator() {
             return generator;
         }
 
+        private JAXBProjectCache.CachedProject getCachedProject() {
+            return cachedProject;
+        }
+
+        private Map<String, Class<?>> getArrayClassesToGeneratedClasses() {
+            if (generator == null) {
+                return cachedProject == null ? null : cachedProject.getArrayClassesToGeneratedClasses();
+            }
+            return generator.getAnnotationsProcessor().getArrayClassesToGeneratedClasses();
+        }
+
+        private Map<Type, Class<?>> getCollectionClassesToGeneratedClasses() {
+            if (generator == null) {
+                return cachedProject == null ? null : new HashMap<>();
+            }
+            return generator.getAnnotationsProcessor().getCollectionClassesToGeneratedClasses();
+        }
+
+        private boolean hasSwaRef() {
+            if (generator == null && cachedProject != null) {
+                return cachedProject.hasSwaRef();
+            }
+            return generator.getAnnotationsProcessor().hasSwaRef();
+        }
+
+        private Map<String, QName> getUserDefinedSchemaTypes() {
+            if (generator == null && cachedProject != null) {
+                return cachedProject.getUserDefinedSchemaTypes();
+            }
+            return generator.getAnnotationsProcessor().getUserDefinedSchemaTypes();
+        }
+
+        private Map<String, MarshalCallback> getMarshalCallbacks() {
+            if (generator == null) {
+                return cachedProject == null ? null : cachedProject.getMarshalCallbacks();
+            }
+            return generator.getMarshalCallbacks();
+        }
+
+        private Map<String, UnmarshalCallback> getUnmarshalCallbacks() {
+            if (generator == null) {
+                return cachedProject == null ? null : cachedProject.getUnmarshalCallbacks();
+            }
+            return generator.getUnmarshalCallbacks();
+        }
+
         private XMLContext getXMLContext() {
             return this.xmlContext;
         }
@@ -1452,6 +1608,16 @@ private Map<TypeMappingInfo, QName> getTypeMappingInfoToSchemaType() {
             if (typeToTypeMappingInfo != null && !typeToTypeMappingInfo.isEmpty()) {
                 return new HashMap<>();
             }
+            if (generator == null && cachedProject != null) {
+                Map<TypeMappingInfo, QName> typeMappingInfoToSchemaType = new HashMap<>();
+                QName[] schemaTypes = cachedProject.getTypeMappingInfoSchemaTypes();
+                for (int i = 0; i < schemaTypes.length; i++) {
+                    if (schemaTypes[i] != null) {
+                        typeMappingInfoToSchemaType.put(boundTypes[i], schemaTypes[i]);
+                    }
+                }
+                return typeMappingInfoToSchemaType;
+            }
             return generator.getAnnotationsProcessor().getTypeMappingInfosToSchemaTypes();
         }
 
@@ -1470,7 +1636,7 @@ private QName getSchemaTypeForTypeMappingInfo(Type type) {
             QName name = null;
             //Check for annotation overrides
             if (type instanceof Class) {
-                name = generator.getAnnotationsProcessor().getUserDefinedSchemaTypes().get(((Class) type).getName());
+                name = getUserDefinedSchemaTypes().get(((Class) type).getName());
                 if (name == null) {
                     Class<?> theClass = (Class) type;
                     //Change default for byte[] to Base64 (JAXB 2.0 default)
@@ -1534,6 +1700,17 @@ private void initTypeToSchemaType() {
                             type = javaClass;
                         }
 
+                    } else if (cachedProject != null) {
+                        String arrayClassName = cachedProject.getGeneratedClassesToArrayClasses().get(javaClass);
+                        if (arrayClassName != null) {
+                            try {
+                                type = PrivilegedAccessHelper.getClassForName(arrayClassName);
+                            } catch (Exception ex) {
+                            }
+                        }
+                        if (type == null) {
+                            type = javaClass;
+                        }
                     } else {
                         type = javaClass;
                     }
@@ -1585,14 +1762,15 @@ public void setXMLContext(XMLContext xmlContext) {
         public JAXBMarshaller createMarshaller(JAXBContext jaxbContext) throws jakarta.xml.bind.JAXBException {
             // create a JAXBIntrospector and set it on the marshaller
             JAXBMarshaller marshaller = new JAXBMarshaller(xmlContext.createMarshaller(), jaxbContext);
-            if (generator != null && generator.hasMarshalCallbacks()) {
+            Map<String, MarshalCallback> marshalCallbacks = getMarshalCallbacks();
+            if (marshalCallbacks != null && !marshalCallbacks.isEmpty()) {
                 // initialize each callback in the map
                 ClassLoader classLoader = getXMLContext().getSession(0).getDatasourcePlatform().getConversionManager().getLoader();
-                for (Object o : generator.getMarshalCallbacks().keySet()) {
-                    MarshalCallback cb = generator.getMarshalCallbacks().get(o);
+                for (Object o : marshalCallbacks.keySet()) {
+                    MarshalCallback cb = marshalCallbacks.get(o);
                     cb.initialize(classLoader);
                 }
-                marshaller.setMarshalCallbacks(generator.getMarshalCallbacks());
+                marshaller.setMarshalCallbacks(marshalCallbacks);
             }
             if (properties != null) {
                 setPropertyOnMarshaller(JAXBContextProperties.MEDIA_TYPE, marshaller);
@@ -1620,14 +1798,15 @@ public JAXBMarshaller createMarshaller(JAXBContext jaxbContext) throws jakarta.x
         public JAXBUnmarshaller createUnmarshaller(JAXBContext jaxbContext) throws jakarta.xml.bind.JAXBException {
 
             JAXBUnmarshaller unmarshaller = new JAXBUnmarshaller(xmlContext.createUnmarshaller(PARSER_FEATURES), jaxbContext);
-            if (generator != null && generator.hasUnmarshalCallbacks()) {
+            Map<String, UnmarshalCallback> unmarshalCallbacks = getUnmarshalCallbacks();
+            if (unmarshalCallbacks != null && !unmarshalCallbacks.isEmpty()) {
                 // initialize each callback in the map
                 ClassLoader classLoader = getXMLContext().getSession(0).getDatasourcePlatform().getConversionManager().getLoader();
-                for (Object o : generator.getUnmarshalCallbacks().keySet()) {
-                    UnmarshalCallback cb = generator.getUnmarshalCallbacks().get(o);
+                for (Object o : unmarshalCallbacks.keySet()) {
+                    UnmarshalCallback cb = unmarshalCallbacks.get(o);
                     cb.initialize(classLoader);
                 }
-                unmarshaller.setUnmarshalCallbacks(generator.getUnmarshalCallbacks());
+                unmarshaller.setUnmarshalCallbacks(unmarshalCallbacks);
             }
             if (properties != null) {
                 setPropertyOnUnmarshaller(JAXBContextProperties.MEDIA_TYPE, unmarshaller);
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2021 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -444,4 +444,28 @@ public static final class Factory {
      * @see org.eclipse.persistence.jaxb.UnmarshallerProperties#MOXY_LOG_PAYLOAD
      */
     public static final String MOXY_LOG_PAYLOAD = "eclipselink.logging.payload.moxy";
+
+    /**
+     * The name of a directory in which the mapping metadata generated from the
+     * annotations of the bound classes is stored, and from which it is read
+     * back by later JAXBContext creations for the same classes and properties.
+     * This saves the annotation processing on application start-up.
+     *
+     * Each set of bound classes and properties is stored in its own file, which
+     * is regenerated when any of the processed classes change.  Only contexts
+     * created from classes, without a custom
+     * {@link org.eclipse.persistence.jaxb.JAXBContextProperties#ANNOTATION_HELPER},
+     * are cached.
+     *
+     * The files are read with Java serialization, restricted to the classes
+     * a project is made of, and the classes MOXy generates for a context are
+     * defined from the bytecode stored in them.  The directory must therefore
+     * only be writable by the application and other trusted users.
+     *
+     * It can be set via system property with name "eclipselink.moxy.project-cache.directory" too.
+     * By default the cache is disabled.
+     *
+     * @since 5.0
+     */
+    public static final String PROJECT_CACHE_DIRECTORY = "eclipselink.moxy.project-cache.directory";
 }
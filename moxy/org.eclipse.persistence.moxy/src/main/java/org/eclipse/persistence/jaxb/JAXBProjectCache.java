@@ -0,0 +1,619 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.jaxb;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InvalidClassException;
+import java.io.InputStream;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.OutputStream;
+import java.io.Serial;
+import java.io.Serializable;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import javax.xml.namespace.QName;
+
+import jakarta.xml.bind.JAXBElement;
+import jakarta.xml.bind.Marshaller;
+
+import org.eclipse.persistence.Version;
+import org.eclipse.persistence.core.sessions.CoreProject;
+import org.eclipse.persistence.internal.jaxb.JaxbClassLoader;
+import org.eclipse.persistence.internal.jaxb.WrappedValue;
+import org.eclipse.persistence.internal.security.PrivilegedAccessHelper;
+import org.eclipse.persistence.jaxb.compiler.AnnotationsProcessor;
+import org.eclipse.persistence.jaxb.compiler.CompilerHelper;
+import org.eclipse.persistence.jaxb.compiler.Generator;
+import org.eclipse.persistence.jaxb.compiler.MarshalCallback;
+import org.eclipse.persistence.jaxb.compiler.UnmarshalCallback;
+import org.eclipse.persistence.jaxb.javamodel.JavaClass;
+import org.eclipse.persistence.jaxb.javamodel.reflection.JavaClassImpl;
+import org.eclipse.persistence.jaxb.javamodel.reflection.JavaModelImpl;
+import org.eclipse.persistence.jaxb.xmlmodel.XmlBindings;
+import org.eclipse.persistence.logging.AbstractSessionLog;
+import org.eclipse.persistence.logging.SessionLog;
+
+/**
+ * INTERNAL:
+ * <p><b>Purpose:</b> Store the project generated from the annotations of the
+ * bound classes to a file, and read it back on a later JAXBContext creation
+ * for the same classes and properties instead of processing the annotations
+ * again.</p>
+ * <p><b>Responsibilities:</b><ul>
+ * <li>Name the cache file after a digest of the bound classes, the
+ * properties and the XmlBindings the context is created with.</li>
+ * <li>Record a digest of the bytecode of every class processed, and discard
+ * the file when any of them has changed.</li>
+ * <li>Record the classes generated during processing and define them again
+ * before the project is read.</li>
+ * </ul>
+ * <p>Any failure to read or write the cache file is logged and the project is
+ * generated as if there was no cache.</p>
+ * <p>Reading the cache file is restricted to the classes a project is made of:
+ * the EclipseLink classes, the basic types of {@code java.lang},
+ * {@code java.util}, {@code java.math}, {@code java.sql} and {@code java.time},
+ * {@link QName}, {@link JAXBElement}, the classes processed for the context
+ * and the generated classes.  Any other serializable class is rejected, and
+ * the project is not stored if it refers to one.  The generated classes are
+ * defined from the bytecode in the file, so the cache directory has to be
+ * writable by trusted users only.</p>
+ *
+ * @see JAXBContextProperties#PROJECT_CACHE_DIRECTORY
+ */
+final class JAXBProjectCache {
+
+    private static final String FILE_SUFFIX = ".ser";
+
+    /** The packages whose serializable classes may be read from the cache file. */
+    private static final Set<String> ALLOWED_PACKAGES = Set.of("java.lang", "java.util", "java.util.concurrent",
+            "java.util.concurrent.atomic", "java.util.concurrent.locks", "java.math", "java.sql", "java.time");
+
+    /** The other serializable classes of the platform that may be read from the cache file. */
+    private static final Set<String> ALLOWED_CLASSES = Set.of(QName.class.getName(), URI.class.getName(), JAXBElement.class.getName());
+
+    private final Path file;
+
+    private JAXBProjectCache(Path file) {
+        this.file = file;
+    }
+
+    /**
+     * Return the cache for a JAXBContext created on the given types and
+     * properties, or null if the cache is not enabled or the context can not
+     * be cached.
+     */
+    static JAXBProjectCache getInstance(TypeMappingInfo[] typesToBeBound, Map properties, Map<String, XmlBindings> xmlBindings) {
+        Object directory = null;
+        if (properties != null) {
+            directory = properties.get(JAXBContextProperties.PROJECT_CACHE_DIRECTORY);
+        }
+        if (directory == null) {
+            directory = PrivilegedAccessHelper.getSystemProperty(JAXBContextProperties.PROJECT_CACHE_DIRECTORY);
+        }
+        if (directory == null || directory.toString().isEmpty()) {
+            return null;
+        }
+        for (TypeMappingInfo typeMappingInfo : typesToBeBound) {
+            // Only a plain class can be reloaded by name, the other settings
+            // of a TypeMappingInfo are not kept in the cache file.
+            if (!(typeMappingInfo.getType() instanceof Class)
+                    || typeMappingInfo.getXmlTagName() != null
+                    || typeMappingInfo.getXmlElement() != null
+                    || (typeMappingInfo.getAnnotations() != null && typeMappingInfo.getAnnotations().length > 0)
+                    || typeMappingInfo.getElementScope() != TypeMappingInfo.ElementScope.Local
+                    || typeMappingInfo.isNillable()) {
+                return null;
+            }
+        }
+        try {
+            String key = getKey(typesToBeBound, properties, xmlBindings);
+            if (key == null) {
+                return null;
+            }
+            return new JAXBProjectCache(Paths.get(directory.toString()).resolve(key + FILE_SUFFIX));
+        } catch (Exception e) {
+            AbstractSessionLog.getLog().logThrowable(SessionLog.WARNING, SessionLog.MOXY, e);
+            return null;
+        }
+    }
+
+    /**
+     * Return the digest the cache file is named after, or null if one of the
+     * properties can not be represented in it.
+     */
+    private static String getKey(TypeMappingInfo[] typesToBeBound, Map properties, Map<String, XmlBindings> xmlBindings) throws Exception {
+        MessageDigest digest = MessageDigest.getInstance("SHA-256");
+        update(digest, Version.getVersionString());
+        update(digest, Boolean.toString(MOXySystemProperties.xmlIdExtension));
+        update(digest, Boolean.toString(MOXySystemProperties.xmlValueExtension));
+        for (TypeMappingInfo typeMappingInfo : typesToBeBound) {
+            update(digest, ((Class<?>) typeMappingInfo.getType()).getName());
+        }
+        if (properties != null) {
+            Map<String, String> sortedProperties = new TreeMap<>();
+            for (Map.Entry<?, ?> property : ((Map<?, ?>) properties).entrySet()) {
+                Object key = property.getKey();
+                Object value = property.getValue();
+                if (value instanceof String || value instanceof Boolean || value instanceof Number
+                        || value instanceof Character || value instanceof Enum) {
+                    sortedProperties.put(String.valueOf(key), value.toString());
+                } else if (JAXBContextProperties.OXM_METADATA_SOURCE.equals(key) || JAXBContextFactory.ECLIPSELINK_OXM_XML_KEY.equals(key)) {
+                    // The metadata sources are represented by the XmlBindings read from them.
+                    sortedProperties.put(String.valueOf(key), "");
+                } else if (value != null) {
+                    // Any other value may change the project in a way the key does not show.
+                    return null;
+                }
+            }
+            for (Map.Entry<String, String> property : sortedProperties.entrySet()) {
+                update(digest, property.getKey());
+                update(digest, property.getValue());
+            }
+        }
+        if (xmlBindings != null && !xmlBindings.isEmpty()) {
+            Marshaller marshaller = CompilerHelper.getXmlBindingsModelContext().createMarshaller();
+            for (Map.Entry<String, XmlBindings> bindings : new TreeMap<>(xmlBindings).entrySet()) {
+                ByteArrayOutputStream out = new ByteArrayOutputStream();
+                marshaller.marshal(bindings.getValue(), out);
+                update(digest, bindings.getKey());
+                digest.update(out.toByteArray());
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        digest.update(value.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+    }
+
+    /**
+     * Return the project read from the cache file, or null if there is no
+     * cache file or it is out of date.  The classes generated with the
+     * project are defined in the given class loader, which must not be used
+     * to generate the project if null is returned.
+     */
+    CachedProject load(JaxbClassLoader loader) {
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        SessionLog log = AbstractSessionLog.getLog();
+        try (ObjectInputStream in = new CacheInputStream(new BufferedInputStream(Files.newInputStream(file)), loader)) {
+            CacheInputFilter filter = new CacheInputFilter();
+            in.setObjectInputFilter(filter);
+            CacheHeader header = (CacheHeader) in.readObject();
+            if (!header.isCurrent(loader)) {
+                log.log(SessionLog.FINE, SessionLog.MOXY, "moxy_project_cache_stale", file);
+                return null;
+            }
+            filter.setProcessedClassNames(header.getProcessedClassNames());
+            header.defineGeneratedClasses(loader);
+            CachedProject cachedProject = (CachedProject) in.readObject();
+            log.log(SessionLog.FINE, SessionLog.MOXY, "moxy_project_cache_loaded", file);
+            return cachedProject;
+        } catch (Exception e) {
+            log.logThrowable(SessionLog.WARNING, SessionLog.MOXY, e);
+            return null;
+        }
+    }
+
+    /**
+     * Write the project, which must not have been initialized yet, and the
+     * results of the annotation processing to the cache file.  Nothing is
+     * written if the results can not be restored from a file.
+     */
+    void store(CoreProject project, Generator generator, TypeMappingInfo[] typesToBeBound, JavaModelImpl javaModel, JaxbClassLoader loader) {
+        CachedProject cachedProject = CachedProject.create(project, generator, typesToBeBound);
+        if (cachedProject == null) {
+            return;
+        }
+        SessionLog log = AbstractSessionLog.getLog();
+        Path tempFile = null;
+        try {
+            CacheHeader header = new CacheHeader(javaModel, loader);
+            Files.createDirectories(file.getParent());
+            tempFile = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+            try (ObjectOutputStream out = new CacheOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile)), header.getProcessedClassNames())) {
+                out.writeObject(header);
+                out.writeObject(cachedProject);
+            }
+            // Readers never see a partially written file.
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            tempFile = null;
+            log.log(SessionLog.FINE, SessionLog.MOXY, "moxy_project_cache_stored", file);
+        } catch (Exception e) {
+            // The context is still usable, just not cached.
+            log.logThrowable(SessionLog.WARNING, SessionLog.MOXY, e);
+        } finally {
+            if (tempFile != null) {
+                try {
+                    Files.deleteIfExists(tempFile);
+                } catch (IOException ignore) {
+                }
+            }
+        }
+    }
+
+    /**
+     * Return true if instances of the given class may be read from the cache
+     * file.  Classes that are not serializable can only be referred to, and
+     * enum constants are resolved by name, so they are always allowed.
+     */
+    private static boolean isAllowed(Class<?> cls, Set<String> processedClassNames) {
+        while (cls.isArray()) {
+            cls = cls.getComponentType();
+        }
+        if (cls.isPrimitive() || !Serializable.class.isAssignableFrom(cls) || Enum.class.isAssignableFrom(cls)
+                || cls.getClassLoader() instanceof JaxbClassLoader) {
+            return true;
+        }
+        String className = cls.getName();
+        return className.startsWith("org.eclipse.persistence.")
+                || ALLOWED_PACKAGES.contains(cls.getPackageName())
+                || ALLOWED_CLASSES.contains(className)
+                || processedClassNames.contains(className);
+    }
+
+    /**
+     * The part of the cache file that is read before any application class is
+     * resolved: the version and class digests that decide whether the file is
+     * current, and the generated classes the project refers to.
+     */
+    private static final class CacheHeader implements Serializable {
+        @Serial
+        private static final long serialVersionUID = 4176893010432764263L;
+
+        private final String version;
+        private final Map<String, String> classDigests;
+        private final Map<String, byte[]> generatedClasses;
+
+        CacheHeader(JavaModelImpl javaModel, JaxbClassLoader loader) throws Exception {
+            this.version = Version.getVersionString();
+            this.classDigests = new TreeMap<>();
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (JavaClassImpl javaClass : javaModel.getCachedJavaClasses().values()) {
+                Class<?> cls = javaClass.getJavaClass();
+                ClassLoader classLoader = cls.getClassLoader();
+                if (cls.isArray() || cls.isPrimitive() || classLoader == null
+                        || classLoader == ClassLoader.getPlatformClassLoader() || classLoader instanceof JaxbClassLoader) {
+                    continue;
+                }
+                putDigest(cls.getName(), loader, digest);
+                // The package annotations are processed along with the class.
+                putDigest(cls.getPackageName() + ".package-info", loader, digest);
+            }
+            this.generatedClasses = new LinkedHashMap<>(loader.getGeneratedClassBytes());
+        }
+
+        private void putDigest(String className, ClassLoader loader, MessageDigest digest) throws IOException {
+            if (!classDigests.containsKey(className)) {
+                String classDigest = digest(className, loader, digest);
+                if (classDigest != null) {
+                    classDigests.put(className, classDigest);
+                }
+            }
+        }
+
+        boolean isCurrent(ClassLoader loader) throws Exception {
+            if (!Version.getVersionString().equals(version)) {
+                return false;
+            }
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (Map.Entry<String, String> classDigest : classDigests.entrySet()) {
+                if (!classDigest.getValue().equals(digest(classDigest.getKey(), loader, digest))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Return the names of the application classes processed for the
+         * project.
+         */
+        Set<String> getProcessedClassNames() {
+            return classDigests.keySet();
+        }
+
+        void defineGeneratedClasses(JaxbClassLoader loader) {
+            if (!generatedClasses.isEmpty()) {
+                Module moxyModule = JAXBProjectCache.class.getModule();
+                if (moxyModule != Version.class.getModule() && moxyModule.isNamed()
+                        && !moxyModule.isExported(WrappedValue.class.getPackageName(), loader.getUnnamedModule())) {
+                    // The generated classes live in the unnamed module of the loader, see MappingsGenerator.
+                    moxyModule.addExports(WrappedValue.class.getPackageName(), loader.getUnnamedModule());
+                }
+            }
+            for (Map.Entry<String, byte[]> generatedClass : generatedClasses.entrySet()) {
+                loader.generateClass(generatedClass.getKey(), generatedClass.getValue());
+            }
+        }
+
+        private static String digest(String className, ClassLoader loader, MessageDigest digest) throws IOException {
+            try (InputStream in = loader.getResourceAsStream(className.replace('.', '/') + ".class")) {
+                if (in == null) {
+                    return null;
+                }
+                return HexFormat.of().formatHex(digest.digest(in.readAllBytes()));
+            }
+        }
+    }
+
+    /**
+     * The project generated from the annotations, before it is initialized,
+     * and the results of the annotation processing a JAXBContext uses at
+     * runtime.
+     */
+    static final class CachedProject implements Serializable {
+        @Serial
+        private static final long serialVersionUID = -7291546271608842379L;
+
+        private CoreProject project;
+        private Map<QName, Class<?>> qNameToGeneratedClasses;
+        private Map<String, Class<?>> classToGeneratedClasses;
+        private Map<QName, Class<?>> qNamesToDeclaredClasses;
+        private Map<String, Class<?>> arrayClassesToGeneratedClasses;
+        private Map<Class<?>, String> generatedClassesToArrayClasses;
+        private Map<String, QName> userDefinedSchemaTypes;
+        private QName[] typeMappingInfoSchemaTypes;
+        private Class<?>[] typeMappingInfoGeneratedClasses;
+        private Class<?>[] typeMappingInfoAdapterClasses;
+        private Map<String, MarshalCallback> marshalCallbacks;
+        private Map<String, UnmarshalCallback> unmarshalCallbacks;
+        private boolean hasSwaRef;
+
+        private CachedProject() {
+        }
+
+        /**
+         * Collect the results of the annotation processing, or return null if
+         * some of them are keyed by a type that can not be stored.
+         */
+        static CachedProject create(CoreProject project, Generator generator, TypeMappingInfo[] typesToBeBound) {
+            AnnotationsProcessor annotationsProcessor = generator.getAnnotationsProcessor();
+            if (!isEmpty(annotationsProcessor.getCollectionClassesToGeneratedClasses())
+                    || !isEmpty(annotationsProcessor.getGeneratedClassesToCollectionClasses())) {
+                return null;
+            }
+            CachedProject cachedProject = new CachedProject();
+            // The TypeMappingInfos are not stored, their results are stored in the same order.
+            cachedProject.typeMappingInfoGeneratedClasses = toArray(annotationsProcessor.getTypeMappingInfosToGeneratedClasses(), typesToBeBound);
+            cachedProject.typeMappingInfoAdapterClasses = toArray(annotationsProcessor.getTypeMappingInfoToAdapterClasses(), typesToBeBound);
+            if (cachedProject.typeMappingInfoGeneratedClasses == null || cachedProject.typeMappingInfoAdapterClasses == null) {
+                return null;
+            }
+            cachedProject.project = project;
+            cachedProject.qNameToGeneratedClasses = copy(generator.getMappingsGenerator().getQNamesToGeneratedClasses());
+            cachedProject.classToGeneratedClasses = copy(generator.getMappingsGenerator().getClassToGeneratedClasses());
+            cachedProject.qNamesToDeclaredClasses = copy(generator.getMappingsGenerator().getQNamesToDeclaredClasses());
+            cachedProject.arrayClassesToGeneratedClasses = copy(annotationsProcessor.getArrayClassesToGeneratedClasses());
+            cachedProject.generatedClassesToArrayClasses = new HashMap<>();
+            if (annotationsProcessor.getGeneratedClassesToArrayClasses() != null) {
+                for (Map.Entry<Class<?>, JavaClass> entry : annotationsProcessor.getGeneratedClassesToArrayClasses().entrySet()) {
+                    cachedProject.generatedClassesToArrayClasses.put(entry.getKey(), entry.getValue().getName());
+                }
+            }
+            cachedProject.userDefinedSchemaTypes = copy(annotationsProcessor.getUserDefinedSchemaTypes());
+            cachedProject.typeMappingInfoSchemaTypes = new QName[typesToBeBound.length];
+            Map<TypeMappingInfo, QName> typeMappingInfosToSchemaTypes = annotationsProcessor.getTypeMappingInfosToSchemaTypes();
+            if (typeMappingInfosToSchemaTypes != null) {
+                for (int i = 0; i < typesToBeBound.length; i++) {
+                    cachedProject.typeMappingInfoSchemaTypes[i] = typeMappingInfosToSchemaTypes.get(typesToBeBound[i]);
+                }
+            }
+            cachedProject.marshalCallbacks = copy(generator.getMarshalCallbacks());
+            cachedProject.unmarshalCallbacks = copy(generator.getUnmarshalCallbacks());
+            cachedProject.hasSwaRef = annotationsProcessor.hasSwaRef();
+            return cachedProject;
+        }
+
+        private static Class<?>[] toArray(Map<TypeMappingInfo, Class<?>> map, TypeMappingInfo[] typesToBeBound) {
+            Class<?>[] classes = new Class<?>[typesToBeBound.length];
+            if (map != null) {
+                int size = 0;
+                for (int i = 0; i < typesToBeBound.length; i++) {
+                    if (map.containsKey(typesToBeBound[i])) {
+                        classes[i] = map.get(typesToBeBound[i]);
+                        size++;
+                    }
+                }
+                if (size != map.size()) {
+                    return null;
+                }
+            }
+            return classes;
+        }
+
+        private static Map<TypeMappingInfo, Class<?>> toMap(Class<?>[] classes, TypeMappingInfo[] typesToBeBound) {
+            Map<TypeMappingInfo, Class<?>> map = new HashMap<>();
+            for (int i = 0; i < classes.length; i++) {
+                if (classes[i] != null) {
+                    map.put(typesToBeBound[i], classes[i]);
+                }
+            }
+            return map;
+        }
+
+        private static boolean isEmpty(Map<?, ?> map) {
+            return map == null || map.isEmpty();
+        }
+
+        private static <K, V> Map<K, V> copy(Map<K, V> map) {
+            return map == null ? null : new HashMap<>(map);
+        }
+
+        CoreProject getProject() {
+            return project;
+        }
+
+        Map<QName, Class<?>> getQNameToGeneratedClasses() {
+            return qNameToGeneratedClasses;
+        }
+
+        Map<String, Class<?>> getClassToGeneratedClasses() {
+            return classToGeneratedClasses;
+        }
+
+        Map<QName, Class<?>> getQNamesToDeclaredClasses() {
+            return qNamesToDeclaredClasses;
+        }
+
+        Map<String, Class<?>> getArrayClassesToGeneratedClasses() {
+            return arrayClassesToGeneratedClasses;
+        }
+
+        Map<Class<?>, String> getGeneratedClassesToArrayClasses() {
+            return generatedClassesToArrayClasses;
+        }
+
+        Map<String, QName> getUserDefinedSchemaTypes() {
+            return userDefinedSchemaTypes;
+        }
+
+        /**
+         * Return the schema types of the TypeMappingInfos the project was
+         * generated for, in the same order.
+         */
+        QName[] getTypeMappingInfoSchemaTypes() {
+            return typeMappingInfoSchemaTypes;
+        }
+
+        /**
+         * Return the classes generated for the given TypeMappingInfos, which
+         * must be the ones the project was generated for.
+         */
+        Map<TypeMappingInfo, Class<?>> getTypeMappingInfoToGeneratedClasses(TypeMappingInfo[] typesToBeBound) {
+            return toMap(typeMappingInfoGeneratedClasses, typesToBeBound);
+        }
+
+        /**
+         * Return the adapter classes of the given TypeMappingInfos, which
+         * must be the ones the project was generated for.
+         */
+        Map<TypeMappingInfo, Class<?>> getTypeMappingInfoToAdapterClasses(TypeMappingInfo[] typesToBeBound) {
+            return toMap(typeMappingInfoAdapterClasses, typesToBeBound);
+        }
+
+        Map<String, MarshalCallback> getMarshalCallbacks() {
+            return marshalCallbacks;
+        }
+
+        Map<String, UnmarshalCallback> getUnmarshalCallbacks() {
+            return unmarshalCallbacks;
+        }
+
+        boolean hasSwaRef() {
+            return hasSwaRef;
+        }
+    }
+
+    /**
+     * Resolve the classes of the cache file, including the generated ones,
+     * with the JAXBContext class loader.
+     */
+    private static final class CacheInputStream extends ObjectInputStream {
+
+        private final ClassLoader loader;
+
+        CacheInputStream(InputStream in, ClassLoader loader) throws IOException {
+            super(in);
+            this.loader = loader;
+        }
+
+        @Override
+        protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+            try {
+                return Class.forName(desc.getName(), false, loader);
+            } catch (ClassNotFoundException e) {
+                return super.resolveClass(desc);
+            }
+        }
+    }
+
+    /**
+     * Refuse to write a class to the cache file that could not be read back.
+     */
+    private static final class CacheOutputStream extends ObjectOutputStream {
+
+        private final Set<String> processedClassNames;
+
+        CacheOutputStream(OutputStream out, Set<String> processedClassNames) throws IOException {
+            super(out);
+            this.processedClassNames = processedClassNames;
+        }
+
+        @Override
+        protected void annotateClass(Class<?> cls) throws IOException {
+            // A failed write records its exception in the stream before rethrowing it,
+            // the file is discarded so let the original exception through.
+            if (!Throwable.class.isAssignableFrom(cls) && !isAllowed(cls, processedClassNames)) {
+                throw new InvalidClassException(cls.getName(), "not allowed in the project cache");
+            }
+        }
+    }
+
+    /**
+     * Verify content of the cache file being read with ObjectInputStream.
+     */
+    private static final class CacheInputFilter implements ObjectInputFilter {
+
+        // Only known once the header is read, the header itself is made of platform classes.
+        private Set<String> processedClassNames = Set.of();
+
+        void setProcessedClassNames(Set<String> processedClassNames) {
+            this.processedClassNames = processedClassNames;
+        }
+
+        @Override
+        public Status checkInput(FilterInfo info) {
+            // Skip checks when decision was already made by higher level filter.
+            ObjectInputFilter serialFilter = ObjectInputFilter.Config.getSerialFilter();
+            if (serialFilter != null) {
+                Status status = serialFilter.checkInput(info);
+                if (status != Status.UNDECIDED) {
+                    return status;
+                }
+            }
+            Class<?> serialClass = info.serialClass();
+            if (serialClass == null) {
+                return Status.UNDECIDED;
+            }
+            // The only allowed instances on top of the structure are the header and the project
+            if (info.depth() == 1L) {
+                return (serialClass == CacheHeader.class || serialClass == CachedProject.class) ? Status.ALLOWED : Status.REJECTED;
+            }
+            return isAllowed(serialClass, processedClassNames) ? Status.ALLOWED : Status.REJECTED;
+        }
+    }
+
+}
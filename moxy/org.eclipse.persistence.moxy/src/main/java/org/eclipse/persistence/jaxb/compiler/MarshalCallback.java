@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1998, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1998, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -14,6 +14,8 @@
 //     Oracle - initial API and implementation from Oracle TopLink
 package org.eclipse.persistence.jaxb.compiler;
 
+import java.io.Serial;
+import java.io.Serializable;
 import java.lang.reflect.Method;
 
 import jakarta.xml.bind.Marshaller;
@@ -37,11 +39,13 @@
  *  @see org.eclipse.persistence.jaxb.JAXBMarshalListener
  *  @see org.eclipse.persistence.jaxb.JAXBMarshaller
  */
-public class MarshalCallback {
-    private Class<?> domainClass;
+public class MarshalCallback implements Serializable {
+    @Serial
+    private static final long serialVersionUID = -1062394941064741832L;
+    private transient Class<?> domainClass;
     private String domainClassName;
-    private Method beforeMarshalCallback;
-    private Method afterMarshalCallback;
+    private transient Method beforeMarshalCallback;
+    private transient Method afterMarshalCallback;
     private boolean hasBeforeMarshalCallback = false;
     private boolean hasAfterMarshalCallback = false;
 
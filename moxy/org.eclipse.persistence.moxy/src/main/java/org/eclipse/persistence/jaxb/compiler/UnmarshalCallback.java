@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1998, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1998, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -14,6 +14,8 @@
 //     Oracle - initial API and implementation from Oracle TopLink
 package org.eclipse.persistence.jaxb.compiler;
 
+import java.io.Serial;
+import java.io.Serializable;
 import java.lang.reflect.Method;
 
 import jakarta.xml.bind.Unmarshaller;
@@ -37,11 +39,13 @@
  *  @see org.eclipse.persistence.jaxb.JAXBUnmarshalListener
  *  @see org.eclipse.persistence.jaxb.JAXBUnmarshaller
  */
-public class UnmarshalCallback {
-    private Class<?> domainClass;
+public class UnmarshalCallback implements Serializable {
+    @Serial
+    private static final long serialVersionUID = 2443567546883810788L;
+    private transient Class<?> domainClass;
     private String domainClassName;
-    private Method afterUnmarshalCallback;
-    private Method beforeUnmarshalCallback;
+    private transient Method afterUnmarshalCallback;
+    private transient Method beforeUnmarshalCallback;
     private boolean hasAfterUnmarshalCallback = false;
     private boolean hasBeforeUnmarshalCallback = false;
 
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2025 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -29,7 +29,6 @@
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Deque;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
@@ -41,6 +40,12 @@
 import java.util.Set;
 import java.util.SortedSet;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
 import jakarta.activation.DataSource;
 import jakarta.ws.rs.Consumes;
@@ -208,6 +213,12 @@
 @Provider
 public class MOXyJsonProvider implements MessageBodyReader<Object>, MessageBodyWriter<Object>{
 
+    /**
+     * The default maximum number of <i>JAXBContext</i>s kept in the context cache.
+     * @see #setContextCacheSize(int)
+     */
+    public static final int DEFAULT_CONTEXT_CACHE_SIZE = 100;
+
     private static final String APPLICATION_XJAVASCRIPT = "application/x-javascript";
     private static final String CHARSET = "charset";
     private static final QName EMPTY_STRING_QNAME = new QName("");
@@ -218,7 +229,12 @@ public class MOXyJsonProvider implements MessageBodyReader<Object>, MessageBodyW
     protected Providers providers;
 
     private String attributePrefix = null;
-    private Map<Set<Class<?>>, JAXBContext> contextCache = new HashMap<>();
+    private final Map<Set<Class<?>>, FutureTask<JAXBContext>> contextCache = new ConcurrentHashMap<>();
+    private final Queue<Set<Class<?>>> contextCacheKeys = new ConcurrentLinkedQueue<>();
+    private volatile int contextCacheSize = DEFAULT_CONTEXT_CACHE_SIZE;
+    private final LongAdder contextCreationCount = new LongAdder();
+    private final LongAdder contextCreationTime = new LongAdder();
+    private final AtomicLong maxContextCreationTime = new AtomicLong();
     private boolean formattedOutput = false;
     private boolean includeRoot = false;
     private boolean marshalEmptyCollections = true;
@@ -237,6 +253,42 @@ public String getAttributePrefix() {
         return attributePrefix;
     }
 
+    /**
+     * The maximum number of <i>JAXBContext</i>s created by this provider that
+     * are kept for reuse (default is {@value #DEFAULT_CONTEXT_CACHE_SIZE}).
+     * @since 5.0
+     */
+    public int getContextCacheSize() {
+        return contextCacheSize;
+    }
+
+    /**
+     * The number of <i>JAXBContext</i>s this provider has created, including
+     * those created again after being evicted from the context cache.
+     * @since 5.0
+     */
+    public long getContextCreationCount() {
+        return contextCreationCount.sum();
+    }
+
+    /**
+     * The total time in nanoseconds this provider has spent creating
+     * <i>JAXBContext</i>s.
+     * @since 5.0
+     */
+    public long getContextCreationTime() {
+        return contextCreationTime.sum();
+    }
+
+    /**
+     * The longest time in nanoseconds this provider has spent creating a
+     * single <i>JAXBContext</i>.
+     * @since 5.0
+     */
+    public long getMaxContextCreationTime() {
+        return maxContextCreationTime.get();
+    }
+
     /**
      * A convenience method to get the domain class (i.e. <i>Customer</i> or <i>Foo, Bar</i>) from
      * the parameter/return type (i.e. <i>Customer</i>, <i>List&lt;Customer&gt;</i>,
@@ -297,44 +349,85 @@ private Set<Class<?>> asSet(Class<?> clazz) {
      * <li>If an existing <i>JAXBContext</i> was not found in step one, then
      * create a new one on the domain class.</li>
      * </ol>
+     * <p>Created contexts are cached per set of domain classes, up to
+     * {@link #getContextCacheSize()} contexts.  Concurrent requests for the
+     * same domain classes wait for a single context to be created.</p>
      * @param domainClasses - The domain classes we need a <i>JAXBContext</i> for.
      * @param annotations - The annotations corresponding to domain object.
      * @param mediaType - The media type for the HTTP entity.
      * @param httpHeaders - HTTP headers associated with HTTP entity.
      */
     protected JAXBContext getJAXBContext(Set<Class<?>> domainClasses, Annotation[] annotations, MediaType mediaType, MultivaluedMap<String, ?> httpHeaders) throws JAXBException {
-
-        JAXBContext jaxbContext = contextCache.get(domainClasses);
-        if(null != jaxbContext) {
-            return jaxbContext;
-        }
-
-        synchronized (contextCache) {
-            jaxbContext = contextCache.get(domainClasses);
-            if(null != jaxbContext) {
-                return jaxbContext;
-            }
-
+        FutureTask<JAXBContext> contextFuture = contextCache.get(domainClasses);
+        if(null == contextFuture) {
             ContextResolver<JAXBContext> resolver = null;
             if(null != providers) {
                 resolver = providers.getContextResolver(JAXBContext.class, mediaType);
             }
 
             if (null != resolver && domainClasses.size() == 1) {
-                jaxbContext = resolver.getContext(domainClasses.iterator().next());
+                JAXBContext jaxbContext = resolver.getContext(domainClasses.iterator().next());
+                if (jaxbContext instanceof org.eclipse.persistence.jaxb.JAXBContext) {
+                    return jaxbContext;
+                }
             }
 
-            if(null == jaxbContext) {
-                jaxbContext = JAXBContextFactory.createContext(domainClasses.toArray(new Class<?>[0]), null);
-                contextCache.put(domainClasses, jaxbContext);
-                return jaxbContext;
-            } else if (jaxbContext instanceof org.eclipse.persistence.jaxb.JAXBContext) {
-                return jaxbContext;
-            } else {
-                jaxbContext = JAXBContextFactory.createContext(domainClasses.toArray(new Class<?>[0]), null);
-                contextCache.put(domainClasses, jaxbContext);
-                return jaxbContext;
+            // Only the thread that publishes the future creates the context,
+            // concurrent requests for the same domain classes wait on it.
+            FutureTask<JAXBContext> newContextFuture = new FutureTask<>(() -> createContext(domainClasses));
+            contextFuture = contextCache.putIfAbsent(domainClasses, newContextFuture);
+            if(null == contextFuture) {
+                contextFuture = newContextFuture;
+                contextCacheKeys.add(domainClasses);
+                evictContexts();
+                newContextFuture.run();
+            }
+        }
+
+        try {
+            return contextFuture.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new JAXBException(e);
+        } catch (ExecutionException e) {
+            // Do not cache the failure, the next request tries again.
+            if(contextCache.remove(domainClasses, contextFuture)) {
+                contextCacheKeys.remove(domainClasses);
+            }
+            Throwable cause = e.getCause();
+            if(cause instanceof JAXBException jaxbException) {
+                throw jaxbException;
+            } else if(cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            } else if(cause instanceof Error error) {
+                throw error;
+            }
+            throw new JAXBException(cause);
+        }
+    }
+
+    private JAXBContext createContext(Set<Class<?>> domainClasses) throws JAXBException {
+        long start = System.nanoTime();
+        try {
+            return JAXBContextFactory.createContext(domainClasses.toArray(new Class<?>[0]), null);
+        } finally {
+            long time = System.nanoTime() - start;
+            contextCreationCount.increment();
+            contextCreationTime.add(time);
+            maxContextCreationTime.accumulateAndGet(time, Math::max);
+        }
+    }
+
+    /**
+     * Remove the oldest contexts until the context cache is within its size.
+     */
+    private void evictContexts() {
+        while(contextCache.size() > contextCacheSize) {
+            Set<Class<?>> key = contextCacheKeys.poll();
+            if(null == key) {
+                return;
             }
+            contextCache.remove(key);
         }
     }
 
@@ -821,6 +914,20 @@ public void setFormattedOutput(boolean formattedOutput) {
         this.formattedOutput = formattedOutput;
     }
 
+    /**
+     * Specify the maximum number of <i>JAXBContext</i>s created by this
+     * provider that are kept for reuse (default is
+     * {@value #DEFAULT_CONTEXT_CACHE_SIZE}).  When the limit is reached the
+     * oldest context is evicted and will be created again when it is next
+     * needed.
+     * @param contextCacheSize - the maximum number of cached contexts.
+     * @since 5.0
+     */
+    public void setContextCacheSize(int contextCacheSize) {
+        this.contextCacheSize = contextCacheSize;
+        evictContexts();
+    }
+
     /**
      * Specify if the root node should be included in the JSON message (default
      * is false).
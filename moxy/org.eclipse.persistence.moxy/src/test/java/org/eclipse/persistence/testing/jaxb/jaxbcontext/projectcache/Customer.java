@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.jaxb.jaxbcontext.projectcache;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.xml.bind.Marshaller;
+import jakarta.xml.bind.annotation.XmlAttribute;
+import jakarta.xml.bind.annotation.XmlElement;
+import jakarta.xml.bind.annotation.XmlElementWrapper;
+import jakarta.xml.bind.annotation.XmlRootElement;
+import jakarta.xml.bind.annotation.XmlTransient;
+
+@XmlRootElement(namespace = "urn:customer")
+public class Customer {
+
+    @XmlAttribute
+    public int id;
+
+    @XmlElement(namespace = "urn:customer")
+    public String name;
+
+    public Address address;
+
+    @XmlElementWrapper(name = "phone-numbers")
+    @XmlElement(name = "phone-number")
+    public List<String> phoneNumbers = new ArrayList<>();
+
+    @XmlTransient
+    public int beforeMarshalCount;
+
+    void beforeMarshal(Marshaller marshaller) {
+        beforeMarshalCount++;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (!(obj instanceof Customer)) {
+            return false;
+        }
+        Customer customer = (Customer) obj;
+        return id == customer.id
+                && (name == null ? customer.name == null : name.equals(customer.name))
+                && (address == null ? customer.address == null : address.equals(customer.address))
+                && phoneNumbers.equals(customer.phoneNumbers);
+    }
+
+    @Override
+    public int hashCode() {
+        return id;
+    }
+
+}
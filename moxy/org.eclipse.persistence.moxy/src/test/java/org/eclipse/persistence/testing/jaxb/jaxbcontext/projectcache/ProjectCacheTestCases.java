@@ -0,0 +1,220 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.jaxb.jaxbcontext.projectcache;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.InvalidClassException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import javax.xml.namespace.QName;
+import javax.xml.transform.Result;
+import javax.xml.transform.stream.StreamResult;
+
+import jakarta.xml.bind.SchemaOutputResolver;
+
+import junit.framework.TestCase;
+
+import org.eclipse.persistence.jaxb.JAXBContext;
+import org.eclipse.persistence.jaxb.JAXBContextFactory;
+import org.eclipse.persistence.jaxb.JAXBContextProperties;
+import org.eclipse.persistence.jaxb.TypeMappingInfo;
+import org.eclipse.persistence.logging.AbstractSessionLog;
+import org.eclipse.persistence.logging.DefaultSessionLog;
+import org.eclipse.persistence.logging.SessionLog;
+import org.eclipse.persistence.logging.SessionLogEntry;
+
+public class ProjectCacheTestCases extends TestCase {
+
+    private static final String XML = "<ns0:customer xmlns:ns0=\"urn:customer\" id=\"123\"><ns0:name>Jane Doe</ns0:name><address city=\"Ottawa\"><street>1 Main St</street></address><phone-numbers><phone-number>555-1111</phone-number><phone-number>555-2222</phone-number></phone-numbers></ns0:customer>";
+    private static final Class<?>[] CLASSES = new Class<?>[] {Customer.class, String[].class};
+
+    private Path directory;
+    private Map<String, Object> properties;
+
+    @Override
+    protected void setUp() throws Exception {
+        directory = Files.createTempDirectory("moxy-project-cache");
+        properties = new HashMap<>();
+        properties.put(JAXBContextProperties.PROJECT_CACHE_DIRECTORY, directory.toString());
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        for (File file : directory.toFile().listFiles()) {
+            file.delete();
+        }
+        Files.delete(directory);
+    }
+
+    public void testContextFromCache() throws Exception {
+        JAXBContext generatedContext = (JAXBContext) JAXBContextFactory.createContext(CLASSES, properties);
+        Path cacheFile = getCacheFile();
+        long lastModified = setOldLastModified(cacheFile);
+
+        JAXBContext cachedContext = (JAXBContext) JAXBContextFactory.createContext(CLASSES, properties);
+        // The cache file is only written when the project is generated.
+        assertEquals(lastModified, cacheFile.toFile().lastModified());
+
+        Customer customer = (Customer) cachedContext.createUnmarshaller().unmarshal(new StringReader(XML));
+        assertEquals(generatedContext.createUnmarshaller().unmarshal(new StringReader(XML)), customer);
+        assertEquals("Ottawa", customer.address.city);
+        assertEquals(2, customer.phoneNumbers.size());
+        assertEquals(marshal(generatedContext, customer), marshal(cachedContext, customer));
+        assertEquals(2, customer.beforeMarshalCount);
+
+        assertEquals(generatedContext.getArrayClassesToGeneratedClasses().keySet(), cachedContext.getArrayClassesToGeneratedClasses().keySet());
+        assertEquals(generatedContext.getTypeToSchemaType(), cachedContext.getTypeToSchemaType());
+        assertEquals(generatedContext.hasSwaRef(), cachedContext.hasSwaRef());
+        assertEquals(generateSchema(generatedContext), generateSchema(cachedContext));
+    }
+
+    public void testInvalidCacheFileReplaced() throws Exception {
+        JAXBContextFactory.createContext(CLASSES, properties);
+        Path cacheFile = getCacheFile();
+        byte[] invalid = "not a project".getBytes(StandardCharsets.UTF_8);
+        Files.write(cacheFile, invalid);
+
+        JAXBContext jaxbContext = (JAXBContext) JAXBContextFactory.createContext(CLASSES, properties);
+        Customer customer = (Customer) jaxbContext.createUnmarshaller().unmarshal(new StringReader(XML));
+        assertEquals("Jane Doe", customer.name);
+        assertEquals(1, directory.toFile().list().length);
+        assertFalse(new String(Files.readAllBytes(cacheFile), StandardCharsets.ISO_8859_1).equals("not a project"));
+    }
+
+    public void testDisallowedClassRejected() throws Exception {
+        JAXBContextFactory.createContext(CLASSES, properties);
+        Path cacheFile = getCacheFile();
+        // Replace the class of the map nested in the file header by another serializable class.
+        byte[] bytes = Files.readAllBytes(cacheFile);
+        byte[] allowed = classDescriptorName(TreeMap.class);
+        byte[] disallowed = classDescriptorName(URL.class);
+        int index = indexOf(bytes, allowed);
+        assertTrue(index > 0);
+        ByteArrayOutputStream forged = new ByteArrayOutputStream();
+        forged.write(bytes, 0, index);
+        forged.write(disallowed);
+        forged.write(bytes, index + allowed.length, bytes.length - index - allowed.length);
+        Files.write(cacheFile, forged.toByteArray());
+
+        SessionLog log = AbstractSessionLog.getLog();
+        ThrowableLog throwableLog = new ThrowableLog();
+        AbstractSessionLog.setLog(throwableLog);
+        try {
+            JAXBContext jaxbContext = (JAXBContext) JAXBContextFactory.createContext(CLASSES, properties);
+            Customer customer = (Customer) jaxbContext.createUnmarshaller().unmarshal(new StringReader(XML));
+            assertEquals("Jane Doe", customer.name);
+        } finally {
+            AbstractSessionLog.setLog(log);
+        }
+        assertEquals(1, throwableLog.throwables.size());
+        Throwable rejected = throwableLog.throwables.get(0);
+        assertTrue(rejected instanceof InvalidClassException);
+        assertTrue(rejected.getMessage(), rejected.getMessage().contains("REJECTED"));
+    }
+
+    public void testNonSimplePropertyNotCached() throws Exception {
+        properties.put(JAXBContextProperties.NAMESPACE_PREFIX_MAPPER, Map.of("urn:customer", "c"));
+        JAXBContextFactory.createContext(CLASSES, properties);
+        assertEquals(0, directory.toFile().list().length);
+    }
+
+    public void testPropertiesAreCachedSeparately() throws Exception {
+        JAXBContextFactory.createContext(CLASSES, properties);
+        properties.put(JAXBContextProperties.DEFAULT_TARGET_NAMESPACE, "urn:default");
+        JAXBContextFactory.createContext(CLASSES, properties);
+        assertEquals(2, directory.toFile().list().length);
+    }
+
+    public void testTypeMappingInfoWithTagNameNotCached() throws Exception {
+        TypeMappingInfo typeMappingInfo = new TypeMappingInfo();
+        typeMappingInfo.setType(Customer.class);
+        typeMappingInfo.setXmlTagName(new QName("urn:customer", "client"));
+        JAXBContextFactory.createContext(new TypeMappingInfo[] {typeMappingInfo}, properties, Customer.class.getClassLoader());
+        assertEquals(0, directory.toFile().list().length);
+    }
+
+    private Path getCacheFile() {
+        String[] files = directory.toFile().list();
+        assertEquals(1, files.length);
+        return directory.resolve(files[0]);
+    }
+
+    private static byte[] classDescriptorName(Class<?> cls) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new DataOutputStream(out).writeUTF(cls.getName());
+        return out.toByteArray();
+    }
+
+    private static int indexOf(byte[] bytes, byte[] part) {
+        for (int i = 0; i <= bytes.length - part.length; i++) {
+            if (Arrays.equals(bytes, i, i + part.length, part, 0, part.length)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static long setOldLastModified(Path file) {
+        long lastModified = file.toFile().lastModified() - 60000;
+        assertTrue(file.toFile().setLastModified(lastModified));
+        return file.toFile().lastModified();
+    }
+
+    private static String marshal(JAXBContext jaxbContext, Object object) throws Exception {
+        StringWriter writer = new StringWriter();
+        jaxbContext.createMarshaller().marshal(object, writer);
+        return writer.toString();
+    }
+
+    private static String generateSchema(JAXBContext jaxbContext) throws Exception {
+        final Map<String, StringWriter> schemas = new HashMap<>();
+        jaxbContext.generateSchema(new SchemaOutputResolver() {
+            @Override
+            public Result createOutput(String namespaceUri, String suggestedFileName) {
+                StringWriter writer = new StringWriter();
+                schemas.put(namespaceUri, writer);
+                StreamResult result = new StreamResult(writer);
+                result.setSystemId(suggestedFileName);
+                return result;
+            }
+        });
+        return new TreeMap<>(schemas).toString();
+    }
+
+    private static final class ThrowableLog extends DefaultSessionLog {
+        private final List<Throwable> throwables = new ArrayList<>();
+
+        @Override
+        public synchronized void log(SessionLogEntry entry) {
+            if (entry.hasException()) {
+                throwables.add(entry.getException());
+            }
+        }
+    }
+
+}
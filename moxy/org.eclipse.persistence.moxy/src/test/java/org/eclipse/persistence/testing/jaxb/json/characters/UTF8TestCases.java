@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -14,6 +14,7 @@
 //     Blaise Doughan - 2.5.2 - initial implementation
 package org.eclipse.persistence.testing.jaxb.json.characters;
 
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.StringWriter;
 import java.nio.charset.Charset;
@@ -22,11 +23,16 @@
 
 import jakarta.xml.bind.JAXBContext;
 import jakarta.xml.bind.Marshaller;
+import jakarta.xml.bind.UnmarshalException;
+import jakarta.xml.bind.Unmarshaller;
+import javax.xml.transform.stream.StreamSource;
 
 import junit.framework.TestCase;
 
 import org.eclipse.persistence.jaxb.JAXBContextFactory;
 import org.eclipse.persistence.jaxb.JAXBContextProperties;
+import org.eclipse.persistence.jaxb.JAXBMarshaller;
+import org.eclipse.persistence.oxm.record.JSONOutputStreamRecord;
 
 public class UTF8TestCases extends TestCase {
 
@@ -68,4 +74,46 @@ public void testMarshalToWriter() throws Exception {
         assertEquals(CONTROL, test);
     }
 
+    public void testUnmarshalFromUTF16InputStream() throws Exception {
+        Unmarshaller unmarshaller = jaxbContext.createUnmarshaller();
+        for (String encoding : new String[] {"UTF-8", "UTF-16BE", "UTF-16LE", "UTF-16"}) {
+            byte[] bytes = CONTROL.getBytes(Charset.forName(encoding));
+            Object test = unmarshaller.unmarshal(new StreamSource(new ByteArrayInputStream(bytes)));
+            assertEquals(encoding, getControlObject(), test);
+        }
+    }
+
+    public void testUnmarshalInvalidJSON() throws Exception {
+        Unmarshaller unmarshaller = jaxbContext.createUnmarshaller();
+        for (String json : new String[] {"{\"escapeCharacterHolder\":{\"stringValue\":\"MOXy\",}}", "{\"escapeCharacterHolder\":{\"stringValue\":\"MOXy}}", "{} {}"}) {
+            try {
+                unmarshaller.unmarshal(new StreamSource(new ByteArrayInputStream(json.getBytes(Charset.forName("UTF-8")))));
+                fail("Unmarshalled invalid JSON " + json);
+            } catch (UnmarshalException e) {
+                // expected
+            }
+        }
+    }
+
+    public void testMarshalEscapedToOutputStreamAndWriter() throws Exception {
+        EscapeCharacterHolder control = new EscapeCharacterHolder();
+        control.stringValue = "\u00e9\u0085\u007f\ud83d\ude00\ud83d\"\\\u20ac\t";
+        Marshaller marshaller = jaxbContext.createMarshaller();
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        marshaller.marshal(control, outputStream);
+        StringWriter writer = new StringWriter();
+        marshaller.marshal(control, writer);
+        assertEquals(writer.toString(), outputStream.toString(Charset.forName("UTF-8")));
+    }
+
+    public void testMarshalToJSONOutputStreamRecord() throws Exception {
+        JAXBMarshaller marshaller = (JAXBMarshaller) jaxbContext.createMarshaller();
+        JSONOutputStreamRecord record = new JSONOutputStreamRecord();
+        marshaller.getXMLMarshaller().marshal(getControlObject(), record);
+        assertEquals(CONTROL, new String(record.toByteArray(), Charset.forName("UTF-8")));
+        record.reset();
+        marshaller.getXMLMarshaller().marshal(getControlObject(), record);
+        assertEquals(CONTROL, Charset.forName("UTF-8").decode(record.getByteBuffer()).toString());
+    }
+
 }
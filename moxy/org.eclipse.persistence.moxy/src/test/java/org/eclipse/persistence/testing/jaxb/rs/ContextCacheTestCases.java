@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.jaxb.rs;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import jakarta.ws.rs.core.MediaType;
+import jakarta.xml.bind.JAXBContext;
+import jakarta.xml.bind.JAXBException;
+
+import junit.framework.TestCase;
+
+import org.eclipse.persistence.jaxb.rs.MOXyJsonProvider;
+import org.eclipse.persistence.testing.jaxb.rs.model.Bar;
+import org.eclipse.persistence.testing.jaxb.rs.model.Foo;
+
+public class ContextCacheTestCases extends TestCase {
+
+    private TestMOXyJsonProvider moxyJsonProvider;
+
+    @Override
+    protected void setUp() throws Exception {
+        moxyJsonProvider = new TestMOXyJsonProvider();
+    }
+
+    public void testContextReused() throws Exception {
+        JAXBContext jaxbContext = moxyJsonProvider.getJAXBContext(Bar.class);
+        assertTrue(jaxbContext instanceof org.eclipse.persistence.jaxb.JAXBContext);
+        assertSame(jaxbContext, moxyJsonProvider.getJAXBContext(Bar.class));
+        assertEquals(1, moxyJsonProvider.getContextCreationCount());
+        assertTrue(moxyJsonProvider.getContextCreationTime() > 0);
+        assertEquals(moxyJsonProvider.getContextCreationTime(), moxyJsonProvider.getMaxContextCreationTime());
+    }
+
+    public void testConcurrentRequestsCreateOneContext() throws Exception {
+        int threads = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<JAXBContext>> results = new ArrayList<>();
+            for (int x = 0; x < threads; x++) {
+                results.add(executor.submit(new Callable<JAXBContext>() {
+                    @Override
+                    public JAXBContext call() throws Exception {
+                        start.await();
+                        return moxyJsonProvider.getJAXBContext(Foo.class, Bar.class);
+                    }
+                }));
+            }
+            start.countDown();
+            JAXBContext jaxbContext = results.get(0).get();
+            for (Future<JAXBContext> result : results) {
+                assertSame(jaxbContext, result.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(1, moxyJsonProvider.getContextCreationCount());
+    }
+
+    public void testContextCacheSize() throws Exception {
+        assertEquals(MOXyJsonProvider.DEFAULT_CONTEXT_CACHE_SIZE, moxyJsonProvider.getContextCacheSize());
+        moxyJsonProvider.setContextCacheSize(1);
+        JAXBContext barContext = moxyJsonProvider.getJAXBContext(Bar.class);
+        moxyJsonProvider.getJAXBContext(Foo.class);
+        assertEquals(2, moxyJsonProvider.getContextCreationCount());
+
+        // The context for Bar was evicted when the context for Foo was cached.
+        assertNotSame(barContext, moxyJsonProvider.getJAXBContext(Bar.class));
+        assertEquals(3, moxyJsonProvider.getContextCreationCount());
+    }
+
+    private static class TestMOXyJsonProvider extends MOXyJsonProvider {
+
+        public JAXBContext getJAXBContext(Class<?>... domainClasses) throws JAXBException {
+            Set<Class<?>> classes = new LinkedHashSet<>();
+            for (Class<?> domainClass : domainClasses) {
+                classes.add(domainClass);
+            }
+            return getJAXBContext(classes, null, MediaType.APPLICATION_JSON_TYPE, null);
+        }
+
+    }
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2020 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -31,6 +31,7 @@ public static Test suite() {
         suite.addTestSuite(MapAdapterTestCases.class);
         suite.addTestSuite(JAXBElementsGenericListTestCases.class);
         suite.addTestSuite(MyArrayListTestCases.class);
+        suite.addTestSuite(ContextCacheTestCases.class);
         return suite;
     }
 
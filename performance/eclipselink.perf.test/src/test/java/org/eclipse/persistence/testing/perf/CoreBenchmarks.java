@@ -14,7 +14,12 @@
 //     Oracle - initial implementation
 package org.eclipse.persistence.testing.perf;
 
+import org.eclipse.persistence.testing.perf.core.AttributeAccessorBenchmark;
+import org.eclipse.persistence.testing.perf.core.CacheCoordinationBenchmark;
 import org.eclipse.persistence.testing.perf.core.ConcurrencyManagerBenchmark;
+import org.eclipse.persistence.testing.perf.core.IdentityMapBenchmark;
+import org.eclipse.persistence.testing.perf.core.UnitOfWorkCommitBenchmark;
+import org.openjdk.jmh.profile.GCProfiler;
 import org.openjdk.jmh.results.format.ResultFormatType;
 import org.openjdk.jmh.runner.Runner;
 import org.openjdk.jmh.runner.RunnerException;
@@ -26,6 +31,9 @@
  *
  */
 public class CoreBenchmarks {
+
+    private static final int[] IDENTITY_MAP_THREADS = {1, 4, 16, 64};
+
     public static void main(String[] args) throws RunnerException {
 
         int warmupIterations = 20;
@@ -40,6 +48,7 @@ public static void main(String[] args) throws RunnerException {
             resultFormat = args[3];
         }
 
+        // The GC profiler reports the bytes allocated per cache key.
         Options opt = new OptionsBuilder()
                 .include(getInclude(ConcurrencyManagerBenchmark.class))
                 .result(resultFile)
@@ -48,9 +57,72 @@ public static void main(String[] args) throws RunnerException {
                 .measurementIterations(measurementIterations)
                 .forks(1)
                 .threads(50)
+                .addProfiler(GCProfiler.class)
                 .build();
 
         new Runner(opt).run();
+
+        // Identity map throughput depends on lock contention, so it is measured for an increasing number of threads.
+        for (int threads : IDENTITY_MAP_THREADS) {
+            Options identityMapOpt = new OptionsBuilder()
+                    .include(getInclude(IdentityMapBenchmark.class))
+                    .result(getResultFile(resultFile, "identitymap-" + threads))
+                    .resultFormat(ResultFormatType.valueOf(resultFormat.toUpperCase()))
+                    .warmupIterations(warmupIterations)
+                    .measurementIterations(measurementIterations)
+                    .forks(1)
+                    .threads(threads)
+                    .build();
+
+            new Runner(identityMapOpt).run();
+        }
+
+        // Commit time is measured single threaded, each invocation commits a new unit of work.
+        Options commitOpt = new OptionsBuilder()
+                .include(getInclude(UnitOfWorkCommitBenchmark.class))
+                .result(getResultFile(resultFile, "commit"))
+                .resultFormat(ResultFormatType.valueOf(resultFormat.toUpperCase()))
+                .warmupIterations(warmupIterations)
+                .measurementIterations(measurementIterations)
+                .forks(1)
+                .threads(1)
+                .build();
+
+        new Runner(commitOpt).run();
+
+        // Attribute access through reflection and method handles, single threaded.
+        Options accessorOpt = new OptionsBuilder()
+                .include(getInclude(AttributeAccessorBenchmark.class))
+                .result(getResultFile(resultFile, "accessor"))
+                .resultFormat(ResultFormatType.valueOf(resultFormat.toUpperCase()))
+                .warmupIterations(warmupIterations)
+                .measurementIterations(measurementIterations)
+                .forks(1)
+                .threads(1)
+                .build();
+
+        new Runner(accessorOpt).run();
+
+        // Cache coordination between sessions of the same JVM, single threaded.
+        Options coordinationOpt = new OptionsBuilder()
+                .include(getInclude(CacheCoordinationBenchmark.class))
+                .result(getResultFile(resultFile, "coordination"))
+                .resultFormat(ResultFormatType.valueOf(resultFormat.toUpperCase()))
+                .warmupIterations(warmupIterations)
+                .measurementIterations(measurementIterations)
+                .forks(1)
+                .threads(1)
+                .build();
+
+        new Runner(coordinationOpt).run();
+    }
+
+    private static String getResultFile(String resultFile, String suffix) {
+        int extensionIndex = resultFile.lastIndexOf('.');
+        if (extensionIndex == -1) {
+            return resultFile + "-" + suffix;
+        }
+        return resultFile.substring(0, extensionIndex) + "-" + suffix + resultFile.substring(extensionIndex);
     }
 
     private static String getInclude(Class<?> cls) {
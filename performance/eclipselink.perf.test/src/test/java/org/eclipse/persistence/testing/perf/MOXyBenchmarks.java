@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2014, 2020 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2014, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -20,6 +20,8 @@
 import org.eclipse.persistence.testing.perf.json.unmarshal.JsonUnmarshalBenchmark;
 import org.eclipse.persistence.testing.perf.json.writer.JsonWriterBenchmark;
 import org.eclipse.persistence.testing.perf.largexml.LargeXmlBenchmark;
+import org.eclipse.persistence.testing.perf.largexml.ProjectCacheBenchmark;
+import org.eclipse.persistence.testing.perf.largexml.XPathNameTableBenchmark;
 import org.eclipse.persistence.testing.perf.smallxml.SmallXmlBenchmark;
 import org.openjdk.jmh.results.format.ResultFormatType;
 import org.openjdk.jmh.runner.Runner;
@@ -51,6 +53,8 @@ public static void main(String[] args) throws RunnerException {
         Options opt = new OptionsBuilder()
                 .include(getInclude(SmallXmlBenchmark.class))
                 .include(getInclude(LargeXmlBenchmark.class))
+                .include(getInclude(XPathNameTableBenchmark.class))
+                .include(getInclude(ProjectCacheBenchmark.class))
                 .include(getInclude(PersistenceContentHandlerBenchmark.class))
                 .include(getInclude(JsonMarshalBenchmark.class))
                 .include(getInclude(JsonUnmarshalBenchmark.class))
@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial implementation
+package org.eclipse.persistence.testing.perf.core;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.persistence.config.SystemProperties;
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.descriptors.RelationalDescriptor;
+import org.eclipse.persistence.internal.descriptors.ObjectBuilder;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.logging.SessionLog;
+import org.eclipse.persistence.mappings.DatabaseMapping;
+import org.eclipse.persistence.queries.ReadObjectQuery;
+import org.eclipse.persistence.sessions.DatabaseLogin;
+import org.eclipse.persistence.sessions.DatabaseRecord;
+import org.eclipse.persistence.sessions.DatabaseSession;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.testing.tests.performance.emulateddb.EmulatedDriver;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * This benchmark measures {@code org.eclipse.persistence.internal.descriptors.ObjectBuilder.buildAttributesIntoObject()}
+ * and the attribute reads of change comparison for a class that was not weaved, with the attributes accessed
+ * through reflection or through the method handle accessors, by field or by get and set methods.
+ * See {@link org.eclipse.persistence.testing.perf.jpa.tests.basic.MethodHandleComparisonTests} for the raw access cost.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AttributeAccessorBenchmark {
+
+    @Param({"Reflection", "MethodHandle"})
+    public String accessor;
+
+    @Param({"Field", "Method"})
+    public String access;
+
+    private DatabaseSession session;
+    private ObjectBuilder objectBuilder;
+    private List<DatabaseMapping> mappings;
+    private ReadObjectQuery query;
+    private DatabaseRecord row;
+    private Item item;
+
+    @Setup
+    public void setup() {
+        if ("Reflection".equals(accessor)) {
+            System.setProperty(SystemProperties.MAPPING_METHOD_HANDLES, "false");
+        }
+        try {
+            DatabaseLogin login = new DatabaseLogin();
+            login.useDirectDriverConnect();
+            login.setDriverClass(EmulatedDriver.class);
+            login.setConnectionString("jdbc:emulateddriver");
+            Project project = new Project(login);
+            ClassDescriptor descriptor = Item.descriptor("Method".equals(access));
+            project.addDescriptor(descriptor);
+            session = project.createDatabaseSession();
+            session.setLogLevel(SessionLog.OFF);
+            session.login();
+        } finally {
+            System.clearProperty(SystemProperties.MAPPING_METHOD_HANDLES);
+        }
+        ClassDescriptor descriptor = session.getDescriptor(Item.class);
+        objectBuilder = descriptor.getObjectBuilder();
+        mappings = descriptor.getMappings();
+        query = new ReadObjectQuery(Item.class);
+        query.checkPrepare((AbstractSession) session, new DatabaseRecord());
+        row = new DatabaseRecord();
+        row.put("ID", 1L);
+        row.put("NAME", "name");
+        row.put("DESCRIPTION", "description");
+        row.put("CODE", "code");
+        row.put("QUANTITY", 10);
+        row.put("PRICE", 9.99);
+        row.put("VERSION", 1L);
+        row.put("ACTIVE", Boolean.TRUE);
+        item = new Item();
+    }
+
+    @TearDown
+    public void tearDown() {
+        session.logout();
+    }
+
+    @Benchmark
+    public Object testBuildAttributesIntoObject() {
+        Item item = new Item();
+        objectBuilder.buildAttributesIntoObject(item, null, row, query, query.getJoinedAttributeManager(), null, false, (AbstractSession) session);
+        return item;
+    }
+
+    @Benchmark
+    public void testGetAttributeValues(Blackhole blackhole) {
+        for (int index = 0; index < mappings.size(); index++) {
+            blackhole.consume(mappings.get(index).getAttributeValueFromObject(item));
+        }
+    }
+
+    /**
+     * Class that was not weaved, with get and set methods for property access.
+     */
+    public static class Item {
+        private long id;
+        private String name;
+        private String description;
+        private String code;
+        private int quantity;
+        private double price;
+        private Long version;
+        private boolean active;
+
+        public long getId() { return id; }
+        public void setId(long id) { this.id = id; }
+        public String getName() { return name; }
+        public void setName(String name) { this.name = name; }
+        public String getDescription() { return description; }
+        public void setDescription(String description) { this.description = description; }
+        public String getCode() { return code; }
+        public void setCode(String code) { this.code = code; }
+        public int getQuantity() { return quantity; }
+        public void setQuantity(int quantity) { this.quantity = quantity; }
+        public double getPrice() { return price; }
+        public void setPrice(double price) { this.price = price; }
+        public Long getVersion() { return version; }
+        public void setVersion(Long version) { this.version = version; }
+        public boolean getActive() { return active; }
+        public void setActive(boolean active) { this.active = active; }
+
+        static ClassDescriptor descriptor(boolean methodAccess) {
+            RelationalDescriptor descriptor = new RelationalDescriptor();
+            descriptor.setJavaClass(Item.class);
+            descriptor.setTableName("ITEM");
+            descriptor.setPrimaryKeyFieldName("ID");
+            String[] attributes = {"id", "name", "description", "code", "quantity", "price", "version", "active"};
+            for (String attribute : attributes) {
+                String field = attribute.toUpperCase();
+                if (methodAccess) {
+                    String suffix = Character.toUpperCase(attribute.charAt(0)) + attribute.substring(1);
+                    descriptor.addDirectMapping(attribute, "get" + suffix, "set" + suffix, field);
+                } else {
+                    descriptor.addDirectMapping(attribute, field);
+                }
+            }
+            return descriptor;
+        }
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial implementation
+package org.eclipse.persistence.testing.perf.core;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.internal.sessions.DirectToFieldChangeRecord;
+import org.eclipse.persistence.internal.sessions.ObjectChangeSet;
+import org.eclipse.persistence.internal.sessions.UnitOfWorkChangeSet;
+import org.eclipse.persistence.logging.SessionLog;
+import org.eclipse.persistence.sessions.DatabaseLogin;
+import org.eclipse.persistence.sessions.DatabaseSession;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.sessions.coordination.CommandProcessor;
+import org.eclipse.persistence.sessions.coordination.MergeChangeSetCommand;
+import org.eclipse.persistence.sessions.coordination.RemoteCommandManager;
+import org.eclipse.persistence.sessions.coordination.local.LocalTransportManager;
+import org.eclipse.persistence.sessions.serializers.ChangeSetSerializer;
+import org.eclipse.persistence.sessions.serializers.JavaSerializer;
+import org.eclipse.persistence.sessions.serializers.Serializer;
+import org.eclipse.persistence.testing.perf.core.UnitOfWorkCommitBenchmark.Item;
+import org.eclipse.persistence.testing.tests.performance.emulateddb.EmulatedDriver;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * This benchmark measures cache coordination of sessions of the same JVM connected by the
+ * {@link LocalTransportManager}, so without network cost.
+ * {@link #testPropagate()} measures the propagation of a change set of a number of objects
+ * to the receiving sessions, serialized once and deserialized and merged by each receiving session.
+ * {@link #testReceive()} measures the deserialization and merge of the change set by one receiving session.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CacheCoordinationBenchmark {
+
+    private static final String TOPIC = "CacheCoordinationBenchmark";
+
+    @Param({"Java", "ChangeSet"})
+    public String serializer;
+
+    @Param({"1", "100"})
+    public int changedObjects;
+
+    @Param({"1", "4"})
+    public int receivers;
+
+    private DatabaseSession sender;
+    private DatabaseSession[] receiverSessions;
+    private MergeChangeSetCommand command;
+    private byte[] commandBytes;
+
+    @Setup
+    public void setup() {
+        sender = login();
+        receiverSessions = new DatabaseSession[receivers];
+        for (int index = 0; index < receivers; index++) {
+            receiverSessions[index] = login();
+            for (int id = 0; id < changedObjects; id++) {
+                receiverSessions[index].getIdentityMapAccessor().putInIdentityMap(new Item(id, "item" + id));
+            }
+        }
+        UnitOfWorkChangeSet changeSet = new UnitOfWorkChangeSet();
+        ClassDescriptor descriptor = sender.getDescriptor(Item.class);
+        for (int id = 0; id < changedObjects; id++) {
+            Object primaryKey = sender.getId(new Item(id, null));
+            ObjectChangeSet objectChanges = new ObjectChangeSet(primaryKey, descriptor, null, changeSet, false);
+            DirectToFieldChangeRecord record = new DirectToFieldChangeRecord(objectChanges);
+            record.setAttribute("value");
+            record.setNewValue((long) id);
+            objectChanges.addChange(record);
+            changeSet.getAllChangeSets().put(objectChanges, objectChanges);
+        }
+        command = new MergeChangeSetCommand();
+        command.setChangeSet(changeSet);
+        command.setServiceId(((RemoteCommandManager) sender.getCommandManager()).getServiceId());
+        commandBytes = (byte[]) ((RemoteCommandManager) sender.getCommandManager()).getSerializer().serialize(command, sender);
+    }
+
+    /**
+     * Return a new session coordinated through the local topic.
+     */
+    private DatabaseSession login() {
+        DatabaseLogin login = new DatabaseLogin();
+        login.useDirectDriverConnect();
+        login.setDriverClass(EmulatedDriver.class);
+        login.setConnectionString("jdbc:emulateddriver");
+        Project project = new Project(login);
+        project.addDescriptor(Item.descriptor(false, false));
+        DatabaseSession session = project.createDatabaseSession();
+        session.setLogLevel(SessionLog.OFF);
+        session.login();
+        RemoteCommandManager rcm = new RemoteCommandManager((CommandProcessor) session);
+        new LocalTransportManager(rcm).setTopicName(TOPIC);
+        rcm.setShouldPropagateAsynchronously(false);
+        rcm.setSerializer(createSerializer());
+        rcm.initialize();
+        return session;
+    }
+
+    private Serializer createSerializer() {
+        if ("ChangeSet".equals(serializer)) {
+            return new ChangeSetSerializer();
+        }
+        return JavaSerializer.instance;
+    }
+
+    @TearDown
+    public void tearDown() {
+        sender.logout();
+        for (DatabaseSession receiver : receiverSessions) {
+            receiver.logout();
+        }
+    }
+
+    @Benchmark
+    public void testPropagate() {
+        sender.getCommandManager().propagateCommand(command);
+    }
+
+    @Benchmark
+    public void testReceive() {
+        ((RemoteCommandManager) receiverSessions[0].getCommandManager()).processCommandFromRemoteConnection(commandBytes);
+    }
+}
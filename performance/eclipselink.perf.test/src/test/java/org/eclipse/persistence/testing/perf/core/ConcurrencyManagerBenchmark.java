@@ -15,6 +15,7 @@
 package org.eclipse.persistence.testing.perf.core;
 
 import org.eclipse.persistence.internal.helper.ConcurrencyManager;
+import org.eclipse.persistence.internal.identitymaps.CacheKey;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.State;
@@ -22,15 +23,43 @@
 
 /**
  * This benchmark verify performance of {@code org.eclipse.persistence.internal.helper.ConcurrencyManager}.
- *
+ * The footprint of a cache key and its lock state is the {@code gc.alloc.rate.norm} reported
+ * for {@link #testCreateCacheKey()} by the GC profiler.
+ * The shared cache key benchmarks measure the throughput of contended read and write locks.
  */
 @State(Scope.Benchmark)
 public class ConcurrencyManagerBenchmark {
 
+    private final Object object = new Object();
+    private final CacheKey sharedCacheKey = new CacheKey(1L, object, null);
+
     @Benchmark
     public void testAcquireRelease(Blackhole bh) throws Exception {
         ConcurrencyManager concurrencyManager = new ConcurrencyManager();
         concurrencyManager.acquire();
         concurrencyManager.release();
     }
+
+    /**
+     * Create a cache key and lock it as building its object would.
+     */
+    @Benchmark
+    public CacheKey testCreateCacheKey() {
+        CacheKey cacheKey = new CacheKey(1L, object, null);
+        cacheKey.acquire();
+        cacheKey.release();
+        return cacheKey;
+    }
+
+    @Benchmark
+    public void testSharedReadLock() {
+        sharedCacheKey.acquireReadLock();
+        sharedCacheKey.releaseReadLock();
+    }
+
+    @Benchmark
+    public void testSharedAcquireRelease() {
+        sharedCacheKey.acquire();
+        sharedCacheKey.release();
+    }
 }
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial implementation
+package org.eclipse.persistence.testing.perf.core;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.eclipse.persistence.internal.identitymaps.CacheId;
+import org.eclipse.persistence.internal.identitymaps.CacheIdentityMap;
+import org.eclipse.persistence.internal.identitymaps.IdentityMap;
+import org.eclipse.persistence.internal.identitymaps.SegmentedCacheIdentityMap;
+import org.eclipse.persistence.internal.identitymaps.SoftCacheWeakIdentityMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * This benchmark compares the concurrent get/put throughput of the LRU identity maps
+ * {@code org.eclipse.persistence.internal.identitymaps.CacheIdentityMap},
+ * {@code org.eclipse.persistence.internal.identitymaps.SegmentedCacheIdentityMap}
+ * and the default {@code org.eclipse.persistence.internal.identitymaps.SoftCacheWeakIdentityMap}.
+ * The number of threads is set by the runner, see {@code CoreBenchmarks}.
+ */
+@State(Scope.Benchmark)
+public class IdentityMapBenchmark {
+
+    @Param({"Cache", "SegmentedCache", "SoftCacheWeak"})
+    public String mapType;
+
+    @Param({"1000"})
+    public int size;
+
+    private IdentityMap identityMap;
+    private CacheId[] keys;
+    private Object[] objects;
+
+    @Setup
+    public void setup() {
+        switch (mapType) {
+            case "Cache" -> identityMap = new CacheIdentityMap(size, null, null, false);
+            case "SegmentedCache" -> identityMap = new SegmentedCacheIdentityMap(size, null, null, false);
+            case "SoftCacheWeak" -> identityMap = new SoftCacheWeakIdentityMap(size, null, null, false);
+            default -> throw new IllegalArgumentException(mapType);
+        }
+        // Twice the cache size, so that half of the keys are evicted.
+        keys = new CacheId[size * 2];
+        objects = new Object[size * 2];
+        for (int index = 0; index < keys.length; index++) {
+            keys[index] = new CacheId(new Object[] {(long) index});
+            objects[index] = new Object();
+        }
+        for (int index = 0; index < size; index++) {
+            identityMap.put(keys[index], objects[index], null, 0);
+        }
+    }
+
+    /**
+     * Read the hot half of the keys, as for cache hits on a read mostly workload.
+     */
+    @Benchmark
+    public Object testGet() {
+        int index = ThreadLocalRandom.current().nextInt(size);
+        return identityMap.get(keys[index]);
+    }
+
+    /**
+     * Mixed workload of 80% reads and 20% puts over twice the cache size, causing evictions.
+     */
+    @Benchmark
+    public Object testGetPut() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int index = random.nextInt(keys.length);
+        if (random.nextInt(5) == 0) {
+            return identityMap.put(keys[index], objects[index], null, 0);
+        }
+        return identityMap.get(keys[index]);
+    }
+}
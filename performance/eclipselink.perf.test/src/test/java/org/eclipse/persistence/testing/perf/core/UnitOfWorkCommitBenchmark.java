@@ -0,0 +1,283 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial implementation
+package org.eclipse.persistence.testing.perf.core;
+
+import java.beans.PropertyChangeEvent;
+import java.beans.PropertyChangeListener;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.persistence.annotations.CacheIsolationType;
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.descriptors.RelationalDescriptor;
+import org.eclipse.persistence.descriptors.changetracking.AttributeChangeTrackingPolicy;
+import org.eclipse.persistence.descriptors.changetracking.ChangeTracker;
+import org.eclipse.persistence.descriptors.changetracking.DeferredChangeDetectionPolicy;
+import org.eclipse.persistence.logging.SessionLog;
+import org.eclipse.persistence.mappings.OneToManyMapping;
+import org.eclipse.persistence.sessions.DatabaseLogin;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.sessions.Session;
+import org.eclipse.persistence.sessions.UnitOfWork;
+import org.eclipse.persistence.sessions.server.ClientSession;
+import org.eclipse.persistence.sessions.server.Server;
+import org.eclipse.persistence.testing.tests.performance.emulateddb.EmulatedDriver;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * This benchmark measures {@code org.eclipse.persistence.internal.sessions.UnitOfWorkImpl.commit()}
+ * for a number of dirty items and their orders, with deferred or attribute change tracking and a shared or isolated cache.
+ * The orders own their items through a one to many mapping, so the commit orders the orders before the items.
+ * The session uses the emulated driver, which executes the SQL and batches without a database,
+ * so the commit time is the time spent calculating the changes, ordering the objects, binding and executing the SQL,
+ * and merging the changes into the cache.
+ * {@link #testCalculateChanges()} measures the change calculation alone.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class UnitOfWorkCommitBenchmark {
+
+    @Param({"Deferred", "Attribute"})
+    public String changeTracking;
+
+    @Param({"1", "100", "1000", "10000"})
+    public int dirtyObjects;
+
+    @Param({"Shared", "Isolated"})
+    public String cache;
+
+    /** Number of items of each order. */
+    private static final int ITEMS_PER_ORDER = 10;
+
+    private Server server;
+    private Order[] orders;
+    private Item[] items;
+    private ClientSession clientSession;
+    private UnitOfWork unitOfWork;
+    private long value;
+
+    @Setup
+    public void setup() {
+        DatabaseLogin login = new DatabaseLogin();
+        login.useDirectDriverConnect();
+        login.setDriverClass(EmulatedDriver.class);
+        login.setConnectionString("jdbc:emulateddriver");
+        login.useBatchWriting();
+        Project project = new Project(login);
+        boolean attributeChangeTracking = "Attribute".equals(changeTracking);
+        boolean isolated = "Isolated".equals(cache);
+        project.addDescriptor(Item.descriptor(attributeChangeTracking, isolated));
+        project.addDescriptor(Order.descriptor(attributeChangeTracking, isolated));
+        server = project.createServerSession();
+        server.setLogLevel(SessionLog.OFF);
+        server.login();
+        items = new Item[dirtyObjects];
+        orders = new Order[(dirtyObjects + ITEMS_PER_ORDER - 1) / ITEMS_PER_ORDER];
+        for (int index = 0; index < orders.length; index++) {
+            orders[index] = new Order(index, "customer" + index);
+        }
+        for (int index = 0; index < dirtyObjects; index++) {
+            items[index] = new Item(index, "item" + index);
+            orders[index / ITEMS_PER_ORDER].getItems().add(items[index]);
+        }
+        if (!isolated) {
+            cache(server);
+        }
+    }
+
+    private void cache(Session session) {
+        for (Item item : items) {
+            session.getIdentityMapAccessor().putInIdentityMap(item);
+        }
+        for (Order order : orders) {
+            session.getIdentityMapAccessor().putInIdentityMap(order);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        server.logout();
+    }
+
+    /**
+     * Register and change all the orders and their items, isolated objects are cached in the new client session.
+     */
+    @Setup(Level.Invocation)
+    public void dirty() {
+        clientSession = server.acquireClientSession();
+        if ("Isolated".equals(cache)) {
+            cache(clientSession);
+        }
+        unitOfWork = clientSession.acquireUnitOfWork();
+        value++;
+        for (Order order : orders) {
+            Order clone = (Order) unitOfWork.registerObject(order);
+            clone.setValue(value);
+            for (Item item : clone.getItems()) {
+                item.setValue(value);
+            }
+        }
+    }
+
+    @TearDown(Level.Invocation)
+    public void release() {
+        if (unitOfWork.isActive()) {
+            unitOfWork.release();
+        }
+        clientSession.release();
+    }
+
+    @Benchmark
+    public void testCommit() {
+        unitOfWork.commit();
+    }
+
+    @Benchmark
+    public Object testCalculateChanges() {
+        return unitOfWork.getCurrentChanges();
+    }
+
+    /**
+     * Entity mapped to the ITEM table, implementing ChangeTracker as weaving would for attribute change tracking.
+     * The ORDER_ID foreign key of the ITEM table is mapped by the items of {@link Order}.
+     */
+    public static class Item implements ChangeTracker {
+        private long id;
+        private String name;
+        private long value;
+        private PropertyChangeListener listener;
+
+        public Item() {
+        }
+
+        public Item(long id, String name) {
+            this.id = id;
+            this.name = name;
+        }
+
+        public long getValue() {
+            return value;
+        }
+
+        public void setValue(long value) {
+            if (listener != null) {
+                listener.propertyChange(new PropertyChangeEvent(this, "value", this.value, value));
+            }
+            this.value = value;
+        }
+
+        @Override
+        public PropertyChangeListener _persistence_getPropertyChangeListener() {
+            return listener;
+        }
+
+        @Override
+        public void _persistence_setPropertyChangeListener(PropertyChangeListener listener) {
+            this.listener = listener;
+        }
+
+        static ClassDescriptor descriptor(boolean attributeChangeTracking, boolean isolated) {
+            RelationalDescriptor descriptor = new RelationalDescriptor();
+            descriptor.setJavaClass(Item.class);
+            descriptor.setTableName("ITEM");
+            descriptor.setPrimaryKeyFieldName("ID");
+            descriptor.addDirectMapping("id", "ID");
+            descriptor.addDirectMapping("name", "NAME");
+            descriptor.addDirectMapping("value", "VALUE");
+            setPolicies(descriptor, attributeChangeTracking, isolated);
+            return descriptor;
+        }
+    }
+
+    /**
+     * Entity mapped to the PURCHASE_ORDER table, owning its items through the ITEM.ORDER_ID foreign key.
+     */
+    public static class Order implements ChangeTracker {
+        private long id;
+        private String customer;
+        private long value;
+        private List<Item> items = new ArrayList<>();
+        private PropertyChangeListener listener;
+
+        public Order() {
+        }
+
+        public Order(long id, String customer) {
+            this.id = id;
+            this.customer = customer;
+        }
+
+        public List<Item> getItems() {
+            return items;
+        }
+
+        public void setValue(long value) {
+            if (listener != null) {
+                listener.propertyChange(new PropertyChangeEvent(this, "value", this.value, value));
+            }
+            this.value = value;
+        }
+
+        @Override
+        public PropertyChangeListener _persistence_getPropertyChangeListener() {
+            return listener;
+        }
+
+        @Override
+        public void _persistence_setPropertyChangeListener(PropertyChangeListener listener) {
+            this.listener = listener;
+        }
+
+        static ClassDescriptor descriptor(boolean attributeChangeTracking, boolean isolated) {
+            RelationalDescriptor descriptor = new RelationalDescriptor();
+            descriptor.setJavaClass(Order.class);
+            descriptor.setTableName("PURCHASE_ORDER");
+            descriptor.setPrimaryKeyFieldName("ID");
+            descriptor.addDirectMapping("id", "ID");
+            descriptor.addDirectMapping("customer", "CUSTOMER");
+            descriptor.addDirectMapping("value", "VALUE");
+            OneToManyMapping itemsMapping = new OneToManyMapping();
+            itemsMapping.setAttributeName("items");
+            itemsMapping.setReferenceClass(Item.class);
+            itemsMapping.dontUseIndirection();
+            itemsMapping.addTargetForeignKeyFieldName("ITEM.ORDER_ID", "PURCHASE_ORDER.ID");
+            descriptor.addMapping(itemsMapping);
+            setPolicies(descriptor, attributeChangeTracking, isolated);
+            return descriptor;
+        }
+    }
+
+    static void setPolicies(ClassDescriptor descriptor, boolean attributeChangeTracking, boolean isolated) {
+        if (attributeChangeTracking) {
+            descriptor.setObjectChangePolicy(new AttributeChangeTrackingPolicy());
+        } else {
+            descriptor.setObjectChangePolicy(new DeferredChangeDetectionPolicy());
+        }
+        if (isolated) {
+            descriptor.setCacheIsolation(CacheIsolationType.ISOLATED);
+        }
+    }
+}
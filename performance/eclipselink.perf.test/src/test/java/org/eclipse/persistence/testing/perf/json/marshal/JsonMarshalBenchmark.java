@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2014, 2020 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2014, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -29,7 +29,10 @@
 import jakarta.xml.bind.Marshaller;
 
 import org.eclipse.persistence.jaxb.JAXBContextProperties;
+import org.eclipse.persistence.jaxb.JAXBMarshaller;
 import org.eclipse.persistence.oxm.json.JsonArrayBuilderResult;
+import org.eclipse.persistence.oxm.record.JSONOutputStreamRecord;
+import org.eclipse.persistence.oxm.record.JSONWriterRecord;
 import org.eclipse.persistence.testing.perf.json.model.Employee;
 import org.eclipse.persistence.testing.perf.json.model.PhoneNumber;
 import org.openjdk.jmh.annotations.Benchmark;
@@ -49,12 +52,40 @@ public class JsonMarshalBenchmark {
 
     private JAXBContext jaxbContext;
 
+    private Employee employee;
+
+    private ByteArrayOutputStream outputStream;
+
     /*
      * Initial setup.
      */
     @Setup
     public void prepare() throws Exception {
         prepareJAXBContext();
+        prepareEmployee();
+        outputStream = new ByteArrayOutputStream(8192);
+    }
+
+    /*
+     * Marshal to an OutputStream with the record writing chars through an encoder.
+     */
+    @Benchmark
+    public void testJsonMarshalWriterRecord(Blackhole bh) throws Exception {
+        JAXBMarshaller marshaller = (JAXBMarshaller) jaxbContext.createMarshaller();
+        outputStream.reset();
+        marshaller.getXMLMarshaller().marshal(employee, new JSONWriterRecord(outputStream, null));
+        bh.consume(outputStream.size());
+    }
+
+    /*
+     * Marshal to an OutputStream with the record writing UTF-8 bytes.
+     */
+    @Benchmark
+    public void testJsonMarshalOutputStreamRecord(Blackhole bh) throws Exception {
+        JAXBMarshaller marshaller = (JAXBMarshaller) jaxbContext.createMarshaller();
+        outputStream.reset();
+        marshaller.getXMLMarshaller().marshal(employee, new JSONOutputStreamRecord(outputStream, null));
+        bh.consume(outputStream.size());
     }
 
     @Benchmark
@@ -119,6 +150,19 @@ public void testJsonMarshal(Blackhole bh) throws Exception {
         bh.consume(baos);
     }
 
+    private void prepareEmployee() {
+        employee = new Employee();
+        employee.setId(1);
+        employee.setFirstName("Jane \"JJ\"");
+        employee.setLastName("Doe\u2019s");
+        for (int i = 0; i < 50; i++) {
+            PhoneNumber phoneNumber = new PhoneNumber();
+            phoneNumber.setType(i % 2 == 0 ? "work" : "home");
+            phoneNumber.setNumber("555-" + (1000 + i));
+            employee.getPhoneNumbers().add(phoneNumber);
+        }
+    }
+
     private void prepareJAXBContext() throws Exception {
 
         Map<String, Object> jaxbProperties = new HashMap<String, Object>(2);
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2014, 2020 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2014, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -14,7 +14,9 @@
 //     Martin Vojtek - 2.6.0 - initial implementation
 package org.eclipse.persistence.testing.perf.json.unmarshal;
 
+import java.io.ByteArrayInputStream;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -47,14 +49,19 @@ public class JsonUnmarshalBenchmark {
 
     private static final String INPUT_JSON = "org/eclipse/persistence/testing/perf/json/unmarshal/input.json";
 
+    private static final int LARGE_INPUT_SIZE = 5000;
+
     private JAXBContext jaxbContext;
 
+    private byte[] largeInput;
+
     /*
      * Initial setup.
      */
     @Setup
     public void prepare() throws Exception {
         prepareJAXBContext();
+        prepareLargeInput();
     }
 
     @Benchmark
@@ -162,6 +169,43 @@ public void testJsonParser(Blackhole bh) throws Exception {
         }
     }
 
+    /*
+     * Unmarshal a large root level array, tokenized while unmarshalled.
+     */
+    @Benchmark
+    public void testJsonMOXyUnmarshalLarge(Blackhole bh) throws Exception {
+        Unmarshaller unmarshaller = jaxbContext.createUnmarshaller();
+        Object testObject = unmarshaller.unmarshal(new StreamSource(new ByteArrayInputStream(largeInput)), Employee.class);
+        bh.consume(((JAXBElement<?>) testObject).getValue());
+    }
+
+    /*
+     * Unmarshal a large root level array, read as a JsonStructure first.
+     */
+    @Benchmark
+    public void testJsonReaderUnmarshalLarge(Blackhole bh) throws Exception {
+        Unmarshaller unmarshaller = jaxbContext.createUnmarshaller();
+        JsonReader jsonReader = Json.createReader(new ByteArrayInputStream(largeInput));
+        JsonStructureSource arraySource = new JsonStructureSource(jsonReader.readArray());
+        bh.consume(unmarshaller.unmarshal(arraySource, Employee.class).getValue());
+    }
+
+    private void prepareLargeInput() {
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < LARGE_INPUT_SIZE; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"id\":").append(i)
+                .append(",\"firstName\":\"First").append(i)
+                .append("\",\"lastName\":\"Last").append(i)
+                .append("\",\"phoneNumbers\":[{\"type\":\"work\",\"number\":\"555").append(1000 + i)
+                .append("\"},{\"type\":\"home\",\"number\":\"666").append(1000 + i)
+                .append("\"}]}");
+        }
+        largeInput = json.append(']').toString().getBytes(StandardCharsets.UTF_8);
+    }
+
     private void prepareJAXBContext() throws Exception {
         Map<String, Object> jaxbProperties = new HashMap<String, Object>(2);
         jaxbProperties.put(JAXBContextProperties.MEDIA_TYPE, "application/json");
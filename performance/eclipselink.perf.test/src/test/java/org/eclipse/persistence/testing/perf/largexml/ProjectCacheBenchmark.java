@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.perf.largexml;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.persistence.jaxb.JAXBContextFactory;
+import org.eclipse.persistence.jaxb.JAXBContextProperties;
+import org.eclipse.persistence.testing.perf.largexml.bigpo.ObjectFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * This benchmark demonstrates JAXBContext creation for the bigpo model,
+ * processing the annotations vs loading the project from the project cache.
+ */
+@State(Scope.Benchmark)
+public class ProjectCacheBenchmark {
+    private static final Class<?>[] CLASSES = new Class<?>[] {ObjectFactory.class};
+
+    private File cacheDirectory;
+    private Map<String, Object> cacheProperties;
+
+    /*
+     * Initial setup, the first context stores the project in the cache.
+     */
+    @Setup
+    public void prepare() throws Exception {
+        cacheDirectory = Files.createTempDirectory("moxy-project-cache").toFile();
+        cacheProperties = new HashMap<>();
+        cacheProperties.put(JAXBContextProperties.PROJECT_CACHE_DIRECTORY, cacheDirectory.getAbsolutePath());
+        JAXBContextFactory.createContext(CLASSES, cacheProperties);
+    }
+
+    @TearDown
+    public void cleanUp() {
+        File[] files = cacheDirectory.listFiles();
+        if (null != files) {
+            for (File file : files) {
+                file.delete();
+            }
+        }
+        cacheDirectory.delete();
+    }
+
+    @Benchmark
+    public void testCreateContext(Blackhole bh) throws Exception {
+        bh.consume(JAXBContextFactory.createContext(CLASSES, null));
+    }
+
+    @Benchmark
+    public void testCreateContextFromCache(Blackhole bh) throws Exception {
+        bh.consume(JAXBContextFactory.createContext(CLASSES, cacheProperties));
+    }
+}
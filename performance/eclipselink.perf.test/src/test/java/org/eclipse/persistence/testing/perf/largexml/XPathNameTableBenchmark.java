@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.perf.largexml;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import jakarta.xml.bind.Unmarshaller;
+
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.internal.oxm.TreeObjectBuilder;
+import org.eclipse.persistence.internal.oxm.XPathFragment;
+import org.eclipse.persistence.internal.oxm.XPathNode;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.jaxb.JAXBContext;
+import org.eclipse.persistence.jaxb.JAXBContextFactory;
+import org.eclipse.persistence.testing.perf.largexml.bigpo.ObjectFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * This benchmark demonstrates element dispatch during unmarshal of the bigpo
+ * model, resolving element names against the children map of each XPathNode
+ * vs the precompiled name table.
+ */
+@State(Scope.Benchmark)
+public class XPathNameTableBenchmark {
+    private static final String A_LOT_OF_ITEMS_XML = "org/eclipse/persistence/testing/perf/largexml/bigpo/LotOfItems.xml";
+
+    private JAXBContext jaxbContext;
+    private byte[] aLotOfItems;
+    private XPathNode[] parentNodes;
+    private XPathFragment[] lookupFragments;
+
+    /*
+     * Initial setup.
+     */
+    @Setup
+    public void prepare() throws Exception {
+        jaxbContext = (JAXBContext) JAXBContextFactory.createContext(new Class[] {ObjectFactory.class}, null);
+        try (InputStream stream = Thread.currentThread().getContextClassLoader().getResourceAsStream(A_LOT_OF_ITEMS_XML)) {
+            aLotOfItems = stream.readAllBytes();
+        }
+        prepareLookups();
+    }
+
+    @Benchmark
+    public void testALotOfItemsUnmarshal(Blackhole bh) throws Exception {
+        Unmarshaller unmarshaller = jaxbContext.createUnmarshaller();
+        bh.consume(unmarshaller.unmarshal(new ByteArrayInputStream(aLotOfItems)));
+    }
+
+    @Benchmark
+    public void testChildrenMapLookup(Blackhole bh) {
+        for (int x = 0; x < parentNodes.length; x++) {
+            bh.consume(parentNodes[x].getNonAttributeChildrenMap().get(lookupFragments[x]));
+        }
+    }
+
+    @Benchmark
+    public void testNameTableLookup(Blackhole bh) {
+        for (int x = 0; x < parentNodes.length; x++) {
+            bh.consume(parentNodes[x].getNonAttributeChild(lookupFragments[x]));
+        }
+    }
+
+    /*
+     * Collect an element name lookup, as the unmarshal record does it, for
+     * each element child of each XPathNode in the model.
+     */
+    private void prepareLookups() {
+        List<XPathNode> parents = new ArrayList<>();
+        List<XPathFragment> fragments = new ArrayList<>();
+        for (Object session : jaxbContext.getXMLContext().getSessions()) {
+            for (ClassDescriptor descriptor : ((AbstractSession) session).getProject().getOrderedDescriptors()) {
+                if (descriptor.getObjectBuilder() instanceof TreeObjectBuilder) {
+                    addLookups(((TreeObjectBuilder) descriptor.getObjectBuilder()).getRootXPathNode(), parents, fragments);
+                }
+            }
+        }
+        parentNodes = parents.toArray(new XPathNode[0]);
+        lookupFragments = fragments.toArray(new XPathFragment[0]);
+    }
+
+    private void addLookups(XPathNode parent, List<XPathNode> parents, List<XPathFragment> fragments) {
+        Map<XPathFragment, XPathNode> children = parent.getNonAttributeChildrenMap();
+        if (null == children) {
+            return;
+        }
+        for (Map.Entry<XPathFragment, XPathNode> child : children.entrySet()) {
+            XPathFragment key = child.getKey();
+            if (null != key.getLocalName() && null == key.getPredicate() && !key.nameIsText()) {
+                // Copy the names as a parser would hand them over, not the mapping's own instances.
+                XPathFragment lookupFragment = new XPathFragment();
+                lookupFragment.setLocalName(new String(key.getLocalName()));
+                lookupFragment.setNamespaceURI(null == key.getNamespaceURI() ? null : new String(key.getNamespaceURI()));
+                parents.add(parent);
+                fragments.add(lookupFragment);
+            }
+            addLookups(child.getValue(), parents, fragments);
+        }
+    }
+}